@@ -0,0 +1,41 @@
+package com.mario.hexagonalbettingengine.benchmark;
+
+import com.mario.hexagonalbettingengine.benchmark.support.BenchmarkBets;
+import com.mario.hexagonalbettingengine.domain.betting.Bet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.mario.hexagonalbettingengine.benchmark.support.BenchmarkBets.WINNER;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BetBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int betsPerEvent;
+
+    private List<Bet> bets;
+
+    @Setup
+    public void setUp() {
+        bets = BenchmarkBets.pendingBets(betsPerEvent);
+    }
+
+    @Benchmark
+    public void isWinner(Blackhole blackhole) {
+        for (var bet : bets) {
+            blackhole.consume(bet.isWinner(WINNER));
+        }
+    }
+}
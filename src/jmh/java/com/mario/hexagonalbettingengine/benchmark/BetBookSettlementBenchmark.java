@@ -0,0 +1,90 @@
+package com.mario.hexagonalbettingengine.benchmark;
+
+import com.mario.hexagonalbettingengine.HexagonalBettingEngineApplication;
+import com.mario.hexagonalbettingengine.benchmark.support.BenchmarkBets;
+import com.mario.hexagonalbettingengine.domain.betting.BetPlacement;
+import com.mario.hexagonalbettingengine.domain.betting.BetSettlement;
+import com.mario.hexagonalbettingengine.domain.eventoutcome.EventOutcome;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Settles one event through the application context against an in-memory H2 database, with bets read and written
+ * by the JPA adapter or held by the in-memory bet book. Kafka listeners are stopped; no broker is needed.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BetBookSettlementBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int betsPerEvent;
+
+    @Param({"JPA", "BET_BOOK"})
+    private String repository;
+
+    private Path journalDir;
+    private ConfigurableApplicationContext context;
+    private BetPlacement placement;
+    private BetSettlement settlement;
+    private int events;
+    private EventOutcome outcome;
+
+    @Setup(Level.Trial)
+    public void startApplication() throws IOException {
+        journalDir = Files.createTempDirectory("bet-book-benchmark");
+        context = new SpringApplicationBuilder(HexagonalBettingEngineApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:benchmark-%s;DB_CLOSE_DELAY=-1;MODE=PostgreSQL"
+                                .formatted(UUID.randomUUID()),
+                        "spring.jpa.show-sql=false",
+                        "spring.kafka.admin.auto-create=false",
+                        "logging.level.root=WARN",
+                        "app.settlement.pending-event-filter.enabled=false",
+                        "app.settlement.bet-book.enabled=" + repository.equals("BET_BOOK"),
+                        "app.settlement.bet-book.journal-dir=" + journalDir)
+                .run();
+        context.getBean(KafkaListenerEndpointRegistry.class).stop();
+
+        placement = context.getBean(BetPlacement.class);
+        settlement = context.getBean(BetSettlement.class);
+    }
+
+    @Setup(Level.Invocation)
+    public void placePendingBets() {
+        var eventId = "benchmark-event-%d".formatted(events++);
+        placement.placeAll(BenchmarkBets.pendingBets(eventId, betsPerEvent)).join();
+        outcome = BenchmarkBets.homeWin(eventId);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() throws IOException {
+        context.close();
+        FileSystemUtils.deleteRecursively(journalDir);
+    }
+
+    @Benchmark
+    public void settle() {
+        settlement.settle(outcome);
+    }
+}
@@ -0,0 +1,71 @@
+package com.mario.hexagonalbettingengine.benchmark;
+
+import com.mario.hexagonalbettingengine.benchmark.support.AllEventsPendingIndex;
+import com.mario.hexagonalbettingengine.benchmark.support.BenchmarkBets;
+import com.mario.hexagonalbettingengine.benchmark.support.InMemoryBetRepository;
+import com.mario.hexagonalbettingengine.benchmark.support.InMemoryBetSettlementOutbox;
+import com.mario.hexagonalbettingengine.benchmark.support.InMemoryBetSettlementPublisher;
+import com.mario.hexagonalbettingengine.benchmark.support.InMemorySettledEventRegistry;
+import com.mario.hexagonalbettingengine.domain.betting.Bet;
+import com.mario.hexagonalbettingengine.domain.betting.BetSettlementService;
+import com.mario.hexagonalbettingengine.domain.betting.SettlementMode;
+import com.mario.hexagonalbettingengine.domain.betting.SettlementSettings;
+import com.mario.hexagonalbettingengine.domain.eventoutcome.EventOutcome;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BetSettlementBenchmark {
+
+    private static final int CHUNK_SIZE = 1_000;
+
+    @Param({"100", "1000", "10000"})
+    private int betsPerEvent;
+
+    @Param({"PER_BET", "BULK"})
+    private SettlementMode mode;
+
+    private List<Bet> pendingBets;
+    private InMemoryBetRepository repository;
+    private InMemorySettledEventRegistry settledEvents;
+    private BetSettlementService service;
+    private EventOutcome outcome;
+
+    @Setup(Level.Trial)
+    public void setUp(Blackhole blackhole) {
+        pendingBets = BenchmarkBets.pendingBets(betsPerEvent);
+        repository = new InMemoryBetRepository();
+        settledEvents = new InMemorySettledEventRegistry();
+
+        var outbox = new InMemoryBetSettlementOutbox(new InMemoryBetSettlementPublisher(blackhole));
+        var settings = SettlementSettings.unsharded(mode, CHUNK_SIZE);
+        service = new BetSettlementService(repository, outbox, settings,
+                (settlementMode, settledBets, duration) -> {
+                }, settledEvents, new AllEventsPendingIndex());
+        outcome = BenchmarkBets.homeWin();
+    }
+
+    @Setup(Level.Invocation)
+    public void resetPendingBets() {
+        repository.reset(pendingBets);
+        settledEvents.reset();
+    }
+
+    @Benchmark
+    public void settle() {
+        service.settle(outcome);
+    }
+}
@@ -0,0 +1,85 @@
+package com.mario.hexagonalbettingengine.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mario.hexagonalbettingengine.benchmark.support.BenchmarkBets;
+import com.mario.hexagonalbettingengine.infrastructure.betting.mapper.BetMapperImpl;
+import com.mario.hexagonalbettingengine.infrastructure.betting.payload.BetPayload;
+import com.mario.hexagonalbettingengine.infrastructure.config.JacksonConfig;
+import com.mario.hexagonalbettingengine.infrastructure.eventoutcome.mapper.EventOutcomeMapperImpl;
+import com.mario.hexagonalbettingengine.infrastructure.eventoutcome.payload.EventOutcomePayload;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonSerializationBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int betsPerEvent;
+
+    private final ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+
+    private List<BetPayload> betPayloads;
+    private List<byte[]> serializedBetPayloads;
+    private EventOutcomePayload outcomePayload;
+    private byte[] serializedOutcomePayload;
+
+    @Setup
+    public void setUp() throws IOException {
+        var betMapper = new BetMapperImpl();
+        betPayloads = BenchmarkBets.pendingBets(betsPerEvent).stream()
+                .map(betMapper::toPayload)
+                .toList();
+
+        serializedBetPayloads = betPayloads.stream()
+                .map(this::serialize)
+                .toList();
+
+        outcomePayload = new EventOutcomeMapperImpl().toPayload(BenchmarkBets.homeWin());
+        serializedOutcomePayload = objectMapper.writeValueAsBytes(outcomePayload);
+    }
+
+    @Benchmark
+    public void serializeBetPayloads(Blackhole blackhole) throws IOException {
+        for (var payload : betPayloads) {
+            blackhole.consume(objectMapper.writeValueAsBytes(payload));
+        }
+    }
+
+    @Benchmark
+    public void deserializeBetPayloads(Blackhole blackhole) throws IOException {
+        for (var bytes : serializedBetPayloads) {
+            blackhole.consume(objectMapper.readValue(bytes, BetPayload.class));
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeEventOutcomePayload() throws IOException {
+        return objectMapper.writeValueAsBytes(outcomePayload);
+    }
+
+    @Benchmark
+    public EventOutcomePayload deserializeEventOutcomePayload() throws IOException {
+        return objectMapper.readValue(serializedOutcomePayload, EventOutcomePayload.class);
+    }
+
+    private byte[] serialize(BetPayload payload) {
+        try {
+            return objectMapper.writeValueAsBytes(payload);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.mario.hexagonalbettingengine.benchmark;
+
+import com.mario.hexagonalbettingengine.benchmark.support.BenchmarkBets;
+import com.mario.hexagonalbettingengine.domain.betting.Bet;
+import com.mario.hexagonalbettingengine.domain.eventoutcome.EventOutcome;
+import com.mario.hexagonalbettingengine.infrastructure.betting.BetEntity;
+import com.mario.hexagonalbettingengine.infrastructure.betting.mapper.BetMapper;
+import com.mario.hexagonalbettingengine.infrastructure.betting.mapper.BetMapperImpl;
+import com.mario.hexagonalbettingengine.infrastructure.eventoutcome.mapper.EventOutcomeMapper;
+import com.mario.hexagonalbettingengine.infrastructure.eventoutcome.mapper.EventOutcomeMapperImpl;
+import com.mario.hexagonalbettingengine.infrastructure.eventoutcome.payload.EventOutcomePayload;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MapperBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int betsPerEvent;
+
+    private final BetMapper betMapper = new BetMapperImpl();
+    private final EventOutcomeMapper eventOutcomeMapper = new EventOutcomeMapperImpl();
+
+    private List<Bet> bets;
+    private List<BetEntity> entities;
+    private EventOutcome outcome;
+    private EventOutcomePayload outcomePayload;
+
+    @Setup
+    public void setUp() {
+        bets = BenchmarkBets.pendingBets(betsPerEvent);
+        entities = bets.stream()
+                .map(betMapper::toEntity)
+                .toList();
+        outcome = BenchmarkBets.homeWin();
+        outcomePayload = eventOutcomeMapper.toPayload(outcome);
+    }
+
+    @Benchmark
+    public void betToPayload(Blackhole blackhole) {
+        for (var bet : bets) {
+            blackhole.consume(betMapper.toPayload(bet));
+        }
+    }
+
+    @Benchmark
+    public void betToEntity(Blackhole blackhole) {
+        for (var bet : bets) {
+            blackhole.consume(betMapper.toEntity(bet));
+        }
+    }
+
+    @Benchmark
+    public void entityToDomain(Blackhole blackhole) {
+        for (var entity : entities) {
+            blackhole.consume(betMapper.toDomain(entity));
+        }
+    }
+
+    @Benchmark
+    public EventOutcome eventOutcomeToDomain() {
+        return eventOutcomeMapper.toDomain(outcomePayload);
+    }
+
+    @Benchmark
+    public EventOutcomePayload eventOutcomeToPayload() {
+        return eventOutcomeMapper.toPayload(outcome);
+    }
+}
@@ -0,0 +1,83 @@
+package com.mario.hexagonalbettingengine.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mario.hexagonalbettingengine.benchmark.support.BenchmarkBets;
+import com.mario.hexagonalbettingengine.domain.betting.BetStatus;
+import com.mario.hexagonalbettingengine.infrastructure.betting.mapper.BetMapperImpl;
+import com.mario.hexagonalbettingengine.infrastructure.betting.payload.BetPayload;
+import com.mario.hexagonalbettingengine.infrastructure.betting.payload.BetPayloadCodec;
+import com.mario.hexagonalbettingengine.infrastructure.config.JacksonConfig;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the Jackson path with the binary codec per record. {@code ns/op} is the cost of one record;
+ * the {@code bytesPerRecord} secondary result is the encoded size.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PayloadCodecBenchmark {
+
+    @Param({"JSON", "BINARY"})
+    private String format;
+
+    private final ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+    private final BetPayloadCodec codec = new BetPayloadCodec();
+    private final ByteBuffer buffer = ByteBuffer.allocate(1024);
+
+    private BetPayload payload;
+    private byte[] encoded;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class EncodedSize {
+        public long bytesPerRecord;
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        var bet = BenchmarkBets.pendingBets(1).getFirst().withStatus(BetStatus.WON);
+        payload = new BetMapperImpl().toPayload(bet);
+        encoded = encode();
+    }
+
+    @Setup(Level.Iteration)
+    public void recordSize(EncodedSize size) {
+        size.bytesPerRecord = encoded.length;
+    }
+
+    @Benchmark
+    public Object encodeRecord() throws IOException {
+        if (format.equals("JSON")) {
+            return objectMapper.writeValueAsBytes(payload);
+        }
+
+        buffer.clear();
+        codec.encode(payload, buffer);
+        return buffer;
+    }
+
+    @Benchmark
+    public BetPayload decodeRecord() throws IOException {
+        return format.equals("JSON")
+                ? objectMapper.readValue(encoded, BetPayload.class)
+                : codec.decode(encoded);
+    }
+
+    private byte[] encode() throws IOException {
+        return format.equals("JSON") ? objectMapper.writeValueAsBytes(payload) : codec.encode(payload);
+    }
+}
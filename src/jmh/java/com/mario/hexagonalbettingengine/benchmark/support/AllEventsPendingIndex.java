@@ -0,0 +1,19 @@
+package com.mario.hexagonalbettingengine.benchmark.support;
+
+import com.mario.hexagonalbettingengine.domain.betting.PendingEventIndex;
+
+public class AllEventsPendingIndex implements PendingEventIndex {
+
+    @Override
+    public boolean mightHavePendingBets(String eventId) {
+        return true;
+    }
+
+    @Override
+    public void add(String eventId) {
+    }
+
+    @Override
+    public void remove(String eventId) {
+    }
+}
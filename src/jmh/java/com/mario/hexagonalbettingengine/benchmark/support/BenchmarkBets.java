@@ -0,0 +1,59 @@
+package com.mario.hexagonalbettingengine.benchmark.support;
+
+import com.mario.hexagonalbettingengine.domain.betting.Bet;
+import com.mario.hexagonalbettingengine.domain.eventoutcome.EventOutcome;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static com.mario.hexagonalbettingengine.domain.betting.BetStatus.PENDING;
+
+public final class BenchmarkBets {
+
+    public static final String EVENT_ID = "benchmark-event";
+    public static final String WINNER = "HOME";
+    public static final String LOSER = "AWAY";
+
+    private BenchmarkBets() {
+    }
+
+    public static List<Bet> pendingBets(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(index -> pendingBet(EVENT_ID, "bet-%08d".formatted(index), index))
+                .toList();
+    }
+
+    /**
+     * Bets with ids unique to the event, for benchmarks that store every event's bets in one database.
+     */
+    public static List<Bet> pendingBets(String eventId, int count) {
+        return IntStream.range(0, count)
+                .mapToObj(index -> pendingBet(eventId, "%s-bet-%08d".formatted(eventId, index), index))
+                .toList();
+    }
+
+    public static EventOutcome homeWin() {
+        return homeWin(EVENT_ID);
+    }
+
+    public static EventOutcome homeWin(String eventId) {
+        return EventOutcome.builder()
+                .eventId(eventId)
+                .eventName("Home vs Away")
+                .eventWinnerId(WINNER)
+                .build();
+    }
+
+    private static Bet pendingBet(String eventId, String betId, int index) {
+        return Bet.builder()
+                .betId(betId)
+                .userId("user-" + index % 1_000)
+                .eventId(eventId)
+                .eventMarketId("1x2")
+                .eventWinnerId(index % 3 == 0 ? WINNER : LOSER)
+                .betAmount(new BigDecimal("10.00"))
+                .status(PENDING)
+                .build();
+    }
+}
@@ -0,0 +1,91 @@
+package com.mario.hexagonalbettingengine.benchmark.support;
+
+import com.mario.hexagonalbettingengine.domain.betting.Bet;
+import com.mario.hexagonalbettingengine.domain.betting.BetRepository;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.stream.IntStream;
+
+import static com.mario.hexagonalbettingengine.domain.betting.BetStatus.LOST;
+import static com.mario.hexagonalbettingengine.domain.betting.BetStatus.PENDING;
+import static com.mario.hexagonalbettingengine.domain.betting.BetStatus.WON;
+
+public class InMemoryBetRepository implements BetRepository {
+
+    private final Map<String, NavigableMap<String, Bet>> betsByEventId = new HashMap<>();
+
+    public void reset(Collection<Bet> bets) {
+        betsByEventId.clear();
+        saveAll(bets);
+    }
+
+    @Override
+    public List<Bet> findPendingBetsByEventId(String eventId) {
+        return eventBets(eventId).values().stream()
+                .filter(bet -> bet.status() == PENDING)
+                .toList();
+    }
+
+    @Override
+    public List<Bet> findPendingBetsByEventId(String eventId, String afterBetId, int limit) {
+        var remaining = afterBetId == null ? eventBets(eventId) : eventBets(eventId).tailMap(afterBetId, false);
+
+        return remaining.values().stream()
+                .filter(bet -> bet.status() == PENDING)
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public List<Bet> findPendingBetsByEventId(String eventId, String afterBetId, String lastBetId, int limit) {
+        return findPendingBetsByEventId(eventId, afterBetId, limit).stream()
+                .filter(bet -> lastBetId == null || bet.betId().compareTo(lastBetId) <= 0)
+                .toList();
+    }
+
+    @Override
+    public long countPendingBetsByEventId(String eventId) {
+        return eventBets(eventId).values().stream()
+                .filter(bet -> bet.status() == PENDING)
+                .count();
+    }
+
+    @Override
+    public List<String> findPendingBetIdBoundaries(String eventId, int betsPerRange) {
+        var pendingBets = findPendingBetsByEventId(eventId);
+
+        return IntStream.rangeClosed(1, pendingBets.size() / betsPerRange)
+                .mapToObj(range -> pendingBets.get(range * betsPerRange - 1).betId())
+                .toList();
+    }
+
+    @Override
+    public List<Bet> settlePendingBets(String eventId, String actualWinnerId, String afterBetId, int limit) {
+        var settledBets = findPendingBetsByEventId(eventId, afterBetId, limit).stream()
+                .map(bet -> bet.withStatus(bet.isWinner(actualWinnerId) ? WON : LOST))
+                .toList();
+        saveAll(settledBets);
+
+        return settledBets;
+    }
+
+    @Override
+    public void save(Bet bet) {
+        betsByEventId.computeIfAbsent(bet.eventId(), eventId -> new TreeMap<>())
+                .put(bet.betId(), bet);
+    }
+
+    @Override
+    public void saveAll(Collection<Bet> bets) {
+        bets.forEach(this::save);
+    }
+
+    private NavigableMap<String, Bet> eventBets(String eventId) {
+        return betsByEventId.getOrDefault(eventId, new TreeMap<>());
+    }
+}
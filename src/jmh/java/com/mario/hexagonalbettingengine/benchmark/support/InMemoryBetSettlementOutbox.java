@@ -0,0 +1,21 @@
+package com.mario.hexagonalbettingengine.benchmark.support;
+
+import com.mario.hexagonalbettingengine.domain.betting.Bet;
+import com.mario.hexagonalbettingengine.domain.betting.BetSettlementOutbox;
+import com.mario.hexagonalbettingengine.domain.betting.BetSettlementPublisher;
+
+import java.util.Collection;
+
+public class InMemoryBetSettlementOutbox implements BetSettlementOutbox {
+
+    private final BetSettlementPublisher publisher;
+
+    public InMemoryBetSettlementOutbox(BetSettlementPublisher publisher) {
+        this.publisher = publisher;
+    }
+
+    @Override
+    public void append(Collection<Bet> settledBets) {
+        settledBets.forEach(publisher::publish);
+    }
+}
@@ -0,0 +1,19 @@
+package com.mario.hexagonalbettingengine.benchmark.support;
+
+import com.mario.hexagonalbettingengine.domain.betting.Bet;
+import com.mario.hexagonalbettingengine.domain.betting.BetSettlementPublisher;
+import org.openjdk.jmh.infra.Blackhole;
+
+public class InMemoryBetSettlementPublisher implements BetSettlementPublisher {
+
+    private final Blackhole blackhole;
+
+    public InMemoryBetSettlementPublisher(Blackhole blackhole) {
+        this.blackhole = blackhole;
+    }
+
+    @Override
+    public void publish(Bet bet) {
+        blackhole.consume(bet);
+    }
+}
@@ -0,0 +1,31 @@
+package com.mario.hexagonalbettingengine.benchmark.support;
+
+import com.mario.hexagonalbettingengine.domain.betting.SettledEventRegistry;
+import com.mario.hexagonalbettingengine.domain.eventoutcome.EventOutcome;
+
+import java.util.HashSet;
+import java.util.Set;
+
+public class InMemorySettledEventRegistry implements SettledEventRegistry {
+
+    private final Set<String> settledEventIds = new HashSet<>();
+
+    @Override
+    public boolean isKnownSettled(String eventId) {
+        return settledEventIds.contains(eventId);
+    }
+
+    @Override
+    public boolean isSettled(String eventId) {
+        return settledEventIds.contains(eventId);
+    }
+
+    @Override
+    public boolean register(EventOutcome eventOutcome) {
+        return settledEventIds.add(eventOutcome.eventId());
+    }
+
+    public void reset() {
+        settledEventIds.clear();
+    }
+}
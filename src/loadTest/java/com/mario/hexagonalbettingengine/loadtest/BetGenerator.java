@@ -0,0 +1,45 @@
+package com.mario.hexagonalbettingengine.loadtest;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.IntStream;
+
+public class BetGenerator {
+
+    public static final String WINNING_SELECTION = "SEL-0";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public BetGenerator(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public static String eventId(int index) {
+        return "load-event-%06d".formatted(index);
+    }
+
+    public static List<String> eventIds(int events) {
+        return IntStream.range(0, events)
+                .mapToObj(BetGenerator::eventId)
+                .toList();
+    }
+
+    public void generate(LoadTestProperties properties) {
+        jdbcTemplate.update("DELETE FROM bets");
+        jdbcTemplate.update(String.format(Locale.ROOT, """
+                        INSERT INTO bets (bet_id, user_id, event_id, event_market_id, event_winner_id, bet_amount, status)
+                        SELECT 'load-' || LPAD(CAST(X AS VARCHAR), 10, '0'),
+                               'user-' || MOD(X, 100000),
+                               'load-event-' || LPAD(CAST(CAST(FLOOR(%d * POWER(RAND(), %f)) AS INT) AS VARCHAR), 6, '0'),
+                               '1x2',
+                               'SEL-' || MOD(X, %d),
+                               10.00,
+                               'PENDING'
+                          FROM SYSTEM_RANGE(1, %d)
+                        """,
+                properties.events(), 1 + properties.skew(),
+                properties.selections(), properties.bets()));
+    }
+}
@@ -0,0 +1,49 @@
+package com.mario.hexagonalbettingengine.loadtest;
+
+import com.mario.hexagonalbettingengine.domain.betting.Bet;
+import com.mario.hexagonalbettingengine.domain.betting.BetSettlementPublisher;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+public class LatencyRecordingPublisher implements BetSettlementPublisher {
+
+    private final Map<String, Long> sentAtByEventId = new ConcurrentHashMap<>();
+    private final LongAdder published = new LongAdder();
+    private final Timer outcomeToPublish = Timer.builder("load.outcome.to.publish")
+            .publishPercentiles(0.5, 0.99)
+            .distributionStatisticExpiry(Duration.ofDays(1))
+            .distributionStatisticBufferLength(1)
+            .register(new SimpleMeterRegistry());
+
+    public void markSent(String eventId) {
+        sentAtByEventId.put(eventId, System.nanoTime());
+    }
+
+    @Override
+    public void publish(Bet bet) {
+        var sentAt = sentAtByEventId.get(bet.eventId());
+        if (sentAt != null) {
+            outcomeToPublish.record(System.nanoTime() - sentAt, TimeUnit.NANOSECONDS);
+        }
+        published.increment();
+    }
+
+    public long publishedCount() {
+        return published.sum();
+    }
+
+    public double percentileMillis(double percentile) {
+        for (var value : outcomeToPublish.takeSnapshot().percentileValues()) {
+            if (value.percentile() == percentile) {
+                return value.value(TimeUnit.MILLISECONDS);
+            }
+        }
+        throw new IllegalArgumentException("Percentile %s is not tracked".formatted(percentile));
+    }
+}
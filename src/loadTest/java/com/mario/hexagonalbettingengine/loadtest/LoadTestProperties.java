@@ -0,0 +1,26 @@
+package com.mario.hexagonalbettingengine.loadtest;
+
+public record LoadTestProperties(
+        int bets,
+        int events,
+        int selections,
+        double skew,
+        long timeoutSeconds,
+        double minSettlementsPerSecond,
+        long maxP99Millis,
+        long maxHeapMb
+) {
+
+    public static LoadTestProperties fromSystemProperties() {
+        return new LoadTestProperties(
+                Integer.getInteger("loadTest.bets", 1_000_000),
+                Integer.getInteger("loadTest.events", 1_000),
+                Integer.getInteger("loadTest.selections", 3),
+                Double.parseDouble(System.getProperty("loadTest.skew", "0.0")),
+                Long.getLong("loadTest.timeoutSeconds", 600),
+                Double.parseDouble(System.getProperty("loadTest.minSettlementsPerSecond", "5000")),
+                Long.getLong("loadTest.maxP99Millis", 60_000),
+                Long.getLong("loadTest.maxHeapMb", 1_536)
+        );
+    }
+}
@@ -0,0 +1,14 @@
+package com.mario.hexagonalbettingengine.loadtest;
+
+public record LoadTestReport(
+        int bets,
+        int events,
+        int selections,
+        double skew,
+        long elapsedMillis,
+        double settlementsPerSecond,
+        double p50Millis,
+        double p99Millis,
+        long peakHeapMb
+) {
+}
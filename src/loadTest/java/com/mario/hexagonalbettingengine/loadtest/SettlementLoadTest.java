@@ -0,0 +1,127 @@
+package com.mario.hexagonalbettingengine.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mario.hexagonalbettingengine.infrastructure.config.MessagingProperties;
+import com.mario.hexagonalbettingengine.infrastructure.eventoutcome.payload.EventOutcomePayload;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static com.mario.hexagonalbettingengine.loadtest.BetGenerator.WINNING_SELECTION;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+@EmbeddedKafka(partitions = 3, topics = {"${app.messaging.kafka.event-outcomes.topic}"})
+@SpringBootTest
+@ActiveProfiles({"test", "load"})
+@DisplayName("Settlement Load Test (run with ./gradlew loadTest)")
+class SettlementLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(SettlementLoadTest.class);
+
+    private static final Path REPORT_FILE = Path.of("build", "reports", "load-test", "summary.json");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private KafkaTemplate<String, EventOutcomePayload> kafkaTemplate;
+
+    @Autowired
+    private MessagingProperties messagingProperties;
+
+    @Autowired
+    private LatencyRecordingPublisher publisher;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @TestConfiguration
+    static class LoadTestConfig {
+
+        @Bean
+        @Primary
+        LatencyRecordingPublisher latencyRecordingPublisher() {
+            return new LatencyRecordingPublisher();
+        }
+    }
+
+    @Test
+    @DisplayName("Should settle generated bets through Kafka within the configured thresholds")
+    void shouldSettleGeneratedBetsWithinThresholds() throws IOException {
+        // Given
+        var properties = LoadTestProperties.fromSystemProperties();
+        new BetGenerator(jdbcTemplate).generate(properties);
+        log.warn("Generated {} bets across {} events (skew {})",
+                properties.bets(), properties.events(), properties.skew());
+
+        var topic = messagingProperties.kafka().eventOutcomes().topic();
+
+        try (var heapSampler = new HeapSampler().start()) {
+            // When
+            var start = System.nanoTime();
+
+            for (var eventId : BetGenerator.eventIds(properties.events())) {
+                publisher.markSent(eventId);
+                kafkaTemplate.send(topic, eventId, new EventOutcomePayload(eventId, "Load " + eventId, WINNING_SELECTION));
+            }
+            kafkaTemplate.flush();
+
+            await().atMost(Duration.ofSeconds(properties.timeoutSeconds()))
+                    .pollInterval(Duration.ofMillis(200))
+                    .until(() -> publisher.publishedCount() >= properties.bets());
+
+            var elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+            // Then
+            var report = new LoadTestReport(
+                    properties.bets(),
+                    properties.events(),
+                    properties.selections(),
+                    properties.skew(),
+                    elapsedMillis,
+                    properties.bets() * 1000.0 / elapsedMillis,
+                    publisher.percentileMillis(0.5),
+                    publisher.percentileMillis(0.99),
+                    heapSampler.peakHeapMb()
+            );
+            writeReport(report);
+
+            assertThat(pendingBets()).isZero();
+            assertThat(report.settlementsPerSecond())
+                    .as("Sustained settlements/sec")
+                    .isGreaterThanOrEqualTo(properties.minSettlementsPerSecond());
+            assertThat(report.p99Millis())
+                    .as("p99 outcome-to-publish latency (ms)")
+                    .isLessThanOrEqualTo(properties.maxP99Millis());
+            assertThat(report.peakHeapMb())
+                    .as("Peak heap usage (MB)")
+                    .isLessThanOrEqualTo(properties.maxHeapMb());
+        }
+    }
+
+    private long pendingBets() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM bets WHERE status = 'PENDING'", Long.class);
+    }
+
+    private void writeReport(LoadTestReport report) throws IOException {
+        Files.createDirectories(REPORT_FILE.getParent());
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(REPORT_FILE.toFile(), report);
+        log.warn("Load test report: {}", report);
+    }
+}
@@ -1,12 +1,24 @@
 package com.mario.hexagonalbettingengine;
 
+import com.mario.hexagonalbettingengine.infrastructure.config.BetBookProperties;
+import com.mario.hexagonalbettingengine.infrastructure.config.DeadLetterReplayProperties;
 import com.mario.hexagonalbettingengine.infrastructure.config.MessagingProperties;
+import com.mario.hexagonalbettingengine.infrastructure.config.PendingEventFilterProperties;
+import com.mario.hexagonalbettingengine.infrastructure.config.PlacementProperties;
+import com.mario.hexagonalbettingengine.infrastructure.config.SettlementProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 
 @SpringBootApplication
-@EnableConfigurationProperties(MessagingProperties.class)
+@EnableConfigurationProperties({
+        MessagingProperties.class,
+        SettlementProperties.class,
+        PlacementProperties.class,
+        PendingEventFilterProperties.class,
+        DeadLetterReplayProperties.class,
+        BetBookProperties.class
+})
 public class HexagonalBettingEngineApplication {
 
     public static void main(String[] args) {
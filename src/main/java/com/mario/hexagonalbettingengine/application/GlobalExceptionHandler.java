@@ -1,13 +1,27 @@
 package com.mario.hexagonalbettingengine.application;
 
 import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.CONFLICT;
 import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
+import static org.springframework.http.HttpStatus.TOO_MANY_REQUESTS;
 
+import com.mario.hexagonalbettingengine.application.eventoutcome.InvalidEventOutcomeBatchException;
+import com.mario.hexagonalbettingengine.domain.betting.BetPlacementRejectedException;
+import com.mario.hexagonalbettingengine.domain.betting.DuplicateBetException;
+import com.mario.hexagonalbettingengine.domain.betting.EventAlreadySettledException;
+import com.mario.hexagonalbettingengine.domain.eventoutcome.DeadLetterReplayInProgressException;
+import com.mario.hexagonalbettingengine.domain.eventoutcome.EventOutcomeDeliveryException;
+import com.mario.hexagonalbettingengine.domain.eventoutcome.EventOutcomePublishRejectedException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
 
 import java.util.HashMap;
 
@@ -26,6 +40,63 @@ public class GlobalExceptionHandler {
         return problem;
     }
 
+    @ExceptionHandler(HandlerMethodValidationException.class)
+    public ProblemDetail handleMethodValidationErrors(HandlerMethodValidationException ex) {
+        var problem = ProblemDetail.forStatusAndDetail(BAD_REQUEST, "Validation failed");
+
+        var errors = new HashMap<String, String>();
+        ex.getParameterValidationResults().forEach(result -> {
+            var prefix = result.getContainerIndex() != null ? "[" + result.getContainerIndex() + "]." : "";
+            result.getResolvableErrors().forEach(error -> errors.put(
+                    error instanceof FieldError fieldError
+                            ? prefix + fieldError.getField()
+                            : result.getMethodParameter().getParameterName(),
+                    error.getDefaultMessage()));
+        });
+        problem.setProperty("errors", errors);
+
+        return problem;
+    }
+
+    @ExceptionHandler(InvalidEventOutcomeBatchException.class)
+    public ProblemDetail handleInvalidBatch(InvalidEventOutcomeBatchException ex) {
+        return ProblemDetail.forStatusAndDetail(BAD_REQUEST, ex.getMessage());
+    }
+
+    @ExceptionHandler(DuplicateBetException.class)
+    public ProblemDetail handleDuplicateBet(DuplicateBetException ex) {
+        return ProblemDetail.forStatusAndDetail(CONFLICT, ex.getMessage());
+    }
+
+    @ExceptionHandler(EventAlreadySettledException.class)
+    public ProblemDetail handleEventAlreadySettled(EventAlreadySettledException ex) {
+        return ProblemDetail.forStatusAndDetail(CONFLICT, ex.getMessage());
+    }
+
+    @ExceptionHandler(DeadLetterReplayInProgressException.class)
+    public ProblemDetail handleReplayInProgress(DeadLetterReplayInProgressException ex) {
+        return ProblemDetail.forStatusAndDetail(CONFLICT, ex.getMessage());
+    }
+
+    @ExceptionHandler(BetPlacementRejectedException.class)
+    public ResponseEntity<ProblemDetail> handlePlacementRejected(BetPlacementRejectedException ex) {
+        return ResponseEntity.status(SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ProblemDetail.forStatusAndDetail(SERVICE_UNAVAILABLE, ex.getMessage()));
+    }
+
+    @ExceptionHandler(EventOutcomePublishRejectedException.class)
+    public ResponseEntity<ProblemDetail> handlePublishRejected(EventOutcomePublishRejectedException ex) {
+        return ResponseEntity.status(TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ProblemDetail.forStatusAndDetail(TOO_MANY_REQUESTS, ex.getMessage()));
+    }
+
+    @ExceptionHandler(EventOutcomeDeliveryException.class)
+    public ProblemDetail handleDeliveryFailure(EventOutcomeDeliveryException ex) {
+        return ProblemDetail.forStatusAndDetail(SERVICE_UNAVAILABLE, ex.getMessage());
+    }
+
     @ExceptionHandler(HttpMessageNotReadableException.class)
     public ProblemDetail handleMalformedJson(HttpMessageNotReadableException ex) {
         return ProblemDetail.forStatusAndDetail(BAD_REQUEST, "Malformed JSON request");
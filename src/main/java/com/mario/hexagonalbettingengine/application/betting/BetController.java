@@ -0,0 +1,95 @@
+package com.mario.hexagonalbettingengine.application.betting;
+
+import com.mario.hexagonalbettingengine.application.betting.mapper.BetDtoMapper;
+import com.mario.hexagonalbettingengine.application.betting.request.BetRequestDto;
+import com.mario.hexagonalbettingengine.domain.betting.BetPlacement;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.springframework.http.HttpStatus.CREATED;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/bets")
+@RequiredArgsConstructor
+@Tag(name = "Bets", description = "Bet placement")
+public class BetController {
+
+    private static final int MAX_BULK_SIZE = 10_000;
+
+    private final BetPlacement placement;
+    private final BetDtoMapper mapper;
+
+    @PostMapping
+    @Operation(
+            summary = "Place a bet",
+            description = "Places a pending bet. The response is sent once the bet is committed to the database"
+    )
+    @ApiResponse(responseCode = "201", description = "Bet placed and committed")
+    @ApiResponse(responseCode = "400", description = "Invalid request - validation failed")
+    @ApiResponse(responseCode = "409", description = "A bet with the same ID exists or its event is already settled")
+    @ApiResponse(responseCode = "503", description = "Placement queue is full, retry later")
+    public CompletableFuture<ResponseEntity<Void>> placeBet(
+            @Valid
+            @RequestBody
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    content = @Content(
+                            mediaType = APPLICATION_JSON_VALUE,
+                            examples = @ExampleObject(
+                                    value = """
+                                            {
+                                              "betId": "b-100",
+                                              "userId": "u-1",
+                                              "eventId": "match-100",
+                                              "eventMarketId": "1x2",
+                                              "eventWinnerId": "REAL_MADRID",
+                                              "betAmount": 25.00
+                                            }
+                                            """
+                            )
+                    )
+            )
+            BetRequestDto request
+    ) {
+        log.debug("Received bet: {}", request);
+        return placement.place(mapper.toDomain(request))
+                .thenApply(ignored -> ResponseEntity.status(CREATED).build());
+    }
+
+    @PostMapping("/bulk")
+    @Operation(
+            summary = "Place bets in bulk",
+            description = "Places all bets atomically. The response is sent once the bets are committed to the database"
+    )
+    @ApiResponse(responseCode = "201", description = "Bets placed and committed")
+    @ApiResponse(responseCode = "400", description = "Invalid request - validation failed")
+    @ApiResponse(responseCode = "409", description = "A bet with the same ID exists or its event is already settled")
+    @ApiResponse(responseCode = "503", description = "Placement queue is full, retry later")
+    public CompletableFuture<ResponseEntity<Void>> placeBets(
+            @RequestBody
+            @NotEmpty
+            @Size(max = MAX_BULK_SIZE)
+            List<@Valid BetRequestDto> requests
+    ) {
+        log.debug("Received {} bets", requests.size());
+        return placement.placeAll(mapper.toDomain(requests))
+                .thenApply(ignored -> ResponseEntity.status(CREATED).build());
+    }
+}
@@ -0,0 +1,16 @@
+package com.mario.hexagonalbettingengine.application.betting.mapper;
+
+import com.mario.hexagonalbettingengine.application.betting.request.BetRequestDto;
+import com.mario.hexagonalbettingengine.domain.betting.Bet;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import java.util.List;
+
+@Mapper(componentModel = "spring")
+public interface BetDtoMapper {
+    @Mapping(target = "status", ignore = true)
+    Bet toDomain(BetRequestDto request);
+
+    List<Bet> toDomain(List<BetRequestDto> requests);
+}
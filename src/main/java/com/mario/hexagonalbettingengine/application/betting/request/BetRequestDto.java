@@ -0,0 +1,30 @@
+package com.mario.hexagonalbettingengine.application.betting.request;
+
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Builder;
+import lombok.extern.jackson.Jacksonized;
+
+import java.math.BigDecimal;
+
+@Builder(toBuilder = true)
+@Jacksonized
+public record BetRequestDto(
+        @NotBlank(message = "Bet ID must not be blank")
+        String betId,
+        @NotBlank(message = "User ID must not be blank")
+        String userId,
+        @NotBlank(message = "Event ID must not be blank")
+        String eventId,
+        @NotBlank(message = "Event Market ID must not be blank")
+        String eventMarketId,
+        @NotBlank(message = "Event Winner ID must not be blank")
+        String eventWinnerId,
+        @NotNull(message = "Bet amount must not be null")
+        @Positive(message = "Bet amount must be positive")
+        @Digits(integer = 17, fraction = 2, message = "Bet amount must have at most 2 decimal places")
+        BigDecimal betAmount) {
+
+}
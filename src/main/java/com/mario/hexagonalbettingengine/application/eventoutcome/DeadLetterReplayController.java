@@ -0,0 +1,90 @@
+package com.mario.hexagonalbettingengine.application.eventoutcome;
+
+import com.mario.hexagonalbettingengine.application.eventoutcome.mapper.DeadLetterReplayDtoMapper;
+import com.mario.hexagonalbettingengine.application.eventoutcome.request.DeadLetterReplayRequestDto;
+import com.mario.hexagonalbettingengine.application.eventoutcome.response.DeadLetterReplayResponse;
+import com.mario.hexagonalbettingengine.domain.eventoutcome.DeadLetterReplay;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/dlq-replays")
+@RequiredArgsConstructor
+@Tag(name = "DLQ Replay", description = "Re-driving dead-lettered event outcomes")
+public class DeadLetterReplayController {
+
+    private final DeadLetterReplay replay;
+    private final DeadLetterReplayDtoMapper mapper;
+
+    @PostMapping
+    @Operation(
+            summary = "Replay dead-lettered event outcomes",
+            description = "Starts a rate-limited replay of the event outcome DLQ in the background. Records are filtered by "
+                    + "time or offset range, exception type and event ID, deduplicated, and republished to the event "
+                    + "outcome topic or settled directly. A dry run only counts what would be replayed"
+    )
+    @ApiResponse(responseCode = "202", description = "Replay started - poll the Location header for progress")
+    @ApiResponse(responseCode = "400", description = "Invalid request - validation failed")
+    @ApiResponse(responseCode = "409", description = "Another replay is still running")
+    public ResponseEntity<DeadLetterReplayResponse> startReplay(
+            @Valid
+            @RequestBody
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    content = @Content(
+                            mediaType = APPLICATION_JSON_VALUE,
+                            examples = @ExampleObject(
+                                    value = """
+                                            {
+                                              "from": "2026-01-01T10:00:00Z",
+                                              "to": "2026-01-01T12:00:00Z",
+                                              "exceptionTypes": ["CannotCreateTransactionException"],
+                                              "target": "REPUBLISH",
+                                              "dryRun": true
+                                            }
+                                            """
+                            )
+                    )
+            )
+            DeadLetterReplayRequestDto request
+    ) {
+        log.info("Received DLQ replay request: {}", request);
+        var progress = mapper.toResponse(replay.start(mapper.toDomain(request)));
+        var location = ServletUriComponentsBuilder.fromCurrentRequest()
+                .path("/{replayId}")
+                .buildAndExpand(progress.replayId())
+                .toUri();
+
+        return ResponseEntity.accepted().location(location).body(progress);
+    }
+
+    @GetMapping("/{replayId}")
+    @Operation(
+            summary = "Get progress of a DLQ replay",
+            description = "Reports the counters of a running or recently finished replay"
+    )
+    @ApiResponse(responseCode = "200", description = "Replay found")
+    @ApiResponse(responseCode = "404", description = "Unknown replay or no longer retained")
+    public ResponseEntity<DeadLetterReplayResponse> getReplay(@PathVariable String replayId) {
+        return replay.findById(replayId)
+                .map(mapper::toResponse)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
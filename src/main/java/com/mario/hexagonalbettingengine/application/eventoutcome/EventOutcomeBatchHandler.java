@@ -0,0 +1,120 @@
+package com.mario.hexagonalbettingengine.application.eventoutcome;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mario.hexagonalbettingengine.application.eventoutcome.mapper.EventOutcomeDtoMapper;
+import com.mario.hexagonalbettingengine.application.eventoutcome.request.EventOutcomeRequestDto;
+import com.mario.hexagonalbettingengine.application.eventoutcome.response.EventOutcomeBatchResponse;
+import com.mario.hexagonalbettingengine.application.eventoutcome.response.EventOutcomeItemResult;
+import com.mario.hexagonalbettingengine.domain.eventoutcome.EventOutcome;
+import com.mario.hexagonalbettingengine.domain.eventoutcome.EventOutcomeCommandHandler;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventOutcomeBatchHandler {
+
+    private static final int MAX_BATCH_SIZE = 10_000;
+
+    private final EventOutcomeCommandHandler handler;
+    private final EventOutcomeDtoMapper mapper;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+
+    public CompletableFuture<EventOutcomeBatchResponse> handle(List<EventOutcomeRequestDto> requests) {
+        var batch = new Batch();
+        requests.forEach(batch::add);
+        return batch.publish();
+    }
+
+    public CompletableFuture<EventOutcomeBatchResponse> handleNdjson(InputStream body) throws IOException {
+        var batch = new Batch();
+        var reader = new BufferedReader(new InputStreamReader(body, UTF_8));
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (!line.isBlank()) {
+                batch.add(line);
+            }
+        }
+
+        return batch.publish();
+    }
+
+    private class Batch {
+
+        private final List<EventOutcomeItemResult> results = new ArrayList<>();
+        private final List<EventOutcome> outcomes = new ArrayList<>();
+
+        void add(String line) {
+            try {
+                add(objectMapper.readValue(line, EventOutcomeRequestDto.class));
+            } catch (JsonProcessingException e) {
+                results.add(EventOutcomeItemResult.malformed(nextIndex()));
+            }
+        }
+
+        void add(EventOutcomeRequestDto request) {
+            var index = nextIndex();
+
+            if (request == null) {
+                results.add(EventOutcomeItemResult.malformed(index));
+                return;
+            }
+
+            var violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                results.add(EventOutcomeItemResult.invalid(index, request.eventId(), toErrors(violations)));
+                return;
+            }
+
+            outcomes.add(mapper.toDomain(request));
+            results.add(EventOutcomeItemResult.accepted(index, request.eventId()));
+        }
+
+        CompletableFuture<EventOutcomeBatchResponse> publish() {
+            if (results.isEmpty()) {
+                throw new InvalidEventOutcomeBatchException("Batch must contain at least one event outcome");
+            }
+
+            log.info("Received batch of {} event outcomes, {} accepted", results.size(), outcomes.size());
+            var response = EventOutcomeBatchResponse.of(results);
+
+            return outcomes.isEmpty()
+                    ? CompletableFuture.completedFuture(response)
+                    : handler.handleAll(outcomes).thenApply(ignored -> response);
+        }
+
+        private int nextIndex() {
+            if (results.size() == MAX_BATCH_SIZE) {
+                throw new InvalidEventOutcomeBatchException(
+                        "Batch exceeds the maximum of %d event outcomes".formatted(MAX_BATCH_SIZE));
+            }
+            return results.size();
+        }
+
+        private HashMap<String, String> toErrors(Set<ConstraintViolation<EventOutcomeRequestDto>> violations) {
+            var errors = new HashMap<String, String>();
+            violations.forEach(violation ->
+                    errors.put(violation.getPropertyPath().toString(), violation.getMessage()));
+            return errors;
+        }
+    }
+}
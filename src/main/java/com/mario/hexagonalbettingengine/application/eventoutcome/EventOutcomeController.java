@@ -2,6 +2,7 @@ package com.mario.hexagonalbettingengine.application.eventoutcome;
 
 import com.mario.hexagonalbettingengine.application.eventoutcome.mapper.EventOutcomeDtoMapper;
 import com.mario.hexagonalbettingengine.application.eventoutcome.request.EventOutcomeRequestDto;
+import com.mario.hexagonalbettingengine.application.eventoutcome.response.EventOutcomeBatchResponse;
 import com.mario.hexagonalbettingengine.domain.eventoutcome.EventOutcomeCommandHandler;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -17,8 +18,15 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 import static org.springframework.http.HttpStatus.ACCEPTED;
+import static org.springframework.http.HttpStatus.MULTI_STATUS;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE;
 
 @Slf4j
 @RestController
@@ -29,15 +37,19 @@ public class EventOutcomeController {
 
     private final EventOutcomeCommandHandler handler;
     private final EventOutcomeDtoMapper mapper;
+    private final EventOutcomeBatchHandler batchHandler;
 
     @PostMapping
     @Operation(
             summary = "Publish event outcome to Kafka",
-            description = "Publishes event outcome to Kafka, triggering bet settlement for all pending bets matching the event ID"
+            description = "Publishes event outcome to Kafka, triggering bet settlement for all pending bets matching the event ID. "
+                    + "Depending on the delivery mode the response is sent once Kafka acknowledged the event outcome"
     )
     @ApiResponse(responseCode = "202", description = "Event outcome accepted and published successfully")
     @ApiResponse(responseCode = "400", description = "Invalid request - validation failed")
-    public ResponseEntity<Void> placeEventOutcome(
+    @ApiResponse(responseCode = "429", description = "Too many event outcomes awaiting acknowledgement, retry later")
+    @ApiResponse(responseCode = "503", description = "Kafka did not acknowledge the event outcome")
+    public CompletableFuture<ResponseEntity<Void>> placeEventOutcome(
             @Valid
             @RequestBody
             @io.swagger.v3.oas.annotations.parameters.RequestBody(
@@ -57,8 +69,65 @@ public class EventOutcomeController {
             EventOutcomeRequestDto request
     ) {
         log.info("Received request: {}", request);
-        handler.handle(mapper.toDomain(request));
-        return ResponseEntity.status(ACCEPTED).build();
+        return handler.handle(mapper.toDomain(request))
+                .thenApply(ignored -> ResponseEntity.status(ACCEPTED).build());
     }
 
+    @PostMapping(path = "/batch", consumes = APPLICATION_JSON_VALUE)
+    @Operation(
+            summary = "Publish a batch of event outcomes to Kafka",
+            description = "Validates each event outcome independently and publishes all valid ones as a single producer batch"
+    )
+    @ApiResponse(responseCode = "202", description = "All event outcomes accepted and published")
+    @ApiResponse(responseCode = "207", description = "Some event outcomes rejected - see per-item results")
+    @ApiResponse(responseCode = "400", description = "Invalid request - empty, oversized or malformed batch")
+    @ApiResponse(responseCode = "429", description = "Too many event outcomes awaiting acknowledgement, retry later")
+    @ApiResponse(responseCode = "503", description = "Kafka did not acknowledge the event outcomes")
+    public CompletableFuture<ResponseEntity<EventOutcomeBatchResponse>> placeEventOutcomes(
+            @RequestBody
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    content = @Content(
+                            mediaType = APPLICATION_JSON_VALUE,
+                            examples = @ExampleObject(
+                                    value = """
+                                            [
+                                              {
+                                                "eventId": "match-100",
+                                                "eventName": "Real Madrid vs Barcelona",
+                                                "eventWinnerId": "REAL_MADRID"
+                                              },
+                                              {
+                                                "eventId": "match-101",
+                                                "eventName": "Bayern vs Dortmund",
+                                                "eventWinnerId": "BAYERN"
+                                              }
+                                            ]
+                                            """
+                            )
+                    )
+            )
+            List<EventOutcomeRequestDto> requests
+    ) {
+        log.info("Received batch request with {} event outcomes", requests.size());
+        return batchHandler.handle(requests).thenApply(this::toResponse);
+    }
+
+    @PostMapping(path = "/batch", consumes = APPLICATION_NDJSON_VALUE)
+    @Operation(
+            summary = "Publish a newline-delimited batch of event outcomes to Kafka",
+            description = "Accepts one event outcome per line; malformed lines are reported per item instead of failing the batch"
+    )
+    @ApiResponse(responseCode = "202", description = "All event outcomes accepted and published")
+    @ApiResponse(responseCode = "207", description = "Some event outcomes rejected - see per-item results")
+    @ApiResponse(responseCode = "400", description = "Invalid request - empty or oversized batch")
+    @ApiResponse(responseCode = "429", description = "Too many event outcomes awaiting acknowledgement, retry later")
+    @ApiResponse(responseCode = "503", description = "Kafka did not acknowledge the event outcomes")
+    public CompletableFuture<ResponseEntity<EventOutcomeBatchResponse>> placeEventOutcomesNdjson(InputStream body)
+            throws IOException {
+        return batchHandler.handleNdjson(body).thenApply(this::toResponse);
+    }
+
+    private ResponseEntity<EventOutcomeBatchResponse> toResponse(EventOutcomeBatchResponse response) {
+        return ResponseEntity.status(response.rejected() == 0 ? ACCEPTED : MULTI_STATUS).body(response);
+    }
 }
@@ -0,0 +1,8 @@
+package com.mario.hexagonalbettingengine.application.eventoutcome;
+
+public class InvalidEventOutcomeBatchException extends RuntimeException {
+
+    public InvalidEventOutcomeBatchException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,18 @@
+package com.mario.hexagonalbettingengine.application.eventoutcome.mapper;
+
+import com.mario.hexagonalbettingengine.application.eventoutcome.request.DeadLetterReplayRequestDto;
+import com.mario.hexagonalbettingengine.application.eventoutcome.response.DeadLetterReplayResponse;
+import com.mario.hexagonalbettingengine.domain.eventoutcome.DeadLetterReplayProgress;
+import com.mario.hexagonalbettingengine.domain.eventoutcome.DeadLetterReplayRequest;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(componentModel = "spring")
+public interface DeadLetterReplayDtoMapper {
+
+    @Mapping(target = "maxReplays", ignore = true)
+    @Mapping(target = "resumeFromCheckpoint", ignore = true)
+    DeadLetterReplayRequest toDomain(DeadLetterReplayRequestDto request);
+
+    DeadLetterReplayResponse toResponse(DeadLetterReplayProgress progress);
+}
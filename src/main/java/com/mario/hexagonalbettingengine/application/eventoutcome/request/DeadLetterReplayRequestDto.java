@@ -0,0 +1,34 @@
+package com.mario.hexagonalbettingengine.application.eventoutcome.request;
+
+import com.mario.hexagonalbettingengine.domain.eventoutcome.DeadLetterReplayRequest.Target;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.Builder;
+import lombok.extern.jackson.Jacksonized;
+
+import java.time.Instant;
+import java.util.Set;
+
+@Builder(toBuilder = true)
+@Jacksonized
+public record DeadLetterReplayRequestDto(
+        Instant from,
+        Instant to,
+        @PositiveOrZero(message = "From offset must not be negative")
+        Long fromOffset,
+        @PositiveOrZero(message = "To offset must not be negative")
+        Long toOffset,
+        Set<String> exceptionTypes,
+        Set<String> eventIds,
+        Target target,
+        boolean dryRun,
+        @Positive(message = "Rate per second must be positive")
+        Double ratePerSecond) {
+
+    @AssertTrue(message = "Range start must be before range end")
+    public boolean isRangeValid() {
+        return (from == null || to == null || from.isBefore(to))
+                && (fromOffset == null || toOffset == null || fromOffset < toOffset);
+    }
+}
@@ -0,0 +1,22 @@
+package com.mario.hexagonalbettingengine.application.eventoutcome.response;
+
+import java.time.Instant;
+
+public record DeadLetterReplayResponse(
+        String replayId,
+        String state,
+        String target,
+        boolean dryRun,
+        long scanned,
+        long undecodable,
+        long filtered,
+        long duplicates,
+        long matched,
+        long replayed,
+        long failed,
+        Instant startedAt,
+        Instant finishedAt,
+        String failureReason
+) {
+
+}
@@ -0,0 +1,17 @@
+package com.mario.hexagonalbettingengine.application.eventoutcome.response;
+
+import java.util.List;
+
+public record EventOutcomeBatchResponse(
+        int accepted,
+        int rejected,
+        List<EventOutcomeItemResult> items
+) {
+
+    public static EventOutcomeBatchResponse of(List<EventOutcomeItemResult> items) {
+        var accepted = (int) items.stream()
+                .filter(EventOutcomeItemResult::isAccepted)
+                .count();
+        return new EventOutcomeBatchResponse(accepted, items.size() - accepted, items);
+    }
+}
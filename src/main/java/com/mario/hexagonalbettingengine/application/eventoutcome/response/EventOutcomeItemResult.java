@@ -0,0 +1,35 @@
+package com.mario.hexagonalbettingengine.application.eventoutcome.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.Map;
+
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
+import static org.springframework.http.HttpStatus.ACCEPTED;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+
+@JsonInclude(NON_NULL)
+public record EventOutcomeItemResult(
+        int index,
+        String eventId,
+        int status,
+        String detail,
+        Map<String, String> errors
+) {
+
+    public static EventOutcomeItemResult accepted(int index, String eventId) {
+        return new EventOutcomeItemResult(index, eventId, ACCEPTED.value(), null, null);
+    }
+
+    public static EventOutcomeItemResult invalid(int index, String eventId, Map<String, String> errors) {
+        return new EventOutcomeItemResult(index, eventId, BAD_REQUEST.value(), "Validation failed", errors);
+    }
+
+    public static EventOutcomeItemResult malformed(int index) {
+        return new EventOutcomeItemResult(index, null, BAD_REQUEST.value(), "Malformed JSON request", null);
+    }
+
+    public boolean isAccepted() {
+        return status == ACCEPTED.value();
+    }
+}
@@ -0,0 +1,38 @@
+package com.mario.hexagonalbettingengine.application.settlement;
+
+import com.mario.hexagonalbettingengine.application.settlement.mapper.SettlementProgressDtoMapper;
+import com.mario.hexagonalbettingengine.application.settlement.response.SettlementProgressResponse;
+import com.mario.hexagonalbettingengine.domain.betting.SettlementProgress;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/settlements")
+@RequiredArgsConstructor
+@Tag(name = "Settlements", description = "Settlement progress")
+public class SettlementController {
+
+    private final SettlementProgress progress;
+    private final SettlementProgressDtoMapper mapper;
+
+    @GetMapping("/{eventId}")
+    @Operation(
+            summary = "Get settlement progress of an event",
+            description = "Reports the checkpoint of the event's chunked settlement. Only available in checkpointed settlement mode"
+    )
+    @ApiResponse(responseCode = "200", description = "Settlement job found")
+    @ApiResponse(responseCode = "404", description = "No settlement job exists for the event")
+    public ResponseEntity<SettlementProgressResponse> getProgress(@PathVariable String eventId) {
+        return progress.findByEventId(eventId)
+                .map(mapper::toResponse)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
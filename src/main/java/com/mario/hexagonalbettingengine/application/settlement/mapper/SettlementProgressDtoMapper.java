@@ -0,0 +1,10 @@
+package com.mario.hexagonalbettingengine.application.settlement.mapper;
+
+import com.mario.hexagonalbettingengine.application.settlement.response.SettlementProgressResponse;
+import com.mario.hexagonalbettingengine.domain.betting.SettlementJob;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public interface SettlementProgressDtoMapper {
+    SettlementProgressResponse toResponse(SettlementJob job);
+}
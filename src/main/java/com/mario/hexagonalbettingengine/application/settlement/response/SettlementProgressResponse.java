@@ -0,0 +1,18 @@
+package com.mario.hexagonalbettingengine.application.settlement.response;
+
+import java.time.Instant;
+
+public record SettlementProgressResponse(
+        String eventId,
+        String eventWinnerId,
+        String state,
+        long totalBets,
+        long settledBets,
+        long wonBets,
+        long lostBets,
+        String lastBetId,
+        Instant startedAt,
+        Instant updatedAt
+) {
+
+}
@@ -0,0 +1,10 @@
+package com.mario.hexagonalbettingengine.domain.betting;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public interface BetPlacement {
+    CompletableFuture<Void> place(Bet bet);
+
+    CompletableFuture<Void> placeAll(List<Bet> bets);
+}
@@ -0,0 +1,8 @@
+package com.mario.hexagonalbettingengine.domain.betting;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public interface BetPlacementQueue {
+    CompletableFuture<Void> enqueue(List<Bet> bets);
+}
@@ -0,0 +1,8 @@
+package com.mario.hexagonalbettingengine.domain.betting;
+
+public class BetPlacementRejectedException extends RuntimeException {
+
+    public BetPlacementRejectedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,50 @@
+package com.mario.hexagonalbettingengine.domain.betting;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static com.mario.hexagonalbettingengine.domain.betting.BetStatus.PENDING;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BetPlacementService implements BetPlacement {
+
+    private final BetPlacementQueue queue;
+    private final PendingEventIndex pendingEvents;
+    private final SettledEventRegistry settledEvents;
+
+    @Override
+    public CompletableFuture<Void> place(Bet bet) {
+        return placeAll(List.of(bet));
+    }
+
+    @Override
+    public CompletableFuture<Void> placeAll(List<Bet> bets) {
+        if (bets.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        log.debug("Placing {} bets", bets.size());
+
+        var settledEventIds = bets.stream()
+                .map(Bet::eventId)
+                .distinct()
+                .filter(settledEvents::isSettled)
+                .toList();
+        if (!settledEventIds.isEmpty()) {
+            return CompletableFuture.failedFuture(
+                    new EventAlreadySettledException("Events already settled: " + settledEventIds));
+        }
+
+        var pendingBets = bets.stream()
+                .map(bet -> bet.withStatus(PENDING))
+                .toList();
+        pendingBets.forEach(bet -> pendingEvents.add(bet.eventId()));
+        return queue.enqueue(pendingBets);
+    }
+}
@@ -1,8 +1,25 @@
 package com.mario.hexagonalbettingengine.domain.betting;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface BetRepository {
     List<Bet> findPendingBetsByEventId(String eventId);
+    List<Bet> findPendingBetsByEventId(String eventId, String afterBetId, int limit);
+    List<Bet> findPendingBetsByEventId(String eventId, String afterBetId, String lastBetId, int limit);
+    long countPendingBetsByEventId(String eventId);
+
+    /**
+     * Returns every {@code betsPerRange}-th pending {@code bet_id} of the event in {@code bet_id} order, i.e. the
+     * last bet of each full range.
+     */
+    List<String> findPendingBetIdBoundaries(String eventId, int betsPerRange);
+
+    /**
+     * Settles the next {@code limit} pending bets of the event after {@code afterBetId} in {@code bet_id} order,
+     * as {@code WON} for {@code actualWinnerId} and {@code LOST} otherwise, and returns them settled.
+     */
+    List<Bet> settlePendingBets(String eventId, String actualWinnerId, String afterBetId, int limit);
     void save(Bet bet);
+    void saveAll(Collection<Bet> bets);
 }
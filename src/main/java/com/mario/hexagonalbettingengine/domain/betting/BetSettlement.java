@@ -2,6 +2,10 @@ package com.mario.hexagonalbettingengine.domain.betting;
 
 import com.mario.hexagonalbettingengine.domain.eventoutcome.EventOutcome;
 
+import java.util.List;
+
 public interface BetSettlement {
     void settle(EventOutcome eventOutcome);
+
+    void settleAll(List<EventOutcome> eventOutcomes);
 }
@@ -0,0 +1,7 @@
+package com.mario.hexagonalbettingengine.domain.betting;
+
+import java.time.Duration;
+
+public interface BetSettlementMetrics {
+    void recordSettlement(SettlementMode mode, int settledBets, Duration duration);
+}
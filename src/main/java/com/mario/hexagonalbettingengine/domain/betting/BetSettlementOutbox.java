@@ -0,0 +1,7 @@
+package com.mario.hexagonalbettingengine.domain.betting;
+
+import java.util.Collection;
+
+public interface BetSettlementOutbox {
+    void append(Collection<Bet> settledBets);
+}
@@ -1,5 +1,34 @@
 package com.mario.hexagonalbettingengine.domain.betting;
 
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 public interface BetSettlementPublisher {
     void publish(Bet bet);
+
+    /**
+     * Hands the bet to the broker without waiting for it; the future completes once the bet is acknowledged.
+     * Publishers that cannot pipeline sends fall back to a blocking {@link #publish(Bet)}.
+     */
+    default CompletableFuture<Void> publishAsync(Bet bet) {
+        try {
+            publish(bet);
+            return CompletableFuture.completedFuture(null);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Publishes one part of an event's settlement as a single message. The caller sizes the parts to what the
+     * broker accepts and numbers them {@code 1..parts}. Publishers without an aggregated format publish the bets
+     * one by one.
+     */
+    default CompletableFuture<Void> publishEventSettlement(String eventId, Instant settledAt, int part, int parts,
+                                                           List<Bet> bets) {
+        return CompletableFuture.allOf(bets.stream()
+                .map(this::publishAsync)
+                .toArray(CompletableFuture[]::new));
+    }
 }
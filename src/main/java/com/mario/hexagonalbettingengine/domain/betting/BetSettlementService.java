@@ -9,37 +9,128 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.util.List;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class BetSettlementService implements BetSettlement {
 
     private final BetRepository repository;
-    private final BetSettlementPublisher publisher;
+    private final BetSettlementOutbox outbox;
+    private final SettlementSettings settings;
+    private final BetSettlementMetrics metrics;
+    private final SettledEventRegistry settledEvents;
+    private final PendingEventIndex pendingEvents;
 
     @Override
     @Transactional
     public void settle(EventOutcome eventOutcome) {
-        log.info("Starting settlement for Event ID: {}", eventOutcome.eventId());
+        settleOutcome(eventOutcome);
+    }
+
+    @Override
+    @Transactional
+    public void settleAll(List<EventOutcome> eventOutcomes) {
+        log.info("Starting batch settlement for {} events", eventOutcomes.size());
+        eventOutcomes.forEach(this::settleOutcome);
+    }
+
+    private void settleOutcome(EventOutcome eventOutcome) {
+        var eventId = eventOutcome.eventId();
+
+        if (!pendingEvents.mightHavePendingBets(eventId)) {
+            log.debug("No pending bets for event {}. Skipping settlement", eventId);
+            return;
+        }
+
+        if (settledEvents.isKnownSettled(eventId) || !settledEvents.register(eventOutcome)) {
+            log.info("Event {} was already settled. Ignoring duplicate outcome", eventId);
+            return;
+        }
+
+        log.info("Starting settlement for Event ID: {}", eventId);
+        var startedAt = System.nanoTime();
+
+        var settledCount = switch (settings.mode()) {
+            case PER_BET, CHECKPOINTED -> settlePerBet(eventOutcome);
+            case BULK -> settleInBulk(eventOutcome);
+        };
+
+        pendingEvents.remove(eventId);
+        metrics.recordSettlement(settings.mode(), settledCount, Duration.ofNanos(System.nanoTime() - startedAt));
+    }
+
+    private int settlePerBet(EventOutcome eventOutcome) {
+        var eventId = eventOutcome.eventId();
+        var settledCount = 0;
+        String lastBetId = null;
+        List<Bet> chunk;
+
+        do {
+            chunk = repository.findPendingBetsByEventId(eventId, lastBetId, settings.chunkSize());
+            settleChunk(chunk, eventOutcome.eventWinnerId());
+
+            if (!chunk.isEmpty()) {
+                settledCount += chunk.size();
+                lastBetId = chunk.getLast().betId();
+                log.debug("Settled chunk of {} bets for event {}, last bet {}", chunk.size(), eventId, lastBetId);
+            }
+        } while (chunk.size() == settings.chunkSize());
+
+        if (settledCount == 0) {
+            log.info("No pending bets found for event {}", eventId);
+            return 0;
+        }
+
+        log.info("Settled {} bets for event {}", settledCount, eventId);
+        return settledCount;
+    }
 
-        var pendingBets = repository.findPendingBetsByEventId(eventOutcome.eventId());
+    private int settleInBulk(EventOutcome eventOutcome) {
+        var eventId = eventOutcome.eventId();
+        var settledCount = 0;
+        String lastBetId = null;
+        List<Bet> chunk;
 
-        if (pendingBets.isEmpty()) {
-            log.info("No pending bets found for event {}", eventOutcome.eventId());
+        do {
+            chunk = repository.settlePendingBets(eventId, eventOutcome.eventWinnerId(), lastBetId,
+                    settings.chunkSize());
+
+            if (!chunk.isEmpty()) {
+                outbox.append(chunk);
+                settledCount += chunk.size();
+                lastBetId = chunk.getLast().betId();
+            }
+        } while (chunk.size() == settings.chunkSize());
+
+        if (settledCount == 0) {
+            log.info("No pending bets found for event {}", eventId);
+            return 0;
+        }
+
+        log.info("Settled {} bets in bulk", settledCount);
+        return settledCount;
+    }
+
+    private void settleChunk(List<Bet> chunk, String actualWinnerId) {
+        if (chunk.isEmpty()) {
             return;
         }
 
-        log.info("Found {} bets to process", pendingBets.size());
-        pendingBets.forEach(bet -> processSingleBet(bet, eventOutcome.eventWinnerId()));
+        var settledBets = chunk.stream()
+                .map(bet -> settleBet(bet, actualWinnerId))
+                .toList();
+        repository.saveAll(settledBets);
+
+        outbox.append(settledBets);
     }
 
-    private void processSingleBet(Bet bet, String actualWinnerId) {
+    private Bet settleBet(Bet bet, String actualWinnerId) {
         var isWinner = bet.isWinner(actualWinnerId);
         var finalStatus = isWinner ? WON : LOST;
 
-        var settledBet = bet.withStatus(finalStatus);
-        repository.save(settledBet);
-
-        publisher.publish(settledBet);
+        return bet.withStatus(finalStatus);
     }
 }
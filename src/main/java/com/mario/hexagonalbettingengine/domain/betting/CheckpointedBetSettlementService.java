@@ -0,0 +1,88 @@
+package com.mario.hexagonalbettingengine.domain.betting;
+
+import com.mario.hexagonalbettingengine.domain.eventoutcome.EventOutcome;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Settles an event in independently committed chunks instead of one transaction, so a failure only rolls back
+ * the current chunk and a retried outcome resumes from the event's {@link SettlementJob} checkpoint.
+ */
+@Slf4j
+@Service
+@Primary
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.settlement.mode", havingValue = "checkpointed")
+public class CheckpointedBetSettlementService implements BetSettlement {
+
+    private final BetRepository repository;
+    private final SettlementJobRepository jobs;
+    private final CheckpointedSettlementStep step;
+    private final BetSettlementMetrics metrics;
+    private final SettledEventRegistry settledEvents;
+    private final PendingEventIndex pendingEvents;
+
+    @Override
+    public void settle(EventOutcome eventOutcome) {
+        settleOutcome(eventOutcome);
+    }
+
+    @Override
+    public void settleAll(List<EventOutcome> eventOutcomes) {
+        log.info("Starting batch settlement for {} events", eventOutcomes.size());
+        eventOutcomes.forEach(this::settleOutcome);
+    }
+
+    private void settleOutcome(EventOutcome eventOutcome) {
+        var eventId = eventOutcome.eventId();
+
+        if (!pendingEvents.mightHavePendingBets(eventId)) {
+            log.debug("No pending bets for event {}. Skipping settlement", eventId);
+            return;
+        }
+
+        if (settledEvents.isKnownSettled(eventId)) {
+            log.info("Event {} was already settled. Ignoring duplicate outcome", eventId);
+            return;
+        }
+
+        var job = jobs.findByEventId(eventId)
+                .orElseGet(() -> jobs.create(
+                        SettlementJob.start(eventOutcome, repository.countPendingBetsByEventId(eventId))));
+
+        if (job.isCompleted()) {
+            log.info("Event {} was already settled. Ignoring duplicate outcome", eventId);
+            return;
+        }
+
+        if (!Objects.equals(job.eventWinnerId(), eventOutcome.eventWinnerId())) {
+            log.warn("Event {} is being settled with winner {}. Ignoring conflicting winner {}",
+                    eventId, job.eventWinnerId(), eventOutcome.eventWinnerId());
+        }
+
+        if (job.settledBets() > 0) {
+            log.info("Resuming settlement of event {} after bet {} ({}/{} bets settled)",
+                    eventId, job.lastBetId(), job.settledBets(), job.totalBets());
+        } else {
+            log.info("Starting settlement for Event ID: {}", eventId);
+        }
+
+        var startedAt = System.nanoTime();
+        var alreadySettled = job.settledBets();
+
+        while (!job.isCompleted()) {
+            job = step.settleNextChunk(job);
+        }
+
+        log.info("Settled {} bets for event {}", job.settledBets(), eventId);
+        metrics.recordSettlement(SettlementMode.CHECKPOINTED, Math.toIntExact(job.settledBets() - alreadySettled),
+                Duration.ofNanos(System.nanoTime() - startedAt));
+    }
+}
@@ -0,0 +1,52 @@
+package com.mario.hexagonalbettingengine.domain.betting;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import static com.mario.hexagonalbettingengine.domain.betting.BetStatus.LOST;
+import static com.mario.hexagonalbettingengine.domain.betting.BetStatus.WON;
+
+/**
+ * Settles one chunk of a {@link SettlementJob} per transaction. The bet updates, their outbox rows and the
+ * checkpoint commit together, so a chunk is either fully settled and checkpointed or not at all.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CheckpointedSettlementStep {
+
+    private final BetRepository repository;
+    private final BetSettlementOutbox outbox;
+    private final SettlementSettings settings;
+    private final SettlementJobRepository jobs;
+    private final SettledEventRegistry settledEvents;
+    private final PendingEventIndex pendingEvents;
+
+    @Transactional
+    public SettlementJob settleNextChunk(SettlementJob job) {
+        var chunk = repository.findPendingBetsByEventId(job.eventId(), job.lastBetId(), settings.chunkSize());
+        var settledBets = chunk.stream()
+                .map(bet -> bet.withStatus(bet.isWinner(job.eventWinnerId()) ? WON : LOST))
+                .toList();
+
+        if (!settledBets.isEmpty()) {
+            repository.saveAll(settledBets);
+            outbox.append(settledBets);
+        }
+
+        var next = job.advance(settledBets);
+
+        if (chunk.size() < settings.chunkSize()) {
+            next = next.complete();
+            settledEvents.register(job.toOutcome());
+            pendingEvents.remove(job.eventId());
+        }
+
+        jobs.update(next);
+        log.debug("Checkpointed event {} at bet {} ({}/{} bets settled)",
+                next.eventId(), next.lastBetId(), next.settledBets(), next.totalBets());
+        return next;
+    }
+}
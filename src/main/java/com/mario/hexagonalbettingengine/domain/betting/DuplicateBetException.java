@@ -0,0 +1,8 @@
+package com.mario.hexagonalbettingengine.domain.betting;
+
+public class DuplicateBetException extends RuntimeException {
+
+    public DuplicateBetException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,8 @@
+package com.mario.hexagonalbettingengine.domain.betting;
+
+public class EventAlreadySettledException extends RuntimeException {
+
+    public EventAlreadySettledException(String message) {
+        super(message);
+    }
+}
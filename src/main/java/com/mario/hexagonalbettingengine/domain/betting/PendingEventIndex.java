@@ -0,0 +1,19 @@
+package com.mario.hexagonalbettingengine.domain.betting;
+
+public interface PendingEventIndex {
+
+    /**
+     * Returns {@code false} only when the event certainly has no pending bets.
+     */
+    boolean mightHavePendingBets(String eventId);
+
+    /**
+     * Called before a bet is stored, so an event is never missing from the index while one of its bets is pending.
+     */
+    void add(String eventId);
+
+    /**
+     * Called when the event has been settled. Takes effect once the settlement transaction commits.
+     */
+    void remove(String eventId);
+}
@@ -0,0 +1,23 @@
+package com.mario.hexagonalbettingengine.domain.betting;
+
+import com.mario.hexagonalbettingengine.domain.eventoutcome.EventOutcome;
+
+public interface SettledEventRegistry {
+
+    /**
+     * Answers from memory only, so it may miss events settled by another instance or evicted from the cache.
+     */
+    boolean isKnownSettled(String eventId);
+
+    /**
+     * Answers from memory first and falls back to the {@code settled_events} table on a miss, so it also sees events
+     * settled by another instance or evicted from the cache.
+     */
+    boolean isSettled(String eventId);
+
+    /**
+     * Records the event as settled in the current transaction. Returns {@code false} when the event was already
+     * settled, including by a concurrent delivery that committed first.
+     */
+    boolean register(EventOutcome eventOutcome);
+}
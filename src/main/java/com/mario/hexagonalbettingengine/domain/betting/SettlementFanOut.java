@@ -0,0 +1,24 @@
+package com.mario.hexagonalbettingengine.domain.betting;
+
+import lombok.Builder;
+
+import java.time.Instant;
+
+/**
+ * Completion state of an event whose settlement was split into {@code shards} {@link SettlementShard}s.
+ * {@code settledBets} sums the bets of the shards completed so far.
+ */
+@Builder
+public record SettlementFanOut(
+        String eventId,
+        String eventWinnerId,
+        int shards,
+        int remainingShards,
+        long settledBets,
+        Instant startedAt
+) {
+
+    public boolean isCompleted() {
+        return remainingShards == 0;
+    }
+}
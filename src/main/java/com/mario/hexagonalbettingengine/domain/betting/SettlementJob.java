@@ -0,0 +1,71 @@
+package com.mario.hexagonalbettingengine.domain.betting;
+
+import com.mario.hexagonalbettingengine.domain.eventoutcome.EventOutcome;
+import lombok.Builder;
+
+import java.time.Instant;
+import java.util.List;
+
+import static com.mario.hexagonalbettingengine.domain.betting.BetStatus.WON;
+
+/**
+ * Checkpoint of a chunked settlement. {@code lastBetId} is the last bet of the last committed chunk, so a
+ * retried settlement continues after it. {@code version} increases with every checkpoint.
+ */
+@Builder(toBuilder = true)
+public record SettlementJob(
+        String eventId,
+        String eventWinnerId,
+        SettlementJobState state,
+        long totalBets,
+        long settledBets,
+        long wonBets,
+        long lostBets,
+        String lastBetId,
+        int version,
+        Instant startedAt,
+        Instant updatedAt
+) {
+
+    public static SettlementJob start(EventOutcome eventOutcome, long totalBets) {
+        var now = Instant.now();
+        return SettlementJob.builder()
+                .eventId(eventOutcome.eventId())
+                .eventWinnerId(eventOutcome.eventWinnerId())
+                .state(SettlementJobState.IN_PROGRESS)
+                .totalBets(totalBets)
+                .startedAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    public SettlementJob advance(List<Bet> settledChunk) {
+        var won = settledChunk.stream().filter(bet -> bet.status() == WON).count();
+
+        return toBuilder()
+                .settledBets(settledBets + settledChunk.size())
+                .wonBets(wonBets + won)
+                .lostBets(lostBets + settledChunk.size() - won)
+                .lastBetId(settledChunk.isEmpty() ? lastBetId : settledChunk.getLast().betId())
+                .version(version + 1)
+                .updatedAt(Instant.now())
+                .build();
+    }
+
+    public SettlementJob complete() {
+        return toBuilder()
+                .state(SettlementJobState.COMPLETED)
+                .build();
+    }
+
+    public boolean isCompleted() {
+        return state == SettlementJobState.COMPLETED;
+    }
+
+    public EventOutcome toOutcome() {
+        return EventOutcome.builder()
+                .eventId(eventId)
+                .eventWinnerId(eventWinnerId)
+                .build();
+    }
+}
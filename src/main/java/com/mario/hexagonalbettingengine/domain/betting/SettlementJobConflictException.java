@@ -0,0 +1,8 @@
+package com.mario.hexagonalbettingengine.domain.betting;
+
+public class SettlementJobConflictException extends RuntimeException {
+
+    public SettlementJobConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,18 @@
+package com.mario.hexagonalbettingengine.domain.betting;
+
+import java.util.Optional;
+
+public interface SettlementJobRepository {
+    Optional<SettlementJob> findByEventId(String eventId);
+
+    /**
+     * Stores a new job, or returns the existing one when another delivery created the event's job first.
+     */
+    SettlementJob create(SettlementJob job);
+
+    /**
+     * Saves a checkpoint in the current transaction. Throws {@link SettlementJobConflictException} when the stored
+     * job is no longer at the version preceding {@code job.version()}.
+     */
+    void update(SettlementJob job);
+}
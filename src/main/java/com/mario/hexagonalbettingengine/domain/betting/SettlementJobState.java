@@ -0,0 +1,5 @@
+package com.mario.hexagonalbettingengine.domain.betting;
+
+public enum SettlementJobState {
+    IN_PROGRESS, COMPLETED
+}
@@ -0,0 +1,5 @@
+package com.mario.hexagonalbettingengine.domain.betting;
+
+public enum SettlementMode {
+    PER_BET, BULK, CHECKPOINTED
+}
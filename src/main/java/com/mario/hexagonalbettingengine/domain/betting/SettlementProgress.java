@@ -0,0 +1,7 @@
+package com.mario.hexagonalbettingengine.domain.betting;
+
+import java.util.Optional;
+
+public interface SettlementProgress {
+    Optional<SettlementJob> findByEventId(String eventId);
+}
@@ -0,0 +1,18 @@
+package com.mario.hexagonalbettingengine.domain.betting;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+public class SettlementProgressService implements SettlementProgress {
+
+    private final SettlementJobRepository jobs;
+
+    @Override
+    public Optional<SettlementJob> findByEventId(String eventId) {
+        return jobs.findByEventId(eventId);
+    }
+}
@@ -0,0 +1,16 @@
+package com.mario.hexagonalbettingengine.domain.betting;
+
+/**
+ * The part of the settlement configuration the settlement services act on. An event with more than
+ * {@code shardingThreshold} pending bets is split into at most {@code shards} shards when sharding is enabled.
+ */
+public record SettlementSettings(
+        SettlementMode mode,
+        int chunkSize,
+        long shardingThreshold,
+        int shards
+) {
+    public static SettlementSettings unsharded(SettlementMode mode, int chunkSize) {
+        return new SettlementSettings(mode, chunkSize, Long.MAX_VALUE, 2);
+    }
+}
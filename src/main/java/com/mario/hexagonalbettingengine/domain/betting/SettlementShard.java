@@ -0,0 +1,52 @@
+package com.mario.hexagonalbettingengine.domain.betting;
+
+import com.mario.hexagonalbettingengine.domain.eventoutcome.EventOutcome;
+import lombok.Builder;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * One {@code bet_id} range of a sharded settlement: the pending bets after {@code afterBetId} up to and including
+ * {@code lastBetId}. A {@code null} bound leaves the range open, so the first shard starts at the event's first
+ * bet and the last one also covers bets placed after the fan-out.
+ */
+@Builder(toBuilder = true)
+public record SettlementShard(
+        String eventId,
+        String eventWinnerId,
+        int shard,
+        int shards,
+        String afterBetId,
+        String lastBetId
+) {
+
+    /**
+     * Splits the event at {@code boundaries}, the last {@code bet_id} of every range but the final one.
+     */
+    public static List<SettlementShard> split(EventOutcome eventOutcome, List<String> boundaries) {
+        var shards = boundaries.size() + 1;
+
+        return IntStream.range(0, shards)
+                .mapToObj(shard -> SettlementShard.builder()
+                        .eventId(eventOutcome.eventId())
+                        .eventWinnerId(eventOutcome.eventWinnerId())
+                        .shard(shard)
+                        .shards(shards)
+                        .afterBetId(shard == 0 ? null : boundaries.get(shard - 1))
+                        .lastBetId(shard == shards - 1 ? null : boundaries.get(shard))
+                        .build())
+                .toList();
+    }
+
+    public String key() {
+        return eventId + "#" + shard;
+    }
+
+    public EventOutcome toOutcome() {
+        return EventOutcome.builder()
+                .eventId(eventId)
+                .eventWinnerId(eventWinnerId)
+                .build();
+    }
+}
@@ -0,0 +1,12 @@
+package com.mario.hexagonalbettingengine.domain.betting;
+
+import java.time.Duration;
+
+public interface SettlementShardMetrics {
+    void recordShardSettlement(int settledBets, Duration duration);
+
+    /**
+     * Records a sharded event once its last shard completed, timed from the fan-out.
+     */
+    void recordShardedSettlement(long settledBets, Duration duration);
+}
@@ -0,0 +1,12 @@
+package com.mario.hexagonalbettingengine.domain.betting;
+
+import java.util.List;
+
+public interface SettlementShardPublisher {
+
+    /**
+     * Hands the shards to their consumers once the current transaction commits, so a shard never arrives before
+     * it is stored. Fails when the shards could not be delivered.
+     */
+    void publish(List<SettlementShard> shards);
+}
@@ -0,0 +1,29 @@
+package com.mario.hexagonalbettingengine.domain.betting;
+
+import java.util.List;
+
+public interface SettlementShardRepository {
+
+    /**
+     * Stores the fan-out of an event together with its shards. Returns {@code false} when the event was fanned out
+     * already, including by a concurrent delivery that committed first.
+     */
+    boolean create(List<SettlementShard> shards);
+
+    /**
+     * Returns the shards of the event that have not completed yet, or an empty list when it was never fanned out.
+     */
+    List<SettlementShard> findPendingByEventId(String eventId);
+
+    /**
+     * Locks the shard for the current transaction. Returns {@code false} when it was completed already, including
+     * by a concurrent delivery that committed first.
+     */
+    boolean start(SettlementShard shard);
+
+    /**
+     * Completes a shard started in the current transaction and returns the fan-out with it counted. Completions of
+     * the same event are serialized, so exactly one of them sees no remaining shards.
+     */
+    SettlementFanOut complete(SettlementShard shard, long settledBets);
+}
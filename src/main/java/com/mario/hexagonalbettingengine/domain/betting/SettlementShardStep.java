@@ -0,0 +1,80 @@
+package com.mario.hexagonalbettingengine.domain.betting;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static com.mario.hexagonalbettingengine.domain.betting.BetStatus.LOST;
+import static com.mario.hexagonalbettingengine.domain.betting.BetStatus.WON;
+
+/**
+ * Settles the bets of one {@link SettlementShard} in keyset chunks within one transaction. The shard's completion
+ * commits with its bets, and the transaction that completes the event's last shard also registers the event as
+ * settled.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SettlementShardStep {
+
+    private final BetRepository repository;
+    private final BetSettlementOutbox outbox;
+    private final SettlementSettings settings;
+    private final SettlementShardRepository shards;
+    private final SettledEventRegistry settledEvents;
+    private final PendingEventIndex pendingEvents;
+    private final SettlementShardMetrics metrics;
+
+    @Transactional
+    public void settle(SettlementShard shard) {
+        if (!shards.start(shard)) {
+            log.info("Shard {}/{} of event {} was already settled. Ignoring duplicate",
+                    shard.shard() + 1, shard.shards(), shard.eventId());
+            return;
+        }
+
+        var startedAt = System.nanoTime();
+        var settledCount = settleRange(shard);
+        var fanOut = shards.complete(shard, settledCount);
+
+        metrics.recordShardSettlement(settledCount, Duration.ofNanos(System.nanoTime() - startedAt));
+        log.info("Settled {} bets in shard {}/{} of event {}. {} shards remaining",
+                settledCount, shard.shard() + 1, shard.shards(), shard.eventId(), fanOut.remainingShards());
+
+        if (fanOut.isCompleted()) {
+            settledEvents.register(shard.toOutcome());
+            pendingEvents.remove(shard.eventId());
+            metrics.recordShardedSettlement(fanOut.settledBets(), Duration.between(fanOut.startedAt(), Instant.now()));
+            log.info("Settled {} bets for event {} in {} shards", fanOut.settledBets(), shard.eventId(), fanOut.shards());
+        }
+    }
+
+    private int settleRange(SettlementShard shard) {
+        var settledCount = 0;
+        var lastBetId = shard.afterBetId();
+        List<Bet> chunk;
+
+        do {
+            chunk = repository.findPendingBetsByEventId(shard.eventId(), lastBetId, shard.lastBetId(),
+                    settings.chunkSize());
+
+            if (!chunk.isEmpty()) {
+                var settledBets = chunk.stream()
+                        .map(bet -> bet.withStatus(bet.isWinner(shard.eventWinnerId()) ? WON : LOST))
+                        .toList();
+                repository.saveAll(settledBets);
+                outbox.append(settledBets);
+
+                settledCount += chunk.size();
+                lastBetId = chunk.getLast().betId();
+            }
+        } while (chunk.size() == settings.chunkSize());
+
+        return settledCount;
+    }
+}
@@ -0,0 +1,90 @@
+package com.mario.hexagonalbettingengine.domain.betting;
+
+import com.mario.hexagonalbettingengine.domain.eventoutcome.EventOutcome;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Fans the settlement of an event with more than {@code sharding.threshold} pending bets out into
+ * {@link SettlementShard}s, which {@link SettlementShardStep} settles on whichever consumers their records land on.
+ * Every other outcome is settled by {@link BetSettlementService}.
+ */
+@Slf4j
+@Service
+@Primary
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.settlement.sharding.enabled", havingValue = "true")
+public class ShardedBetSettlementService implements BetSettlement {
+
+    private final BetSettlementService delegate;
+    private final BetRepository repository;
+    private final SettlementShardRepository shards;
+    private final SettlementShardPublisher publisher;
+    private final SettlementSettings settings;
+    private final SettledEventRegistry settledEvents;
+    private final PendingEventIndex pendingEvents;
+
+    @Override
+    @Transactional
+    public void settle(EventOutcome eventOutcome) {
+        settleOutcome(eventOutcome);
+    }
+
+    @Override
+    @Transactional
+    public void settleAll(List<EventOutcome> eventOutcomes) {
+        log.info("Starting batch settlement for {} events", eventOutcomes.size());
+        eventOutcomes.forEach(this::settleOutcome);
+    }
+
+    private void settleOutcome(EventOutcome eventOutcome) {
+        var eventId = eventOutcome.eventId();
+
+        if (!pendingEvents.mightHavePendingBets(eventId) || settledEvents.isKnownSettled(eventId)) {
+            delegate.settle(eventOutcome);
+            return;
+        }
+
+        // A redelivered outcome must not settle the event next to its shards, only hand out the unfinished ones again
+        var pendingShards = shards.findPendingByEventId(eventId);
+        if (!pendingShards.isEmpty()) {
+            log.info("Event {} is already settling in shards. Republishing {} unfinished shards",
+                    eventId, pendingShards.size());
+            publisher.publish(pendingShards);
+            return;
+        }
+
+        var pendingBets = repository.countPendingBetsByEventId(eventId);
+        if (pendingBets <= settings.shardingThreshold()) {
+            delegate.settle(eventOutcome);
+            return;
+        }
+
+        fanOut(eventOutcome, pendingBets);
+    }
+
+    private void fanOut(EventOutcome eventOutcome, long pendingBets) {
+        var eventId = eventOutcome.eventId();
+        var maxShards = settings.shards();
+        var betsPerShard = Math.toIntExact(Math.ceilDiv(pendingBets, maxShards));
+
+        var boundaries = repository.findPendingBetIdBoundaries(eventId, betsPerShard);
+        var eventShards = SettlementShard.split(eventOutcome,
+                boundaries.subList(0, Math.min(boundaries.size(), maxShards - 1)));
+
+        if (!shards.create(eventShards)) {
+            log.info("Event {} was fanned out by a concurrent delivery. Ignoring duplicate outcome", eventId);
+            return;
+        }
+
+        publisher.publish(eventShards);
+        log.info("Fanned out settlement of {} pending bets of event {} into {} shards",
+                pendingBets, eventId, eventShards.size());
+    }
+}
@@ -0,0 +1,15 @@
+package com.mario.hexagonalbettingengine.domain.eventoutcome;
+
+import java.util.Optional;
+
+public interface DeadLetterReplay {
+
+    /**
+     * Starts replaying dead-lettered event outcomes in the background and returns the initial progress.
+     *
+     * @throws DeadLetterReplayInProgressException if another replay is still running
+     */
+    DeadLetterReplayProgress start(DeadLetterReplayRequest request);
+
+    Optional<DeadLetterReplayProgress> findById(String replayId);
+}
@@ -0,0 +1,8 @@
+package com.mario.hexagonalbettingengine.domain.eventoutcome;
+
+public class DeadLetterReplayInProgressException extends RuntimeException {
+
+    public DeadLetterReplayInProgressException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,36 @@
+package com.mario.hexagonalbettingengine.domain.eventoutcome;
+
+import com.mario.hexagonalbettingengine.domain.eventoutcome.DeadLetterReplayRequest.Target;
+import lombok.Builder;
+
+import java.time.Instant;
+
+/**
+ * Counters of a replay. Every scanned record ends up in exactly one of {@code undecodable}, {@code filtered},
+ * {@code duplicates} or {@code matched}; matched records are then {@code replayed} or {@code failed}, except in a
+ * dry run, which replays nothing.
+ */
+@Builder(toBuilder = true)
+public record DeadLetterReplayProgress(
+        String replayId,
+        State state,
+        Target target,
+        boolean dryRun,
+        long scanned,
+        long undecodable,
+        long filtered,
+        long duplicates,
+        long matched,
+        long replayed,
+        long failed,
+        Instant startedAt,
+        Instant finishedAt,
+        String failureReason
+) {
+
+    public enum State {
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+}
@@ -0,0 +1,47 @@
+package com.mario.hexagonalbettingengine.domain.eventoutcome;
+
+import lombok.Builder;
+
+import java.time.Instant;
+import java.util.Set;
+
+/**
+ * Selects dead-lettered event outcomes to replay. The range is bounded by record timestamps ({@code from}
+ * inclusive, {@code to} exclusive) and/or by offsets ({@code fromOffset} inclusive, {@code toOffset} exclusive)
+ * applied to every DLQ partition, and never extends past the end of the DLQ when the replay starts. Empty
+ * {@code exceptionTypes} and {@code eventIds} match every record; exception types match the fully qualified or
+ * simple class name of the failure or its cause.
+ *
+ * <p>With {@code resumeFromCheckpoint} the replay starts where the previous checkpointed replay stopped and
+ * stores its end position when done. Records already replayed {@code maxReplays} times are skipped.
+ */
+@Builder(toBuilder = true)
+public record DeadLetterReplayRequest(
+        Instant from,
+        Instant to,
+        Long fromOffset,
+        Long toOffset,
+        Set<String> exceptionTypes,
+        Set<String> eventIds,
+        Target target,
+        boolean dryRun,
+        Double ratePerSecond,
+        Integer maxReplays,
+        boolean resumeFromCheckpoint
+) {
+
+    public DeadLetterReplayRequest {
+        exceptionTypes = exceptionTypes == null ? Set.of() : Set.copyOf(exceptionTypes);
+        eventIds = eventIds == null ? Set.of() : Set.copyOf(eventIds);
+        target = target == null ? Target.REPUBLISH : target;
+    }
+
+    /**
+     * {@code REPUBLISH} sends the outcomes back to the event outcome topic; {@code SETTLE} settles them directly,
+     * bypassing Kafka.
+     */
+    public enum Target {
+        REPUBLISH,
+        SETTLE
+    }
+}
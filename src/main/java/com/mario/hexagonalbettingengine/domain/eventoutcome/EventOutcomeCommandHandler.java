@@ -4,6 +4,9 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 @Service
 @Slf4j
 @RequiredArgsConstructor
@@ -11,7 +14,11 @@ public class EventOutcomeCommandHandler {
 
     private final EventOutcomePublisher publisher;
 
-    public void handle(EventOutcome eventOutcome) {
-        publisher.publish(eventOutcome);
+    public CompletableFuture<Void> handle(EventOutcome eventOutcome) {
+        return publisher.publish(eventOutcome);
+    }
+
+    public CompletableFuture<Void> handleAll(List<EventOutcome> eventOutcomes) {
+        return publisher.publishAll(eventOutcomes);
     }
 }
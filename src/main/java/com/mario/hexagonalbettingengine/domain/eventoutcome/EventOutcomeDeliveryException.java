@@ -0,0 +1,8 @@
+package com.mario.hexagonalbettingengine.domain.eventoutcome;
+
+public class EventOutcomeDeliveryException extends RuntimeException {
+
+    public EventOutcomeDeliveryException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,8 @@
+package com.mario.hexagonalbettingengine.domain.eventoutcome;
+
+public class EventOutcomePublishRejectedException extends RuntimeException {
+
+    public EventOutcomePublishRejectedException(String message) {
+        super(message);
+    }
+}
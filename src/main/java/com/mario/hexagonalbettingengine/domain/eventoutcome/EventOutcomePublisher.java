@@ -1,5 +1,22 @@
 package com.mario.hexagonalbettingengine.domain.eventoutcome;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 public interface EventOutcomePublisher {
-    void publish(EventOutcome eventOutcome);
+    CompletableFuture<Void> publish(EventOutcome eventOutcome);
+
+    CompletableFuture<Void> publishAll(List<EventOutcome> eventOutcomes);
+
+    /**
+     * When the futures returned by the publisher complete.
+     */
+    enum DeliveryMode {
+        /** Immediately after the send is handed to the producer; failures are only logged. */
+        FIRE_AND_FORGET,
+        /** Once the broker acknowledges the send, without blocking the caller. */
+        ASYNC_ACK,
+        /** Once the broker acknowledges the send, blocking the caller until then. */
+        SYNC
+    }
 }
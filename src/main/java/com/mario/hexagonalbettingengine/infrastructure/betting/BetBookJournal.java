@@ -0,0 +1,302 @@
+package com.mario.hexagonalbettingengine.infrastructure.betting;
+
+import com.mario.hexagonalbettingengine.domain.betting.Bet;
+import com.mario.hexagonalbettingengine.domain.betting.BetStatus;
+import com.mario.hexagonalbettingengine.infrastructure.config.BetBookProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE_NEW;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Append-only log of the bet changes that {@link InMemoryBetBook} has not flushed to the {@code bets} table yet.
+ * Each transaction is one length-prefixed record, so a record torn by a crash is detected and dropped on replay.
+ * The log is split into segments of about {@code journal-segment-bytes}; a segment is deleted once every record
+ * in it has been flushed.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.settlement.bet-book.enabled", havingValue = "true")
+public class BetBookJournal {
+
+    private static final String SEGMENT_PREFIX = "bet-book-";
+    private static final String SEGMENT_SUFFIX = ".journal";
+
+    private final BetBookProperties properties;
+    private final Path directory;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<Long, Integer> unflushedRecords = new HashMap<>();
+
+    private FileChannel activeChannel;
+    private long activeSegment;
+
+    public BetBookJournal(BetBookProperties properties) {
+        this.properties = properties;
+        this.directory = Path.of(properties.journalDir());
+    }
+
+    @PreDestroy
+    void close() throws IOException {
+        lock.lock();
+        try {
+            if (activeChannel != null) {
+                activeChannel.close();
+                activeChannel = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Reads every complete record of the existing segments, oldest first.
+     */
+    public List<JournaledTransaction> replay() {
+        var transactions = new ArrayList<JournaledTransaction>();
+
+        for (var segment : segments()) {
+            try (var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(segment)))) {
+                readRecords(segment, in, transactions);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not replay bet book journal segment " + segment, e);
+            }
+        }
+
+        return transactions;
+    }
+
+    /**
+     * Deletes every existing segment and starts a new one. Only called once the replayed records are flushed.
+     */
+    public void reset() {
+        lock.lock();
+        try {
+            Files.createDirectories(directory);
+            var segments = segments();
+            var lastSegment = segments.isEmpty() ? -1 : segmentNumber(segments.getLast());
+
+            if (activeChannel != null) {
+                activeChannel.close();
+            }
+
+            for (var segment : segments) {
+                Files.delete(segment);
+            }
+
+            unflushedRecords.clear();
+            open(lastSegment + 1);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not reset bet book journal in " + directory, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Appends the bets of one transaction and returns the segment the record went to. The record is in the page
+     * cache when this returns, and on disk as well with {@code fsync} enabled.
+     */
+    public long append(String txId, List<Bet> bets) {
+        var record = encode(txId, bets);
+
+        lock.lock();
+        try {
+            if (activeChannel == null) {
+                throw new IllegalStateException("Bet book journal has not been reset after replay");
+            }
+
+            if (activeChannel.size() >= properties.journalSegmentBytes()) {
+                roll();
+            }
+
+            while (record.hasRemaining()) {
+                activeChannel.write(record);
+            }
+
+            if (properties.fsync()) {
+                activeChannel.force(false);
+            }
+
+            unflushedRecords.merge(activeSegment, 1, Integer::sum);
+            return activeSegment;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not append transaction " + txId + " to bet book journal", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Marks one record of the segment as flushed, or as never committed. A segment other than the active one is
+     * deleted with its last record.
+     */
+    public void release(long segment) {
+        lock.lock();
+        try {
+            var remaining = unflushedRecords.computeIfPresent(segment,
+                    (number, records) -> records > 1 ? records - 1 : null);
+
+            if (remaining == null && segment != activeSegment) {
+                Files.deleteIfExists(segmentPath(segment));
+            }
+        } catch (IOException e) {
+            log.warn("Could not delete flushed bet book journal segment {}", segment, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void roll() throws IOException {
+        activeChannel.close();
+
+        if (!unflushedRecords.containsKey(activeSegment)) {
+            Files.deleteIfExists(segmentPath(activeSegment));
+        }
+
+        open(activeSegment + 1);
+    }
+
+    private void open(long segment) throws IOException {
+        activeChannel = FileChannel.open(segmentPath(segment), CREATE_NEW, WRITE, APPEND);
+        activeSegment = segment;
+        log.info("Bet book journal writing to {}", segmentPath(segment));
+    }
+
+    private List<Path> segments() {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(file -> file.getFileName().toString().startsWith(SEGMENT_PREFIX))
+                    .filter(file -> file.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not list bet book journal segments in " + directory, e);
+        }
+    }
+
+    private Path segmentPath(long segment) {
+        return directory.resolve("%s%019d%s".formatted(SEGMENT_PREFIX, segment, SEGMENT_SUFFIX));
+    }
+
+    private static long segmentNumber(Path segment) {
+        var name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private static ByteBuffer encode(String txId, List<Bet> bets) {
+        var body = new ByteArrayOutputStream();
+
+        try (var out = new DataOutputStream(body)) {
+            out.writeUTF(txId);
+            out.writeInt(bets.size());
+
+            for (var bet : bets) {
+                writeNullable(out, bet.betId());
+                writeNullable(out, bet.userId());
+                writeNullable(out, bet.eventId());
+                writeNullable(out, bet.eventMarketId());
+                writeNullable(out, bet.eventWinnerId());
+                writeNullable(out, bet.betAmount() == null ? null : bet.betAmount().toPlainString());
+                writeNullable(out, bet.status() == null ? null : bet.status().name());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return ByteBuffer.allocate(Integer.BYTES + body.size())
+                .putInt(body.size())
+                .put(body.toByteArray())
+                .flip();
+    }
+
+    private static void readRecords(Path segment, DataInputStream in, List<JournaledTransaction> transactions)
+            throws IOException {
+        while (true) {
+            int length;
+            try {
+                length = in.readInt();
+            } catch (EOFException e) {
+                return;
+            }
+
+            var body = in.readNBytes(length);
+            if (body.length < length) {
+                log.warn("Dropping torn record at the end of bet book journal segment {}", segment);
+                return;
+            }
+
+            transactions.add(decode(new DataInputStream(new ByteArrayInputStream(body))));
+        }
+    }
+
+    private static JournaledTransaction decode(DataInputStream in) throws IOException {
+        var txId = in.readUTF();
+        var count = in.readInt();
+        var bets = new ArrayList<Bet>(count);
+
+        for (int i = 0; i < count; i++) {
+            var betId = readNullable(in);
+            var userId = readNullable(in);
+            var eventId = readNullable(in);
+            var eventMarketId = readNullable(in);
+            var eventWinnerId = readNullable(in);
+            var betAmount = readNullable(in);
+            var status = readNullable(in);
+
+            bets.add(Bet.builder()
+                    .betId(betId)
+                    .userId(userId)
+                    .eventId(eventId)
+                    .eventMarketId(eventMarketId)
+                    .eventWinnerId(eventWinnerId)
+                    .betAmount(betAmount == null ? null : new BigDecimal(betAmount))
+                    .status(status == null ? null : BetStatus.valueOf(status))
+                    .build());
+        }
+
+        return new JournaledTransaction(txId, bets);
+    }
+
+    private static void writeNullable(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullable(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    public record JournaledTransaction(String txId, List<Bet> bets) {
+    }
+}
@@ -0,0 +1,283 @@
+package com.mario.hexagonalbettingengine.infrastructure.betting;
+
+import com.mario.hexagonalbettingengine.domain.betting.Bet;
+import com.mario.hexagonalbettingengine.infrastructure.config.BetBookProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Persists the bet changes of committed {@link InMemoryBetBook} transactions to the {@code bets} table in batches
+ * of about {@code flush-batch-size} bets. Settlements wait, for at most {@code max-lag-wait}, while {@code max-lag}
+ * changes are unflushed, so the book never runs further ahead of the database than that plus the transactions
+ * already in flight.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.settlement.bet-book.enabled", havingValue = "true")
+public class BetBookWriteBehind {
+
+    private static final String UPDATE_STATUS = "UPDATE bets SET status = ? WHERE bet_id = ?";
+    private static final String INSERT_BET = """
+            INSERT INTO bets (bet_id, user_id, event_id, event_market_id, event_winner_id, bet_amount, status)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final String SELECT_COMMITS = "SELECT tx_id FROM bet_book_commits";
+    private static final String DELETE_COMMIT = "DELETE FROM bet_book_commits WHERE tx_id = ?";
+    private static final String DELETE_ALL_COMMITS = "DELETE FROM bet_book_commits";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BetBookJournal journal;
+    private final BetBookProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final BlockingQueue<UnflushedChanges> queue = new LinkedBlockingQueue<>();
+    private final AtomicLong lag = new AtomicLong();
+    private final ReentrantLock lagLock = new ReentrantLock();
+    private final Condition lagBelowLimit = lagLock.newCondition();
+
+    private volatile boolean running;
+    private Thread flusherThread;
+    private Timer flushTimer;
+
+    @PostConstruct
+    void start() {
+        Gauge.builder("bet.book.write.behind.lag", lag, AtomicLong::get)
+                .description("Committed bet changes not yet flushed to the bets table")
+                .register(meterRegistry);
+        flushTimer = Timer.builder("bet.book.flush")
+                .description("Time to flush one batch of bet changes to the bets table")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+
+        running = true;
+        flusherThread = Thread.ofPlatform()
+                .name("bet-book-write-behind")
+                .start(this::drainQueue);
+    }
+
+    /**
+     * Flushes everything queued before returning. Changes that still cannot be written stay in the journal and
+     * are replayed on the next start.
+     */
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        flusherThread.join();
+    }
+
+    /**
+     * Writes the journaled transactions that have a row in {@code bet_book_commits} and forgets the rest, which
+     * never committed. Runs once at startup, before the book is loaded from the {@code bets} table.
+     */
+    public void recover() {
+        var replayed = journal.replay();
+        var committed = new HashSet<>(jdbcTemplate.queryForList(SELECT_COMMITS, String.class));
+        var unflushed = replayed.stream()
+                .filter(transaction -> committed.contains(transaction.txId()))
+                .map(transaction -> new UnflushedChanges(transaction.txId(), -1, transaction.bets()))
+                .toList();
+
+        if (!unflushed.isEmpty()) {
+            flush(unflushed);
+        }
+
+        var lostRecords = committed.size() - unflushed.size();
+        if (lostRecords > 0) {
+            log.warn("Bet book has {} commit markers without a journal record; their bet changes were lost. "
+                    + "Enable fsync to keep journal records across OS crashes", lostRecords);
+        }
+
+        jdbcTemplate.update(DELETE_ALL_COMMITS);
+        journal.reset();
+        log.info("Bet book recovered {} unflushed transactions, dropped {} that never committed",
+                unflushed.size(), replayed.size() - unflushed.size());
+    }
+
+    /**
+     * Waits up to {@code max-lag-wait} while {@code max-lag} changes are unflushed. The caller usually holds a
+     * pooled connection that the flush may need, so the wait gives up with a retryable exception instead of
+     * blocking until the flush gets one.
+     */
+    public void awaitCapacity() {
+        if (lag.get() < properties.maxLag()) {
+            return;
+        }
+
+        lagLock.lock();
+        try {
+            var remaining = TimeUnit.MILLISECONDS.toNanos(properties.maxLagWait());
+
+            while (lag.get() >= properties.maxLag()) {
+                if (remaining <= 0) {
+                    throw new TransientDataAccessResourceException(
+                            "Bet book write-behind is %d changes behind, over max-lag %d"
+                                    .formatted(lag.get(), properties.maxLag()));
+                }
+
+                remaining = lagBelowLimit.awaitNanos(remaining);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the bet book to flush", e);
+        } finally {
+            lagLock.unlock();
+        }
+    }
+
+    public void enqueue(UnflushedChanges changes) {
+        lag.addAndGet(changes.bets().size());
+        queue.add(changes);
+    }
+
+    public long lag() {
+        return lag.get();
+    }
+
+    private void drainQueue() {
+        while (running || !queue.isEmpty()) {
+            try {
+                var first = queue.poll(properties.flushInterval(), TimeUnit.MILLISECONDS);
+
+                if (first != null) {
+                    flushUntilWritten(collectBatch(first));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private List<UnflushedChanges> collectBatch(UnflushedChanges first) {
+        var batch = new ArrayList<UnflushedChanges>();
+        batch.add(first);
+        var betCount = first.bets().size();
+
+        UnflushedChanges next;
+        while (betCount < properties.flushBatchSize() && (next = queue.poll()) != null) {
+            batch.add(next);
+            betCount += next.bets().size();
+        }
+
+        return batch;
+    }
+
+    private void flushUntilWritten(List<UnflushedChanges> batch) throws InterruptedException {
+        while (true) {
+            try {
+                flush(batch);
+                break;
+            } catch (RuntimeException e) {
+                if (!running) {
+                    log.error("Could not flush {} bet book transactions before shutdown, leaving them to the journal",
+                            batch.size(), e);
+                    return;
+                }
+
+                log.error("Could not flush {} bet book transactions, retrying", batch.size(), e);
+                Thread.sleep(properties.flushInterval());
+            }
+        }
+
+        batch.forEach(changes -> journal.release(changes.segment()));
+        lag.addAndGet(-batch.stream().mapToLong(changes -> changes.bets().size()).sum());
+        signalCapacity();
+    }
+
+    /**
+     * Updates the status of known bets and inserts the rest, then drops the flushed transactions' commit markers
+     * in the same transaction, so a replay never writes a change the {@code bets} table already has.
+     */
+    private void flush(List<UnflushedChanges> batch) {
+        var bets = batch.stream()
+                .flatMap(changes -> changes.bets().stream())
+                .toList();
+        var startedAt = System.nanoTime();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            var updated = jdbcTemplate.batchUpdate(UPDATE_STATUS, bets, properties.flushBatchSize(),
+                    (statement, bet) -> {
+                        statement.setString(1, bet.status().name());
+                        statement.setString(2, bet.betId());
+                    });
+            insert(missing(bets, updated));
+            jdbcTemplate.batchUpdate(DELETE_COMMIT, batch.stream()
+                    .map(changes -> new Object[]{changes.txId()})
+                    .toList());
+        });
+
+        flushTimer.record(Duration.ofNanos(System.nanoTime() - startedAt));
+
+        log.debug("Flushed {} bet changes of {} bet book transactions", bets.size(), batch.size());
+    }
+
+    private void insert(List<Bet> bets) {
+        if (bets.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_BET, bets, bets.size(), (statement, bet) -> {
+            statement.setString(1, bet.betId());
+            statement.setString(2, bet.userId());
+            statement.setString(3, bet.eventId());
+            statement.setString(4, bet.eventMarketId());
+            statement.setString(5, bet.eventWinnerId());
+            statement.setBigDecimal(6, bet.betAmount());
+            statement.setString(7, bet.status().name());
+        });
+    }
+
+    private static List<Bet> missing(List<Bet> bets, int[][] updated) {
+        var missing = new ArrayList<Bet>();
+        var index = 0;
+
+        for (var batch : updated) {
+            for (var count : batch) {
+                if (count == 0) {
+                    missing.add(bets.get(index));
+                }
+                index++;
+            }
+        }
+
+        return missing;
+    }
+
+    private void signalCapacity() {
+        lagLock.lock();
+        try {
+            lagBelowLimit.signalAll();
+        } finally {
+            lagLock.unlock();
+        }
+    }
+
+    /**
+     * The bets one committed transaction changed, the journal segment holding them, and its commit marker id.
+     */
+    public record UnflushedChanges(String txId, long segment, List<Bet> bets) {
+    }
+}
@@ -1,6 +1,10 @@
 package com.mario.hexagonalbettingengine.infrastructure.betting;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -8,4 +12,62 @@ import java.util.List;
 @Repository
 public interface BetJpaRepository extends JpaRepository<BetEntity, String> {
     List<BetEntity> findByEventIdAndStatus(String eventId, BetStatus status);
+
+    long countByEventIdAndStatus(String eventId, BetStatus status);
+
+    boolean existsByEventIdAndStatus(String eventId, BetStatus status);
+
+    List<BetEntity> findByEventIdAndStatusAndBetIdGreaterThanOrderByBetIdAsc(
+            String eventId, BetStatus status, String betId, Limit limit);
+
+    List<BetEntity> findByEventIdAndStatusAndBetIdGreaterThanAndBetIdLessThanEqualOrderByBetIdAsc(
+            String eventId, BetStatus status, String afterBetId, String lastBetId, Limit limit);
+
+    @Query(value = """
+            SELECT bet_id
+              FROM (SELECT bet_id, ROW_NUMBER() OVER (ORDER BY bet_id) AS position
+                      FROM bets
+                     WHERE event_id = :eventId
+                       AND status = :status) ranked
+             WHERE MOD(position, :betsPerRange) = 0
+             ORDER BY bet_id
+            """, nativeQuery = true)
+    List<String> findRangeBoundaryBetIds(@Param("eventId") String eventId,
+                                         @Param("status") String status,
+                                         @Param("betsPerRange") int betsPerRange);
+
+    @Query("SELECT DISTINCT b.eventId FROM BetEntity b WHERE b.status = :status")
+    List<String> findDistinctEventIdsByStatus(@Param("status") BetStatus status);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE BetEntity b
+               SET b.status = :newStatus
+             WHERE b.eventId = :eventId
+               AND b.status = :currentStatus
+               AND b.betId > :afterBetId
+               AND b.betId <= :lastBetId
+               AND b.eventWinnerId = :eventWinnerId
+            """)
+    int updateStatusByEventIdAndWinnerInRange(@Param("eventId") String eventId,
+                                              @Param("eventWinnerId") String eventWinnerId,
+                                              @Param("afterBetId") String afterBetId,
+                                              @Param("lastBetId") String lastBetId,
+                                              @Param("currentStatus") BetStatus currentStatus,
+                                              @Param("newStatus") BetStatus newStatus);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE BetEntity b
+               SET b.status = :newStatus
+             WHERE b.eventId = :eventId
+               AND b.status = :currentStatus
+               AND b.betId > :afterBetId
+               AND b.betId <= :lastBetId
+            """)
+    int updateStatusByEventIdInRange(@Param("eventId") String eventId,
+                                     @Param("afterBetId") String afterBetId,
+                                     @Param("lastBetId") String lastBetId,
+                                     @Param("currentStatus") BetStatus currentStatus,
+                                     @Param("newStatus") BetStatus newStatus);
 }
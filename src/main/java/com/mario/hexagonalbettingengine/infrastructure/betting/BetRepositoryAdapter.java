@@ -1,19 +1,30 @@
 package com.mario.hexagonalbettingengine.infrastructure.betting;
 
+import static com.mario.hexagonalbettingengine.domain.betting.BetStatus.LOST;
+import static com.mario.hexagonalbettingengine.domain.betting.BetStatus.WON;
+import static java.lang.String.format;
+
 import com.mario.hexagonalbettingengine.domain.betting.Bet;
 import com.mario.hexagonalbettingengine.domain.betting.BetRepository;
 import com.mario.hexagonalbettingengine.infrastructure.betting.mapper.BetMapper;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.List;
 
 @Component
 @RequiredArgsConstructor
 public class BetRepositoryAdapter implements BetRepository {
 
+    private static final String FIRST_BET_ID = "";
+
     private final BetJpaRepository repository;
     private final BetMapper mapper;
+    private final EntityManager entityManager;
 
     @Override
     public List<Bet> findPendingBetsByEventId(String eventId) {
@@ -21,9 +32,114 @@ public class BetRepositoryAdapter implements BetRepository {
         return entities.stream().map(mapper::toDomain).toList();
     }
 
+    @Override
+    public List<Bet> findPendingBetsByEventId(String eventId, String afterBetId, int limit) {
+        releasePreviousChunk();
+
+        var entities = repository.findByEventIdAndStatusAndBetIdGreaterThanOrderByBetIdAsc(
+                eventId, BetStatus.PENDING, afterBetId == null ? FIRST_BET_ID : afterBetId, Limit.of(limit));
+        return entities.stream().map(mapper::toDomain).toList();
+    }
+
+    @Override
+    public List<Bet> findPendingBetsByEventId(String eventId, String afterBetId, String lastBetId, int limit) {
+        if (lastBetId == null) {
+            return findPendingBetsByEventId(eventId, afterBetId, limit);
+        }
+
+        releasePreviousChunk();
+
+        var entities = repository.findByEventIdAndStatusAndBetIdGreaterThanAndBetIdLessThanEqualOrderByBetIdAsc(
+                eventId, BetStatus.PENDING, afterBetId == null ? FIRST_BET_ID : afterBetId, lastBetId,
+                Limit.of(limit));
+        return entities.stream().map(mapper::toDomain).toList();
+    }
+
+    @Override
+    public long countPendingBetsByEventId(String eventId) {
+        return repository.countByEventIdAndStatus(eventId, BetStatus.PENDING);
+    }
+
+    /**
+     * Numbers the event's pending bets along {@code idx_bets_event_status_bet} in a single index scan, instead of
+     * one {@code OFFSET} query per boundary.
+     */
+    @Override
+    public List<String> findPendingBetIdBoundaries(String eventId, int betsPerRange) {
+        return repository.findRangeBoundaryBetIds(eventId, BetStatus.PENDING.name(), betsPerRange);
+    }
+
+    /**
+     * Reads one keyset chunk and settles exactly its {@code bet_id} range with two {@code UPDATE} statements, so
+     * only the chunk is held in memory however large the event is.
+     */
+    @Override
+    public List<Bet> settlePendingBets(String eventId, String actualWinnerId, String afterBetId, int limit) {
+        var pendingBets = findPendingBetsByEventId(eventId, afterBetId, limit);
+
+        if (pendingBets.isEmpty()) {
+            return List.of();
+        }
+
+        var fromBetId = afterBetId == null ? FIRST_BET_ID : afterBetId;
+        var lastBetId = pendingBets.getLast().betId();
+        var won = actualWinnerId == null ? 0 : repository.updateStatusByEventIdAndWinnerInRange(
+                eventId, actualWinnerId, fromBetId, lastBetId, BetStatus.PENDING, BetStatus.WON);
+        var lost = repository.updateStatusByEventIdInRange(
+                eventId, fromBetId, lastBetId, BetStatus.PENDING, BetStatus.LOST);
+
+        if (won + lost != pendingBets.size()) {
+            throw new IllegalStateException(format(
+                    "Pending bets for event %s changed during settlement. Expected %d rows, updated %d",
+                    eventId, pendingBets.size(), won + lost));
+        }
+
+        return pendingBets.stream()
+                .map(bet -> bet.withStatus(bet.isWinner(actualWinnerId) ? WON : LOST))
+                .toList();
+    }
+
     @Override
     public void save(Bet bet) {
         var entity = mapper.toEntity(bet);
         repository.save(entity);
     }
+
+    @Override
+    public void saveAll(Collection<Bet> bets) {
+        if (bets.isEmpty()) {
+            return;
+        }
+
+        var betList = List.copyOf(bets);
+        var entities = loadEntities(betList.stream().map(Bet::betId).toList());
+
+        for (int i = 0; i < betList.size(); i++) {
+            var bet = betList.get(i);
+            var entity = entities.get(i);
+
+            if (entity == null) {
+                entityManager.persist(mapper.toEntity(bet));
+            } else {
+                mapper.updateEntity(bet, entity);
+            }
+        }
+
+        entityManager.flush();
+    }
+
+    private List<BetEntity> loadEntities(List<String> betIds) {
+        return entityManager.unwrap(Session.class)
+                .byMultipleIds(BetEntity.class)
+                .enableSessionCheck(true)
+                .withBatchSize(betIds.size())
+                .multiLoad(betIds);
+    }
+
+    private void releasePreviousChunk() {
+        if (entityManager.isJoinedToTransaction()) {
+            entityManager.flush();
+            entityManager.clear();
+        }
+    }
 }
@@ -0,0 +1,25 @@
+package com.mario.hexagonalbettingengine.infrastructure.betting;
+
+import com.mario.hexagonalbettingengine.domain.betting.Bet;
+import com.mario.hexagonalbettingengine.domain.betting.BetSettlementOutbox;
+import com.mario.hexagonalbettingengine.infrastructure.betting.mapper.BetMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+@Component
+@RequiredArgsConstructor
+public class BetSettlementOutboxAdapter implements BetSettlementOutbox {
+
+    private final BetSettlementOutboxJpaRepository repository;
+    private final BetMapper mapper;
+
+    @Override
+    public void append(Collection<Bet> settledBets) {
+        var entries = settledBets.stream()
+                .map(mapper::toOutboxEntity)
+                .toList();
+        repository.saveAll(entries);
+    }
+}
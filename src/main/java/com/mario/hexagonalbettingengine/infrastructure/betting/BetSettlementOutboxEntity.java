@@ -0,0 +1,56 @@
+package com.mario.hexagonalbettingengine.infrastructure.betting;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+@Entity
+@Table(name = "bet_settlement_outbox")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BetSettlementOutboxEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bet_settlement_outbox_seq")
+    @SequenceGenerator(name = "bet_settlement_outbox_seq", sequenceName = "bet_settlement_outbox_seq", allocationSize = 50)
+    @Column(name = "id", nullable = false)
+    private Long id;
+
+    @Column(name = "bet_id", nullable = false)
+    private String betId;
+
+    @Column(name = "user_id", nullable = false)
+    private String userId;
+
+    @Column(name = "event_id", nullable = false)
+    private String eventId;
+
+    @Column(name = "event_market_id", nullable = false)
+    private String eventMarketId;
+
+    @Column(name = "event_winner_id", nullable = false)
+    private String eventWinnerId;
+
+    @Column(name = "bet_amount", nullable = false, precision = 19, scale = 2)
+    private BigDecimal betAmount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private BetStatus status;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "claimed_by")
+    private String claimedBy;
+
+    @Column(name = "claimed_until")
+    private Instant claimedUntil;
+}
@@ -0,0 +1,101 @@
+package com.mario.hexagonalbettingengine.infrastructure.betting;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface BetSettlementOutboxJpaRepository extends JpaRepository<BetSettlementOutboxEntity, Long> {
+    List<BetSettlementOutboxEntity> findAllByClaimedByOrderByIdAsc(String claimedBy);
+
+    List<BetSettlementOutboxEntity> findAllByClaimedByAndEventIdAndIdGreaterThanOrderByIdAsc(
+            String claimedBy, String eventId, long afterId, Limit limit);
+
+    List<BetSettlementOutboxEntity> findAllByClaimedByAndEventIdAndIdGreaterThanAndIdLessThanEqualOrderByIdAsc(
+            String claimedBy, String eventId, long afterId, long lastId);
+
+    @Query(value = """
+            SELECT DISTINCT event_id
+              FROM bet_settlement_outbox
+             WHERE claimed_by = :claimToken
+            """, nativeQuery = true)
+    List<String> findClaimedEventIds(@Param("claimToken") String claimToken);
+
+    /**
+     * Claims the oldest {@code limit} rows that are unclaimed or whose claim expired. The outer condition is checked
+     * again on rows another relay claimed concurrently, so each row goes to one claim.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            UPDATE bet_settlement_outbox
+               SET claimed_by = :claimToken,
+                   claimed_until = :claimedUntil
+             WHERE id IN (SELECT id
+                            FROM bet_settlement_outbox
+                           WHERE claimed_until IS NULL OR claimed_until < :now
+                           ORDER BY id
+                           LIMIT :limit)
+               AND (claimed_until IS NULL OR claimed_until < :now)
+            """, nativeQuery = true)
+    int claimBatch(@Param("claimToken") String claimToken,
+                   @Param("now") Instant now,
+                   @Param("claimedUntil") Instant claimedUntil,
+                   @Param("limit") int limit);
+
+    /**
+     * Like {@link #claimBatch}, but claims every available row of the events among the oldest {@code limit} rows.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            UPDATE bet_settlement_outbox
+               SET claimed_by = :claimToken,
+                   claimed_until = :claimedUntil
+             WHERE event_id IN (SELECT event_id
+                                  FROM bet_settlement_outbox
+                                 WHERE claimed_until IS NULL OR claimed_until < :now
+                                 ORDER BY id
+                                 LIMIT :limit)
+               AND (claimed_until IS NULL OR claimed_until < :now)
+            """, nativeQuery = true)
+    int claimEvents(@Param("claimToken") String claimToken,
+                    @Param("now") Instant now,
+                    @Param("claimedUntil") Instant claimedUntil,
+                    @Param("limit") int limit);
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+            UPDATE bet_settlement_outbox
+               SET claimed_until = :claimedUntil
+             WHERE claimed_by = :claimToken
+            """, nativeQuery = true)
+    int extendClaim(@Param("claimToken") String claimToken, @Param("claimedUntil") Instant claimedUntil);
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+            DELETE FROM bet_settlement_outbox
+             WHERE claimed_by = :claimToken
+               AND event_id = :eventId
+            """, nativeQuery = true)
+    int deleteClaimedEvent(@Param("claimToken") String claimToken, @Param("eventId") String eventId);
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+            UPDATE bet_settlement_outbox
+               SET claimed_by = NULL,
+                   claimed_until = NULL
+             WHERE claimed_by = :claimToken
+            """, nativeQuery = true)
+    int releaseClaim(@Param("claimToken") String claimToken);
+}
@@ -0,0 +1,333 @@
+package com.mario.hexagonalbettingengine.infrastructure.betting;
+
+import com.mario.hexagonalbettingengine.domain.betting.BetSettlementPublisher;
+import com.mario.hexagonalbettingengine.domain.betting.SettlementMode;
+import com.mario.hexagonalbettingengine.infrastructure.betting.mapper.BetMapper;
+import com.mario.hexagonalbettingengine.infrastructure.betting.payload.EventSettlementPayload;
+import com.mario.hexagonalbettingengine.infrastructure.config.MessagingProperties;
+import com.mario.hexagonalbettingengine.infrastructure.config.MessagingProperties.OutboxConfig;
+import com.mario.hexagonalbettingengine.infrastructure.config.MessagingProperties.RocketMqConfig.MessageMode;
+import com.mario.hexagonalbettingengine.infrastructure.config.SettlementProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+/**
+ * Relays the settlement outbox to the active {@link BetSettlementPublisher}. Each round claims its rows with a lease
+ * that is extended while the round publishes, so relays on other instances skip them.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BetSettlementOutboxRelay {
+
+    private final BetSettlementOutboxJpaRepository repository;
+    private final BetSettlementPublisher publisher;
+    private final BetMapper mapper;
+    private final MessagingProperties properties;
+    private final SettlementProperties settlementProperties;
+    private final ExecutorService outboxRelayExecutor;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Envelopes number the parts of everything an event's settlement wrote to the outbox. That only holds when the
+     * event's rows commit together, which checkpointed and sharded settlements do not do.
+     */
+    @PostConstruct
+    void validate() {
+        if (!isEnvelopeMode()) {
+            return;
+        }
+
+        if (settlementProperties.mode() == SettlementMode.CHECKPOINTED || settlementProperties.sharding().enabled()) {
+            throw new IllegalStateException(
+                    "rocketmq.message-mode=envelope is not supported with checkpointed settlement or sharding");
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.messaging.outbox.poll-interval}")
+    public void relay() {
+        var config = properties.outbox();
+        int claimed;
+
+        do {
+            var lease = new ClaimLease(UUID.randomUUID().toString(), config.claimLease());
+            claimed = claim(lease, config);
+
+            if (claimed == 0) {
+                return;
+            }
+
+            var relayed = isEnvelopeMode() ? relayEvents(lease) : relayBatch(lease, config.parallelism());
+
+            if (!relayed) {
+                repository.releaseClaim(lease.claimToken);
+                log.warn("Bet settlements left in outbox after failed publish. Retrying on next poll");
+                return;
+            }
+        } while (claimed >= config.batchSize());
+    }
+
+    /**
+     * Claims the oldest rows for {@code claim-lease} ms. In envelope mode every available row of an event is
+     * claimed together, so one relay builds the event's envelopes. A claim left behind by a relay that died
+     * expires and is taken over by the next poll.
+     */
+    private int claim(ClaimLease lease, OutboxConfig config) {
+        var now = Instant.now();
+        var claimedUntil = now.plusMillis(config.claimLease());
+
+        return isEnvelopeMode()
+                ? repository.claimEvents(lease.claimToken, now, claimedUntil, config.batchSize())
+                : repository.claimBatch(lease.claimToken, now, claimedUntil, config.batchSize());
+    }
+
+    private boolean isEnvelopeMode() {
+        return properties.rocketmq().messageMode() == MessageMode.ENVELOPE;
+    }
+
+    /**
+     * Publishes the claimed rows, at most {@code batch-size}, and deletes the ones that were acknowledged.
+     */
+    private boolean relayBatch(ClaimLease lease, int parallelism) {
+        var batch = repository.findAllByClaimedByOrderByIdAsc(lease.claimToken);
+        var sliceSize = Math.ceilDiv(batch.size(), parallelism);
+
+        var slices = IntStream.iterate(0, from -> from < batch.size(), from -> from + sliceSize)
+                .mapToObj(from -> batch.subList(from, Math.min(from + sliceSize, batch.size())))
+                .map(slice -> CompletableFuture.supplyAsync(() -> publishSlice(slice), outboxRelayExecutor))
+                .toList();
+
+        lease.await(CompletableFuture.allOf(slices.toArray(CompletableFuture[]::new)));
+        var relayedIds = slices.stream()
+                .map(CompletableFuture::join)
+                .flatMap(List::stream)
+                .toList();
+
+        repository.deleteAllByIdInBatch(relayedIds);
+        log.info("Relayed {} bet settlements from outbox", relayedIds.size());
+        return relayedIds.size() == batch.size();
+    }
+
+    /**
+     * Publishes the settlement envelopes of every claimed event and deletes an event's rows once all of its
+     * envelopes are acknowledged. The claim holds all rows of its events that were in the outbox when they were
+     * claimed, so {@code part} and {@code parts} count the event's whole settlement.
+     */
+    private boolean relayEvents(ClaimLease lease) {
+        var publishTimer = Timer.builder("bet.settlement.envelope.publish")
+                .description("Time until all settlement envelopes of an event are acknowledged")
+                .tag("publisher", publisher.getClass().getSimpleName())
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+
+        var acks = new LinkedHashMap<String, CompletableFuture<Boolean>>();
+        for (var eventId : repository.findClaimedEventIds(lease.claimToken)) {
+            var startedAt = System.nanoTime();
+
+            acks.put(eventId, publishEvent(eventId, lease).handle((ignored, ex) -> {
+                publishTimer.record(Duration.ofNanos(System.nanoTime() - startedAt));
+
+                if (ex != null) {
+                    log.error("Failed to relay settlement of event {} from outbox", eventId, ex);
+                    return false;
+                }
+
+                return true;
+            }));
+        }
+
+        lease.await(CompletableFuture.allOf(acks.values().toArray(CompletableFuture[]::new)));
+        var relayedBets = 0;
+        var relayed = true;
+
+        for (var ack : acks.entrySet()) {
+            if (ack.getValue().join()) {
+                relayedBets += repository.deleteClaimedEvent(lease.claimToken, ack.getKey());
+            } else {
+                relayed = false;
+            }
+        }
+
+        log.info("Relayed {} bet settlements from outbox", relayedBets);
+        return relayed;
+    }
+
+    /**
+     * Pages through the event's claimed rows twice, {@code batch-size} rows at a time. The first pass decides
+     * where each envelope ends and the settlement timestamp; the second loads and hands off one envelope's rows
+     * at a time. Only one page or one envelope of the event is held in memory, whatever its size.
+     */
+    private CompletableFuture<Void> publishEvent(String eventId, ClaimLease lease) {
+        try {
+            var maxMessageBytes = properties.rocketmq().maxMessageBytes();
+            var splitter = new EventSettlementPayload.Splitter(eventId, maxMessageBytes);
+            var lastIds = new ArrayList<Long>();
+            var settledAt = Instant.EPOCH;
+            var afterId = 0L;
+            List<BetSettlementOutboxEntity> page;
+
+            do {
+                page = repository.findAllByClaimedByAndEventIdAndIdGreaterThanOrderByIdAsc(
+                        lease.claimToken, eventId, afterId, Limit.of(properties.outbox().batchSize()));
+
+                for (var entry : page) {
+                    if (splitter.startsNewPart(mapper.toSettledBet(mapper.toDomain(entry)))) {
+                        lastIds.add(afterId);
+                    }
+
+                    afterId = entry.getId();
+                    settledAt = entry.getCreatedAt().isAfter(settledAt) ? entry.getCreatedAt() : settledAt;
+                }
+
+                lease.extendIfDue();
+            } while (page.size() == properties.outbox().batchSize());
+
+            if (afterId == 0L) {
+                return CompletableFuture.completedFuture(null);
+            }
+
+            lastIds.add(afterId);
+            return publishParts(eventId, settledAt, lastIds, lease);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * The envelopes carry the time the event's settlement was written to the outbox, so a republished event
+     * keeps its original {@code settledAt}.
+     */
+    private CompletableFuture<Void> publishParts(String eventId, Instant settledAt, List<Long> lastIds,
+                                                 ClaimLease lease) {
+        var acks = new ArrayList<CompletableFuture<Void>>(lastIds.size());
+        var afterId = 0L;
+
+        for (int part = 0; part < lastIds.size(); part++) {
+            var lastId = lastIds.get(part);
+            var bets = repository.findAllByClaimedByAndEventIdAndIdGreaterThanAndIdLessThanEqualOrderByIdAsc(
+                            lease.claimToken, eventId, afterId, lastId).stream()
+                    .map(mapper::toDomain)
+                    .toList();
+            var ack = publisher.publishEventSettlement(eventId, settledAt, part + 1, lastIds.size(), bets);
+
+            acks.add(ack);
+            lease.extendIfDue();
+            afterId = lastId;
+
+            if (ack.isCompletedExceptionally()) {
+                break;
+            }
+        }
+
+        return CompletableFuture.allOf(acks.toArray(CompletableFuture[]::new));
+    }
+
+    /**
+     * Hands every entry of the slice to the publisher before waiting on any acknowledgement, so a pipelining
+     * publisher overlaps the round trips. The slice only counts as relayed once all acknowledgements are in;
+     * after the first observed failure no further entries are sent and the rest stay in the outbox.
+     */
+    private List<Long> publishSlice(List<BetSettlementOutboxEntity> slice) {
+        var publishTimer = Timer.builder("bet.settlement.publish")
+                .description("Time until a single bet settlement is acknowledged")
+                .tag("publisher", publisher.getClass().getSimpleName())
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        var failed = new AtomicBoolean();
+        var acks = new ArrayList<CompletableFuture<Long>>(slice.size());
+
+        for (var entry : slice) {
+            if (failed.get()) {
+                break;
+            }
+
+            var startedAt = System.nanoTime();
+            acks.add(publish(entry).handle((ignored, ex) -> {
+                publishTimer.record(Duration.ofNanos(System.nanoTime() - startedAt));
+
+                if (ex != null) {
+                    failed.set(true);
+                    log.error("Failed to relay settlement of bet {} from outbox", entry.getBetId(), ex);
+                    return null;
+                }
+
+                return entry.getId();
+            }));
+        }
+
+        return acks.stream()
+                .map(CompletableFuture::join)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private CompletableFuture<Void> publish(BetSettlementOutboxEntity entry) {
+        try {
+            return publisher.publishAsync(mapper.toDomain(entry));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * The claim of one relay round. It is extended to a full {@code claim-lease} whenever a third of the lease
+     * has passed, while the round reads rows, hands them to the publisher or waits for acknowledgements.
+     */
+    private final class ClaimLease {
+
+        private final String claimToken;
+        private final long leaseMillis;
+        private long extendedAt = System.nanoTime();
+
+        ClaimLease(String claimToken, long leaseMillis) {
+            this.claimToken = claimToken;
+            this.leaseMillis = leaseMillis;
+        }
+
+        void extendIfDue() {
+            if (System.nanoTime() - extendedAt < TimeUnit.MILLISECONDS.toNanos(leaseMillis / 3)) {
+                return;
+            }
+
+            extendedAt = System.nanoTime();
+            repository.extendClaim(claimToken, Instant.now().plusMillis(leaseMillis));
+        }
+
+        void await(CompletableFuture<?> acks) {
+            while (true) {
+                try {
+                    acks.get(Math.max(leaseMillis / 3, 1), TimeUnit.MILLISECONDS);
+                    return;
+                } catch (TimeoutException e) {
+                    extendIfDue();
+                } catch (ExecutionException e) {
+                    return;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while waiting for outbox acknowledgements", e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.mario.hexagonalbettingengine.infrastructure.betting;
+
+import com.mario.hexagonalbettingengine.domain.betting.Bet;
+import com.mario.hexagonalbettingengine.domain.betting.BetPlacementQueue;
+import com.mario.hexagonalbettingengine.domain.betting.BetPlacementRejectedException;
+import com.mario.hexagonalbettingengine.domain.betting.DuplicateBetException;
+import com.mario.hexagonalbettingengine.infrastructure.config.PlacementProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+public class GroupCommitBetWriter implements BetPlacementQueue {
+
+    private static final String INSERT_BET = """
+            INSERT INTO bets (bet_id, user_id, event_id, event_market_id, event_winner_id, bet_amount, status)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final long POLL_TIMEOUT_MILLIS = 100;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PlacementProperties properties;
+    private final List<PlacedBetListener> listeners;
+    private final BlockingQueue<PendingWrite> queue;
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public GroupCommitBetWriter(JdbcTemplate jdbcTemplate,
+                                TransactionTemplate transactionTemplate,
+                                PlacementProperties properties,
+                                List<PlacedBetListener> listeners) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.listeners = listeners;
+        this.queue = new ArrayBlockingQueue<>(properties.queueCapacity());
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        writerThread = Thread.ofPlatform()
+                .name("bet-group-commit")
+                .start(this::drainQueue);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        writerThread.join();
+    }
+
+    @Override
+    public CompletableFuture<Void> enqueue(List<Bet> bets) {
+        var write = new PendingWrite(bets, new CompletableFuture<>());
+
+        if (!running || !queue.offer(write)) {
+            write.result().completeExceptionally(
+                    new BetPlacementRejectedException("Bet placement queue is full, retry later"));
+        }
+
+        return write.result();
+    }
+
+    private void drainQueue() {
+        while (running || !queue.isEmpty()) {
+            try {
+                var first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+
+                if (first != null) {
+                    commit(collectGroup(first));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private List<PendingWrite> collectGroup(PendingWrite first) {
+        var group = new ArrayList<PendingWrite>();
+        group.add(first);
+        var betCount = first.bets().size();
+
+        PendingWrite next;
+        while (betCount < properties.maxBatchSize() && (next = queue.poll()) != null) {
+            group.add(next);
+            betCount += next.bets().size();
+        }
+
+        return group;
+    }
+
+    private void commit(List<PendingWrite> group) {
+        var bets = group.stream()
+                .flatMap(write -> write.bets().stream())
+                .toList();
+
+        try {
+            insert(bets);
+        } catch (RuntimeException e) {
+            if (group.size() == 1) {
+                fail(group.getFirst(), e);
+                return;
+            }
+
+            log.warn("Group commit of {} placement requests failed, committing them one by one", group.size(), e);
+            group.forEach(write -> commit(List.of(write)));
+            return;
+        }
+
+        notifyListeners(bets);
+        group.forEach(write -> write.result().complete(null));
+        log.debug("Group-committed {} placement requests", group.size());
+    }
+
+    /**
+     * Runs after the insert has committed, so a failing listener can neither fail nor re-insert stored bets.
+     */
+    private void notifyListeners(List<Bet> bets) {
+        for (var listener : listeners) {
+            try {
+                listener.onPlaced(bets);
+            } catch (RuntimeException e) {
+                log.error("Placed bet listener {} failed for {} committed bets",
+                        listener.getClass().getSimpleName(), bets.size(), e);
+            }
+        }
+    }
+
+    private void insert(List<Bet> bets) {
+        transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.batchUpdate(INSERT_BET, bets, bets.size(), (statement, bet) -> {
+                    statement.setString(1, bet.betId());
+                    statement.setString(2, bet.userId());
+                    statement.setString(3, bet.eventId());
+                    statement.setString(4, bet.eventMarketId());
+                    statement.setString(5, bet.eventWinnerId());
+                    statement.setBigDecimal(6, bet.betAmount());
+                    statement.setString(7, bet.status().name());
+                }));
+    }
+
+    private void fail(PendingWrite write, RuntimeException e) {
+        if (e instanceof DuplicateKeyException) {
+            write.result().completeExceptionally(new DuplicateBetException("Bet already exists", e));
+            return;
+        }
+
+        log.error("Failed to place {} bets", write.bets().size(), e);
+        write.result().completeExceptionally(e);
+    }
+
+    private record PendingWrite(List<Bet> bets, CompletableFuture<Void> result) {
+    }
+}
@@ -0,0 +1,349 @@
+package com.mario.hexagonalbettingengine.infrastructure.betting;
+
+import com.mario.hexagonalbettingengine.domain.betting.Bet;
+import com.mario.hexagonalbettingengine.domain.betting.BetRepository;
+import com.mario.hexagonalbettingengine.infrastructure.betting.BetBookWriteBehind.UnflushedChanges;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.mario.hexagonalbettingengine.domain.betting.BetStatus.LOST;
+import static com.mario.hexagonalbettingengine.domain.betting.BetStatus.PENDING;
+import static com.mario.hexagonalbettingengine.domain.betting.BetStatus.WON;
+
+/**
+ * Keeps every pending bet in memory, by event and within the event by selected winner, so settlement neither reads
+ * nor writes {@code bets} rows. The book is loaded from the {@code bets} table at startup and learns new bets from
+ * {@link GroupCommitBetWriter} once they are committed.
+ * <p>
+ * Bet changes made in a transaction are journaled together with a {@code bet_book_commits} row just before it
+ * commits, applied to the book after it commits and written to {@code bets} later by {@link BetBookWriteBehind}.
+ * The commit marker is what tells a replay whether a journaled transaction committed. Assumes this instance is the
+ * only one settling bets.
+ */
+@Slf4j
+@Primary
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.settlement.bet-book.enabled", havingValue = "true")
+public class InMemoryBetBook implements BetRepository, PlacedBetListener {
+
+    private static final String SELECT_PENDING_BETS = """
+            SELECT bet_id, user_id, event_id, event_market_id, event_winner_id, bet_amount
+            FROM bets
+            WHERE status = ?
+            """;
+    private static final String INSERT_COMMIT = """
+            INSERT INTO bet_book_commits (tx_id, committed_at)
+            VALUES (?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BetBookJournal journal;
+    private final BetBookWriteBehind writeBehind;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, EventBook> books = new ConcurrentHashMap<>();
+    private final AtomicLong pendingBets = new AtomicLong();
+
+    @PostConstruct
+    void init() {
+        Gauge.builder("bet.book.pending", pendingBets, AtomicLong::get)
+                .description("Pending bets held by the in-memory bet book")
+                .register(meterRegistry);
+
+        writeBehind.recover();
+        load();
+    }
+
+    void load() {
+        books.clear();
+        pendingBets.set(0);
+        jdbcTemplate.query(SELECT_PENDING_BETS, (RowCallbackHandler) row -> add(toBet(row)), PENDING.name());
+        log.info("Bet book loaded {} pending bets of {} events", pendingBets.get(), books.size());
+    }
+
+    @Override
+    public void onPlaced(List<Bet> bets) {
+        bets.forEach(this::add);
+    }
+
+    @Override
+    public List<Bet> findPendingBetsByEventId(String eventId) {
+        return List.copyOf(pending(eventId).values());
+    }
+
+    @Override
+    public List<Bet> findPendingBetsByEventId(String eventId, String afterBetId, int limit) {
+        return firstPending(pendingAfter(eventId, afterBetId), limit);
+    }
+
+    @Override
+    public List<Bet> findPendingBetsByEventId(String eventId, String afterBetId, String lastBetId, int limit) {
+        var remaining = pendingAfter(eventId, afterBetId);
+        return firstPending(lastBetId == null ? remaining : remaining.headMap(lastBetId, true), limit);
+    }
+
+    @Override
+    public long countPendingBetsByEventId(String eventId) {
+        var book = books.get(eventId);
+        return book == null ? 0 : book.size.get();
+    }
+
+    @Override
+    public List<String> findPendingBetIdBoundaries(String eventId, int betsPerRange) {
+        var boundaries = new ArrayList<String>();
+        var position = 0;
+
+        for (var betId : pending(eventId).keySet()) {
+            if (++position % betsPerRange == 0) {
+                boundaries.add(betId);
+            }
+        }
+
+        return boundaries;
+    }
+
+    /**
+     * Winners come from the event's index for {@code actualWinnerId}; every other pending bet of the chunk lost.
+     */
+    @Override
+    public List<Bet> settlePendingBets(String eventId, String actualWinnerId, String afterBetId, int limit) {
+        var book = books.get(eventId);
+
+        if (book == null) {
+            return List.of();
+        }
+
+        var winners = book.pendingBySelection(actualWinnerId);
+        var settledBets = firstPending(pendingAfter(eventId, afterBetId), limit).stream()
+                .map(bet -> bet.withStatus(winners.containsKey(bet.betId()) ? WON : LOST))
+                .toList();
+        saveAll(settledBets);
+
+        return settledBets;
+    }
+
+    @Override
+    public void save(Bet bet) {
+        saveAll(List.of(bet));
+    }
+
+    @Override
+    public void saveAll(Collection<Bet> bets) {
+        if (bets.isEmpty()) {
+            return;
+        }
+
+        writeBehind.awaitCapacity();
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            commit(writeJournal(List.copyOf(bets)));
+            return;
+        }
+
+        var staged = (StagedChanges) TransactionSynchronizationManager.getResource(this);
+        if (staged == null) {
+            staged = new StagedChanges();
+            TransactionSynchronizationManager.bindResource(this, staged);
+            TransactionSynchronizationManager.registerSynchronization(staged);
+        }
+
+        staged.bets.addAll(bets);
+    }
+
+    private UnflushedChanges writeJournal(List<Bet> bets) {
+        var txId = UUID.randomUUID().toString();
+        var segment = journal.append(txId, bets);
+
+        try {
+            jdbcTemplate.update(INSERT_COMMIT, txId, Timestamp.from(Instant.now()));
+        } catch (RuntimeException e) {
+            journal.release(segment);
+            throw e;
+        }
+
+        return new UnflushedChanges(txId, segment, bets);
+    }
+
+    private void commit(UnflushedChanges changes) {
+        changes.bets().forEach(bet -> {
+            if (bet.status() == PENDING) {
+                add(bet);
+            } else {
+                remove(bet);
+            }
+        });
+        writeBehind.enqueue(changes);
+    }
+
+    private void add(Bet bet) {
+        books.compute(bet.eventId(), (eventId, book) -> {
+            var target = book == null ? new EventBook() : book;
+
+            if (target.add(bet)) {
+                pendingBets.incrementAndGet();
+            }
+
+            return target;
+        });
+    }
+
+    private void remove(Bet bet) {
+        books.computeIfPresent(bet.eventId(), (eventId, book) -> {
+            if (book.remove(bet.betId())) {
+                pendingBets.decrementAndGet();
+            }
+
+            return book.size.get() == 0 ? null : book;
+        });
+    }
+
+    private NavigableMap<String, Bet> pending(String eventId) {
+        var book = books.get(eventId);
+        return book == null ? Collections.emptyNavigableMap() : book.pending;
+    }
+
+    private NavigableMap<String, Bet> pendingAfter(String eventId, String afterBetId) {
+        var pending = pending(eventId);
+        return afterBetId == null ? pending : pending.tailMap(afterBetId, false);
+    }
+
+    private static List<Bet> firstPending(NavigableMap<String, Bet> pending, int limit) {
+        return pending.values().stream()
+                .limit(limit)
+                .toList();
+    }
+
+    private static Bet toBet(ResultSet row) throws SQLException {
+        return Bet.builder()
+                .betId(row.getString("bet_id"))
+                .userId(row.getString("user_id"))
+                .eventId(row.getString("event_id"))
+                .eventMarketId(row.getString("event_market_id"))
+                .eventWinnerId(row.getString("event_winner_id"))
+                .betAmount(row.getBigDecimal("bet_amount"))
+                .status(PENDING)
+                .build();
+    }
+
+    /**
+     * Pending bets of one event in {@code bet_id} order, and the same bets by selected winner. Only mutated inside
+     * {@code books.compute}, so the two maps and the size change together; readers see weakly consistent views.
+     */
+    private static final class EventBook {
+
+        private final NavigableMap<String, Bet> pending = new ConcurrentSkipListMap<>();
+        private final Map<String, NavigableMap<String, Bet>> pendingByWinner = new ConcurrentHashMap<>();
+        private final AtomicInteger size = new AtomicInteger();
+
+        boolean add(Bet bet) {
+            var previous = pending.put(bet.betId(), bet);
+
+            if (previous != null) {
+                unindex(previous);
+            } else {
+                size.incrementAndGet();
+            }
+
+            if (bet.eventWinnerId() != null) {
+                pendingByWinner.computeIfAbsent(bet.eventWinnerId(), winner -> new ConcurrentSkipListMap<>())
+                        .put(bet.betId(), bet);
+            }
+
+            return previous == null;
+        }
+
+        boolean remove(String betId) {
+            var removed = pending.remove(betId);
+
+            if (removed == null) {
+                return false;
+            }
+
+            unindex(removed);
+            size.decrementAndGet();
+            return true;
+        }
+
+        NavigableMap<String, Bet> pendingBySelection(String winnerId) {
+            var bets = winnerId == null ? null : pendingByWinner.get(winnerId);
+            return bets == null ? Collections.emptyNavigableMap() : bets;
+        }
+
+        private void unindex(Bet bet) {
+            if (bet.eventWinnerId() == null) {
+                return;
+            }
+
+            pendingByWinner.computeIfPresent(bet.eventWinnerId(), (winner, bets) -> {
+                bets.remove(bet.betId());
+                return bets.isEmpty() ? null : bets;
+            });
+        }
+    }
+
+    /**
+     * Collects the bets one transaction changes. The journal record and commit marker are written in
+     * {@code beforeCommit}, so the marker commits atomically with the transaction's outbox and settlement rows.
+     */
+    private final class StagedChanges implements TransactionSynchronization {
+
+        private final List<Bet> bets = new ArrayList<>();
+        private UnflushedChanges journaled;
+
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResource(InMemoryBetBook.this);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(InMemoryBetBook.this, this);
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            journaled = writeJournal(List.copyOf(bets));
+        }
+
+        @Override
+        public void afterCommit() {
+            commit(journaled);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(InMemoryBetBook.this);
+
+            if (status != STATUS_COMMITTED && journaled != null) {
+                journal.release(journaled.segment());
+            }
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.mario.hexagonalbettingengine.infrastructure.betting;
+
+import com.mario.hexagonalbettingengine.domain.betting.PendingEventIndex;
+import com.mario.hexagonalbettingengine.infrastructure.config.PendingEventFilterProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Event ids that currently have pending bets, loaded from the {@code bets} table at startup. Placements on this
+ * instance add their event before the bet is stored and settlements remove it after commit. Bets stored by other
+ * instances or tools only reach the set on the next refresh, so an event missing from the set is confirmed against
+ * the {@code bets} table before it is reported as having no pending bets.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InMemoryPendingEventIndex implements PendingEventIndex {
+
+    private final BetJpaRepository repository;
+    private final PendingEventFilterProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final Set<String> eventIds = ConcurrentHashMap.newKeySet();
+    private Counter hits;
+    private Counter recovered;
+    private Counter misses;
+
+    @PostConstruct
+    void init() {
+        hits = lookupCounter("hit");
+        recovered = lookupCounter("recovered");
+        misses = lookupCounter("miss");
+        Gauge.builder("pending.event.filter.size", eventIds, Set::size)
+                .description("Event ids known to have pending bets")
+                .register(meterRegistry);
+
+        refresh();
+    }
+
+    /**
+     * Only adds ids, so bets stored by other instances or tools are picked up without racing placements whose
+     * bets are not committed yet.
+     */
+    @Scheduled(
+            initialDelayString = "${app.settlement.pending-event-filter.refresh-interval}",
+            fixedDelayString = "${app.settlement.pending-event-filter.refresh-interval}")
+    public void refresh() {
+        if (!properties.enabled()) {
+            return;
+        }
+
+        var pendingEventIds = repository.findDistinctEventIdsByStatus(BetStatus.PENDING);
+        eventIds.addAll(pendingEventIds);
+        log.info("Pending event filter holds {} events ({} loaded from bets)", eventIds.size(), pendingEventIds.size());
+    }
+
+    @Override
+    public boolean mightHavePendingBets(String eventId) {
+        if (!properties.enabled()) {
+            return true;
+        }
+
+        if (eventIds.contains(eventId)) {
+            hits.increment();
+            return true;
+        }
+
+        if (repository.existsByEventIdAndStatus(eventId, BetStatus.PENDING)) {
+            log.debug("Event {} has pending bets the filter had not loaded yet", eventId);
+            eventIds.add(eventId);
+            recovered.increment();
+            return true;
+        }
+
+        misses.increment();
+        return false;
+    }
+
+    @Override
+    public void add(String eventId) {
+        eventIds.add(eventId);
+    }
+
+    @Override
+    public void remove(String eventId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eventIds.remove(eventId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                eventIds.remove(eventId);
+            }
+        });
+    }
+
+    private Counter lookupCounter(String result) {
+        return Counter.builder("pending.event.filter")
+                .description("Pending event lookups for incoming event outcomes")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -9,6 +9,10 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -25,4 +29,16 @@ public class LoggingBetSettlementPublisher implements BetSettlementPublisher {
 
         log.info("[MOCK ROCKETMQ] Bet settlement published to {} topic: {}", topic, payload);
     }
-}
\ No newline at end of file
+
+    @Override
+    public CompletableFuture<Void> publishEventSettlement(String eventId, Instant settledAt, int part, int parts,
+                                                          List<Bet> bets) {
+        var envelope = betMapper.toEnvelope(eventId, settledAt, part, parts, bets);
+
+        log.info("[MOCK ROCKETMQ] Settlement of event {} (part {}/{}, {} bets) published to {} topic",
+                envelope.eventId(), envelope.part(), envelope.parts(), envelope.bets().size(),
+                properties.rocketmq().topic());
+
+        return CompletableFuture.completedFuture(null);
+    }
+}
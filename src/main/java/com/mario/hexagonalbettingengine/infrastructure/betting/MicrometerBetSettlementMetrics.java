@@ -0,0 +1,64 @@
+package com.mario.hexagonalbettingengine.infrastructure.betting;
+
+import com.mario.hexagonalbettingengine.domain.betting.BetSettlementMetrics;
+import com.mario.hexagonalbettingengine.domain.betting.SettlementMode;
+import com.mario.hexagonalbettingengine.domain.betting.SettlementShardMetrics;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@RequiredArgsConstructor
+public class MicrometerBetSettlementMetrics implements BetSettlementMetrics, SettlementShardMetrics {
+
+    private static final String SHARDED_MODE = "sharded";
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public void recordSettlement(SettlementMode mode, int settledBets, Duration duration) {
+        recordEvent(mode.name().toLowerCase(), settledBets, duration);
+    }
+
+    @Override
+    public void recordShardSettlement(int settledBets, Duration duration) {
+        Timer.builder("bet.settlement.shard.duration")
+                .description("Time to settle the pending bets of one settlement shard")
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(duration);
+
+        DistributionSummary.builder("bet.settlement.shard.bets")
+                .description("Bets settled per settlement shard")
+                .baseUnit("bets")
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(settledBets);
+    }
+
+    @Override
+    public void recordShardedSettlement(long settledBets, Duration duration) {
+        recordEvent(SHARDED_MODE, settledBets, duration);
+    }
+
+    private void recordEvent(String modeTag, long settledBets, Duration duration) {
+        Timer.builder("bet.settlement.duration")
+                .description("Time to settle all pending bets of an event")
+                .tag("mode", modeTag)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(duration);
+
+        DistributionSummary.builder("bet.settlement.bets")
+                .description("Bets settled per event")
+                .baseUnit("bets")
+                .tag("mode", modeTag)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(settledBets);
+    }
+}
@@ -0,0 +1,12 @@
+package com.mario.hexagonalbettingengine.infrastructure.betting;
+
+import com.mario.hexagonalbettingengine.domain.betting.Bet;
+
+import java.util.List;
+
+/**
+ * Told about bets once {@link GroupCommitBetWriter} has committed them, before their placements complete.
+ */
+public interface PlacedBetListener {
+    void onPlaced(List<Bet> bets);
+}
@@ -7,14 +7,36 @@ import com.mario.hexagonalbettingengine.domain.betting.Bet;
 import com.mario.hexagonalbettingengine.domain.betting.BetSettlementPublisher;
 import com.mario.hexagonalbettingengine.infrastructure.betting.mapper.BetMapper;
 import com.mario.hexagonalbettingengine.infrastructure.betting.payload.BetPayload;
+import com.mario.hexagonalbettingengine.infrastructure.betting.payload.BetPayloadCodec;
+import com.mario.hexagonalbettingengine.infrastructure.betting.payload.EventSettlementPayload;
+import com.mario.hexagonalbettingengine.infrastructure.betting.payload.EventSettlementPayloadCodec;
+import com.mario.hexagonalbettingengine.infrastructure.codec.PayloadFormat;
 import com.mario.hexagonalbettingengine.infrastructure.config.MessagingProperties;
+import com.mario.hexagonalbettingengine.infrastructure.config.MessagingProperties.RocketMqConfig.PublishMode;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.rocketmq.client.producer.SendCallback;
+import org.apache.rocketmq.client.producer.SendResult;
 import org.apache.rocketmq.spring.core.RocketMQTemplate;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
 import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
 import org.springframework.stereotype.Component;
 
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -24,29 +46,194 @@ public class RocketMQBetSettlementPublisher implements BetSettlementPublisher {
     private final RocketMQTemplate rocketMQTemplate;
     private final BetMapper betMapper;
     private final MessagingProperties properties;
+    private final BetPayloadCodec codec;
+    private final EventSettlementPayloadCodec envelopeCodec;
+
+    private Semaphore inFlightWindow;
+    private ScheduledExecutorService retryScheduler;
+
+    @PostConstruct
+    void init() {
+        var config = properties.rocketmq();
+        var profile = properties.producerProfile(config.producerProfile());
+        rocketMQTemplate.getProducer().setCompressMsgBodyOverHowmuch(profile.compressOverBytes());
+        log.info("RocketMQ producer profile '{}': compressing bodies over {} bytes",
+                config.producerProfile(), profile.compressOverBytes());
+
+        inFlightWindow = new Semaphore(Math.max(config.inFlightWindow(), 1));
+        log.info("RocketMQ publish mode {} with an in-flight window of {}", config.publishMode(), config.inFlightWindow());
+
+        retryScheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("rocketmq-send-retry").daemon().factory());
+    }
+
+    /**
+     * Retries that are already scheduled still run; a send failing after this point is not retried again.
+     */
+    @PreDestroy
+    void stop() {
+        retryScheduler.shutdown();
+    }
 
     @Override
     public void publish(Bet bet) {
         var payload = betMapper.toPayload(bet);
         var topic = properties.rocketmq().topic();
-        sendToBroker(topic, payload);
+        sendToBroker(topic, payload, describe(payload));
+    }
+
+    /**
+     * In {@code ASYNC} mode the caller only blocks while the in-flight window is full, so acknowledgements
+     * of up to {@code inFlightWindow} bets overlap instead of each paying a full broker round trip.
+     */
+    @Override
+    public CompletableFuture<Void> publishAsync(Bet bet) {
+        if (properties.rocketmq().publishMode() != PublishMode.ASYNC) {
+            return BetSettlementPublisher.super.publishAsync(bet);
+        }
+
+        var payload = betMapper.toPayload(bet);
+        return sendWithinWindow(properties.rocketmq().topic(), payload, describe(payload));
     }
 
-    private void sendToBroker(String topic, BetPayload payload) {
+    /**
+     * Sends one {@link EventSettlementPayload} envelope, pipelined through the in-flight window in {@code ASYNC}
+     * mode.
+     */
+    @Override
+    public CompletableFuture<Void> publishEventSettlement(String eventId, Instant settledAt, int part, int parts,
+                                                          List<Bet> bets) {
+        var config = properties.rocketmq();
+        var envelope = betMapper.toEnvelope(eventId, settledAt, part, parts, bets);
+
+        if (config.publishMode() == PublishMode.ASYNC) {
+            return sendWithinWindow(config.topic(), envelope, describe(envelope));
+        }
+
         try {
-            var result = rocketMQTemplate.syncSend(topic, payload);
+            sendToBroker(config.topic(), envelope, describe(envelope));
+            return CompletableFuture.completedFuture(null);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private void sendToBroker(String topic, Object payload, String description) {
+        try {
+            var result = properties.rocketmq().format() == PayloadFormat.BINARY
+                    ? rocketMQTemplate.syncSend(topic, toBinaryMessage(payload))
+                    : rocketMQTemplate.syncSend(topic, payload);
             var status = result.getSendStatus();
 
             if (status != SEND_OK) {
                 throw new MessagingException(format("Broker did not acknowledge message. Status: %s", status));
             }
 
-            log.info("[REAL ROCKETMQ] Bet {} successfully published to topic: {}", payload.betId(), topic);
+            log.info("[REAL ROCKETMQ] {} successfully published to topic: {}", description, topic);
         } catch (MessagingException e) {
             throw e;
         } catch (Exception e) {
-            log.error("[REAL ROCKETMQ] Failed to publish bet {}. Topic: {}", payload.betId(), topic, e);
+            log.error("[REAL ROCKETMQ] Failed to publish {}. Topic: {}", description, topic, e);
             throw new MessagingException("RocketMQ error", e);
         }
     }
-}
\ No newline at end of file
+
+    private CompletableFuture<Void> sendWithinWindow(String topic, Object payload, String description) {
+        var ack = new CompletableFuture<Void>();
+
+        try {
+            inFlightWindow.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(
+                    new MessagingException("Interrupted while waiting for the in-flight window", e));
+        }
+
+        ack.whenComplete((ignored, ex) -> inFlightWindow.release());
+        sendAsync(topic, payload, description, ack, 0);
+        return ack;
+    }
+
+    private void sendAsync(String topic, Object payload, String description, CompletableFuture<Void> ack,
+                           int attempt) {
+        var callback = new SendCallback() {
+            @Override
+            public void onSuccess(SendResult result) {
+                if (result.getSendStatus() == SEND_OK) {
+                    log.info("[REAL ROCKETMQ] {} successfully published to topic: {}", description, topic);
+                    ack.complete(null);
+                } else {
+                    onException(new MessagingException(
+                            format("Broker did not acknowledge message. Status: %s", result.getSendStatus())));
+                }
+            }
+
+            @Override
+            public void onException(Throwable e) {
+                retryOrFail(topic, payload, description, ack, attempt, e);
+            }
+        };
+
+        try {
+            if (properties.rocketmq().format() == PayloadFormat.BINARY) {
+                rocketMQTemplate.asyncSend(topic, toBinaryMessage(payload), callback);
+            } else {
+                rocketMQTemplate.asyncSend(topic, payload, callback);
+            }
+        } catch (Exception e) {
+            retryOrFail(topic, payload, description, ack, attempt, e);
+        }
+    }
+
+    /**
+     * Resends from the retry scheduler after an exponential backoff, rather than from the failing callback, so a
+     * broker that rejects every send is not hammered in a tight loop on the client's callback thread.
+     */
+    private void retryOrFail(String topic, Object payload, String description, CompletableFuture<Void> ack,
+                             int attempt, Throwable e) {
+        if (attempt < properties.rocketmq().maxRetries()) {
+            var backoff = retryBackoff(attempt);
+            log.warn("[REAL ROCKETMQ] Retrying {} in {} ms after failed send (attempt {})",
+                    description, backoff, attempt + 1, e);
+
+            try {
+                retryScheduler.schedule(() -> sendAsync(topic, payload, description, ack, attempt + 1),
+                        backoff, TimeUnit.MILLISECONDS);
+                return;
+            } catch (RejectedExecutionException rejected) {
+                log.error("[REAL ROCKETMQ] Cannot retry {} while shutting down", description);
+            }
+        }
+
+        log.error("[REAL ROCKETMQ] Failed to publish {}. Topic: {}", description, topic, e);
+        ack.completeExceptionally(e instanceof MessagingException messagingException
+                ? messagingException
+                : new MessagingException("RocketMQ error", e));
+    }
+
+    private long retryBackoff(int attempt) {
+        var config = properties.rocketmq();
+        return Math.min(config.retryBackoff() * (1L << Math.min(attempt, 20)), config.maxRetryBackoff());
+    }
+
+    private Message<byte[]> toBinaryMessage(Object payload) {
+        var bytes = switch (payload) {
+            case BetPayload bet -> codec.encode(bet);
+            case EventSettlementPayload envelope -> envelopeCodec.encode(envelope);
+            default -> throw new IllegalArgumentException("No binary codec for " + payload.getClass().getName());
+        };
+
+        return MessageBuilder.withPayload(bytes)
+                .setHeader(MessageHeaders.CONTENT_TYPE, MimeTypeUtils.APPLICATION_OCTET_STREAM)
+                .build();
+    }
+
+    private static String describe(BetPayload payload) {
+        return "Bet " + payload.betId();
+    }
+
+    private static String describe(EventSettlementPayload envelope) {
+        return "Settlement of event %s (part %d/%d, %d bets)".formatted(
+                envelope.eventId(), envelope.part(), envelope.parts(), envelope.bets().size());
+    }
+}
@@ -0,0 +1,39 @@
+package com.mario.hexagonalbettingengine.infrastructure.betting;
+
+import com.mario.hexagonalbettingengine.infrastructure.config.SettlementProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded LRU set of recently settled event ids. Only committed settlements are added, so a hit is always a
+ * duplicate; a miss falls through to the {@code settled_events} table.
+ */
+@Component
+public class SettledEventCache {
+
+    private final Map<String, Boolean> eventIds;
+
+    public SettledEventCache(SettlementProperties properties) {
+        var capacity = properties.settledEventCacheSize();
+        this.eventIds = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    public synchronized boolean contains(String eventId) {
+        return eventIds.get(eventId) != null;
+    }
+
+    public synchronized void add(String eventId) {
+        eventIds.put(eventId, Boolean.TRUE);
+    }
+
+    public synchronized void clear() {
+        eventIds.clear();
+    }
+}
@@ -0,0 +1,85 @@
+package com.mario.hexagonalbettingengine.infrastructure.betting;
+
+import com.mario.hexagonalbettingengine.domain.betting.SettledEventRegistry;
+import com.mario.hexagonalbettingengine.domain.eventoutcome.EventOutcome;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SettledEventRegistryAdapter implements SettledEventRegistry {
+
+    private static final String INSERT_SETTLED_EVENT = """
+            INSERT INTO settled_events (event_id, event_winner_id, settled_at)
+            VALUES (?, ?, ?)
+            ON CONFLICT DO NOTHING
+            """;
+
+    private static final String SELECT_SETTLED_EVENT = "SELECT COUNT(*) FROM settled_events WHERE event_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SettledEventCache cache;
+
+    @Override
+    public boolean isKnownSettled(String eventId) {
+        return cache.contains(eventId);
+    }
+
+    @Override
+    public boolean isSettled(String eventId) {
+        if (cache.contains(eventId)) {
+            return true;
+        }
+
+        var count = jdbcTemplate.queryForObject(SELECT_SETTLED_EVENT, Integer.class, eventId);
+        if (count == null || count == 0) {
+            return false;
+        }
+
+        cache.add(eventId);
+        return true;
+    }
+
+    /**
+     * The primary key makes a concurrent duplicate wait for the first settlement's transaction; once that commits,
+     * the duplicate's insert does nothing and reports no row, so only one delivery settles and publishes the event's
+     * bets. Unlike a duplicate key error, a skipped insert leaves the surrounding transaction usable on PostgreSQL.
+     */
+    @Override
+    public boolean register(EventOutcome eventOutcome) {
+        var eventId = eventOutcome.eventId();
+        var inserted = jdbcTemplate.update(INSERT_SETTLED_EVENT, eventId, eventOutcome.eventWinnerId(),
+                Timestamp.from(Instant.now()));
+
+        if (inserted == 0) {
+            log.debug("Event {} is already registered as settled", eventId);
+            cache.add(eventId);
+            return false;
+        }
+
+        addToCacheAfterCommit(eventId);
+        return true;
+    }
+
+    private void addToCacheAfterCommit(String eventId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.add(eventId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.add(eventId);
+            }
+        });
+    }
+}
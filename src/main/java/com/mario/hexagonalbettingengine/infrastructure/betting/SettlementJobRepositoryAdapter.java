@@ -0,0 +1,108 @@
+package com.mario.hexagonalbettingengine.infrastructure.betting;
+
+import com.mario.hexagonalbettingengine.domain.betting.SettlementJob;
+import com.mario.hexagonalbettingengine.domain.betting.SettlementJobConflictException;
+import com.mario.hexagonalbettingengine.domain.betting.SettlementJobRepository;
+import com.mario.hexagonalbettingengine.domain.betting.SettlementJobState;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.Optional;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SettlementJobRepositoryAdapter implements SettlementJobRepository {
+
+    private static final String SELECT_JOB = """
+            SELECT event_id, event_winner_id, state, total_bets, settled_bets, won_bets, lost_bets,
+                   last_bet_id, version, started_at, updated_at
+              FROM settlement_jobs
+             WHERE event_id = ?
+            """;
+
+    private static final String INSERT_JOB = """
+            INSERT INTO settlement_jobs (event_id, event_winner_id, state, total_bets, settled_bets, won_bets,
+                                         lost_bets, last_bet_id, version, started_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String UPDATE_JOB = """
+            UPDATE settlement_jobs
+               SET state = ?, settled_bets = ?, won_bets = ?, lost_bets = ?, last_bet_id = ?, version = ?,
+                   updated_at = ?
+             WHERE event_id = ?
+               AND version = ?
+            """;
+
+    private static final RowMapper<SettlementJob> ROW_MAPPER = (rs, rowNum) -> SettlementJob.builder()
+            .eventId(rs.getString("event_id"))
+            .eventWinnerId(rs.getString("event_winner_id"))
+            .state(SettlementJobState.valueOf(rs.getString("state")))
+            .totalBets(rs.getLong("total_bets"))
+            .settledBets(rs.getLong("settled_bets"))
+            .wonBets(rs.getLong("won_bets"))
+            .lostBets(rs.getLong("lost_bets"))
+            .lastBetId(rs.getString("last_bet_id"))
+            .version(rs.getInt("version"))
+            .startedAt(rs.getTimestamp("started_at").toInstant())
+            .updatedAt(rs.getTimestamp("updated_at").toInstant())
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Optional<SettlementJob> findByEventId(String eventId) {
+        return jdbcTemplate.query(SELECT_JOB, ROW_MAPPER, eventId).stream().findFirst();
+    }
+
+    @Override
+    public SettlementJob create(SettlementJob job) {
+        try {
+            jdbcTemplate.update(INSERT_JOB,
+                    job.eventId(),
+                    job.eventWinnerId(),
+                    job.state().name(),
+                    job.totalBets(),
+                    job.settledBets(),
+                    job.wonBets(),
+                    job.lostBets(),
+                    job.lastBetId(),
+                    job.version(),
+                    Timestamp.from(job.startedAt()),
+                    Timestamp.from(job.updatedAt()));
+            return job;
+        } catch (DuplicateKeyException e) {
+            log.debug("Settlement job for event {} was created concurrently", job.eventId());
+            return findByEventId(job.eventId()).orElseThrow(() -> e);
+        }
+    }
+
+    /**
+     * Optimistic check on {@code version}: a concurrent delivery that checkpointed the same job first makes
+     * this update miss, and the exception rolls back the chunk that was settled alongside it.
+     */
+    @Override
+    public void update(SettlementJob job) {
+        var updated = jdbcTemplate.update(UPDATE_JOB,
+                job.state().name(),
+                job.settledBets(),
+                job.wonBets(),
+                job.lostBets(),
+                job.lastBetId(),
+                job.version(),
+                Timestamp.from(job.updatedAt()),
+                job.eventId(),
+                job.version() - 1);
+
+        if (updated == 0) {
+            throw new SettlementJobConflictException(
+                    "Settlement job for event %s was checkpointed concurrently".formatted(job.eventId()));
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.mario.hexagonalbettingengine.infrastructure.betting;
+
+import com.mario.hexagonalbettingengine.domain.betting.SettlementShardStep;
+import com.mario.hexagonalbettingengine.infrastructure.betting.mapper.SettlementShardMapper;
+import com.mario.hexagonalbettingengine.infrastructure.betting.payload.SettlementShardPayload;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.settlement.sharding.enabled", havingValue = "true")
+public class SettlementShardListenerAdapter {
+
+    public static final String LISTENER_ID = "settlement-shards-kafka-consumer";
+
+    private final SettlementShardStep step;
+    private final SettlementShardMapper mapper;
+
+    @KafkaListener(
+            id = LISTENER_ID,
+            topics = "${app.messaging.kafka.settlement-shards.topic}",
+            groupId = "${spring.kafka.consumer.group-id}",
+            containerFactory = "settlementShardKafkaContainerFactory"
+    )
+    public void onSettlementShard(@Payload SettlementShardPayload payload) {
+        log.info("Received settlement shard {}/{} of event {}",
+                payload.shard() + 1, payload.shards(), payload.eventId());
+
+        step.settle(mapper.toDomain(payload));
+    }
+}
@@ -0,0 +1,74 @@
+package com.mario.hexagonalbettingengine.infrastructure.betting;
+
+import com.mario.hexagonalbettingengine.domain.betting.SettlementShard;
+import com.mario.hexagonalbettingengine.domain.betting.SettlementShardPublisher;
+import com.mario.hexagonalbettingengine.infrastructure.betting.mapper.SettlementShardMapper;
+import com.mario.hexagonalbettingengine.infrastructure.config.MessagingProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.settlement.sharding.enabled", havingValue = "true")
+public class SettlementShardPublisherAdapter implements SettlementShardPublisher {
+
+    private final MessagingProperties properties;
+    private final SettlementShardMapper mapper;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+
+    /**
+     * Sending after commit keeps a consumer from receiving a shard whose row it cannot see yet. A failed send is
+     * thrown to the outcome's listener, whose retry finds the stored shards and publishes them again.
+     */
+    @Override
+    public void publish(List<SettlementShard> shards) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            send(shards);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                send(shards);
+            }
+        });
+    }
+
+    /**
+     * Keys stay {@code eventId#shard}, but the partition is picked explicitly: consecutive shards go to
+     * consecutive partitions, where hashing the keys could put two shards of the event on the same consumer.
+     */
+    private void send(List<SettlementShard> shards) {
+        var topic = properties.kafka().settlementShards().topic();
+        var partitions = kafkaTemplate.partitionsFor(topic).size();
+
+        var acks = shards.stream()
+                .map(shard -> kafkaTemplate.send(topic,
+                        Math.floorMod(shard.eventId().hashCode() + shard.shard(), partitions),
+                        shard.key(),
+                        mapper.toPayload(shard)))
+                .toArray(CompletableFuture[]::new);
+
+        try {
+            CompletableFuture.allOf(acks).join();
+        } catch (CompletionException e) {
+            var eventId = shards.getFirst().eventId();
+            log.error("Could not publish settlement shards of event {}", eventId, e.getCause());
+            throw new KafkaException("Could not publish settlement shards of event " + eventId, e.getCause());
+        }
+
+        log.info("Published {} settlement shards of event {} to {}", shards.size(), shards.getFirst().eventId(), topic);
+    }
+}
@@ -0,0 +1,150 @@
+package com.mario.hexagonalbettingengine.infrastructure.betting;
+
+import com.mario.hexagonalbettingengine.domain.betting.SettlementFanOut;
+import com.mario.hexagonalbettingengine.domain.betting.SettlementJobState;
+import com.mario.hexagonalbettingengine.domain.betting.SettlementShard;
+import com.mario.hexagonalbettingengine.domain.betting.SettlementShardRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SettlementShardRepositoryAdapter implements SettlementShardRepository {
+
+    private static final String INSERT_FAN_OUT = """
+            INSERT INTO settlement_fan_outs (event_id, event_winner_id, shards, remaining_shards, settled_bets,
+                                             started_at)
+            VALUES (?, ?, ?, ?, 0, ?)
+            """;
+
+    private static final String INSERT_SHARD = """
+            INSERT INTO settlement_shards (event_id, shard, after_bet_id, last_bet_id, state, settled_bets)
+            VALUES (?, ?, ?, ?, ?, 0)
+            """;
+
+    private static final String SELECT_SHARDS_IN_STATE = """
+            SELECT s.event_id, f.event_winner_id, s.shard, f.shards, s.after_bet_id, s.last_bet_id
+              FROM settlement_shards s
+              JOIN settlement_fan_outs f ON f.event_id = s.event_id
+             WHERE s.event_id = ?
+               AND s.state = ?
+             ORDER BY s.shard
+            """;
+
+    private static final String LOCK_SHARD = """
+            SELECT state
+              FROM settlement_shards
+             WHERE event_id = ?
+               AND shard = ?
+               FOR UPDATE
+            """;
+
+    private static final String COMPLETE_SHARD = """
+            UPDATE settlement_shards
+               SET state = ?, settled_bets = ?, completed_at = ?
+             WHERE event_id = ?
+               AND shard = ?
+            """;
+
+    private static final String COUNT_SHARD = """
+            UPDATE settlement_fan_outs
+               SET remaining_shards = remaining_shards - 1,
+                   settled_bets = settled_bets + ?,
+                   completed_at = CASE WHEN remaining_shards = 1 THEN ? ELSE completed_at END
+             WHERE event_id = ?
+            """;
+
+    private static final String SELECT_FAN_OUT = """
+            SELECT event_id, event_winner_id, shards, remaining_shards, settled_bets, started_at
+              FROM settlement_fan_outs
+             WHERE event_id = ?
+            """;
+
+    private static final RowMapper<SettlementShard> SHARD_ROW_MAPPER = (rs, rowNum) -> SettlementShard.builder()
+            .eventId(rs.getString("event_id"))
+            .eventWinnerId(rs.getString("event_winner_id"))
+            .shard(rs.getInt("shard"))
+            .shards(rs.getInt("shards"))
+            .afterBetId(rs.getString("after_bet_id"))
+            .lastBetId(rs.getString("last_bet_id"))
+            .build();
+
+    private static final RowMapper<SettlementFanOut> FAN_OUT_ROW_MAPPER = (rs, rowNum) -> SettlementFanOut.builder()
+            .eventId(rs.getString("event_id"))
+            .eventWinnerId(rs.getString("event_winner_id"))
+            .shards(rs.getInt("shards"))
+            .remainingShards(rs.getInt("remaining_shards"))
+            .settledBets(rs.getLong("settled_bets"))
+            .startedAt(rs.getTimestamp("started_at").toInstant())
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * The fan-out's primary key makes a concurrent duplicate wait for the first fan-out's transaction and then
+     * fail, so only one delivery stores and publishes the event's shards.
+     */
+    @Override
+    public boolean create(List<SettlementShard> shards) {
+        var first = shards.getFirst();
+
+        try {
+            jdbcTemplate.update(INSERT_FAN_OUT,
+                    first.eventId(),
+                    first.eventWinnerId(),
+                    shards.size(),
+                    shards.size(),
+                    Timestamp.from(Instant.now()));
+        } catch (DuplicateKeyException e) {
+            log.debug("Event {} was already fanned out", first.eventId());
+            return false;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SHARD, shards, shards.size(), (ps, shard) -> {
+            ps.setString(1, shard.eventId());
+            ps.setInt(2, shard.shard());
+            ps.setString(3, shard.afterBetId());
+            ps.setString(4, shard.lastBetId());
+            ps.setString(5, SettlementJobState.IN_PROGRESS.name());
+        });
+        return true;
+    }
+
+    @Override
+    public List<SettlementShard> findPendingByEventId(String eventId) {
+        return jdbcTemplate.query(SELECT_SHARDS_IN_STATE, SHARD_ROW_MAPPER, eventId,
+                SettlementJobState.IN_PROGRESS.name());
+    }
+
+    /**
+     * The row lock makes a redelivered shard wait for a delivery that is still settling it, and then see it completed.
+     */
+    @Override
+    public boolean start(SettlementShard shard) {
+        var states = jdbcTemplate.queryForList(LOCK_SHARD, String.class, shard.eventId(), shard.shard());
+        return !states.isEmpty() && SettlementJobState.IN_PROGRESS.name().equals(states.getFirst());
+    }
+
+    /**
+     * Decrementing {@code remaining_shards} locks the fan-out row until commit, so concurrently completing shards
+     * each read the count left by the one before.
+     */
+    @Override
+    public SettlementFanOut complete(SettlementShard shard, long settledBets) {
+        var now = Timestamp.from(Instant.now());
+
+        jdbcTemplate.update(COMPLETE_SHARD, SettlementJobState.COMPLETED.name(), settledBets, now,
+                shard.eventId(), shard.shard());
+        jdbcTemplate.update(COUNT_SHARD, settledBets, now, shard.eventId());
+        return jdbcTemplate.queryForObject(SELECT_FAN_OUT, FAN_OUT_ROW_MAPPER, shard.eventId());
+    }
+}
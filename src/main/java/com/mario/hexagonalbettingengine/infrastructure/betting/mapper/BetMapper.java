@@ -2,17 +2,39 @@ package com.mario.hexagonalbettingengine.infrastructure.betting.mapper;
 
 import com.mario.hexagonalbettingengine.domain.betting.Bet;
 import com.mario.hexagonalbettingengine.infrastructure.betting.BetEntity;
+import com.mario.hexagonalbettingengine.infrastructure.betting.BetSettlementOutboxEntity;
 import com.mario.hexagonalbettingengine.infrastructure.betting.payload.BetPayload;
+import com.mario.hexagonalbettingengine.infrastructure.betting.payload.EventSettlementPayload;
+import com.mario.hexagonalbettingengine.infrastructure.betting.payload.EventSettlementPayload.SettledBet;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
 
 import java.time.Instant;
+import java.util.List;
 
 @Mapper(componentModel = "spring", imports = Instant.class)
 public interface BetMapper {
     Bet toDomain(BetEntity entity);
     BetEntity toEntity(Bet domain);
+    void updateEntity(Bet domain, @MappingTarget BetEntity entity);
 
     @Mapping(target = "settledAt", expression = "java(Instant.now())")
     BetPayload toPayload(Bet bet);
+
+    SettledBet toSettledBet(Bet bet);
+
+    default EventSettlementPayload toEnvelope(String eventId, Instant settledAt, int part, int parts,
+                                              List<Bet> bets) {
+        var settledBets = bets.stream()
+                .map(this::toSettledBet)
+                .toList();
+        return new EventSettlementPayload(eventId, settledAt, part, parts, settledBets);
+    }
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "createdAt", expression = "java(Instant.now())")
+    BetSettlementOutboxEntity toOutboxEntity(Bet bet);
+
+    Bet toDomain(BetSettlementOutboxEntity entry);
 }
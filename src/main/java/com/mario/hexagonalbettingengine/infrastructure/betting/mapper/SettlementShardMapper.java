@@ -0,0 +1,11 @@
+package com.mario.hexagonalbettingengine.infrastructure.betting.mapper;
+
+import com.mario.hexagonalbettingengine.domain.betting.SettlementShard;
+import com.mario.hexagonalbettingengine.infrastructure.betting.payload.SettlementShardPayload;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public interface SettlementShardMapper {
+    SettlementShardPayload toPayload(SettlementShard shard);
+    SettlementShard toDomain(SettlementShardPayload payload);
+}
@@ -0,0 +1,49 @@
+package com.mario.hexagonalbettingengine.infrastructure.betting.payload;
+
+import com.mario.hexagonalbettingengine.infrastructure.codec.BinaryCodec;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+
+@Component
+public class BetPayloadCodec extends BinaryCodec<BetPayload> {
+
+    private static final byte SCHEMA_V1 = 2;
+    private static final BetStatus[] STATUSES = BetStatus.values();
+
+    @Override
+    public byte schemaId() {
+        return SCHEMA_V1;
+    }
+
+    @Override
+    public Class<BetPayload> payloadType() {
+        return BetPayload.class;
+    }
+
+    @Override
+    protected void writeFields(BetPayload payload, ByteBuffer buffer) {
+        writeString(buffer, payload.betId());
+        writeString(buffer, payload.userId());
+        writeString(buffer, payload.eventId());
+        writeString(buffer, payload.eventMarketId());
+        writeString(buffer, payload.eventWinnerId());
+        writeDecimal(buffer, payload.betAmount());
+        writeEnum(buffer, payload.status());
+        writeInstant(buffer, payload.settledAt());
+    }
+
+    @Override
+    protected BetPayload readFields(ByteBuffer buffer) {
+        return new BetPayload(
+                readString(buffer),
+                readString(buffer),
+                readString(buffer),
+                readString(buffer),
+                readString(buffer),
+                readDecimal(buffer),
+                readEnum(buffer, STATUSES),
+                readInstant(buffer)
+        );
+    }
+}
@@ -0,0 +1,106 @@
+package com.mario.hexagonalbettingengine.infrastructure.betting.payload;
+
+import lombok.Builder;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * All settled bets of one event in a single message. Large events are split into {@code parts} envelopes
+ * that share the event id and settlement timestamp.
+ */
+@Builder
+public record EventSettlementPayload(
+        String eventId,
+        Instant settledAt,
+        int part,
+        int parts,
+        List<SettledBet> bets
+) {
+
+    /**
+     * Room for the envelope fields around the bet list.
+     */
+    private static final int ENVELOPE_OVERHEAD_BYTES = 256;
+
+    /**
+     * Field names, quotes and separators of one bet in JSON.
+     */
+    private static final int BET_OVERHEAD_BYTES = 64;
+
+    public record SettledBet(
+            String betId,
+            String userId,
+            BetStatus status,
+            BigDecimal betAmount
+    ) {
+    }
+
+    /**
+     * Splits the bets into envelopes whose JSON encoding stays below {@code maxMessageBytes}.
+     * The binary encoding is always smaller, so the same split holds for both formats.
+     */
+    public static List<EventSettlementPayload> chunked(String eventId, Instant settledAt, List<SettledBet> bets,
+                                                       int maxMessageBytes) {
+        var splitter = new Splitter(eventId, maxMessageBytes);
+        var chunks = new ArrayList<List<SettledBet>>();
+
+        for (var bet : bets) {
+            if (splitter.startsNewPart(bet) || chunks.isEmpty()) {
+                chunks.add(new ArrayList<>());
+            }
+
+            chunks.getLast().add(bet);
+        }
+
+        return IntStream.range(0, chunks.size())
+                .mapToObj(i -> new EventSettlementPayload(eventId, settledAt, i + 1, chunks.size(),
+                        List.copyOf(chunks.get(i))))
+                .toList();
+    }
+
+    /**
+     * Decides the split of {@link #chunked} one bet at a time, so the parts of an event can be planned without
+     * holding all of its bets.
+     */
+    public static final class Splitter {
+
+        private final int budget;
+        private int partBytes;
+        private boolean empty = true;
+
+        public Splitter(String eventId, int maxMessageBytes) {
+            this.budget = maxMessageBytes - ENVELOPE_OVERHEAD_BYTES - utf8Length(eventId);
+        }
+
+        /**
+         * Adds the next bet and returns {@code true} when it does not fit into the current part and starts the
+         * next one. The first bet never starts a new part.
+         */
+        public boolean startsNewPart(SettledBet bet) {
+            var betBytes = estimatedJsonBytes(bet);
+            var startsNewPart = !empty && partBytes + betBytes > budget;
+
+            partBytes = startsNewPart ? betBytes : partBytes + betBytes;
+            empty = false;
+            return startsNewPart;
+        }
+    }
+
+    private static int estimatedJsonBytes(SettledBet bet) {
+        return BET_OVERHEAD_BYTES
+                + utf8Length(bet.betId())
+                + utf8Length(bet.userId())
+                + (bet.status() == null ? 0 : bet.status().name().length())
+                + (bet.betAmount() == null ? 0 : bet.betAmount().toPlainString().length());
+    }
+
+    private static int utf8Length(String value) {
+        return value == null ? 0 : value.getBytes(UTF_8).length;
+    }
+}
@@ -0,0 +1,62 @@
+package com.mario.hexagonalbettingengine.infrastructure.betting.payload;
+
+import com.mario.hexagonalbettingengine.infrastructure.betting.payload.EventSettlementPayload.SettledBet;
+import com.mario.hexagonalbettingengine.infrastructure.codec.BinaryCodec;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+
+@Component
+public class EventSettlementPayloadCodec extends BinaryCodec<EventSettlementPayload> {
+
+    private static final byte SCHEMA_V1 = 3;
+    private static final BetStatus[] STATUSES = BetStatus.values();
+
+    @Override
+    public byte schemaId() {
+        return SCHEMA_V1;
+    }
+
+    @Override
+    public Class<EventSettlementPayload> payloadType() {
+        return EventSettlementPayload.class;
+    }
+
+    @Override
+    protected void writeFields(EventSettlementPayload payload, ByteBuffer buffer) {
+        writeString(buffer, payload.eventId());
+        writeInstant(buffer, payload.settledAt());
+        writeSize(buffer, payload.part());
+        writeSize(buffer, payload.parts());
+        writeSize(buffer, payload.bets().size());
+
+        for (var bet : payload.bets()) {
+            writeString(buffer, bet.betId());
+            writeString(buffer, bet.userId());
+            writeEnum(buffer, bet.status());
+            writeDecimal(buffer, bet.betAmount());
+        }
+    }
+
+    @Override
+    protected EventSettlementPayload readFields(ByteBuffer buffer) {
+        var eventId = readString(buffer);
+        var settledAt = readInstant(buffer);
+        var part = readSize(buffer);
+        var parts = readSize(buffer);
+        var count = readSize(buffer);
+        var bets = new ArrayList<SettledBet>(count);
+
+        for (var i = 0; i < count; i++) {
+            bets.add(new SettledBet(
+                    readString(buffer),
+                    readString(buffer),
+                    readEnum(buffer, STATUSES),
+                    readDecimal(buffer)
+            ));
+        }
+
+        return new EventSettlementPayload(eventId, settledAt, part, parts, bets);
+    }
+}
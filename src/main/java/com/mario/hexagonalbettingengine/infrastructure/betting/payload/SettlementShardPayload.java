@@ -0,0 +1,15 @@
+package com.mario.hexagonalbettingengine.infrastructure.betting.payload;
+
+import lombok.Builder;
+
+@Builder
+public record SettlementShardPayload(
+        String eventId,
+        String eventWinnerId,
+        int shard,
+        int shards,
+        String afterBetId,
+        String lastBetId
+) {
+
+}
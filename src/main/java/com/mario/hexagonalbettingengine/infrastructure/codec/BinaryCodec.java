@@ -0,0 +1,205 @@
+package com.mario.hexagonalbettingengine.infrastructure.codec;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.Arrays;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.time.temporal.ChronoUnit.MICROS;
+
+/**
+ * Compact binary encoding of a single payload type.
+ * <p>
+ * Every record starts with {@link #MAGIC} and a schema id, followed by the fields in declaration order.
+ * Strings are length-prefixed UTF-8, integers are zig-zag varints, amounts are a scale plus an unscaled long
+ * and timestamps are epoch microseconds. A new field layout gets a new schema id, so old records stay readable.
+ */
+public abstract class BinaryCodec<T> {
+
+    /**
+     * Not a valid first byte of UTF-8 encoded JSON, so binary and JSON records can share a topic.
+     */
+    public static final byte MAGIC = (byte) 0xB1;
+
+    private static final int HEADER_SIZE = 2;
+    private static final int INITIAL_BUFFER_SIZE = 256;
+
+    private final ThreadLocal<ByteBuffer> buffers =
+            ThreadLocal.withInitial(() -> ByteBuffer.allocate(INITIAL_BUFFER_SIZE));
+
+    public abstract byte schemaId();
+
+    public abstract Class<T> payloadType();
+
+    protected abstract void writeFields(T payload, ByteBuffer buffer);
+
+    protected abstract T readFields(ByteBuffer buffer);
+
+    public void encode(T payload, ByteBuffer buffer) {
+        buffer.put(MAGIC).put(schemaId());
+        writeFields(payload, buffer);
+    }
+
+    /**
+     * Encodes into a reusable per-thread buffer and copies out only the written bytes.
+     */
+    public byte[] encode(T payload) {
+        var buffer = buffers.get();
+
+        while (true) {
+            try {
+                buffer.clear();
+                encode(payload, buffer);
+                return Arrays.copyOf(buffer.array(), buffer.position());
+            } catch (BufferOverflowException e) {
+                buffer = ByteBuffer.allocate(buffer.capacity() * 2);
+                buffers.set(buffer);
+            }
+        }
+    }
+
+    public T decode(ByteBuffer buffer) {
+        var magic = buffer.get();
+        var schemaId = buffer.get();
+
+        if (magic != MAGIC || schemaId != schemaId()) {
+            throw new IllegalArgumentException("Expected %s schema %d but got magic %d, schema %d"
+                    .formatted(payloadType().getSimpleName(), schemaId(), magic, schemaId));
+        }
+
+        return readFields(buffer);
+    }
+
+    public T decode(byte[] bytes) {
+        return decode(ByteBuffer.wrap(bytes));
+    }
+
+    public static boolean isBinary(ByteBuffer buffer) {
+        return buffer.remaining() >= HEADER_SIZE && buffer.get(buffer.position()) == MAGIC;
+    }
+
+    public static byte schemaIdOf(ByteBuffer buffer) {
+        return buffer.get(buffer.position() + 1);
+    }
+
+    protected static void writeString(ByteBuffer buffer, String value) {
+        if (value == null) {
+            writeVarLong(buffer, 0);
+            return;
+        }
+
+        var bytes = value.getBytes(UTF_8);
+        writeVarLong(buffer, bytes.length + 1L);
+        buffer.put(bytes);
+    }
+
+    protected static String readString(ByteBuffer buffer) {
+        var length = (int) readVarLong(buffer) - 1;
+
+        if (length < 0) {
+            return null;
+        }
+
+        if (!buffer.hasArray()) {
+            var bytes = new byte[length];
+            buffer.get(bytes);
+            return new String(bytes, UTF_8);
+        }
+
+        var value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, UTF_8);
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+
+    protected static void writeEnum(ByteBuffer buffer, Enum<?> value) {
+        buffer.put((byte) (value == null ? 0 : value.ordinal() + 1));
+    }
+
+    protected static <E extends Enum<E>> E readEnum(ByteBuffer buffer, E[] values) {
+        var ordinal = buffer.get() - 1;
+        return ordinal < 0 ? null : values[ordinal];
+    }
+
+    protected static void writeSize(ByteBuffer buffer, int value) {
+        writeVarLong(buffer, value);
+    }
+
+    protected static int readSize(ByteBuffer buffer) {
+        return (int) readVarLong(buffer);
+    }
+
+    /**
+     * Fails for amounts whose unscaled value does not fit into a long instead of silently truncating them.
+     */
+    protected static void writeDecimal(ByteBuffer buffer, BigDecimal value) {
+        if (value == null) {
+            buffer.put((byte) 0);
+            return;
+        }
+
+        buffer.put((byte) 1);
+        writeZigZag(buffer, value.scale());
+        writeZigZag(buffer, value.unscaledValue().longValueExact());
+    }
+
+    protected static BigDecimal readDecimal(ByteBuffer buffer) {
+        if (buffer.get() == 0) {
+            return null;
+        }
+
+        var scale = (int) readZigZag(buffer);
+        return new BigDecimal(BigInteger.valueOf(readZigZag(buffer)), scale);
+    }
+
+    /**
+     * Timestamps are truncated to microseconds.
+     */
+    protected static void writeInstant(ByteBuffer buffer, Instant value) {
+        if (value == null) {
+            buffer.put((byte) 0);
+            return;
+        }
+
+        buffer.put((byte) 1);
+        writeZigZag(buffer, MICROS.between(Instant.EPOCH, value));
+    }
+
+    protected static Instant readInstant(ByteBuffer buffer) {
+        return buffer.get() == 0 ? null : Instant.EPOCH.plus(readZigZag(buffer), MICROS);
+    }
+
+    private static void writeZigZag(ByteBuffer buffer, long value) {
+        writeVarLong(buffer, (value << 1) ^ (value >> 63));
+    }
+
+    private static long readZigZag(ByteBuffer buffer) {
+        var value = readVarLong(buffer);
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeVarLong(ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    private static long readVarLong(ByteBuffer buffer) {
+        long value = 0;
+
+        for (var shift = 0; shift < 64; shift += 7) {
+            var b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+
+        throw new IllegalArgumentException("Malformed varint");
+    }
+}
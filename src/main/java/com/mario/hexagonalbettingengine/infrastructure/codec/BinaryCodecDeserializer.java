@@ -0,0 +1,63 @@
+package com.mario.hexagonalbettingengine.infrastructure.codec;
+
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.toMap;
+
+/**
+ * Reads both formats from the same topic: records starting with {@link BinaryCodec#MAGIC} are decoded by the codec
+ * registered for their schema id, everything else by the JSON deserializer. This keeps consumers working while
+ * producers switch formats.
+ */
+public class BinaryCodecDeserializer implements Deserializer<Object> {
+
+    private final Map<Byte, BinaryCodec<?>> codecsBySchemaId;
+    private final Deserializer<Object> fallback;
+
+    public BinaryCodecDeserializer(List<BinaryCodec<?>> codecs, Deserializer<Object> fallback) {
+        this.codecsBySchemaId = codecs.stream().collect(toMap(BinaryCodec::schemaId, Function.identity()));
+        this.fallback = fallback;
+    }
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        fallback.configure(configs, isKey);
+    }
+
+    @Override
+    public Object deserialize(String topic, byte[] data) {
+        return deserialize(topic, null, data);
+    }
+
+    @Override
+    public Object deserialize(String topic, Headers headers, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+
+        var buffer = ByteBuffer.wrap(data);
+
+        if (!BinaryCodec.isBinary(buffer)) {
+            return fallback.deserialize(topic, headers, data);
+        }
+
+        var codec = codecsBySchemaId.get(BinaryCodec.schemaIdOf(buffer));
+
+        if (codec == null) {
+            throw new IllegalArgumentException("Unknown payload schema id " + BinaryCodec.schemaIdOf(buffer));
+        }
+
+        return codec.decode(buffer);
+    }
+
+    @Override
+    public void close() {
+        fallback.close();
+    }
+}
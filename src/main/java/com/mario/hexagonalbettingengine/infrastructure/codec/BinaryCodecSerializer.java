@@ -0,0 +1,58 @@
+package com.mario.hexagonalbettingengine.infrastructure.codec;
+
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.toMap;
+
+/**
+ * Writes payloads with a {@link BinaryCodec} on topics configured for {@link PayloadFormat#BINARY}
+ * and hands everything else to the JSON serializer.
+ */
+public class BinaryCodecSerializer implements Serializer<Object> {
+
+    private final Map<String, PayloadFormat> formatsByTopic;
+    private final Map<Class<?>, BinaryCodec<?>> codecsByType;
+    private final Serializer<Object> fallback;
+
+    public BinaryCodecSerializer(Map<String, PayloadFormat> formatsByTopic,
+                                 List<BinaryCodec<?>> codecs,
+                                 Serializer<Object> fallback) {
+        this.formatsByTopic = formatsByTopic;
+        this.codecsByType = codecs.stream().collect(toMap(BinaryCodec::payloadType, Function.identity()));
+        this.fallback = fallback;
+    }
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        fallback.configure(configs, isKey);
+    }
+
+    @Override
+    public byte[] serialize(String topic, Object data) {
+        return serialize(topic, null, data);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public byte[] serialize(String topic, Headers headers, Object data) {
+        if (data != null && formatsByTopic.get(topic) == PayloadFormat.BINARY) {
+            var codec = (BinaryCodec<Object>) codecsByType.get(data.getClass());
+
+            if (codec != null) {
+                return codec.encode(data);
+            }
+        }
+
+        return fallback.serialize(topic, headers, data);
+    }
+
+    @Override
+    public void close() {
+        fallback.close();
+    }
+}
@@ -0,0 +1,5 @@
+package com.mario.hexagonalbettingengine.infrastructure.codec;
+
+public enum PayloadFormat {
+    JSON, BINARY
+}
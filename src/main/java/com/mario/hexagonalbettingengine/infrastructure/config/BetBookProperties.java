@@ -0,0 +1,26 @@
+package com.mario.hexagonalbettingengine.infrastructure.config;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties(prefix = "app.settlement.bet-book")
+public record BetBookProperties(
+        boolean enabled,
+        @NotBlank
+        String journalDir,
+        @Positive
+        long journalSegmentBytes,
+        boolean fsync,
+        @Positive
+        int flushBatchSize,
+        @Positive
+        long flushInterval,
+        @Positive
+        int maxLag,
+        @Positive
+        long maxLagWait
+) {
+}
@@ -0,0 +1,29 @@
+package com.mario.hexagonalbettingengine.infrastructure.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+@RequiredArgsConstructor
+public class DeadLetterReplayConfig {
+
+    private final Environment environment;
+
+    /**
+     * Replays run one at a time, so a single thread is enough.
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService deadLetterReplayExecutor() {
+        var threadFactory = Threading.VIRTUAL.isActive(environment)
+                ? Thread.ofVirtual().name("dlq-replay-", 0).factory()
+                : Thread.ofPlatform().name("dlq-replay-", 0).factory();
+
+        return Executors.newSingleThreadExecutor(threadFactory);
+    }
+}
@@ -0,0 +1,38 @@
+package com.mario.hexagonalbettingengine.infrastructure.config;
+
+import com.mario.hexagonalbettingengine.domain.eventoutcome.DeadLetterReplayRequest.Target;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.util.Set;
+
+@Validated
+@ConfigurationProperties(prefix = "app.messaging.dlq-replay")
+public record DeadLetterReplayProperties(
+        @Positive
+        double ratePerSecond,
+        @Positive
+        int burst,
+        @Positive
+        long pollTimeout,
+        @Positive
+        int retainedReplays,
+        @NotNull
+        ScheduleConfig schedule
+) {
+
+    /**
+     * Periodically replays new DLQ records failed by one of {@code exceptionTypes}, resuming where the previous
+     * scheduled replay stopped. Records already replayed {@code maxReplays} times stay on the DLQ.
+     */
+    public record ScheduleConfig(
+            boolean enabled,
+            @Positive long interval,
+            @NotNull Target target,
+            Set<String> exceptionTypes,
+            @Positive int maxReplays
+    ) {
+    }
+}
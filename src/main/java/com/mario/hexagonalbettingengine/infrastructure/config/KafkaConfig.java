@@ -1,21 +1,31 @@
 package com.mario.hexagonalbettingengine.infrastructure.config;
 
+import com.mario.hexagonalbettingengine.infrastructure.eventoutcome.EventOutcomeProcessingTimer;
+import com.mario.hexagonalbettingengine.infrastructure.eventoutcome.PendingEventRecordFilterStrategy;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.common.TopicPartition;
 import org.jspecify.annotations.NonNull;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.listener.CommonErrorHandler;
+import org.springframework.kafka.listener.ContainerProperties.AckMode;
 import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
 import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
 import org.springframework.kafka.listener.DefaultErrorHandler;
 import org.springframework.util.backoff.FixedBackOff;
 
 import java.util.Collection;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 @Slf4j
 @Configuration
@@ -25,47 +35,120 @@ public class KafkaConfig {
     private static final String DLQ_SUFFIX = "-dlq";
 
     private final MessagingProperties properties;
+    private final Environment environment;
 
     @Bean
-    public CommonErrorHandler errorHandler(KafkaTemplate<String, Object> template) {
-        var config = properties.kafka().eventOutcomes();
-
-        var recoverer = new DeadLetterPublishingRecoverer(template,
+    public DeadLetterPublishingRecoverer deadLetterPublishingRecoverer(KafkaTemplate<String, Object> template,
+                                                                       MeterRegistry meterRegistry) {
+        return new DeadLetterPublishingRecoverer(template,
                 (record, ex) -> {
                     var dlqTopic = record.topic() + DLQ_SUFFIX;
                     log.error("Message processing failed. Forwarding to DLQ: {}. Reason: {}",
                             dlqTopic, ex.getMessage());
+                    meterRegistry.counter("event.outcome.dlq.forwarded", "topic", dlqTopic).increment();
 
                     return new TopicPartition(dlqTopic, record.partition());
                 });
+    }
 
-        return new DefaultErrorHandler(recoverer,
+    @Bean
+    public CommonErrorHandler errorHandler(DeadLetterPublishingRecoverer recoverer, MeterRegistry meterRegistry) {
+        var config = properties.kafka().eventOutcomes();
+
+        var errorHandler = new DefaultErrorHandler(recoverer,
                 new FixedBackOff(config.retryInterval(), config.retryAttempts()));
+        errorHandler.setRetryListeners((record, ex, deliveryAttempt) ->
+                meterRegistry.counter("event.outcome.retries", "topic", record.topic()).increment());
+
+        return errorHandler;
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    @ConditionalOnProperty(name = "app.messaging.kafka.event-outcomes.parallel.enabled", havingValue = "true")
+    public ExecutorService eventOutcomeWorkers() {
+        var threadFactory = Threading.VIRTUAL.isActive(environment)
+                ? Thread.ofVirtual().name("event-outcome-worker-", 0).factory()
+                : Thread.ofPlatform().name("event-outcome-worker-", 0).factory();
+
+        return Executors.newFixedThreadPool(properties.kafka().eventOutcomes().parallel().maxConcurrency(),
+                threadFactory);
     }
 
     @Bean("eventOutcomeKafkaContainerFactory")
     public ConcurrentKafkaListenerContainerFactory<String, Object> eventOutcomeKafkaContainerFactory(
             ConsumerFactory<String, Object> consumerFactory,
-            CommonErrorHandler commonErrorHandler) {
+            CommonErrorHandler commonErrorHandler,
+            MeterRegistry meterRegistry,
+            PendingEventFilterProperties pendingEventFilter,
+            PendingEventRecordFilterStrategy pendingEventRecordFilter,
+            EventOutcomeProcessingTimer processingTimer) {
 
         var config = properties.kafka().eventOutcomes();
         var factory = new ConcurrentKafkaListenerContainerFactory<String, Object>();
         factory.setConsumerFactory(consumerFactory);
         factory.setCommonErrorHandler(commonErrorHandler);
         factory.setConcurrency(config.concurrency());
+        factory.setBatchListener(config.batchListener());
+
+        // In parallel mode offsets are acknowledged by the listener once every earlier record has been settled,
+        // so discarded records must not be acknowledged past records that are still in flight
+        var parallel = config.parallel().enabled();
+        if (parallel) {
+            factory.getContainerProperties().setAckMode(AckMode.MANUAL);
+        } else {
+            // The parallel listener returns as soon as a record is dispatched, so only direct listeners are timed
+            factory.setRecordInterceptor(processingTimer);
+        }
+
+        if (pendingEventFilter.enabled()) {
+            factory.setRecordFilterStrategy(pendingEventRecordFilter);
+            factory.setAckDiscarded(!parallel);
+        }
+
+        if (Threading.VIRTUAL.isActive(environment)) {
+            var listenerExecutor = new SimpleAsyncTaskExecutor("event-outcome-listener-");
+            listenerExecutor.setVirtualThreads(true);
+            factory.getContainerProperties().setListenerTaskExecutor(listenerExecutor);
+        }
 
         factory.getContainerProperties().setConsumerRebalanceListener(new ConsumerAwareRebalanceListener() {
             @Override
             public void onPartitionsAssigned(@NonNull Collection<TopicPartition> partitions) {
                 log.info("Kafka Rebalance: Assigned partitions: {}", partitions);
+                meterRegistry.counter("event.outcome.rebalance", "type", "assigned").increment();
             }
 
             @Override
             public void onPartitionsRevoked(@NonNull Collection<TopicPartition> partitions) {
                 log.info("Kafka Rebalance: Revoked partitions: {}", partitions);
+                meterRegistry.counter("event.outcome.rebalance", "type", "revoked").increment();
             }
         });
 
         return factory;
     }
+
+    /**
+     * Shard records are keyed {@code eventId#shard}, so they bypass the pending event filter, and are not timed
+     * as event outcomes.
+     */
+    @Bean("settlementShardKafkaContainerFactory")
+    @ConditionalOnProperty(name = "app.settlement.sharding.enabled", havingValue = "true")
+    public ConcurrentKafkaListenerContainerFactory<String, Object> settlementShardKafkaContainerFactory(
+            ConsumerFactory<String, Object> consumerFactory,
+            CommonErrorHandler commonErrorHandler) {
+
+        var factory = new ConcurrentKafkaListenerContainerFactory<String, Object>();
+        factory.setConsumerFactory(consumerFactory);
+        factory.setCommonErrorHandler(commonErrorHandler);
+        factory.setConcurrency(properties.kafka().settlementShards().concurrency());
+
+        if (Threading.VIRTUAL.isActive(environment)) {
+            var listenerExecutor = new SimpleAsyncTaskExecutor("settlement-shard-listener-");
+            listenerExecutor.setVirtualThreads(true);
+            factory.getContainerProperties().setListenerTaskExecutor(listenerExecutor);
+        }
+
+        return factory;
+    }
 }
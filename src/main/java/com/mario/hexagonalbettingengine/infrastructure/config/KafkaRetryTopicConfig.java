@@ -0,0 +1,70 @@
+package com.mario.hexagonalbettingengine.infrastructure.config;
+
+import com.mario.hexagonalbettingengine.domain.betting.SettlementJobConflictException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.errors.RetriableException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.kafka.annotation.EnableKafkaRetryTopic;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.retrytopic.RetryTopicConfiguration;
+import org.springframework.kafka.retrytopic.RetryTopicConfigurationBuilder;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.util.List;
+
+/**
+ * Replaces in-place retries with delayed retry topics ({@code <topic>-retry-0}, {@code -retry-1}, ...), so a
+ * failing event outcome waits on its own topic while the rest of its partition keeps being settled. Only
+ * transient database and broker errors are retried; anything else, including deserialization and validation
+ * errors, goes straight to {@code <topic>-dlq}.
+ */
+@Slf4j
+@Configuration
+@EnableKafkaRetryTopic
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.messaging.kafka.event-outcomes.retry-topics.enabled", havingValue = "true")
+public class KafkaRetryTopicConfig {
+
+    static final String RETRY_SUFFIX = "-retry";
+    static final String DLQ_SUFFIX = "-dlq";
+
+    static final List<Class<? extends Throwable>> TRANSIENT_EXCEPTIONS = List.of(
+            TransientDataAccessException.class,
+            RecoverableDataAccessException.class,
+            DataAccessResourceFailureException.class,
+            CannotCreateTransactionException.class,
+            SettlementJobConflictException.class,
+            RetriableException.class
+    );
+
+    private final MessagingProperties properties;
+
+    @Bean
+    public RetryTopicConfiguration eventOutcomeRetryTopics(KafkaTemplate<String, Object> template) {
+        var eventOutcomes = properties.kafka().eventOutcomes();
+        var config = eventOutcomes.retryTopics();
+
+        log.info("Event outcome retry topics: {} attempts, delay {}ms x{} up to {}ms{}",
+                config.attempts(), config.initialDelay(), config.multiplier(), config.maxDelay(),
+                config.jitter() ? " with jitter" : "");
+
+        return RetryTopicConfigurationBuilder.newInstance()
+                .includeTopic(eventOutcomes.topic())
+                .maxAttempts(config.attempts())
+                .exponentialBackoff(config.initialDelay(), config.multiplier(), config.maxDelay(), config.jitter())
+                .retryTopicSuffix(RETRY_SUFFIX)
+                .dltSuffix(DLQ_SUFFIX)
+                .suffixTopicsWithIndexValues()
+                .retryOn(TRANSIENT_EXCEPTIONS)
+                .traversingCauses()
+                .listenerFactory("eventOutcomeKafkaContainerFactory")
+                .autoCreateTopicsWith(eventOutcomes.partitions(), (short) eventOutcomes.replicas())
+                .create(template);
+    }
+}
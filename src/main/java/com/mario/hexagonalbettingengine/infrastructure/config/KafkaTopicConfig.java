@@ -2,6 +2,7 @@ package com.mario.hexagonalbettingengine.infrastructure.config;
 
 import lombok.RequiredArgsConstructor;
 import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.config.TopicBuilder;
@@ -10,6 +11,8 @@ import org.springframework.kafka.config.TopicBuilder;
 @RequiredArgsConstructor
 public class KafkaTopicConfig {
 
+    private static final String DLQ_SUFFIX = "-dlq";
+
     private final MessagingProperties properties;
 
     @Bean
@@ -21,7 +24,12 @@ public class KafkaTopicConfig {
                 .build();
     }
 
+    /**
+     * With retry topics enabled the DLQ is created along with the retry topics, partitioned like the main topic.
+     */
     @Bean
+    @ConditionalOnProperty(name = "app.messaging.kafka.event-outcomes.retry-topics.enabled", havingValue = "false",
+            matchIfMissing = true)
     public NewTopic eventOutcomesDlqTopic() {
         var config = properties.kafka().eventOutcomes();
         return TopicBuilder.name(config.dlqTopic())
@@ -29,4 +37,27 @@ public class KafkaTopicConfig {
                 .replicas(config.dlqReplicas())
                 .build();
     }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.settlement.sharding.enabled", havingValue = "true")
+    public NewTopic settlementShardsTopic() {
+        var config = properties.kafka().settlementShards();
+        return TopicBuilder.name(config.topic())
+                .partitions(config.partitions())
+                .replicas(config.replicas())
+                .build();
+    }
+
+    /**
+     * The dead letter recoverer keeps a failed shard on its partition, so the DLQ is partitioned like the shard topic.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.settlement.sharding.enabled", havingValue = "true")
+    public NewTopic settlementShardsDlqTopic() {
+        var config = properties.kafka().settlementShards();
+        return TopicBuilder.name(config.topic() + DLQ_SUFFIX)
+                .partitions(config.partitions())
+                .replicas(config.replicas())
+                .build();
+    }
 }
@@ -1,28 +1,83 @@
 package com.mario.hexagonalbettingengine.infrastructure.config;
 
+import com.mario.hexagonalbettingengine.domain.eventoutcome.EventOutcomePublisher.DeliveryMode;
+import com.mario.hexagonalbettingengine.infrastructure.codec.PayloadFormat;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.validation.annotation.Validated;
 
+import java.util.Map;
+
 @Validated
 @ConfigurationProperties(prefix = "app.messaging")
 public record MessagingProperties(
         @NotNull
         RocketMqConfig rocketmq,
         @NotNull
-        KafkaConfig kafka
+        KafkaConfig kafka,
+        @NotNull
+        OutboxConfig outbox,
+        @NotEmpty
+        Map<String, ProducerProfile> producerProfiles
 ) {
+
+    public ProducerProfile producerProfile(String name) {
+        var profile = producerProfiles.get(name);
+
+        if (profile == null) {
+            throw new IllegalStateException("Unknown producer profile '%s', expected one of %s"
+                    .formatted(name, producerProfiles.keySet()));
+        }
+
+        return profile;
+    }
+
     public record RocketMqConfig(
             boolean enabled,
             @NotBlank String topic,
-            @NotBlank String producerGroup
+            @NotBlank String producerGroup,
+            @NotNull PayloadFormat format,
+            @NotBlank String producerProfile,
+            @NotNull PublishMode publishMode,
+            @Positive int inFlightWindow,
+            @PositiveOrZero int maxRetries,
+            @Positive long retryBackoff,
+            @Positive long maxRetryBackoff,
+            @NotNull MessageMode messageMode,
+            @Positive int maxMessageBytes
     ) {
+        /**
+         * {@code SYNC} waits for each acknowledgement before sending the next bet; {@code ASYNC} pipelines up to
+         * {@code inFlightWindow} unacknowledged sends and retries failed ones up to {@code maxRetries} times, waiting
+         * {@code retryBackoff} ms before the first retry and twice as long before each further one, up to
+         * {@code maxRetryBackoff} ms.
+         */
+        public enum PublishMode {
+            SYNC,
+            ASYNC
+        }
+
+        /**
+         * {@code PER_BET} sends one message per settled bet; {@code ENVELOPE} sends the settled bets of an event
+         * together, split into messages of at most {@code maxMessageBytes}.
+         */
+        public enum MessageMode {
+            PER_BET,
+            ENVELOPE
+        }
     }
 
     public record KafkaConfig(
             @NotNull
-            EventOutcomesConfig eventOutcomes
+            EventOutcomesConfig eventOutcomes,
+            @NotNull
+            SettlementShardsConfig settlementShards
     ) {
         public record EventOutcomesConfig(
                 @NotBlank String topic,
@@ -33,8 +88,120 @@ public record MessagingProperties(
                 int dlqReplicas,
                 long retryInterval,
                 int retryAttempts,
-                int concurrency
+                int concurrency,
+                boolean batchListener,
+                @NotNull DeliveryMode deliveryMode,
+                @Positive int maxInFlight,
+                long minBufferAvailableBytes,
+                @NotNull PayloadFormat format,
+                @NotBlank String producerProfile,
+                @NotNull ParallelConfig parallel,
+                @NotNull RetryTopicsConfig retryTopics,
+                @NotNull AutoscalingConfig autoscaling
         ) {
+            public EventOutcomesConfig {
+                var parallelEnabled = parallel != null && parallel.enabled();
+                if (batchListener && parallelEnabled) {
+                    throw new IllegalArgumentException("batch-listener and parallel.enabled cannot both be set");
+                }
+                if (retryTopics != null && retryTopics.enabled() && (batchListener || parallelEnabled)) {
+                    throw new IllegalArgumentException(
+                            "retry-topics.enabled requires the per-record listener (batch-listener and parallel.enabled off)");
+                }
+                if (autoscaling != null && autoscaling.enabled() && (batchListener || parallelEnabled)) {
+                    throw new IllegalArgumentException(
+                            "autoscaling.enabled requires the per-record listener (batch-listener and parallel.enabled off)");
+                }
+            }
         }
+
+        /**
+         * Dispatches event outcomes to up to {@code maxConcurrency} workers instead of one listener thread per
+         * partition. Outcomes with the same key stay in order; at most {@code maxPendingRecords} are dispatched
+         * but not yet settled before the consumer thread waits.
+         */
+        public record ParallelConfig(
+                boolean enabled,
+                @Positive int maxConcurrency,
+                @Positive int maxPendingRecords
+        ) {
+        }
+
+        /**
+         * Non-blocking retries: a failed record is forwarded to the next of {@code attempts - 1} delayed retry
+         * topics instead of being retried in place. The delay starts at {@code initialDelay} and grows by
+         * {@code multiplier} up to {@code maxDelay}, randomized when {@code jitter} is set.
+         */
+        public record RetryTopicsConfig(
+                boolean enabled,
+                @Min(2) int attempts,
+                @Positive long initialDelay,
+                @DecimalMin("1.0") double multiplier,
+                @Positive long maxDelay,
+                boolean jitter
+        ) {
+        }
+
+        /**
+         * Scales the per-record listener between {@code minConcurrency} and {@code maxConcurrency} consumers,
+         * never above the partition count, so the sampled lag is worked off within {@code targetCatchUp} ms at
+         * the measured processing time. Scale-in needs {@code scaleInSamples} consecutive samples below the current
+         * count and goes one consumer at a time; no change follows another within {@code cooldown} ms.
+         * {@code max.poll.records} is set so a poll takes about {@code pollBudget} ms to process.
+         */
+        public record AutoscalingConfig(
+                boolean enabled,
+                @Positive int minConcurrency,
+                @Positive int maxConcurrency,
+                @Positive long sampleInterval,
+                @Positive long targetCatchUp,
+                @Positive int scaleInSamples,
+                @PositiveOrZero long cooldown,
+                @Positive int minPollRecords,
+                @Positive int maxPollRecords,
+                @Positive long pollBudget
+        ) {
+            public AutoscalingConfig {
+                if (minConcurrency > maxConcurrency) {
+                    throw new IllegalArgumentException("autoscaling.min-concurrency must not exceed max-concurrency");
+                }
+                if (minPollRecords > maxPollRecords) {
+                    throw new IllegalArgumentException("autoscaling.min-poll-records must not exceed max-poll-records");
+                }
+            }
+        }
+
+        /**
+         * Topic for the shards of sharded settlements ({@code app.settlement.sharding}), consumed by
+         * {@code concurrency} consumers. Shards spread over {@code partitions}, so it bounds how many shards of an
+         * event settle at the same time.
+         */
+        public record SettlementShardsConfig(
+                @NotBlank String topic,
+                @Positive int partitions,
+                @Positive int replicas,
+                @Positive int concurrency
+        ) {
+        }
+    }
+
+    public record OutboxConfig(
+            @Positive int batchSize,
+            @Positive long pollInterval,
+            @Positive int parallelism,
+            @Positive long claimLease
+    ) {
+    }
+
+    /**
+     * Producer tuning shared by name between Kafka and RocketMQ. Kafka uses compression, batch size and linger;
+     * RocketMQ compresses message bodies larger than {@code compressOverBytes}.
+     */
+    public record ProducerProfile(
+            @NotBlank String compression,
+            @Positive int batchSize,
+            @PositiveOrZero long linger,
+            @Positive int compressOverBytes
+    ) {
     }
 }
@@ -0,0 +1,31 @@
+package com.mario.hexagonalbettingengine.infrastructure.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+@EnableScheduling
+@RequiredArgsConstructor
+public class OutboxConfig {
+
+    private final MessagingProperties properties;
+    private final Environment environment;
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService outboxRelayExecutor() {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("outbox-relay-", 0).factory());
+        }
+
+        var config = properties.outbox();
+        return Executors.newFixedThreadPool(config.parallelism(),
+                Thread.ofPlatform().name("outbox-relay-", 0).factory());
+    }
+}
@@ -0,0 +1,46 @@
+package com.mario.hexagonalbettingengine.infrastructure.config;
+
+import com.mario.hexagonalbettingengine.infrastructure.codec.BinaryCodec;
+import com.mario.hexagonalbettingengine.infrastructure.codec.BinaryCodecDeserializer;
+import com.mario.hexagonalbettingengine.infrastructure.codec.BinaryCodecSerializer;
+import com.mario.hexagonalbettingengine.infrastructure.codec.PayloadFormat;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.kafka.autoconfigure.DefaultKafkaConsumerFactoryCustomizer;
+import org.springframework.boot.kafka.autoconfigure.DefaultKafkaProducerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.util.List;
+import java.util.Map;
+
+@Configuration
+@RequiredArgsConstructor
+public class PayloadCodecConfig {
+
+    private final MessagingProperties properties;
+    private final List<BinaryCodec<?>> codecs;
+
+    @Bean
+    @SuppressWarnings("unchecked")
+    public DefaultKafkaProducerFactoryCustomizer payloadCodecProducerCustomizer() {
+        var config = properties.kafka().eventOutcomes();
+        Map<String, PayloadFormat> formatsByTopic = Map.of(
+                config.topic(), config.format(),
+                config.dlqTopic(), config.format());
+
+        return factory -> ((DefaultKafkaProducerFactory<Object, Object>) factory).setValueSerializerSupplier(() ->
+                new BinaryCodecSerializer(formatsByTopic, codecs, new JsonSerializer<>()));
+    }
+
+    @Bean
+    @SuppressWarnings("unchecked")
+    public DefaultKafkaConsumerFactoryCustomizer payloadCodecConsumerCustomizer() {
+        return factory -> ((DefaultKafkaConsumerFactory<Object, Object>) factory).setValueDeserializerSupplier(() ->
+                new ErrorHandlingDeserializer<>(new BinaryCodecDeserializer(codecs, new JsonDeserializer<>())));
+    }
+}
@@ -0,0 +1,14 @@
+package com.mario.hexagonalbettingengine.infrastructure.config;
+
+import jakarta.validation.constraints.Positive;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties(prefix = "app.settlement.pending-event-filter")
+public record PendingEventFilterProperties(
+        boolean enabled,
+        @Positive
+        long refreshInterval
+) {
+}
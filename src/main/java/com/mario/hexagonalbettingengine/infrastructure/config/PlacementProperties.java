@@ -0,0 +1,15 @@
+package com.mario.hexagonalbettingengine.infrastructure.config;
+
+import jakarta.validation.constraints.Positive;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties(prefix = "app.placement")
+public record PlacementProperties(
+        @Positive
+        int queueCapacity,
+        @Positive
+        int maxBatchSize
+) {
+}
@@ -0,0 +1,33 @@
+package com.mario.hexagonalbettingengine.infrastructure.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.kafka.autoconfigure.DefaultKafkaProducerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Map;
+
+import static org.apache.kafka.clients.producer.ProducerConfig.BATCH_SIZE_CONFIG;
+import static org.apache.kafka.clients.producer.ProducerConfig.COMPRESSION_TYPE_CONFIG;
+import static org.apache.kafka.clients.producer.ProducerConfig.LINGER_MS_CONFIG;
+
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class ProducerProfileConfig {
+
+    private final MessagingProperties properties;
+
+    @Bean
+    public DefaultKafkaProducerFactoryCustomizer producerProfileCustomizer() {
+        var name = properties.kafka().eventOutcomes().producerProfile();
+        var profile = properties.producerProfile(name);
+        log.info("Kafka producer profile '{}': {}", name, profile);
+
+        return factory -> factory.updateConfigs(Map.<String, Object>of(
+                COMPRESSION_TYPE_CONFIG, profile.compression(),
+                BATCH_SIZE_CONFIG, profile.batchSize(),
+                LINGER_MS_CONFIG, profile.linger()));
+    }
+}
@@ -0,0 +1,14 @@
+package com.mario.hexagonalbettingengine.infrastructure.config;
+
+import com.mario.hexagonalbettingengine.domain.betting.SettlementSettings;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class SettlementConfig {
+
+    @Bean
+    public SettlementSettings settlementSettings(SettlementProperties properties) {
+        return properties.toSettings();
+    }
+}
@@ -0,0 +1,43 @@
+package com.mario.hexagonalbettingengine.infrastructure.config;
+
+import com.mario.hexagonalbettingengine.domain.betting.SettlementMode;
+import com.mario.hexagonalbettingengine.domain.betting.SettlementSettings;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties(prefix = "app.settlement")
+public record SettlementProperties(
+        @NotNull
+        SettlementMode mode,
+        @Positive
+        int chunkSize,
+        @Positive
+        int settledEventCacheSize,
+        @NotNull
+        ShardingConfig sharding
+) {
+    public SettlementProperties {
+        if (mode == SettlementMode.CHECKPOINTED && sharding != null && sharding.enabled()) {
+            throw new IllegalArgumentException("sharding.enabled is not supported in checkpointed mode");
+        }
+    }
+
+    public SettlementSettings toSettings() {
+        return new SettlementSettings(mode, chunkSize, sharding.threshold(), sharding.shards());
+    }
+
+    /**
+     * Splits the settlement of an event with more than {@code threshold} pending bets into {@code shards}
+     * {@code bet_id} ranges that are settled by different consumers.
+     */
+    public record ShardingConfig(
+            boolean enabled,
+            @Positive long threshold,
+            @Min(2) int shards
+    ) {
+    }
+}
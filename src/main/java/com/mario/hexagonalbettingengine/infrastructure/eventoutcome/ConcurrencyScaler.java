@@ -0,0 +1,82 @@
+package com.mario.hexagonalbettingengine.infrastructure.eventoutcome;
+
+import com.mario.hexagonalbettingengine.infrastructure.config.MessagingProperties.KafkaConfig.AutoscalingConfig;
+
+import java.util.OptionalInt;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scaling policy of the event outcome listener. Scale-out follows the lag immediately, scale-in only after
+ * {@code scaleInSamples} consecutive samples asked for fewer consumers and then one consumer at a time, so a short
+ * lull does not shrink the listener right before the next burst. Not thread-safe; the autoscaler samples from a
+ * single scheduler thread.
+ */
+class ConcurrencyScaler {
+
+    private final AutoscalingConfig config;
+
+    private int samplesBelow;
+    private long lastScaledAt = Long.MIN_VALUE;
+
+    ConcurrencyScaler(AutoscalingConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * Returns the new consumer count, or empty to keep {@code current}.
+     *
+     * @param nanosPerRecord measured processing time per record, {@code NaN} while nothing was measured yet
+     */
+    OptionalInt evaluate(long lag, double nanosPerRecord, int current, int partitions, long nowMillis) {
+        var desired = desiredConcurrency(lag, nanosPerRecord, current, partitions);
+        samplesBelow = desired < current ? samplesBelow + 1 : 0;
+
+        if (lastScaledAt != Long.MIN_VALUE && nowMillis - lastScaledAt < config.cooldown()) {
+            return OptionalInt.empty();
+        }
+
+        if (desired > current) {
+            return scaleTo(desired, nowMillis);
+        }
+
+        if (desired < current && samplesBelow >= config.scaleInSamples()) {
+            return scaleTo(current - 1, nowMillis);
+        }
+
+        return OptionalInt.empty();
+    }
+
+    /**
+     * Sizes a poll so that processing it takes about {@code pollBudget}, keeping consumers well within
+     * {@code max.poll.interval.ms} when records get slower.
+     */
+    OptionalInt maxPollRecords(double nanosPerRecord) {
+        if (Double.isNaN(nanosPerRecord) || nanosPerRecord <= 0) {
+            return OptionalInt.empty();
+        }
+
+        var records = (long) (TimeUnit.MILLISECONDS.toNanos(config.pollBudget()) / nanosPerRecord);
+        return OptionalInt.of(Math.clamp(records, config.minPollRecords(), config.maxPollRecords()));
+    }
+
+    private int desiredConcurrency(long lag, double nanosPerRecord, int current, int partitions) {
+        var upper = Math.max(config.minConcurrency(), Math.min(config.maxConcurrency(), partitions));
+
+        if (lag == 0) {
+            return config.minConcurrency();
+        }
+
+        if (Double.isNaN(nanosPerRecord)) {
+            return Math.clamp(current, config.minConcurrency(), upper);
+        }
+
+        var needed = (long) Math.ceil(lag * nanosPerRecord / TimeUnit.MILLISECONDS.toNanos(config.targetCatchUp()));
+        return Math.clamp(needed, config.minConcurrency(), upper);
+    }
+
+    private OptionalInt scaleTo(int concurrency, long nowMillis) {
+        samplesBelow = 0;
+        lastScaledAt = nowMillis;
+        return OptionalInt.of(concurrency);
+    }
+}
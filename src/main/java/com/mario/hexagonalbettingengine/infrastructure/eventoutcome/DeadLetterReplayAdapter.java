@@ -0,0 +1,361 @@
+package com.mario.hexagonalbettingengine.infrastructure.eventoutcome;
+
+import com.mario.hexagonalbettingengine.domain.betting.BetSettlement;
+import com.mario.hexagonalbettingengine.domain.eventoutcome.DeadLetterReplay;
+import com.mario.hexagonalbettingengine.domain.eventoutcome.DeadLetterReplayInProgressException;
+import com.mario.hexagonalbettingengine.domain.eventoutcome.DeadLetterReplayProgress;
+import com.mario.hexagonalbettingengine.domain.eventoutcome.DeadLetterReplayRequest;
+import com.mario.hexagonalbettingengine.infrastructure.config.DeadLetterReplayProperties;
+import com.mario.hexagonalbettingengine.infrastructure.config.MessagingProperties;
+import com.mario.hexagonalbettingengine.infrastructure.eventoutcome.mapper.EventOutcomeMapper;
+import com.mario.hexagonalbettingengine.infrastructure.eventoutcome.payload.EventOutcomePayload;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.boot.kafka.autoconfigure.KafkaProperties;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BinaryOperator;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toMap;
+
+/**
+ * Reads a bounded range of the DLQ with its own consumer, so replays never interfere with the event outcome
+ * listener. Only one replay runs at a time and each one is throttled by a {@link TokenBucket}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeadLetterReplayAdapter implements DeadLetterReplay {
+
+    static final String REPLAY_COUNT_HEADER = "event-outcome-replay-count";
+
+    private static final String CLIENT_ID_PREFIX = "dlq-replay";
+    private static final String GROUP_SUFFIX = "-dlq-replay";
+
+    private final ConsumerFactory<String, Object> consumerFactory;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final KafkaProperties kafkaProperties;
+    private final BetSettlement betSettlement;
+    private final EventOutcomeMapper mapper;
+    private final MessagingProperties messagingProperties;
+    private final DeadLetterReplayProperties properties;
+    private final ExecutorService deadLetterReplayExecutor;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicReference<DeadLetterReplayRun> running = new AtomicReference<>();
+    private Map<String, DeadLetterReplayRun> runs;
+
+    @PostConstruct
+    void init() {
+        var retained = properties.retainedReplays();
+        runs = Collections.synchronizedMap(new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, DeadLetterReplayRun> eldest) {
+                return size() > retained;
+            }
+        });
+    }
+
+    @Override
+    public DeadLetterReplayProgress start(DeadLetterReplayRequest request) {
+        var run = new DeadLetterReplayRun(UUID.randomUUID().toString(), request);
+
+        if (!running.compareAndSet(null, run)) {
+            throw new DeadLetterReplayInProgressException(
+                    "DLQ replay %s is still running".formatted(running.get().replayId()));
+        }
+
+        runs.put(run.replayId(), run);
+
+        try {
+            deadLetterReplayExecutor.execute(() -> execute(run));
+        } catch (RejectedExecutionException e) {
+            run.fail(e);
+            running.set(null);
+        }
+
+        return run.progress();
+    }
+
+    @Override
+    public Optional<DeadLetterReplayProgress> findById(String replayId) {
+        return Optional.ofNullable(runs.get(replayId)).map(DeadLetterReplayRun::progress);
+    }
+
+    private void execute(DeadLetterReplayRun run) {
+        try {
+            log.info("Starting DLQ replay {}: {}", run.replayId(), run.request());
+            replay(run);
+            run.complete();
+            log.info("Finished DLQ replay {}: {}", run.replayId(), run.progress());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            run.fail(e);
+            log.warn("DLQ replay {} was interrupted", run.replayId());
+        } catch (RuntimeException e) {
+            run.fail(e);
+            log.error("DLQ replay {} failed", run.replayId(), e);
+        } finally {
+            running.compareAndSet(run, null);
+        }
+    }
+
+    private void replay(DeadLetterReplayRun run) throws InterruptedException {
+        var request = run.request();
+        var dlqTopic = messagingProperties.kafka().eventOutcomes().dlqTopic();
+        var overrides = new Properties();
+        overrides.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+
+        try (var consumer = consumerFactory.createConsumer(checkpointGroup(), CLIENT_ID_PREFIX, null, overrides)) {
+            var partitions = consumer.partitionsFor(dlqTopic).stream()
+                    .map(info -> new TopicPartition(dlqTopic, info.partition()))
+                    .toList();
+            consumer.assign(partitions);
+
+            var endOffsets = endOffsets(consumer, partitions, request);
+            var startOffsets = startOffsets(consumer, partitions, request, endOffsets);
+            var remaining = new HashSet<TopicPartition>();
+
+            for (var partition : partitions) {
+                if (startOffsets.get(partition) < endOffsets.get(partition)) {
+                    consumer.seek(partition, startOffsets.get(partition));
+                    remaining.add(partition);
+                }
+            }
+            consumer.pause(partitions.stream().filter(partition -> !remaining.contains(partition)).toList());
+
+            var bucket = new TokenBucket(Objects.requireNonNullElse(request.ratePerSecond(), properties.ratePerSecond()),
+                    properties.burst());
+            var seen = new HashSet<EventOutcomePayload>();
+            var sends = new ArrayList<CompletableFuture<?>>();
+
+            while (!remaining.isEmpty()) {
+                var records = consumer.poll(Duration.ofMillis(properties.pollTimeout()));
+
+                for (var partition : records.partitions()) {
+                    for (var record : records.records(partition)) {
+                        if (record.offset() >= endOffsets.get(partition)) {
+                            break;
+                        }
+                        process(run, record, seen, bucket, sends);
+                    }
+                }
+
+                var finished = remaining.stream()
+                        .filter(partition -> consumer.position(partition) >= endOffsets.get(partition))
+                        .toList();
+                consumer.pause(finished);
+                finished.forEach(remaining::remove);
+            }
+
+            CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new)).exceptionally(ex -> null).join();
+
+            if (request.resumeFromCheckpoint() && !request.dryRun()) {
+                checkpoint(consumer, run, endOffsets);
+            }
+        }
+    }
+
+    private void process(DeadLetterReplayRun run, ConsumerRecord<String, Object> record,
+                         Set<EventOutcomePayload> seen, TokenBucket bucket,
+                         List<CompletableFuture<?>> sends) throws InterruptedException {
+        var request = run.request();
+        run.scanned.incrementAndGet();
+
+        if (!(record.value() instanceof EventOutcomePayload payload)) {
+            run.undecodable.incrementAndGet();
+            return;
+        }
+
+        if (!matches(request, record, payload)) {
+            run.filtered.incrementAndGet();
+            return;
+        }
+
+        if (!seen.add(payload)) {
+            run.duplicates.incrementAndGet();
+            return;
+        }
+
+        run.matched.incrementAndGet();
+
+        if (request.dryRun()) {
+            return;
+        }
+
+        bucket.acquire();
+
+        switch (request.target()) {
+            case REPUBLISH -> sends.add(republish(run, record, payload));
+            case SETTLE -> settle(run, payload);
+        }
+    }
+
+    private boolean matches(DeadLetterReplayRequest request, ConsumerRecord<String, Object> record,
+                            EventOutcomePayload payload) {
+        if (!request.eventIds().isEmpty() && !request.eventIds().contains(payload.eventId())) {
+            return false;
+        }
+
+        if (request.maxReplays() != null && replayCount(record) >= request.maxReplays()) {
+            return false;
+        }
+
+        return request.exceptionTypes().isEmpty()
+                || Stream.of(KafkaHeaders.DLT_EXCEPTION_FQCN, KafkaHeaders.DLT_EXCEPTION_CAUSE_FQCN)
+                .map(header -> lastHeader(record, header))
+                .filter(Objects::nonNull)
+                .anyMatch(className -> request.exceptionTypes().contains(className)
+                        || request.exceptionTypes().contains(className.substring(className.lastIndexOf('.') + 1)));
+    }
+
+    private CompletableFuture<?> republish(DeadLetterReplayRun run, ConsumerRecord<String, Object> record,
+                                           EventOutcomePayload payload) {
+        var topic = messagingProperties.kafka().eventOutcomes().topic();
+        var producerRecord = new ProducerRecord<String, Object>(topic, payload.eventId(), payload);
+        producerRecord.headers().add(REPLAY_COUNT_HEADER,
+                Integer.toString(replayCount(record) + 1).getBytes(StandardCharsets.UTF_8));
+
+        try {
+            return kafkaTemplate.send(producerRecord).whenComplete((result, ex) -> {
+                if (ex != null) {
+                    log.error("DLQ replay {} could not republish outcome of event {}", run.replayId(),
+                            payload.eventId(), ex);
+                }
+                recordResult(run, ex == null);
+            });
+        } catch (RuntimeException e) {
+            log.error("DLQ replay {} could not republish outcome of event {}", run.replayId(), payload.eventId(), e);
+            recordResult(run, false);
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    private void settle(DeadLetterReplayRun run, EventOutcomePayload payload) {
+        try {
+            betSettlement.settle(mapper.toDomain(payload));
+            recordResult(run, true);
+        } catch (RuntimeException e) {
+            log.error("DLQ replay {} could not settle event {}", run.replayId(), payload.eventId(), e);
+            recordResult(run, false);
+        }
+    }
+
+    private void recordResult(DeadLetterReplayRun run, boolean success) {
+        (success ? run.replayed : run.failed).incrementAndGet();
+        meterRegistry.counter("event.outcome.dlq.replay",
+                "target", run.request().target().name().toLowerCase(),
+                "result", success ? "replayed" : "failed").increment();
+    }
+
+    /**
+     * Failed replays are not checkpointed, so the next checkpointed replay covers the same range again.
+     */
+    private void checkpoint(Consumer<String, Object> consumer, DeadLetterReplayRun run,
+                            Map<TopicPartition, Long> endOffsets) {
+        if (run.failed.get() > 0) {
+            log.warn("DLQ replay {} had {} failures, keeping the previous checkpoint", run.replayId(), run.failed.get());
+            return;
+        }
+
+        consumer.commitSync(endOffsets.entrySet().stream()
+                .collect(toMap(Map.Entry::getKey, entry -> new OffsetAndMetadata(entry.getValue()))));
+    }
+
+    private Map<TopicPartition, Long> startOffsets(Consumer<String, Object> consumer, List<TopicPartition> partitions,
+                                                   DeadLetterReplayRequest request,
+                                                   Map<TopicPartition, Long> endOffsets) {
+        var offsets = new HashMap<>(consumer.beginningOffsets(partitions));
+
+        if (request.resumeFromCheckpoint()) {
+            consumer.committed(Set.copyOf(partitions)).forEach((partition, committed) -> {
+                if (committed != null) {
+                    offsets.merge(partition, committed.offset(), Math::max);
+                }
+            });
+        }
+
+        if (request.fromOffset() != null) {
+            offsets.replaceAll((partition, offset) -> Math.max(offset, request.fromOffset()));
+        }
+
+        if (request.from() != null) {
+            mergeOffsetsForTime(consumer, partitions, request.from(), endOffsets, offsets, Math::max);
+        }
+
+        return offsets;
+    }
+
+    private Map<TopicPartition, Long> endOffsets(Consumer<String, Object> consumer, List<TopicPartition> partitions,
+                                                 DeadLetterReplayRequest request) {
+        var offsets = new HashMap<>(consumer.endOffsets(partitions));
+        var snapshot = Map.copyOf(offsets);
+
+        if (request.toOffset() != null) {
+            offsets.replaceAll((partition, offset) -> Math.min(offset, request.toOffset()));
+        }
+
+        if (request.to() != null) {
+            mergeOffsetsForTime(consumer, partitions, request.to(), snapshot, offsets, Math::min);
+        }
+
+        return offsets;
+    }
+
+    /**
+     * Partitions without a record at or after {@code timestamp} resolve to their end offset.
+     */
+    private void mergeOffsetsForTime(Consumer<String, Object> consumer, List<TopicPartition> partitions,
+                                     Instant timestamp, Map<TopicPartition, Long> endOffsets,
+                                     Map<TopicPartition, Long> offsets, BinaryOperator<Long> merge) {
+        var timestamps = partitions.stream().collect(toMap(partition -> partition, partition -> timestamp.toEpochMilli()));
+
+        consumer.offsetsForTimes(timestamps).forEach((partition, found) ->
+                offsets.merge(partition, found == null ? endOffsets.get(partition) : found.offset(), merge));
+    }
+
+    private String checkpointGroup() {
+        return kafkaProperties.getConsumer().getGroupId() + GROUP_SUFFIX;
+    }
+
+    private static int replayCount(ConsumerRecord<String, Object> record) {
+        var count = lastHeader(record, REPLAY_COUNT_HEADER);
+        return count == null ? 0 : Integer.parseInt(count);
+    }
+
+    private static String lastHeader(ConsumerRecord<String, Object> record, String name) {
+        var header = record.headers().lastHeader(name);
+        return header == null ? null : new String(header.value(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,74 @@
+package com.mario.hexagonalbettingengine.infrastructure.eventoutcome;
+
+import com.mario.hexagonalbettingengine.domain.eventoutcome.DeadLetterReplayProgress;
+import com.mario.hexagonalbettingengine.domain.eventoutcome.DeadLetterReplayProgress.State;
+import com.mario.hexagonalbettingengine.domain.eventoutcome.DeadLetterReplayRequest;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Live counters of a replay. Republish acknowledgements update them from producer threads, so every counter is
+ * atomic and {@link #progress()} is a best-effort snapshot.
+ */
+class DeadLetterReplayRun {
+
+    final AtomicLong scanned = new AtomicLong();
+    final AtomicLong undecodable = new AtomicLong();
+    final AtomicLong filtered = new AtomicLong();
+    final AtomicLong duplicates = new AtomicLong();
+    final AtomicLong matched = new AtomicLong();
+    final AtomicLong replayed = new AtomicLong();
+    final AtomicLong failed = new AtomicLong();
+
+    private final String replayId;
+    private final DeadLetterReplayRequest request;
+    private final Instant startedAt = Instant.now();
+
+    private volatile State state = State.RUNNING;
+    private volatile Instant finishedAt;
+    private volatile String failureReason;
+
+    DeadLetterReplayRun(String replayId, DeadLetterReplayRequest request) {
+        this.replayId = replayId;
+        this.request = request;
+    }
+
+    String replayId() {
+        return replayId;
+    }
+
+    DeadLetterReplayRequest request() {
+        return request;
+    }
+
+    void complete() {
+        finishedAt = Instant.now();
+        state = State.COMPLETED;
+    }
+
+    void fail(Exception e) {
+        failureReason = e.getMessage();
+        finishedAt = Instant.now();
+        state = State.FAILED;
+    }
+
+    DeadLetterReplayProgress progress() {
+        return DeadLetterReplayProgress.builder()
+                .replayId(replayId)
+                .state(state)
+                .target(request.target())
+                .dryRun(request.dryRun())
+                .scanned(scanned.get())
+                .undecodable(undecodable.get())
+                .filtered(filtered.get())
+                .duplicates(duplicates.get())
+                .matched(matched.get())
+                .replayed(replayed.get())
+                .failed(failed.get())
+                .startedAt(startedAt)
+                .finishedAt(finishedAt)
+                .failureReason(failureReason)
+                .build();
+    }
+}
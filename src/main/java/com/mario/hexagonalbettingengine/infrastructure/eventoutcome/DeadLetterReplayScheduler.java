@@ -0,0 +1,42 @@
+package com.mario.hexagonalbettingengine.infrastructure.eventoutcome;
+
+import com.mario.hexagonalbettingengine.domain.eventoutcome.DeadLetterReplay;
+import com.mario.hexagonalbettingengine.domain.eventoutcome.DeadLetterReplayInProgressException;
+import com.mario.hexagonalbettingengine.domain.eventoutcome.DeadLetterReplayRequest;
+import com.mario.hexagonalbettingengine.infrastructure.config.DeadLetterReplayProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.messaging.dlq-replay.schedule.enabled", havingValue = "true")
+public class DeadLetterReplayScheduler {
+
+    private final DeadLetterReplay replay;
+    private final DeadLetterReplayProperties properties;
+
+    @Scheduled(
+            initialDelayString = "${app.messaging.dlq-replay.schedule.interval}",
+            fixedDelayString = "${app.messaging.dlq-replay.schedule.interval}"
+    )
+    public void replayNewDeadLetters() {
+        var schedule = properties.schedule();
+        var request = DeadLetterReplayRequest.builder()
+                .exceptionTypes(schedule.exceptionTypes())
+                .target(schedule.target())
+                .maxReplays(schedule.maxReplays())
+                .resumeFromCheckpoint(true)
+                .build();
+
+        try {
+            var progress = replay.start(request);
+            log.info("Scheduled DLQ replay {} started", progress.replayId());
+        } catch (DeadLetterReplayInProgressException e) {
+            log.info("Skipping scheduled DLQ replay: {}", e.getMessage());
+        }
+    }
+}
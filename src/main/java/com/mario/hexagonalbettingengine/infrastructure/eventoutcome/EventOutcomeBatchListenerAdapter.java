@@ -0,0 +1,84 @@
+package com.mario.hexagonalbettingengine.infrastructure.eventoutcome;
+
+import com.mario.hexagonalbettingengine.domain.betting.BetSettlement;
+import com.mario.hexagonalbettingengine.infrastructure.eventoutcome.mapper.EventOutcomeMapper;
+import com.mario.hexagonalbettingengine.infrastructure.eventoutcome.payload.EventOutcomePayload;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.stream.IntStream;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.messaging.kafka.event-outcomes.batch-listener", havingValue = "true")
+public class EventOutcomeBatchListenerAdapter {
+
+    private final BetSettlement betSettlement;
+    private final EventOutcomeMapper mapper;
+
+    @KafkaListener(
+            id = "event-outcomes-kafka-batch-consumer",
+            topics = "${app.messaging.kafka.event-outcomes.topic}",
+            groupId = "${spring.kafka.consumer.group-id}",
+            containerFactory = "eventOutcomeKafkaContainerFactory"
+    )
+    public void onEventOutcomes(List<ConsumerRecord<String, EventOutcomePayload>> records) {
+        var latestRecords = collapseByEventId(records);
+        log.info("Received batch of {} event outcomes, {} left after deduplication",
+                records.size(), latestRecords.size());
+
+        if (latestRecords.stream().allMatch(record -> record.value() != null)) {
+            try {
+                betSettlement.settleAll(latestRecords.stream()
+                        .map(record -> mapper.toDomain(record.value()))
+                        .toList());
+                return;
+            } catch (RuntimeException e) {
+                log.warn("Batch settlement failed, settling {} event outcomes one by one",
+                        latestRecords.size(), e);
+            }
+        }
+
+        settleOneByOne(latestRecords);
+    }
+
+    private List<ConsumerRecord<String, EventOutcomePayload>> collapseByEventId(
+            List<ConsumerRecord<String, EventOutcomePayload>> records) {
+
+        var latestIndexByEventId = new HashMap<String, Integer>();
+        IntStream.range(0, records.size())
+                .filter(index -> records.get(index).value() != null)
+                .forEach(index -> latestIndexByEventId.put(records.get(index).value().eventId(), index));
+
+        return IntStream.range(0, records.size())
+                .filter(index -> records.get(index).value() == null
+                        || latestIndexByEventId.get(records.get(index).value().eventId()) == index)
+                .mapToObj(records::get)
+                .toList();
+    }
+
+    private void settleOneByOne(List<ConsumerRecord<String, EventOutcomePayload>> records) {
+        for (var record : records) {
+            var payload = record.value();
+
+            if (payload == null) {
+                throw new BatchListenerFailedException("Event outcome could not be deserialized", record);
+            }
+
+            try {
+                betSettlement.settle(mapper.toDomain(payload));
+            } catch (RuntimeException e) {
+                throw new BatchListenerFailedException(
+                        "Failed to settle event " + payload.eventId(), e, record);
+            }
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.mario.hexagonalbettingengine.infrastructure.eventoutcome.mapper.Event
 import com.mario.hexagonalbettingengine.infrastructure.eventoutcome.payload.EventOutcomePayload;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
@@ -12,6 +13,12 @@ import org.springframework.stereotype.Component;
 @Slf4j
 @Component
 @RequiredArgsConstructor
+@ConditionalOnProperty(
+        prefix = "app.messaging.kafka.event-outcomes",
+        name = {"batch-listener", "parallel.enabled"},
+        havingValue = "false",
+        matchIfMissing = true
+)
 public class EventOutcomeListenerAdapter {
 
     private final BetSettlement betSettlement;
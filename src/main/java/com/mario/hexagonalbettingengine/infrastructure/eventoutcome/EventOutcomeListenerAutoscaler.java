@@ -0,0 +1,172 @@
+package com.mario.hexagonalbettingengine.infrastructure.eventoutcome;
+
+import com.mario.hexagonalbettingengine.infrastructure.config.MessagingProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.toMap;
+
+/**
+ * Samples the consumer group lag of the event outcome topic and the per-record processing time, and restarts the
+ * per-record listener with a different consumer count and {@code max.poll.records} when {@link ConcurrencyScaler}
+ * asks for it. A restart rebalances the group, which is why scaling is damped by hysteresis and a cooldown.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.messaging.kafka.event-outcomes.autoscaling.enabled", havingValue = "true")
+public class EventOutcomeListenerAutoscaler {
+
+    static final String LISTENER_ID = "event-outcomes-kafka-consumer";
+
+    private static final long ADMIN_TIMEOUT_SECONDS = 5;
+
+    private final KafkaListenerEndpointRegistry registry;
+    private final KafkaAdmin kafkaAdmin;
+    private final MessagingProperties properties;
+    private final EventOutcomeProcessingTimer processingTimer;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicLong lag = new AtomicLong();
+    private final AtomicInteger concurrency = new AtomicInteger();
+
+    private Admin admin;
+    private ConcurrencyScaler scaler;
+    private long sampledCount;
+    private double sampledTotalNanos;
+    private double nanosPerRecord = Double.NaN;
+
+    @PostConstruct
+    void init() {
+        admin = Admin.create(kafkaAdmin.getConfigurationProperties());
+        scaler = new ConcurrencyScaler(properties.kafka().eventOutcomes().autoscaling());
+
+        Gauge.builder("event.outcome.lag", lag, AtomicLong::get)
+                .description("Event outcomes not yet committed by the listener's consumer group")
+                .register(meterRegistry);
+        Gauge.builder("event.outcome.listener.concurrency", concurrency, AtomicInteger::get)
+                .description("Consumers of the per-record event outcome listener")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void close() {
+        admin.close();
+    }
+
+    @Scheduled(
+            initialDelayString = "${app.messaging.kafka.event-outcomes.autoscaling.sample-interval}",
+            fixedDelayString = "${app.messaging.kafka.event-outcomes.autoscaling.sample-interval}"
+    )
+    public void sample() {
+        if (!(registry.getListenerContainer(LISTENER_ID) instanceof ConcurrentMessageListenerContainer<?, ?> container)
+                || !container.isRunning()) {
+            return;
+        }
+
+        LagSample sample;
+        try {
+            sample = sampleLag(container.getGroupId());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (ExecutionException | TimeoutException e) {
+            log.warn("Could not sample event outcome lag, keeping {} consumers", container.getConcurrency(), e);
+            return;
+        }
+
+        lag.set(sample.lag());
+        concurrency.set(container.getConcurrency());
+        updateProcessingTime();
+
+        scaler.evaluate(sample.lag(), nanosPerRecord, container.getConcurrency(), sample.partitions(),
+                        System.currentTimeMillis())
+                .ifPresent(target -> rescale(container, target, sample.lag()));
+    }
+
+    private LagSample sampleLag(String groupId) throws InterruptedException, ExecutionException, TimeoutException {
+        var topic = properties.kafka().eventOutcomes().topic();
+        var description = admin.describeTopics(List.of(topic)).allTopicNames()
+                .get(ADMIN_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                .get(topic);
+        var partitions = description.partitions().stream()
+                .map(partition -> new TopicPartition(topic, partition.partition()))
+                .toList();
+
+        var committed = admin.listConsumerGroupOffsets(groupId).partitionsToOffsetAndMetadata()
+                .get(ADMIN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        var endOffsets = admin.listOffsets(partitions.stream()
+                        .collect(toMap(Function.identity(), partition -> OffsetSpec.latest())))
+                .all()
+                .get(ADMIN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        var totalLag = partitions.stream()
+                .mapToLong(partition -> {
+                    var position = committed.get(partition);
+                    return Math.max(0, endOffsets.get(partition).offset() - (position == null ? 0 : position.offset()));
+                })
+                .sum();
+
+        return new LagSample(totalLag, partitions.size());
+    }
+
+    /**
+     * Averages the records timed since the previous sample. Without new records the previous average is kept.
+     */
+    private void updateProcessingTime() {
+        var timer = processingTimer.timer();
+        var count = timer.count();
+        var totalNanos = timer.totalTime(TimeUnit.NANOSECONDS);
+
+        if (count > sampledCount) {
+            nanosPerRecord = (totalNanos - sampledTotalNanos) / (count - sampledCount);
+        }
+
+        sampledCount = count;
+        sampledTotalNanos = totalNanos;
+    }
+
+    private void rescale(ConcurrentMessageListenerContainer<?, ?> container, int target, long currentLag) {
+        var current = container.getConcurrency();
+        var consumerProperties = container.getContainerProperties().getKafkaConsumerProperties();
+        scaler.maxPollRecords(nanosPerRecord).ifPresent(maxPollRecords ->
+                consumerProperties.setProperty(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, Integer.toString(maxPollRecords)));
+
+        log.info("Scaling event outcome listener from {} to {} consumers (lag {}, {} ms per record, max.poll.records {})",
+                current, target, currentLag, String.format("%.2f", nanosPerRecord / 1_000_000),
+                consumerProperties.getProperty(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, "default"));
+
+        container.stop();
+        container.setConcurrency(target);
+        container.start();
+
+        concurrency.set(target);
+        meterRegistry.counter("event.outcome.listener.scaling", "direction", target > current ? "out" : "in")
+                .increment();
+    }
+
+    private record LagSample(long lag, int partitions) {
+    }
+}
@@ -0,0 +1,184 @@
+package com.mario.hexagonalbettingengine.infrastructure.eventoutcome;
+
+import com.mario.hexagonalbettingengine.domain.betting.BetSettlement;
+import com.mario.hexagonalbettingengine.infrastructure.config.MessagingProperties;
+import com.mario.hexagonalbettingengine.infrastructure.eventoutcome.mapper.EventOutcomeMapper;
+import com.mario.hexagonalbettingengine.infrastructure.eventoutcome.payload.EventOutcomePayload;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.jspecify.annotations.NonNull;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerRecordRecoverer;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Settles event outcomes on a worker pool instead of the consumer thread, so a slow event only holds up later
+ * outcomes with the same key rather than its whole partition. Outcomes with the same key run one after another
+ * in offset order; offsets are acknowledged per partition up to the first record that is still in flight.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.messaging.kafka.event-outcomes.parallel.enabled", havingValue = "true")
+public class EventOutcomeParallelListenerAdapter implements ConsumerSeekAware {
+
+    private final BetSettlement betSettlement;
+    private final EventOutcomeMapper mapper;
+    private final MessagingProperties properties;
+    private final ConsumerRecordRecoverer deadLetterPublishingRecoverer;
+    private final ExecutorService eventOutcomeWorkers;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, CompletableFuture<Void>> tailByKey = new ConcurrentHashMap<>();
+    private final Map<TopicPartition, PartitionOffsetTracker> trackers = new ConcurrentHashMap<>();
+    private Semaphore pendingRecords;
+
+    @PostConstruct
+    void init() {
+        var config = properties.kafka().eventOutcomes().parallel();
+        pendingRecords = new Semaphore(config.maxPendingRecords());
+
+        Gauge.builder("event.outcome.parallel.pending", this,
+                        adapter -> config.maxPendingRecords() - adapter.pendingRecords.availablePermits())
+                .description("Event outcomes dispatched to workers and not yet settled")
+                .register(meterRegistry);
+        log.info("Settling event outcomes on {} workers with up to {} pending records",
+                config.maxConcurrency(), config.maxPendingRecords());
+    }
+
+    @KafkaListener(
+            id = "event-outcomes-kafka-parallel-consumer",
+            topics = "${app.messaging.kafka.event-outcomes.topic}",
+            groupId = "${spring.kafka.consumer.group-id}",
+            containerFactory = "eventOutcomeKafkaContainerFactory"
+    )
+    public void onEventOutcome(ConsumerRecord<String, EventOutcomePayload> record, Acknowledgment acknowledgment)
+            throws InterruptedException {
+        pendingRecords.acquire();
+
+        var tracker = trackers.computeIfAbsent(
+                new TopicPartition(record.topic(), record.partition()), partition -> new PartitionOffsetTracker());
+        tracker.track(record.offset(), acknowledgment);
+
+        var key = orderingKey(record);
+        var done = new CompletableFuture<Void>();
+        var previous = tailByKey.put(key, done);
+
+        (previous == null ? CompletableFuture.<Void>completedFuture(null) : previous)
+                .whenCompleteAsync((ignored, ex) -> {
+                    try {
+                        if (settle(record, tracker)) {
+                            tracker.complete(record.offset()).ifPresent(Acknowledgment::acknowledge);
+                        }
+                    } finally {
+                        tailByKey.remove(key, done);
+                        pendingRecords.release();
+                        done.complete(null);
+                    }
+                }, eventOutcomeWorkers);
+    }
+
+    @Override
+    public void onPartitionsRevoked(@NonNull Collection<TopicPartition> partitions) {
+        partitions.forEach(partition -> {
+            var tracker = trackers.remove(partition);
+
+            if (tracker != null && tracker.inFlightCount() > 0) {
+                log.warn("Partition {} revoked with {} event outcomes in flight. They will be redelivered",
+                        partition, tracker.inFlightCount());
+            }
+
+            if (tracker != null) {
+                tracker.revoke();
+            }
+        });
+    }
+
+    /**
+     * Retries with the same attempts and interval as the container's error handler and then forwards the
+     * record to the DLQ, retrying the forward until it succeeds. Returns {@code false} only when the partition
+     * was revoked or the worker was interrupted on shutdown; the record is then redelivered, so its offset does
+     * not need to complete.
+     */
+    private boolean settle(ConsumerRecord<String, EventOutcomePayload> record, PartitionOffsetTracker tracker) {
+        var config = properties.kafka().eventOutcomes();
+        var payload = record.value();
+
+        if (payload == null) {
+            return recover(record, new IllegalArgumentException("Event outcome has no payload"), tracker);
+        }
+
+        for (var attempt = 0; ; attempt++) {
+            try {
+                log.info("Received event outcome: eventId={}, eventName={}, winnerId={}",
+                        payload.eventId(), payload.eventName(), payload.eventWinnerId());
+                betSettlement.settle(mapper.toDomain(payload));
+                return true;
+            } catch (RuntimeException e) {
+                if (attempt >= config.retryAttempts()) {
+                    return recover(record, e, tracker);
+                }
+
+                meterRegistry.counter("event.outcome.retries", "topic", record.topic()).increment();
+                if (tracker.isRevoked() || !backOff(config.retryInterval())) {
+                    return false;
+                }
+            }
+        }
+    }
+
+    /**
+     * Keeps the record's offset in flight, and so the partition's committed offset, until the DLQ accepts it.
+     */
+    private boolean recover(ConsumerRecord<String, EventOutcomePayload> record, RuntimeException cause,
+                            PartitionOffsetTracker tracker) {
+        while (true) {
+            try {
+                deadLetterPublishingRecoverer.accept(record, cause);
+                return true;
+            } catch (RuntimeException e) {
+                log.error("Could not forward event outcome at {}-{}@{} to the DLQ. Retrying",
+                        record.topic(), record.partition(), record.offset(), e);
+            }
+
+            if (tracker.isRevoked() || !backOff(properties.kafka().eventOutcomes().retryInterval())) {
+                return false;
+            }
+        }
+    }
+
+    private static boolean backOff(long retryInterval) {
+        try {
+            Thread.sleep(retryInterval);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static String orderingKey(ConsumerRecord<String, EventOutcomePayload> record) {
+        if (record.key() != null) {
+            return record.key();
+        }
+
+        return record.value() != null
+                ? record.value().eventId()
+                : "%s-%d@%d".formatted(record.topic(), record.partition(), record.offset());
+    }
+}
@@ -0,0 +1,50 @@
+package com.mario.hexagonalbettingengine.infrastructure.eventoutcome;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.jspecify.annotations.NonNull;
+import org.springframework.kafka.listener.RecordInterceptor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Times every delivery of an event outcome to the listener until the listener returned. The listener autoscaler
+ * derives the per-record processing cost from it.
+ */
+@Component
+public class EventOutcomeProcessingTimer implements RecordInterceptor<String, Object> {
+
+    private final Timer timer;
+    private final ThreadLocal<Long> startedAt = new ThreadLocal<>();
+
+    public EventOutcomeProcessingTimer(MeterRegistry meterRegistry) {
+        this.timer = Timer.builder("event.outcome.processing")
+                .description("Time the listener spent on a single event outcome")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @Override
+    public ConsumerRecord<String, Object> intercept(@NonNull ConsumerRecord<String, Object> record,
+                                                    @NonNull Consumer<String, Object> consumer) {
+        startedAt.set(System.nanoTime());
+        return record;
+    }
+
+    @Override
+    public void afterRecord(@NonNull ConsumerRecord<String, Object> record, @NonNull Consumer<String, Object> consumer) {
+        var started = startedAt.get();
+
+        if (started != null) {
+            timer.record(Duration.ofNanos(System.nanoTime() - started));
+            startedAt.remove();
+        }
+    }
+
+    Timer timer() {
+        return timer;
+    }
+}
@@ -1,42 +1,174 @@
 package com.mario.hexagonalbettingengine.infrastructure.eventoutcome;
 
 import com.mario.hexagonalbettingengine.domain.eventoutcome.EventOutcome;
+import com.mario.hexagonalbettingengine.domain.eventoutcome.EventOutcomeDeliveryException;
+import com.mario.hexagonalbettingengine.domain.eventoutcome.EventOutcomePublishRejectedException;
 import com.mario.hexagonalbettingengine.domain.eventoutcome.EventOutcomePublisher;
 import com.mario.hexagonalbettingengine.infrastructure.config.MessagingProperties;
 import com.mario.hexagonalbettingengine.infrastructure.eventoutcome.mapper.EventOutcomeMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.Metric;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class EventOutcomePublisherAdapter implements EventOutcomePublisher {
 
+    private static final String BUFFER_AVAILABLE_BYTES = "buffer-available-bytes";
+    private static final String COMPRESSION_RATE_AVG = "compression-rate-avg";
+
     private final MessagingProperties properties;
     private final EventOutcomeMapper mapper;
     private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile Metric bufferAvailableBytes;
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("event.outcome.in.flight", inFlight, AtomicInteger::get)
+                .description("Event outcome sends waiting for a Kafka acknowledgement")
+                .register(meterRegistry);
+        Gauge.builder("event.outcome.compression.ratio", this, adapter -> adapter.producerMetric(COMPRESSION_RATE_AVG))
+                .description("Average compressed/uncompressed size of event outcome record batches")
+                .register(meterRegistry);
+    }
 
     @Override
-    public void publish(EventOutcome eventOutcome) {
+    public CompletableFuture<Void> publish(EventOutcome eventOutcome) {
+        admit(1);
+        return deliver(send(eventOutcome));
+    }
+
+    @Override
+    public CompletableFuture<Void> publishAll(List<EventOutcome> eventOutcomes) {
+        admit(eventOutcomes.size());
+        var acks = eventOutcomes.stream()
+                .map(this::send)
+                .toArray(CompletableFuture[]::new);
+
+        log.info("Sent batch of {} event outcomes", eventOutcomes.size());
+        return deliver(CompletableFuture.allOf(acks));
+    }
+
+    /**
+     * Sheds load before anything is handed to the producer, so a slow or unreachable broker
+     * surfaces as a rejection instead of a growing queue of sends and blocked request threads.
+     * The sends are reserved with a compare-and-set, so concurrent requests never admit more than
+     * {@code max-in-flight} sends together, and a batch is admitted whole or not at all.
+     */
+    private void admit(int sends) {
+        var config = properties.kafka().eventOutcomes();
+
+        var availableBytes = bufferAvailableBytes();
+        if (availableBytes != null && availableBytes < config.minBufferAvailableBytes()) {
+            throw new EventOutcomePublishRejectedException(
+                    "Kafka producer buffer is nearly full (%.0f bytes available)".formatted(availableBytes));
+        }
+
+        while (true) {
+            var current = inFlight.get();
+
+            if (current + sends > config.maxInFlight()) {
+                throw new EventOutcomePublishRejectedException(
+                        "%d event outcome sends are awaiting acknowledgement, no room for %d more"
+                                .formatted(current, sends));
+            }
+
+            if (inFlight.compareAndSet(current, current + sends)) {
+                return;
+            }
+        }
+    }
+
+    private CompletableFuture<Void> send(EventOutcome eventOutcome) {
         var payload = mapper.toPayload(eventOutcome);
         var key = payload.eventId();
         var config = properties.kafka().eventOutcomes();
+        var startedAt = System.nanoTime();
+
+        CompletableFuture<SendResult<String, Object>> sendResult;
+        try {
+            sendResult = kafkaTemplate.send(config.topic(), key, payload);
+        } catch (RuntimeException e) {
+            sendResult = CompletableFuture.failedFuture(e);
+        }
 
-        kafkaTemplate.send(config.topic(), key, payload)
-                .whenComplete((result, ex) -> handleCompletion(key, result, ex));
+        return sendResult.handle((result, ex) -> handleCompletion(key, startedAt, result, ex));
     }
 
-    private void handleCompletion(String key, SendResult<String, Object> result, Throwable ex) {
+    private Void handleCompletion(String key, long startedAt, SendResult<String, Object> result, Throwable ex) {
+        inFlight.decrementAndGet();
+
+        Timer.builder("event.outcome.send")
+                .description("Time until Kafka acknowledged an event outcome")
+                .tag("result", ex == null ? "success" : "failure")
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(Duration.ofNanos(System.nanoTime() - startedAt));
+
         if (ex != null) {
             log.error("Could not publish outcome for event {}", key, ex);
-        } else {
-            log.info("Event {} published. Partition: {}, Offset: {}",
-                    key,
-                    result.getRecordMetadata().partition(),
-                    result.getRecordMetadata().offset());
+            throw new EventOutcomeDeliveryException("Could not publish outcome for event " + key, ex);
+        }
+
+        log.info("Event {} published. Partition: {}, Offset: {}",
+                key,
+                result.getRecordMetadata().partition(),
+                result.getRecordMetadata().offset());
+        return null;
+    }
+
+    private CompletableFuture<Void> deliver(CompletableFuture<Void> ack) {
+        return switch (properties.kafka().eventOutcomes().deliveryMode()) {
+            case FIRE_AND_FORGET -> CompletableFuture.completedFuture(null);
+            case ASYNC_ACK -> ack;
+            case SYNC -> {
+                kafkaTemplate.flush();
+                ack.exceptionally(ex -> null).join();
+                yield ack;
+            }
+        };
+    }
+
+    private Double bufferAvailableBytes() {
+        if (properties.kafka().eventOutcomes().minBufferAvailableBytes() <= 0) {
+            return null;
         }
+
+        if (bufferAvailableBytes == null) {
+            bufferAvailableBytes = findProducerMetric(BUFFER_AVAILABLE_BYTES);
+        }
+
+        return bufferAvailableBytes != null && bufferAvailableBytes.metricValue() instanceof Double value
+                ? value
+                : null;
+    }
+
+    private double producerMetric(String name) {
+        var metric = findProducerMetric(name);
+        return metric != null && metric.metricValue() instanceof Double value ? value : Double.NaN;
+    }
+
+    private Metric findProducerMetric(String name) {
+        return kafkaTemplate.metrics().entrySet().stream()
+                .filter(entry -> entry.getKey().name().equals(name))
+                .map(entry -> (Metric) entry.getValue())
+                .findFirst()
+                .orElse(null);
     }
 }
@@ -0,0 +1,61 @@
+package com.mario.hexagonalbettingengine.infrastructure.eventoutcome;
+
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.util.HashSet;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * In-flight offsets of one assigned partition. Records may complete in any order, but only the acknowledgment of
+ * the highest offset below which every dispatched record has completed is handed out, so the committed offset
+ * never moves past a record that is still being settled.
+ */
+public class PartitionOffsetTracker {
+
+    private final NavigableMap<Long, Acknowledgment> inFlight = new TreeMap<>();
+    private final Set<Long> completed = new HashSet<>();
+    private boolean revoked;
+
+    public synchronized void track(long offset, Acknowledgment acknowledgment) {
+        inFlight.put(offset, acknowledgment);
+    }
+
+    /**
+     * Marks the offset as completed and returns the acknowledgment of the new watermark if it moved.
+     */
+    public synchronized Optional<Acknowledgment> complete(long offset) {
+        if (revoked) {
+            return Optional.empty();
+        }
+
+        completed.add(offset);
+
+        Acknowledgment watermark = null;
+        while (!inFlight.isEmpty() && completed.remove(inFlight.firstKey())) {
+            watermark = inFlight.pollFirstEntry().getValue();
+        }
+
+        return Optional.ofNullable(watermark);
+    }
+
+    /**
+     * Stops acknowledging offsets of a partition that was assigned to another consumer. Records still in flight
+     * are redelivered to the new owner.
+     */
+    public synchronized void revoke() {
+        revoked = true;
+        inFlight.clear();
+        completed.clear();
+    }
+
+    public synchronized boolean isRevoked() {
+        return revoked;
+    }
+
+    public synchronized int inFlightCount() {
+        return inFlight.size();
+    }
+}
@@ -0,0 +1,24 @@
+package com.mario.hexagonalbettingengine.infrastructure.eventoutcome;
+
+import com.mario.hexagonalbettingengine.domain.betting.PendingEventIndex;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.listener.adapter.RecordFilterStrategy;
+import org.springframework.stereotype.Component;
+
+/**
+ * Discards outcomes for events without pending bets by their record key (the event id), before the listener
+ * starts a transaction or settles bets. An event unknown to the index is checked against the {@code bets} table
+ * first, so a discarded record never had pending bets to settle. Records without a key are always delivered.
+ */
+@Component
+@RequiredArgsConstructor
+public class PendingEventRecordFilterStrategy implements RecordFilterStrategy<String, Object> {
+
+    private final PendingEventIndex pendingEvents;
+
+    @Override
+    public boolean filter(ConsumerRecord<String, Object> consumerRecord) {
+        return consumerRecord.key() != null && !pendingEvents.mightHavePendingBets(consumerRecord.key());
+    }
+}
@@ -0,0 +1,38 @@
+package com.mario.hexagonalbettingengine.infrastructure.eventoutcome.payload;
+
+import com.mario.hexagonalbettingengine.infrastructure.codec.BinaryCodec;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+
+@Component
+public class EventOutcomePayloadCodec extends BinaryCodec<EventOutcomePayload> {
+
+    private static final byte SCHEMA_V1 = 1;
+
+    @Override
+    public byte schemaId() {
+        return SCHEMA_V1;
+    }
+
+    @Override
+    public Class<EventOutcomePayload> payloadType() {
+        return EventOutcomePayload.class;
+    }
+
+    @Override
+    protected void writeFields(EventOutcomePayload payload, ByteBuffer buffer) {
+        writeString(buffer, payload.eventId());
+        writeString(buffer, payload.eventName());
+        writeString(buffer, payload.eventWinnerId());
+    }
+
+    @Override
+    protected EventOutcomePayload readFields(ByteBuffer buffer) {
+        return new EventOutcomePayload(
+                readString(buffer),
+                readString(buffer),
+                readString(buffer)
+        );
+    }
+}
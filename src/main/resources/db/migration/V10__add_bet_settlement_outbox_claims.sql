@@ -0,0 +1,4 @@
+ALTER TABLE bet_settlement_outbox ADD COLUMN IF NOT EXISTS claimed_by VARCHAR(36);
+ALTER TABLE bet_settlement_outbox ADD COLUMN IF NOT EXISTS claimed_until TIMESTAMP WITH TIME ZONE;
+
+CREATE INDEX IF NOT EXISTS idx_bet_settlement_outbox_claim ON bet_settlement_outbox (claimed_by);
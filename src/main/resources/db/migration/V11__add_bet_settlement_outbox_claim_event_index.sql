@@ -0,0 +1,3 @@
+DROP INDEX IF EXISTS idx_bet_settlement_outbox_claim;
+
+CREATE INDEX IF NOT EXISTS idx_bet_settlement_outbox_claim_event ON bet_settlement_outbox (claimed_by, event_id, id);
@@ -0,0 +1,3 @@
+DROP INDEX IF EXISTS idx_bets_event_status;
+
+CREATE INDEX IF NOT EXISTS idx_bets_event_status_bet ON bets (event_id, status, bet_id);
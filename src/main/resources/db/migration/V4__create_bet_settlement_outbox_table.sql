@@ -0,0 +1,15 @@
+CREATE SEQUENCE IF NOT EXISTS bet_settlement_outbox_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS bet_settlement_outbox (
+    id BIGINT NOT NULL,
+    bet_id VARCHAR(255) NOT NULL,
+    user_id VARCHAR(255) NOT NULL,
+    event_id VARCHAR(255) NOT NULL,
+    event_market_id VARCHAR(255) NOT NULL,
+    event_winner_id VARCHAR(255) NOT NULL,
+    bet_amount DECIMAL(19, 2) NOT NULL,
+    status VARCHAR(50) NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+
+    PRIMARY KEY (id)
+);
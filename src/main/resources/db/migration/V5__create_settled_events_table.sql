@@ -0,0 +1,7 @@
+CREATE TABLE IF NOT EXISTS settled_events (
+    event_id VARCHAR(255) NOT NULL,
+    event_winner_id VARCHAR(255) NOT NULL,
+    settled_at TIMESTAMP WITH TIME ZONE NOT NULL,
+
+    PRIMARY KEY (event_id)
+);
@@ -0,0 +1,15 @@
+CREATE TABLE IF NOT EXISTS settlement_jobs (
+    event_id VARCHAR(255) NOT NULL,
+    event_winner_id VARCHAR(255) NOT NULL,
+    state VARCHAR(50) NOT NULL,
+    total_bets BIGINT NOT NULL,
+    settled_bets BIGINT NOT NULL,
+    won_bets BIGINT NOT NULL,
+    lost_bets BIGINT NOT NULL,
+    last_bet_id VARCHAR(255),
+    version INT NOT NULL,
+    started_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL,
+
+    PRIMARY KEY (event_id)
+);
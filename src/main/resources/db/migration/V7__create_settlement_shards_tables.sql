@@ -0,0 +1,23 @@
+CREATE TABLE IF NOT EXISTS settlement_fan_outs (
+    event_id VARCHAR(255) NOT NULL,
+    event_winner_id VARCHAR(255) NOT NULL,
+    shards INT NOT NULL,
+    remaining_shards INT NOT NULL,
+    settled_bets BIGINT NOT NULL,
+    started_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    completed_at TIMESTAMP WITH TIME ZONE,
+
+    PRIMARY KEY (event_id)
+);
+
+CREATE TABLE IF NOT EXISTS settlement_shards (
+    event_id VARCHAR(255) NOT NULL,
+    shard INT NOT NULL,
+    after_bet_id VARCHAR(255),
+    last_bet_id VARCHAR(255),
+    state VARCHAR(50) NOT NULL,
+    settled_bets BIGINT NOT NULL,
+    completed_at TIMESTAMP WITH TIME ZONE,
+
+    PRIMARY KEY (event_id, shard)
+);
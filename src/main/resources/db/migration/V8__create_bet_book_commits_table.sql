@@ -0,0 +1,6 @@
+CREATE TABLE IF NOT EXISTS bet_book_commits (
+    tx_id VARCHAR(36) NOT NULL,
+    committed_at TIMESTAMP WITH TIME ZONE NOT NULL,
+
+    PRIMARY KEY (tx_id)
+);
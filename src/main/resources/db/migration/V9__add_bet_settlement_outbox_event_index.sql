@@ -0,0 +1 @@
+CREATE INDEX IF NOT EXISTS idx_bet_settlement_outbox_event ON bet_settlement_outbox (event_id, id);
@@ -4,10 +4,12 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mario.hexagonalbettingengine.fixtures.BetEntityFixtures;
 import com.mario.hexagonalbettingengine.infrastructure.betting.BetEntity;
 import com.mario.hexagonalbettingengine.infrastructure.betting.BetJpaRepository;
+import com.mario.hexagonalbettingengine.infrastructure.betting.SettledEventCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -27,9 +29,21 @@ public abstract class BaseIT {
     @Autowired
     protected BetJpaRepository betRepository;
 
+    @Autowired
+    protected JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SettledEventCache settledEventCache;
+
     @BeforeEach
     void cleanUp() {
         betRepository.deleteAll();
+        jdbcTemplate.update("DELETE FROM settled_events");
+        jdbcTemplate.update("DELETE FROM settlement_jobs");
+        jdbcTemplate.update("DELETE FROM settlement_shards");
+        jdbcTemplate.update("DELETE FROM settlement_fan_outs");
+        jdbcTemplate.update("DELETE FROM bet_book_commits");
+        settledEventCache.clear();
     }
 
     protected void savePendingBet(String betId, String eventId, String winnerId) {
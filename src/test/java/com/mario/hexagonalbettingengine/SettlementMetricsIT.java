@@ -0,0 +1,81 @@
+package com.mario.hexagonalbettingengine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+
+import java.time.Duration;
+
+import static com.mario.hexagonalbettingengine.fixtures.EventOutcomeRequestDtoFixtures.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@EmbeddedKafka(partitions = 1, topics = {"${app.messaging.kafka.event-outcomes.topic}"})
+@DisplayName("Settlement Metrics Integration Tests")
+class SettlementMetricsIT extends BaseIT {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("Should register settlement meters and move them when an outcome is settled through Kafka")
+    void shouldRecordSettlementMetrics() throws Exception {
+        // Given
+        savePendingBet("bet-metrics-1", DEFAULT_EVENT_ID, DEFAULT_WINNER_ID);
+        savePendingBet("bet-metrics-2", DEFAULT_EVENT_ID, "BARCELONA");
+
+        await().atMost(Duration.ofSeconds(10))
+                .untilAsserted(() -> assertThat(meterRegistry.find("event.outcome.rebalance")
+                        .tag("type", "assigned")
+                        .counter())
+                        .isNotNull());
+
+        var settlementsBefore = timerCount("bet.settlement.duration");
+        var settledBetsBefore = summaryTotal("bet.settlement.bets");
+        var publishesBefore = timerCount("bet.settlement.publish");
+        var sendsBefore = timerCount("event.outcome.send");
+
+        // When
+        var result = mockMvc.perform(post("/api/event-outcomes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(validRequest())))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isAccepted());
+
+        // Then
+        await().atMost(Duration.ofSeconds(10))
+                .pollInterval(Duration.ofMillis(100))
+                .untilAsserted(() -> {
+                    assertThat(timerCount("event.outcome.send")).isEqualTo(sendsBefore + 1);
+                    assertThat(timerCount("bet.settlement.duration")).isEqualTo(settlementsBefore + 1);
+                    assertThat(summaryTotal("bet.settlement.bets")).isEqualTo(settledBetsBefore + 2);
+                    assertThat(timerCount("bet.settlement.publish")).isEqualTo(publishesBefore + 2);
+                });
+
+        assertThat(meterRegistry.find("bet.settlement.publish")
+                .tag("publisher", "LoggingBetSettlementPublisher")
+                .timer())
+                .isNotNull();
+    }
+
+    private long timerCount(String name) {
+        return meterRegistry.find(name).timers().stream()
+                .mapToLong(timer -> timer.count())
+                .sum();
+    }
+
+    private double summaryTotal(String name) {
+        return meterRegistry.find(name).summaries().stream()
+                .mapToDouble(summary -> summary.totalAmount())
+                .sum();
+    }
+}
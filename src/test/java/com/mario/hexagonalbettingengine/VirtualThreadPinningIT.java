@@ -0,0 +1,105 @@
+package com.mario.hexagonalbettingengine;
+
+import com.mario.hexagonalbettingengine.infrastructure.betting.BetStatus;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static com.mario.hexagonalbettingengine.fixtures.EventOutcomeRequestDtoFixtures.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@EmbeddedKafka(partitions = 1, topics = {"${app.messaging.kafka.event-outcomes.topic}"})
+@SpringBootTest(
+        webEnvironment = RANDOM_PORT,
+        properties = {
+                "spring.threads.virtual.enabled=true"
+        }
+)
+@DisplayName("Virtual Thread Pinning Integration Tests")
+class VirtualThreadPinningIT extends BaseIT {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String APPLICATION_PACKAGE = "com.mario.hexagonalbettingengine";
+
+    @TempDir
+    private Path recordingDir;
+
+    @Test
+    @DisplayName("Should settle an event on virtual threads without pinning a carrier in application code")
+    void shouldNotPinCarrierThreadsDuringSettlement() throws Exception {
+        // Given
+        IntStream.range(0, 50).forEach(i ->
+                savePendingBet("bet-vt-" + i, DEFAULT_EVENT_ID, i % 2 == 0 ? DEFAULT_WINNER_ID : "BARCELONA"));
+
+        var recordingFile = recordingDir.resolve("settlement.jfr");
+
+        try (var recording = new Recording()) {
+            recording.enable(PINNED_EVENT)
+                    .withThreshold(Duration.ZERO)
+                    .withStackTrace();
+            recording.start();
+
+            // When
+            var result = mockMvc.perform(post("/api/event-outcomes")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(validRequest())))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isAccepted());
+
+            await().atMost(Duration.ofSeconds(10))
+                    .pollInterval(Duration.ofMillis(100))
+                    .untilAsserted(() -> assertThat(betRepository.findAll())
+                            .allMatch(bet -> bet.getStatus() != BetStatus.PENDING));
+
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+
+        // Then
+        var pinnedInApplicationCode = RecordingFile.readAllEvents(recordingFile).stream()
+                .filter(event -> event.getEventType().getName().equals(PINNED_EVENT))
+                .filter(this::isInApplicationCode)
+                .map(this::describe)
+                .toList();
+
+        assertThat(pinnedInApplicationCode)
+                .as("Virtual threads pinned while running application code")
+                .isEmpty();
+    }
+
+    private boolean isInApplicationCode(RecordedEvent event) {
+        return frames(event).stream()
+                .anyMatch(frame -> frame.getMethod().getType().getName().startsWith(APPLICATION_PACKAGE));
+    }
+
+    private String describe(RecordedEvent event) {
+        return frames(event).stream()
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName())
+                .toList()
+                .toString();
+    }
+
+    private List<RecordedFrame> frames(RecordedEvent event) {
+        return event.getStackTrace() == null ? List.of() : event.getStackTrace().getFrames();
+    }
+}
@@ -0,0 +1,75 @@
+package com.mario.hexagonalbettingengine.application.betting;
+
+import com.mario.hexagonalbettingengine.BaseIT;
+import com.mario.hexagonalbettingengine.domain.betting.BetSettlement;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+
+import java.util.List;
+
+import static com.mario.hexagonalbettingengine.fixtures.BetRequestDtoFixtures.DEFAULT_BET_ID;
+import static com.mario.hexagonalbettingengine.fixtures.BetRequestDtoFixtures.DEFAULT_EVENT_ID;
+import static com.mario.hexagonalbettingengine.fixtures.BetRequestDtoFixtures.DEFAULT_WINNER_ID;
+import static com.mario.hexagonalbettingengine.fixtures.BetRequestDtoFixtures.baseRequest;
+import static com.mario.hexagonalbettingengine.fixtures.BetRequestDtoFixtures.validRequest;
+import static com.mario.hexagonalbettingengine.fixtures.EventOutcomeFixtures.createOutcome;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@EmbeddedKafka(partitions = 1, topics = {"${app.messaging.kafka.event-outcomes.topic}"})
+@DisplayName("Bet Controller Integration Tests")
+class BetControllerIT extends BaseIT {
+
+    @Autowired
+    private BetSettlement settlement;
+
+    @Test
+    @DisplayName("Should reject a bet with 409 Conflict when its event is already settled")
+    void shouldRejectBetPlacedAfterSettlement() throws Exception {
+        // Given
+        settlement.settle(createOutcome(DEFAULT_EVENT_ID, DEFAULT_WINNER_ID));
+
+        // When
+        var result = mockMvc.perform(post("/api/bets")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(validRequest())))
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.status").value(409));
+
+        assertThat(betRepository.findById(DEFAULT_BET_ID)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject the whole bulk request when the event was settled by another instance")
+    void shouldRejectBulkPlacementForEventSettledElsewhere() throws Exception {
+        // Given
+        jdbcTemplate.update("INSERT INTO settled_events (event_id, event_winner_id, settled_at) "
+                + "VALUES (?, ?, CURRENT_TIMESTAMP)", DEFAULT_EVENT_ID, DEFAULT_WINNER_ID);
+
+        var openEventBet = baseRequest().betId("b-open").eventId("match-open").build();
+        var settledEventBet = baseRequest().betId("b-settled").build();
+
+        // When
+        var result = mockMvc.perform(post("/api/bets/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(openEventBet, settledEventBet))))
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.detail").value("Events already settled: [" + DEFAULT_EVENT_ID + "]"));
+
+        assertThat(betRepository.count()).isZero();
+    }
+}
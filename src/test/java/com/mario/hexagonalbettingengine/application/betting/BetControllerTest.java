@@ -0,0 +1,175 @@
+package com.mario.hexagonalbettingengine.application.betting;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mario.hexagonalbettingengine.application.betting.mapper.BetDtoMapper;
+import com.mario.hexagonalbettingengine.domain.betting.BetPlacement;
+import com.mario.hexagonalbettingengine.domain.betting.BetPlacementRejectedException;
+import com.mario.hexagonalbettingengine.domain.betting.DuplicateBetException;
+import com.mario.hexagonalbettingengine.fixtures.BetFixtures;
+import com.mario.hexagonalbettingengine.infrastructure.config.JacksonConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static com.mario.hexagonalbettingengine.fixtures.BetRequestDtoFixtures.baseRequest;
+import static com.mario.hexagonalbettingengine.fixtures.BetRequestDtoFixtures.validRequest;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(BetController.class)
+@Import(JacksonConfig.class)
+class BetControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoBean
+    private BetPlacement placement;
+
+    @MockitoBean
+    private BetDtoMapper mapper;
+
+    @Test
+    @DisplayName("Should return 201 Created once the bet is committed")
+    void shouldPlaceBet() throws Exception {
+        // Given
+        var request = validRequest();
+        var bet = BetFixtures.baseBet().status(null).build();
+
+        when(mapper.toDomain(request)).thenReturn(bet);
+        when(placement.place(bet)).thenReturn(CompletableFuture.completedFuture(null));
+
+        // When
+        var result = mockMvc.perform(post("/api/bets")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isCreated());
+        verify(placement).place(bet);
+    }
+
+    @Test
+    @DisplayName("Should return 201 Created once all bets of a bulk request are committed")
+    void shouldPlaceBetsInBulk() throws Exception {
+        // Given
+        var requests = List.of(validRequest(), baseRequest().betId("b-101").build());
+        var bets = List.of(
+                BetFixtures.baseBet().betId("b-100").build(),
+                BetFixtures.baseBet().betId("b-101").build()
+        );
+
+        when(mapper.toDomain(requests)).thenReturn(bets);
+        when(placement.placeAll(bets)).thenReturn(CompletableFuture.completedFuture(null));
+
+        // When
+        var result = mockMvc.perform(post("/api/bets/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    @DisplayName("Should return 400 Bad Request with the item index when a bulk item is invalid")
+    void shouldRejectInvalidBulkItem() throws Exception {
+        // Given
+        var requests = List.of(validRequest(), baseRequest().betAmount(BigDecimal.ZERO).build());
+
+        // When & Then
+        mockMvc.perform(post("/api/bets/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors['[1].betAmount']").value("Bet amount must be positive"));
+
+        verifyNoInteractions(placement);
+    }
+
+    @Test
+    @DisplayName("Should return 400 Bad Request when bet is invalid")
+    void shouldRejectInvalidBet() throws Exception {
+        // Given
+        var request = baseRequest().betId("").build();
+
+        // When & Then
+        mockMvc.perform(post("/api/bets")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors.betId").value("Bet ID must not be blank"));
+
+        verifyNoInteractions(placement);
+    }
+
+    @Test
+    @DisplayName("Should return 409 Conflict when the bet already exists")
+    void shouldReturnConflictForDuplicateBet() throws Exception {
+        // Given
+        var request = validRequest();
+        var bet = BetFixtures.baseBet().build();
+
+        when(mapper.toDomain(request)).thenReturn(bet);
+        when(placement.place(any())).thenReturn(CompletableFuture.failedFuture(
+                new DuplicateBetException("Bet already exists", null)));
+
+        // When
+        var result = mockMvc.perform(post("/api/bets")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.status").value(409));
+    }
+
+    @Test
+    @DisplayName("Should return 503 Service Unavailable with Retry-After when the placement queue is full")
+    void shouldReturnServiceUnavailableWhenQueueIsFull() throws Exception {
+        // Given
+        var request = validRequest();
+        var bet = BetFixtures.baseBet().build();
+
+        when(mapper.toDomain(request)).thenReturn(bet);
+        when(placement.place(any())).thenReturn(CompletableFuture.failedFuture(
+                new BetPlacementRejectedException("Bet placement queue is full, retry later")));
+
+        // When
+        var result = mockMvc.perform(post("/api/bets")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"));
+    }
+}
@@ -0,0 +1,137 @@
+package com.mario.hexagonalbettingengine.application.eventoutcome;
+
+import com.mario.hexagonalbettingengine.application.eventoutcome.mapper.DeadLetterReplayDtoMapper;
+import com.mario.hexagonalbettingengine.application.eventoutcome.response.DeadLetterReplayResponse;
+import com.mario.hexagonalbettingengine.domain.eventoutcome.DeadLetterReplay;
+import com.mario.hexagonalbettingengine.domain.eventoutcome.DeadLetterReplayInProgressException;
+import com.mario.hexagonalbettingengine.domain.eventoutcome.DeadLetterReplayProgress;
+import com.mario.hexagonalbettingengine.domain.eventoutcome.DeadLetterReplayRequest;
+import com.mario.hexagonalbettingengine.infrastructure.config.JacksonConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(DeadLetterReplayController.class)
+@Import(JacksonConfig.class)
+class DeadLetterReplayControllerTest {
+
+    private static final String REPLAY_ID = "replay-1";
+    private static final Instant STARTED_AT = Instant.parse("2026-01-01T12:00:00Z");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private DeadLetterReplay replay;
+
+    @MockitoBean
+    private DeadLetterReplayDtoMapper mapper;
+
+    @Test
+    @DisplayName("Should return 202 Accepted with the replay's location when a replay is started")
+    void shouldStartReplay() throws Exception {
+        // Given
+        var request = DeadLetterReplayRequest.builder().dryRun(true).build();
+        var progress = DeadLetterReplayProgress.builder().replayId(REPLAY_ID).build();
+
+        when(mapper.toDomain(any())).thenReturn(request);
+        when(replay.start(request)).thenReturn(progress);
+        when(mapper.toResponse(progress)).thenReturn(response("RUNNING", 0));
+
+        // When & Then
+        mockMvc.perform(post("/api/admin/dlq-replays")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                  "eventIds": ["match-100"],
+                                  "dryRun": true
+                                }
+                                """))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "http://localhost/api/admin/dlq-replays/" + REPLAY_ID))
+                .andExpect(jsonPath("$.replayId").value(REPLAY_ID))
+                .andExpect(jsonPath("$.state").value("RUNNING"));
+    }
+
+    @Test
+    @DisplayName("Should return 400 Bad Request when the range ends before it starts")
+    void shouldRejectInvertedRange() throws Exception {
+        // When & Then
+        mockMvc.perform(post("/api/admin/dlq-replays")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                  "fromOffset": 100,
+                                  "toOffset": 10
+                                }
+                                """))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors.rangeValid").value("Range start must be before range end"));
+
+        verify(replay, never()).start(any());
+    }
+
+    @Test
+    @DisplayName("Should return 409 Conflict while another replay is running")
+    void shouldRejectConcurrentReplay() throws Exception {
+        // Given
+        when(mapper.toDomain(any())).thenReturn(DeadLetterReplayRequest.builder().build());
+        when(replay.start(any())).thenThrow(new DeadLetterReplayInProgressException("DLQ replay replay-0 is still running"));
+
+        // When & Then
+        mockMvc.perform(post("/api/admin/dlq-replays")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    @DisplayName("Should return 200 OK with the counters of a known replay")
+    void shouldReturnProgress() throws Exception {
+        // Given
+        var progress = DeadLetterReplayProgress.builder().replayId(REPLAY_ID).build();
+
+        when(replay.findById(REPLAY_ID)).thenReturn(Optional.of(progress));
+        when(mapper.toResponse(progress)).thenReturn(response("COMPLETED", 3));
+
+        // When & Then
+        mockMvc.perform(get("/api/admin/dlq-replays/{replayId}", REPLAY_ID))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value("COMPLETED"))
+                .andExpect(jsonPath("$.replayed").value(3));
+    }
+
+    @Test
+    @DisplayName("Should return 404 Not Found for an unknown replay")
+    void shouldReturnNotFoundForUnknownReplay() throws Exception {
+        // Given
+        when(replay.findById("replay-unknown")).thenReturn(Optional.empty());
+
+        // When & Then
+        mockMvc.perform(get("/api/admin/dlq-replays/{replayId}", "replay-unknown"))
+                .andExpect(status().isNotFound());
+    }
+
+    private DeadLetterReplayResponse response(String state, long replayed) {
+        return new DeadLetterReplayResponse(REPLAY_ID, state, "REPUBLISH", false,
+                replayed, 0, 0, 0, replayed, replayed, 0, STARTED_AT, null, null);
+    }
+}
@@ -15,7 +15,9 @@ import static com.mario.hexagonalbettingengine.fixtures.BetEntityFixtures.DEFAUL
 import static com.mario.hexagonalbettingengine.fixtures.EventOutcomeRequestDtoFixtures.*;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @EmbeddedKafka(partitions = 1, topics = {"event-outcomes-test"})
@@ -31,9 +33,12 @@ class EventOutcomeControllerIT extends BaseIT {
         var request = validRequest();
 
         // When
-        mockMvc.perform(post("/api/event-outcomes")
+        var result = mockMvc.perform(post("/api/event-outcomes")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isAccepted());
 
         // Then
@@ -88,9 +93,12 @@ class EventOutcomeControllerIT extends BaseIT {
                 .build();
 
         // When
-        mockMvc.perform(post("/api/event-outcomes")
+        var result = mockMvc.perform(post("/api/event-outcomes")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isAccepted());
 
         // Then
@@ -4,6 +4,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mario.hexagonalbettingengine.application.eventoutcome.mapper.EventOutcomeDtoMapper;
 import com.mario.hexagonalbettingengine.domain.eventoutcome.EventOutcome;
 import com.mario.hexagonalbettingengine.domain.eventoutcome.EventOutcomeCommandHandler;
+import com.mario.hexagonalbettingengine.domain.eventoutcome.EventOutcomeDeliveryException;
+import com.mario.hexagonalbettingengine.domain.eventoutcome.EventOutcomePublishRejectedException;
 import com.mario.hexagonalbettingengine.fixtures.EventOutcomeFixtures;
 import com.mario.hexagonalbettingengine.fixtures.EventOutcomeRequestDtoFixtures;
 import com.mario.hexagonalbettingengine.infrastructure.config.JacksonConfig;
@@ -20,6 +22,8 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Stream;
 
 import static com.mario.hexagonalbettingengine.fixtures.EventOutcomeFixtures.DEFAULT_EVENT_ID;
@@ -27,13 +31,18 @@ import static com.mario.hexagonalbettingengine.fixtures.EventOutcomeFixtures.DEF
 import static com.mario.hexagonalbettingengine.fixtures.EventOutcomeRequestDtoFixtures.DEFAULT_WINNER_ID;
 import static com.mario.hexagonalbettingengine.fixtures.EventOutcomeRequestDtoFixtures.baseRequest;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(EventOutcomeController.class)
-@Import(JacksonConfig.class)
+@Import({JacksonConfig.class, EventOutcomeBatchHandler.class})
 class EventOutcomeControllerTest {
 
     @Autowired
@@ -56,14 +65,19 @@ class EventOutcomeControllerTest {
         var expectedDomainOutcome = EventOutcomeFixtures.baseOutcome().build();
 
         when(mapper.toDomain(request)).thenReturn(expectedDomainOutcome);
+        when(handler.handle(any())).thenReturn(CompletableFuture.completedFuture(null));
 
         // When
-        mockMvc.perform(post("/api/event-outcomes")
+        var result = mockMvc.perform(post("/api/event-outcomes")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
-                .andExpect(status().isAccepted());
+                .andExpect(request().asyncStarted())
+                .andReturn();
 
         // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isAccepted());
+
         var outcomeCaptor = ArgumentCaptor.forClass(EventOutcome.class);
         verify(handler).handle(outcomeCaptor.capture());
 
@@ -123,14 +137,65 @@ class EventOutcomeControllerTest {
         var expectedDto = baseRequest().build();
         var domainOutcome = EventOutcomeFixtures.baseOutcome().build();
         when(mapper.toDomain(expectedDto)).thenReturn(domainOutcome);
+        when(handler.handle(domainOutcome)).thenReturn(CompletableFuture.completedFuture(null));
 
-        // When & Then
-        mockMvc.perform(post("/api/event-outcomes")
+        // When
+        var result = mockMvc.perform(post("/api/event-outcomes")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(jsonWithExtraField))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isAccepted());
     }
 
+    @Test
+    @DisplayName("Should return 429 Too Many Requests with Retry-After when the publisher sheds load")
+    void shouldReturnTooManyRequestsWhenPublisherIsSaturated() throws Exception {
+        // Given
+        var request = EventOutcomeRequestDtoFixtures.validRequest();
+        var domainOutcome = EventOutcomeFixtures.baseOutcome().build();
+
+        when(mapper.toDomain(request)).thenReturn(domainOutcome);
+        when(handler.handle(domainOutcome))
+                .thenThrow(new EventOutcomePublishRejectedException("10000 event outcome sends are awaiting acknowledgement"));
+
+        // When & Then
+        mockMvc.perform(post("/api/event-outcomes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "1"))
+                .andExpect(jsonPath("$.status").value(429));
+    }
+
+    @Test
+    @DisplayName("Should return 503 Service Unavailable when Kafka does not acknowledge the event outcome")
+    void shouldReturnServiceUnavailableWhenAckFails() throws Exception {
+        // Given
+        var request = EventOutcomeRequestDtoFixtures.validRequest();
+        var domainOutcome = EventOutcomeFixtures.baseOutcome().build();
+
+        when(mapper.toDomain(request)).thenReturn(domainOutcome);
+        when(handler.handle(domainOutcome)).thenReturn(CompletableFuture.failedFuture(
+                new EventOutcomeDeliveryException("Could not publish outcome for event match-100",
+                        new RuntimeException("Broker down"))));
+
+        // When
+        var result = mockMvc.perform(post("/api/event-outcomes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.status").value(503));
+    }
+
     @Test
     @DisplayName("Should return 400 Bad Request when JSON is malformed")
     void shouldRejectMalformedJson() throws Exception {
@@ -141,7 +206,124 @@ class EventOutcomeControllerTest {
                         .content(brokenJson))
                 .andExpect(status().isBadRequest());
     }
+    @Test
+    @DisplayName("Should accept a JSON array batch and publish all outcomes in one call")
+    void shouldAcceptJsonBatch() throws Exception {
+        // Given
+        var first = EventOutcomeRequestDtoFixtures.validRequest();
+        var second = baseRequest().eventId("match-200").build();
+        var firstOutcome = EventOutcomeFixtures.baseOutcome().build();
+        var secondOutcome = EventOutcomeFixtures.baseOutcome().eventId("match-200").build();
+
+        when(mapper.toDomain(first)).thenReturn(firstOutcome);
+        when(mapper.toDomain(second)).thenReturn(secondOutcome);
+        when(handler.handleAll(anyList())).thenReturn(CompletableFuture.completedFuture(null));
+
+        // When
+        var result = mockMvc.perform(post("/api/event-outcomes/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(first, second))))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.accepted").value(2))
+                .andExpect(jsonPath("$.rejected").value(0))
+                .andExpect(jsonPath("$.items[1].eventId").value("match-200"))
+                .andExpect(jsonPath("$.items[1].status").value(202));
+        verify(handler).handleAll(List.of(firstOutcome, secondOutcome));
+    }
+
+    @Test
+    @DisplayName("Should publish valid items and report invalid ones by index with 207 Multi-Status")
+    void shouldReportInvalidItemsInJsonBatch() throws Exception {
+        // Given
+        var valid = EventOutcomeRequestDtoFixtures.validRequest();
+        var invalid = EventOutcomeRequestDtoFixtures.createInvalidRequest("match-200", "", DEFAULT_WINNER_ID);
+        var outcome = EventOutcomeFixtures.baseOutcome().build();
+
+        when(mapper.toDomain(valid)).thenReturn(outcome);
+        when(handler.handleAll(anyList())).thenReturn(CompletableFuture.completedFuture(null));
+
+        // When
+        var result = mockMvc.perform(post("/api/event-outcomes/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(invalid, valid))))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$.accepted").value(1))
+                .andExpect(jsonPath("$.rejected").value(1))
+                .andExpect(jsonPath("$.items[0].status").value(400))
+                .andExpect(jsonPath("$.items[0].errors.eventName").exists())
+                .andExpect(jsonPath("$.items[1].status").value(202));
+        verify(handler).handleAll(List.of(outcome));
+    }
+
+    @Test
+    @DisplayName("Should accept an NDJSON batch and report malformed lines per item")
+    void shouldAcceptNdjsonBatchWithMalformedLine() throws Exception {
+        // Given
+        var request = EventOutcomeRequestDtoFixtures.validRequest();
+        var outcome = EventOutcomeFixtures.baseOutcome().build();
+        var body = objectMapper.writeValueAsString(request) + "\n\n{\"eventId\": \"broken\"\n";
+
+        when(mapper.toDomain(request)).thenReturn(outcome);
+        when(handler.handleAll(anyList())).thenReturn(CompletableFuture.completedFuture(null));
+
+        // When
+        var result = mockMvc.perform(post("/api/event-outcomes/batch")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(body))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$.items[0].status").value(202))
+                .andExpect(jsonPath("$.items[1].index").value(1))
+                .andExpect(jsonPath("$.items[1].detail").value("Malformed JSON request"));
+        verify(handler).handleAll(List.of(outcome));
+    }
+
+    @Test
+    @DisplayName("Should not publish anything when every item in the batch is invalid")
+    void shouldNotPublishWhenAllItemsInvalid() throws Exception {
+        // Given
+        var invalid = EventOutcomeRequestDtoFixtures.createInvalidRequest("", "Name", DEFAULT_WINNER_ID);
+
+        // When
+        var result = mockMvc.perform(post("/api/event-outcomes/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(invalid))))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$.rejected").value(1));
+
+        verify(handler, never()).handleAll(anyList());
+    }
 
+    @Test
+    @DisplayName("Should return 400 Bad Request for an empty batch")
+    void shouldRejectEmptyBatch() throws Exception {
+        mockMvc.perform(post("/api/event-outcomes/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(400));
+
+        verifyNoInteractions(handler);
+    }
 
     static Stream<Arguments> invalidRequestsProvider() {
         return Stream.of(
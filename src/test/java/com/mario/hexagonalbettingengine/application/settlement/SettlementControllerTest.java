@@ -0,0 +1,69 @@
+package com.mario.hexagonalbettingengine.application.settlement;
+
+import com.mario.hexagonalbettingengine.application.settlement.mapper.SettlementProgressDtoMapper;
+import com.mario.hexagonalbettingengine.application.settlement.response.SettlementProgressResponse;
+import com.mario.hexagonalbettingengine.domain.betting.SettlementProgress;
+import com.mario.hexagonalbettingengine.infrastructure.config.JacksonConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Optional;
+
+import static com.mario.hexagonalbettingengine.fixtures.EventOutcomeFixtures.DEFAULT_EVENT_ID;
+import static com.mario.hexagonalbettingengine.fixtures.SettlementJobFixtures.STARTED_AT;
+import static com.mario.hexagonalbettingengine.fixtures.SettlementJobFixtures.checkpointedJob;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(SettlementController.class)
+@Import(JacksonConfig.class)
+class SettlementControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private SettlementProgress progress;
+
+    @MockitoBean
+    private SettlementProgressDtoMapper mapper;
+
+    @Test
+    @DisplayName("Should return 200 OK with the checkpoint of the event's settlement job")
+    void shouldReturnProgress() throws Exception {
+        // Given
+        var job = checkpointedJob("bet-2", 2).build();
+        var response = new SettlementProgressResponse(DEFAULT_EVENT_ID, "REAL_MADRID", "IN_PROGRESS",
+                3, 2, 2, 0, "bet-2", STARTED_AT, STARTED_AT);
+
+        when(progress.findByEventId(DEFAULT_EVENT_ID)).thenReturn(Optional.of(job));
+        when(mapper.toResponse(job)).thenReturn(response);
+
+        // When & Then
+        mockMvc.perform(get("/api/settlements/{eventId}", DEFAULT_EVENT_ID))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.eventId").value(DEFAULT_EVENT_ID))
+                .andExpect(jsonPath("$.state").value("IN_PROGRESS"))
+                .andExpect(jsonPath("$.totalBets").value(3))
+                .andExpect(jsonPath("$.settledBets").value(2))
+                .andExpect(jsonPath("$.lastBetId").value("bet-2"));
+    }
+
+    @Test
+    @DisplayName("Should return 404 Not Found when no settlement job exists for the event")
+    void shouldReturnNotFoundForUnknownEvent() throws Exception {
+        // Given
+        when(progress.findByEventId("match-unknown")).thenReturn(Optional.empty());
+
+        // When & Then
+        mockMvc.perform(get("/api/settlements/{eventId}", "match-unknown"))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,100 @@
+package com.mario.hexagonalbettingengine.domain.betting;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static com.mario.hexagonalbettingengine.domain.betting.BetStatus.PENDING;
+import static com.mario.hexagonalbettingengine.fixtures.BetFixtures.baseBet;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class BetPlacementServiceTest {
+
+    @Mock
+    private BetPlacementQueue queue;
+
+    @Mock
+    private PendingEventIndex pendingEvents;
+
+    @Mock
+    private SettledEventRegistry settledEvents;
+
+    @InjectMocks
+    private BetPlacementService service;
+
+    @Test
+    @DisplayName("Should enqueue placed bets as PENDING regardless of the incoming status")
+    void shouldEnqueueBetsAsPending() {
+        // Given
+        var bet = baseBet().status(null).build();
+        var committed = CompletableFuture.<Void>completedFuture(null);
+
+        given(queue.enqueue(List.of(bet.withStatus(PENDING)))).willReturn(committed);
+
+        // When
+        var result = service.place(bet);
+
+        // Then
+        assertThat(result).isSameAs(committed);
+    }
+
+    @Test
+    @DisplayName("Should mark the event as pending before the bet is handed to the queue")
+    void shouldAddEventToPendingIndexBeforeEnqueue() {
+        // Given
+        var bet = baseBet().build();
+        given(queue.enqueue(List.of(bet.withStatus(PENDING)))).willReturn(CompletableFuture.completedFuture(null));
+
+        // When
+        service.place(bet);
+
+        // Then
+        var inOrder = inOrder(pendingEvents, queue);
+        inOrder.verify(pendingEvents).add(bet.eventId());
+        inOrder.verify(queue).enqueue(List.of(bet.withStatus(PENDING)));
+    }
+
+    @Test
+    @DisplayName("Should complete immediately without touching the queue when no bets are given")
+    void shouldSkipQueueForEmptyPlacement() {
+        // When
+        var result = service.placeAll(List.of());
+
+        // Then
+        assertThat(result).isCompleted();
+        verifyNoInteractions(queue, pendingEvents, settledEvents);
+    }
+
+    @Test
+    @DisplayName("Should fail with EventAlreadySettledException and enqueue nothing when any event is settled")
+    void shouldRejectBetsOnSettledEvents() {
+        // Given
+        var openEventBet = baseBet().betId("bet-open").eventId("match-open").build();
+        var settledEventBet = baseBet().betId("bet-settled").build();
+
+        given(settledEvents.isSettled("match-open")).willReturn(false);
+        given(settledEvents.isSettled(settledEventBet.eventId())).willReturn(true);
+
+        // When
+        var result = service.placeAll(List.of(openEventBet, settledEventBet));
+
+        // Then
+        assertThat(result).failsWithin(Duration.ZERO)
+                .withThrowableThat()
+                .havingCause()
+                .isInstanceOf(EventAlreadySettledException.class)
+                .withMessage("Events already settled: [" + settledEventBet.eventId() + "]");
+        verifyNoInteractions(queue, pendingEvents);
+    }
+}
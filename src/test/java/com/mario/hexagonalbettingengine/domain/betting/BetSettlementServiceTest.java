@@ -1,25 +1,31 @@
 package com.mario.hexagonalbettingengine.domain.betting;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Collection;
 import java.util.List;
 
 import static com.mario.hexagonalbettingengine.domain.betting.BetStatus.*;
+import static com.mario.hexagonalbettingengine.domain.betting.SettlementMode.BULK;
+import static com.mario.hexagonalbettingengine.domain.betting.SettlementMode.PER_BET;
 import static com.mario.hexagonalbettingengine.fixtures.BetFixtures.*;
 import static com.mario.hexagonalbettingengine.fixtures.EventOutcomeFixtures.*;
+import static com.mario.hexagonalbettingengine.fixtures.SettlementSettingsFixtures.*;
 import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.tuple;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
@@ -30,16 +36,31 @@ class BetSettlementServiceTest {
     private BetRepository repository;
 
     @Mock
-    private BetSettlementPublisher publisher;
+    private BetSettlementOutbox outbox;
+
+    @Mock
+    private BetSettlementMetrics metrics;
+
+    @Mock
+    private SettledEventRegistry settledEvents;
+
+    @Mock
+    private PendingEventIndex pendingEvents;
 
-    @InjectMocks
     private BetSettlementService service;
 
     @Captor
-    private ArgumentCaptor<Bet> betCaptor;
+    private ArgumentCaptor<Collection<Bet>> chunkCaptor;
+
+    @BeforeEach
+    void setUp() {
+        service = new BetSettlementService(repository, outbox, perBetSettlement(), metrics, settledEvents, pendingEvents);
+        lenient().when(settledEvents.register(any())).thenReturn(true);
+        lenient().when(pendingEvents.mightHavePendingBets(any())).thenReturn(true);
+    }
 
     @Test
-    @DisplayName("Should settle multiple bets (mixed WON/LOST) and publish events")
+    @DisplayName("Should settle multiple bets (mixed WON/LOST) and append them to the outbox")
     void shouldSettleMultipleBetsCorrectly() {
         // Given
         var outcome = createOutcome(DEFAULT_EVENT_ID, REAL_MADRID);
@@ -48,15 +69,15 @@ class BetSettlementServiceTest {
         var bet2 = createBet("bet-2", DEFAULT_EVENT_ID, "BARCELONA", PENDING);
         var bet3 = createBet("bet-3", DEFAULT_EVENT_ID, REAL_MADRID, PENDING);
 
-        given(repository.findPendingBetsByEventId(DEFAULT_EVENT_ID))
+        given(repository.findPendingBetsByEventId(DEFAULT_EVENT_ID, null, DEFAULT_CHUNK_SIZE))
                 .willReturn(List.of(bet1, bet2, bet3));
 
         // When
         service.settle(outcome);
 
         // Then
-        verify(repository, times(3)).save(betCaptor.capture());
-        var savedBets = betCaptor.getAllValues();
+        verify(repository).saveAll(chunkCaptor.capture());
+        var savedBets = chunkCaptor.getValue();
 
         assertThat(savedBets)
                 .extracting(Bet::betId, Bet::status)
@@ -66,11 +87,11 @@ class BetSettlementServiceTest {
                         tuple("bet-3", WON)
                 );
 
-        var inOrder = inOrder(repository, publisher);
-        savedBets.forEach(bet -> {
-            inOrder.verify(repository).save(bet);
-            inOrder.verify(publisher).publish(bet);
-        });
+        var inOrder = inOrder(repository, outbox);
+        inOrder.verify(repository).saveAll(savedBets);
+        inOrder.verify(outbox).append(savedBets);
+        verify(repository, never()).save(any());
+        verify(metrics).recordSettlement(eq(PER_BET), eq(3), any(Duration.class));
     }
 
     @Test
@@ -85,15 +106,15 @@ class BetSettlementServiceTest {
                 .betAmount(new BigDecimal("100.50"))
                 .build();
 
-        given(repository.findPendingBetsByEventId(DEFAULT_EVENT_ID))
+        given(repository.findPendingBetsByEventId(DEFAULT_EVENT_ID, null, DEFAULT_CHUNK_SIZE))
                 .willReturn(List.of(originalBet));
 
         // When
         service.settle(outcome);
 
         // Them
-        verify(repository).save(betCaptor.capture());
-        var savedBet = betCaptor.getValue();
+        verify(repository).saveAll(chunkCaptor.capture());
+        var savedBet = chunkCaptor.getValue().iterator().next();
 
         assertThat(savedBet)
                 .usingRecursiveComparison()
@@ -108,15 +129,15 @@ class BetSettlementServiceTest {
         // Given
         var outcome = createOutcome(DEFAULT_EVENT_ID, REAL_MADRID);
 
-        given(repository.findPendingBetsByEventId(DEFAULT_EVENT_ID))
+        given(repository.findPendingBetsByEventId(DEFAULT_EVENT_ID, null, DEFAULT_CHUNK_SIZE))
                 .willReturn(emptyList());
 
         // When
         service.settle(outcome);
 
         // Then
-        verify(repository, never()).save(any());
-        verifyNoInteractions(publisher);
+        verify(repository, never()).saveAll(any());
+        verifyNoInteractions(outbox);
     }
 
     @Test
@@ -126,30 +147,255 @@ class BetSettlementServiceTest {
         var outcome = createOutcome(DEFAULT_EVENT_ID, REAL_MADRID);
         var bet = createBet("bet-1", DEFAULT_EVENT_ID, REAL_MADRID, PENDING);
 
-        given(repository.findPendingBetsByEventId(DEFAULT_EVENT_ID)).willReturn(List.of(bet));
+        given(repository.findPendingBetsByEventId(DEFAULT_EVENT_ID, null, DEFAULT_CHUNK_SIZE)).willReturn(List.of(bet));
 
         var expectedSettledBet = createBet("bet-1", DEFAULT_EVENT_ID, REAL_MADRID, WON);
-        doThrow(new RuntimeException("DB Error")).when(repository).save(expectedSettledBet);
+        doThrow(new RuntimeException("DB Error")).when(repository).saveAll(List.of(expectedSettledBet));
 
         // When & Then
         assertThrows(RuntimeException.class, () -> service.settle(outcome));
-        verifyNoInteractions(publisher);
+        verifyNoInteractions(outbox);
     }
 
     @Test
-    @DisplayName("Should propagate exception if publisher fails")
-    void shouldPropagateExceptionWhenPublisherFails() {
+    @DisplayName("Should propagate exception if outbox append fails")
+    void shouldPropagateExceptionWhenOutboxFails() {
         // Given
         var outcome = createOutcome(DEFAULT_EVENT_ID, REAL_MADRID);
         var bet = createBet("bet-1", DEFAULT_EVENT_ID, REAL_MADRID, PENDING);
 
-        given(repository.findPendingBetsByEventId(DEFAULT_EVENT_ID)).willReturn(List.of(bet));
+        given(repository.findPendingBetsByEventId(DEFAULT_EVENT_ID, null, DEFAULT_CHUNK_SIZE)).willReturn(List.of(bet));
 
         var expectedSettledBet = createBet("bet-1", DEFAULT_EVENT_ID, REAL_MADRID, WON);
-        doThrow(new RuntimeException("Kafka Error")).when(publisher).publish(expectedSettledBet);
+        doThrow(new RuntimeException("DB Error")).when(outbox).append(List.of(expectedSettledBet));
 
         // When & Then
         assertThrows(RuntimeException.class, () -> service.settle(outcome));
-        verify(repository).save(expectedSettledBet);
+        verify(repository).saveAll(List.of(expectedSettledBet));
+    }
+
+    @Test
+    @DisplayName("Should page through pending bets chunk by chunk using the last bet ID as keyset")
+    void shouldSettlePendingBetsChunkByChunk() {
+        // Given
+        service = new BetSettlementService(repository, outbox, perBetSettlement(2), metrics, settledEvents, pendingEvents);
+        var outcome = createOutcome(DEFAULT_EVENT_ID, REAL_MADRID);
+
+        var bet1 = createBet("bet-1", DEFAULT_EVENT_ID, REAL_MADRID, PENDING);
+        var bet2 = createBet("bet-2", DEFAULT_EVENT_ID, "BARCELONA", PENDING);
+        var bet3 = createBet("bet-3", DEFAULT_EVENT_ID, REAL_MADRID, PENDING);
+
+        given(repository.findPendingBetsByEventId(DEFAULT_EVENT_ID, null, 2))
+                .willReturn(List.of(bet1, bet2));
+        given(repository.findPendingBetsByEventId(DEFAULT_EVENT_ID, "bet-2", 2))
+                .willReturn(List.of(bet3));
+
+        // When
+        service.settle(outcome);
+
+        // Then
+        verify(repository, times(2)).saveAll(chunkCaptor.capture());
+        var savedBets = chunkCaptor.getAllValues().stream()
+                .flatMap(Collection::stream)
+                .toList();
+
+        assertThat(savedBets)
+                .extracting(Bet::betId, Bet::status)
+                .containsExactly(
+                        tuple("bet-1", WON),
+                        tuple("bet-2", LOST),
+                        tuple("bet-3", WON)
+                );
+        verify(repository, times(2)).findPendingBetsByEventId(eq(DEFAULT_EVENT_ID), any(), eq(2));
+        verify(outbox, times(2)).append(any());
+    }
+
+    @Test
+    @DisplayName("Should fetch the next chunk when the previous one was exactly full")
+    void shouldFetchNextChunkWhenPreviousWasFull() {
+        // Given
+        service = new BetSettlementService(repository, outbox, perBetSettlement(1), metrics, settledEvents, pendingEvents);
+        var outcome = createOutcome(DEFAULT_EVENT_ID, REAL_MADRID);
+        var bet = createBet("bet-1", DEFAULT_EVENT_ID, REAL_MADRID, PENDING);
+
+        given(repository.findPendingBetsByEventId(DEFAULT_EVENT_ID, null, 1))
+                .willReturn(List.of(bet));
+        given(repository.findPendingBetsByEventId(DEFAULT_EVENT_ID, "bet-1", 1))
+                .willReturn(emptyList());
+
+        // When
+        service.settle(outcome);
+
+        // Then
+        verify(repository).saveAll(List.of(createBet("bet-1", DEFAULT_EVENT_ID, REAL_MADRID, WON)));
+        verify(repository).findPendingBetsByEventId(DEFAULT_EVENT_ID, "bet-1", 1);
+    }
+
+    @Test
+    @DisplayName("Should settle in bulk and append every settled bet to the outbox when bulk mode is active")
+    void shouldSettleInBulkAndAppendSettledBetsToOutbox() {
+        // Given
+        service = new BetSettlementService(repository, outbox, bulkSettlement(), metrics, settledEvents, pendingEvents);
+        var outcome = createOutcome(DEFAULT_EVENT_ID, REAL_MADRID);
+
+        var wonBet = createBet("bet-1", DEFAULT_EVENT_ID, REAL_MADRID, WON);
+        var lostBet = createBet("bet-2", DEFAULT_EVENT_ID, "BARCELONA", LOST);
+
+        given(repository.settlePendingBets(DEFAULT_EVENT_ID, REAL_MADRID, null, DEFAULT_CHUNK_SIZE))
+                .willReturn(List.of(wonBet, lostBet));
+
+        // When
+        service.settle(outcome);
+
+        // Then
+        verify(outbox).append(List.of(wonBet, lostBet));
+        verify(repository, never()).findPendingBetsByEventId(any());
+        verify(repository, never()).saveAll(any());
+        verify(metrics).recordSettlement(eq(BULK), eq(2), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("Should settle in bulk chunk by chunk and append each chunk to the outbox")
+    void shouldSettleInBulkChunks() {
+        // Given
+        service = new BetSettlementService(repository, outbox, bulkSettlement(1), metrics, settledEvents, pendingEvents);
+        var outcome = createOutcome(DEFAULT_EVENT_ID, REAL_MADRID);
+
+        var wonBet = createBet("bet-1", DEFAULT_EVENT_ID, REAL_MADRID, WON);
+        var lostBet = createBet("bet-2", DEFAULT_EVENT_ID, "BARCELONA", LOST);
+
+        given(repository.settlePendingBets(DEFAULT_EVENT_ID, REAL_MADRID, null, 1)).willReturn(List.of(wonBet));
+        given(repository.settlePendingBets(DEFAULT_EVENT_ID, REAL_MADRID, "bet-1", 1)).willReturn(List.of(lostBet));
+        given(repository.settlePendingBets(DEFAULT_EVENT_ID, REAL_MADRID, "bet-2", 1)).willReturn(emptyList());
+
+        // When
+        service.settle(outcome);
+
+        // Then
+        var inOrder = inOrder(outbox);
+        inOrder.verify(outbox).append(List.of(wonBet));
+        inOrder.verify(outbox).append(List.of(lostBet));
+        verify(metrics).recordSettlement(eq(BULK), eq(2), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("Should append nothing in bulk mode when no pending bets were settled")
+    void shouldDoNothingInBulkModeWhenNoBetsSettled() {
+        // Given
+        service = new BetSettlementService(repository, outbox, bulkSettlement(), metrics, settledEvents, pendingEvents);
+        var outcome = createOutcome(DEFAULT_EVENT_ID, REAL_MADRID);
+
+        given(repository.settlePendingBets(DEFAULT_EVENT_ID, REAL_MADRID, null, DEFAULT_CHUNK_SIZE))
+                .willReturn(emptyList());
+
+        // When
+        service.settle(outcome);
+
+        // Then
+        verifyNoInteractions(outbox);
+    }
+
+    @Test
+    @DisplayName("Should settle every event outcome of a batch")
+    void shouldSettleEveryOutcomeOfBatch() {
+        // Given
+        var firstOutcome = createOutcome("match-1", REAL_MADRID);
+        var secondOutcome = createOutcome("match-2", BARCELONA);
+
+        var firstBet = createBet("bet-1", "match-1", REAL_MADRID, PENDING);
+        var secondBet = createBet("bet-2", "match-2", REAL_MADRID, PENDING);
+
+        given(repository.findPendingBetsByEventId("match-1", null, DEFAULT_CHUNK_SIZE))
+                .willReturn(List.of(firstBet));
+        given(repository.findPendingBetsByEventId("match-2", null, DEFAULT_CHUNK_SIZE))
+                .willReturn(List.of(secondBet));
+
+        // When
+        service.settleAll(List.of(firstOutcome, secondOutcome));
+
+        // Then
+        var inOrder = inOrder(outbox);
+        inOrder.verify(outbox).append(List.of(firstBet.withStatus(WON)));
+        inOrder.verify(outbox).append(List.of(secondBet.withStatus(LOST)));
+    }
+
+    @Test
+    @DisplayName("Should skip an outcome whose event is already known to be settled without touching the database")
+    void shouldSkipKnownSettledEvent() {
+        // Given
+        var outcome = createOutcome(DEFAULT_EVENT_ID, REAL_MADRID);
+        given(settledEvents.isKnownSettled(DEFAULT_EVENT_ID)).willReturn(true);
+
+        // When
+        service.settle(outcome);
+
+        // Then
+        verify(settledEvents, never()).register(any());
+        verifyNoInteractions(repository, outbox, metrics);
+    }
+
+    @Test
+    @DisplayName("Should skip an outcome for an event without pending bets before any other work")
+    void shouldSkipEventWithoutPendingBets() {
+        // Given
+        var outcome = createOutcome(DEFAULT_EVENT_ID, REAL_MADRID);
+        given(pendingEvents.mightHavePendingBets(DEFAULT_EVENT_ID)).willReturn(false);
+
+        // When
+        service.settle(outcome);
+
+        // Then
+        verifyNoInteractions(settledEvents, repository, outbox, metrics);
+    }
+
+    @Test
+    @DisplayName("Should drop a settled event from the pending event index")
+    void shouldRemoveSettledEventFromPendingIndex() {
+        // Given
+        var outcome = createOutcome(DEFAULT_EVENT_ID, REAL_MADRID);
+        var bet = createBet("bet-1", DEFAULT_EVENT_ID, REAL_MADRID, PENDING);
+        given(repository.findPendingBetsByEventId(DEFAULT_EVENT_ID, null, DEFAULT_CHUNK_SIZE))
+                .willReturn(List.of(bet));
+
+        // When
+        service.settle(outcome);
+
+        // Then
+        var inOrder = inOrder(outbox, pendingEvents);
+        inOrder.verify(outbox).append(List.of(bet.withStatus(WON)));
+        inOrder.verify(pendingEvents).remove(DEFAULT_EVENT_ID);
+    }
+
+    @Test
+    @DisplayName("Should skip an outcome when another delivery already registered the event as settled")
+    void shouldSkipEventRegisteredByAnotherDelivery() {
+        // Given
+        var outcome = createOutcome(DEFAULT_EVENT_ID, REAL_MADRID);
+        given(settledEvents.register(outcome)).willReturn(false);
+
+        // When
+        service.settle(outcome);
+
+        // Then
+        verifyNoInteractions(repository, outbox, metrics);
+    }
+
+    @Test
+    @DisplayName("Should settle a duplicated outcome of a batch only once")
+    void shouldSettleDuplicateOutcomeOfBatchOnce() {
+        // Given
+        var outcome = createOutcome(DEFAULT_EVENT_ID, REAL_MADRID);
+        var bet = createBet("bet-1", DEFAULT_EVENT_ID, REAL_MADRID, PENDING);
+
+        given(settledEvents.register(outcome)).willReturn(true, false);
+        given(repository.findPendingBetsByEventId(DEFAULT_EVENT_ID, null, DEFAULT_CHUNK_SIZE))
+                .willReturn(List.of(bet));
+
+        // When
+        service.settleAll(List.of(outcome, outcome));
+
+        // Then
+        verify(repository).findPendingBetsByEventId(DEFAULT_EVENT_ID, null, DEFAULT_CHUNK_SIZE);
+        verify(outbox).append(List.of(bet.withStatus(WON)));
     }
-}
\ No newline at end of file
+}
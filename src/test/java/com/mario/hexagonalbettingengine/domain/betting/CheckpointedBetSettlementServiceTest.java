@@ -0,0 +1,157 @@
+package com.mario.hexagonalbettingengine.domain.betting;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static com.mario.hexagonalbettingengine.fixtures.EventOutcomeFixtures.*;
+import static com.mario.hexagonalbettingengine.fixtures.SettlementJobFixtures.checkpointedJob;
+import static com.mario.hexagonalbettingengine.fixtures.SettlementJobFixtures.newJob;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CheckpointedBetSettlementServiceTest {
+
+    @Mock
+    private BetRepository repository;
+
+    @Mock
+    private SettlementJobRepository jobs;
+
+    @Mock
+    private CheckpointedSettlementStep step;
+
+    @Mock
+    private BetSettlementMetrics metrics;
+
+    @Mock
+    private SettledEventRegistry settledEvents;
+
+    @Mock
+    private PendingEventIndex pendingEvents;
+
+    private CheckpointedBetSettlementService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new CheckpointedBetSettlementService(repository, jobs, step, metrics, settledEvents, pendingEvents);
+        lenient().when(pendingEvents.mightHavePendingBets(any())).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("Should create a job and settle chunks until the job completes")
+    void shouldCreateJobAndSettleUntilComplete() {
+        // Given
+        var outcome = createOutcome(DEFAULT_EVENT_ID, REAL_MADRID);
+        var firstChunk = checkpointedJob("bet-2", 2).build();
+        var lastChunk = checkpointedJob("bet-3", 3).version(2).build().complete();
+
+        given(jobs.findByEventId(DEFAULT_EVENT_ID)).willReturn(Optional.empty());
+        given(repository.countPendingBetsByEventId(DEFAULT_EVENT_ID)).willReturn(3L);
+        given(jobs.create(any())).willAnswer(invocation -> invocation.getArgument(0));
+        given(step.settleNextChunk(any())).willReturn(firstChunk, lastChunk);
+
+        // When
+        service.settle(outcome);
+
+        // Then
+        verify(jobs).create(argThat(job -> job.totalBets() == 3 && job.eventWinnerId().equals(REAL_MADRID)));
+        verify(step).settleNextChunk(firstChunk);
+        verify(step, times(2)).settleNextChunk(any());
+        verify(metrics).recordSettlement(eq(SettlementMode.CHECKPOINTED), eq(3), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("Should resume an existing job from its checkpoint without recounting bets")
+    void shouldResumeFromCheckpoint() {
+        // Given
+        var outcome = createOutcome(DEFAULT_EVENT_ID, REAL_MADRID);
+        var checkpoint = checkpointedJob("bet-2", 2).build();
+        var completed = checkpointedJob("bet-3", 3).version(2).build().complete();
+
+        given(jobs.findByEventId(DEFAULT_EVENT_ID)).willReturn(Optional.of(checkpoint));
+        given(step.settleNextChunk(checkpoint)).willReturn(completed);
+
+        // When
+        service.settle(outcome);
+
+        // Then
+        verify(repository, never()).countPendingBetsByEventId(any());
+        verify(jobs, never()).create(any());
+        verify(metrics).recordSettlement(eq(SettlementMode.CHECKPOINTED), eq(1), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("Should resume with the checkpointed winner when a retried outcome names a different one")
+    void shouldKeepCheckpointedWinner() {
+        // Given
+        var checkpoint = checkpointedJob("bet-2", 2).build();
+        given(jobs.findByEventId(DEFAULT_EVENT_ID)).willReturn(Optional.of(checkpoint));
+        given(step.settleNextChunk(checkpoint)).willReturn(checkpoint.complete());
+
+        // When
+        service.settle(createOutcome(DEFAULT_EVENT_ID, BARCELONA));
+
+        // Then
+        verify(step).settleNextChunk(argThat(job -> job.eventWinnerId().equals(REAL_MADRID)));
+    }
+
+    @Test
+    @DisplayName("Should ignore an outcome whose job is already completed")
+    void shouldSkipCompletedJob() {
+        // Given
+        given(jobs.findByEventId(DEFAULT_EVENT_ID)).willReturn(Optional.of(newJob().build().complete()));
+
+        // When
+        service.settle(createOutcome(DEFAULT_EVENT_ID, REAL_MADRID));
+
+        // Then
+        verifyNoInteractions(step, metrics);
+    }
+
+    @Test
+    @DisplayName("Should skip known settled events and events without pending bets before loading the job")
+    void shouldSkipBeforeLoadingJob() {
+        // Given
+        given(settledEvents.isKnownSettled("match-settled")).willReturn(true);
+        given(pendingEvents.mightHavePendingBets("match-without-bets")).willReturn(false);
+
+        // When
+        service.settleAll(List.of(
+                createOutcome("match-settled", REAL_MADRID),
+                createOutcome("match-without-bets", REAL_MADRID)));
+
+        // Then
+        verifyNoInteractions(jobs, step, repository, metrics);
+    }
+
+    @Test
+    @DisplayName("Should leave the checkpoint in place when a chunk fails")
+    void shouldPropagateChunkFailure() {
+        // Given
+        var checkpoint = checkpointedJob("bet-2", 2).build();
+        given(jobs.findByEventId(DEFAULT_EVENT_ID)).willReturn(Optional.of(checkpoint));
+        given(step.settleNextChunk(checkpoint)).willThrow(new IllegalStateException("Database down"));
+
+        // When
+        var exception = assertThrows(IllegalStateException.class,
+                () -> service.settle(createOutcome(DEFAULT_EVENT_ID, REAL_MADRID)));
+
+        // Then
+        assertThat(exception).hasMessage("Database down");
+        verify(jobs, never()).update(any());
+        verifyNoInteractions(metrics);
+    }
+}
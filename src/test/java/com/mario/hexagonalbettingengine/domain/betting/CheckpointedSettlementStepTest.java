@@ -0,0 +1,132 @@
+package com.mario.hexagonalbettingengine.domain.betting;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static com.mario.hexagonalbettingengine.domain.betting.BetStatus.*;
+import static com.mario.hexagonalbettingengine.fixtures.BetFixtures.createBet;
+import static com.mario.hexagonalbettingengine.fixtures.EventOutcomeFixtures.*;
+import static com.mario.hexagonalbettingengine.fixtures.SettlementJobFixtures.checkpointedJob;
+import static com.mario.hexagonalbettingengine.fixtures.SettlementJobFixtures.newJob;
+import static com.mario.hexagonalbettingengine.fixtures.SettlementSettingsFixtures.checkpointedSettlement;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CheckpointedSettlementStepTest {
+
+    private static final int CHUNK_SIZE = 2;
+
+    @Mock
+    private BetRepository repository;
+
+    @Mock
+    private BetSettlementOutbox outbox;
+
+    @Mock
+    private SettlementJobRepository jobs;
+
+    @Mock
+    private SettledEventRegistry settledEvents;
+
+    @Mock
+    private PendingEventIndex pendingEvents;
+
+    @Captor
+    private ArgumentCaptor<SettlementJob> jobCaptor;
+
+    private CheckpointedSettlementStep step;
+
+    @BeforeEach
+    void setUp() {
+        step = new CheckpointedSettlementStep(repository, outbox, checkpointedSettlement(CHUNK_SIZE), jobs,
+                settledEvents, pendingEvents);
+    }
+
+    @Test
+    @DisplayName("Should settle a full chunk, append it to the outbox and checkpoint after its last bet")
+    void shouldSettleChunkAndCheckpoint() {
+        // Given
+        var job = newJob().build();
+        var bet1 = createBet("bet-1", DEFAULT_EVENT_ID, REAL_MADRID, PENDING);
+        var bet2 = createBet("bet-2", DEFAULT_EVENT_ID, BARCELONA, PENDING);
+        var settledBets = List.of(bet1.withStatus(WON), bet2.withStatus(LOST));
+
+        given(repository.findPendingBetsByEventId(DEFAULT_EVENT_ID, null, CHUNK_SIZE)).willReturn(List.of(bet1, bet2));
+
+        // When
+        var next = step.settleNextChunk(job);
+
+        // Then
+        var inOrder = inOrder(repository, outbox, jobs);
+        inOrder.verify(repository).saveAll(settledBets);
+        inOrder.verify(outbox).append(settledBets);
+        inOrder.verify(jobs).update(jobCaptor.capture());
+
+        assertThat(jobCaptor.getValue()).isEqualTo(next);
+        assertThat(next.lastBetId()).isEqualTo("bet-2");
+        assertThat(next.settledBets()).isEqualTo(2);
+        assertThat(next.isCompleted()).isFalse();
+        verifyNoInteractions(settledEvents, pendingEvents);
+    }
+
+    @Test
+    @DisplayName("Should continue after the checkpoint and complete the job on a short chunk")
+    void shouldCompleteJobOnLastChunk() {
+        // Given
+        var job = checkpointedJob("bet-2", 2).build();
+        var bet3 = createBet("bet-3", DEFAULT_EVENT_ID, REAL_MADRID, PENDING);
+
+        given(repository.findPendingBetsByEventId(DEFAULT_EVENT_ID, "bet-2", CHUNK_SIZE)).willReturn(List.of(bet3));
+
+        // When
+        var next = step.settleNextChunk(job);
+
+        // Then
+        assertThat(next.isCompleted()).isTrue();
+        assertThat(next.settledBets()).isEqualTo(3);
+        verify(settledEvents).register(job.toOutcome());
+        verify(pendingEvents).remove(DEFAULT_EVENT_ID);
+        verify(jobs).update(next);
+    }
+
+    @Test
+    @DisplayName("Should complete the job without writing bets when nothing is left after the checkpoint")
+    void shouldCompleteJobWhenNoBetsRemain() {
+        // Given
+        var job = checkpointedJob("bet-2", 2).build();
+        given(repository.findPendingBetsByEventId(DEFAULT_EVENT_ID, "bet-2", CHUNK_SIZE)).willReturn(List.of());
+
+        // When
+        var next = step.settleNextChunk(job);
+
+        // Then
+        assertThat(next.isCompleted()).isTrue();
+        verify(repository, never()).saveAll(any());
+        verifyNoInteractions(outbox);
+    }
+
+    @Test
+    @DisplayName("Should fail the chunk when another delivery checkpointed the job first")
+    void shouldPropagateCheckpointConflict() {
+        // Given
+        var job = newJob().build();
+        given(repository.findPendingBetsByEventId(DEFAULT_EVENT_ID, null, CHUNK_SIZE))
+                .willReturn(List.of(createBet("bet-1", DEFAULT_EVENT_ID, REAL_MADRID, PENDING)));
+        doThrow(new SettlementJobConflictException("conflict")).when(jobs).update(any());
+
+        // When & Then
+        assertThrows(SettlementJobConflictException.class, () -> step.settleNextChunk(job));
+    }
+}
@@ -0,0 +1,70 @@
+package com.mario.hexagonalbettingengine.domain.betting;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.mario.hexagonalbettingengine.domain.betting.BetStatus.LOST;
+import static com.mario.hexagonalbettingengine.domain.betting.BetStatus.WON;
+import static com.mario.hexagonalbettingengine.fixtures.BetFixtures.createBet;
+import static com.mario.hexagonalbettingengine.fixtures.EventOutcomeFixtures.*;
+import static com.mario.hexagonalbettingengine.fixtures.SettlementJobFixtures.newJob;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SettlementJobTest {
+
+    @Test
+    @DisplayName("Should start an in-progress job for the outcome with nothing settled")
+    void shouldStartJobFromOutcome() {
+        // When
+        var job = SettlementJob.start(createOutcome(DEFAULT_EVENT_ID, REAL_MADRID), 42);
+
+        // Then
+        assertThat(job.eventId()).isEqualTo(DEFAULT_EVENT_ID);
+        assertThat(job.eventWinnerId()).isEqualTo(REAL_MADRID);
+        assertThat(job.state()).isEqualTo(SettlementJobState.IN_PROGRESS);
+        assertThat(job.totalBets()).isEqualTo(42);
+        assertThat(job.settledBets()).isZero();
+        assertThat(job.lastBetId()).isNull();
+        assertThat(job.version()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should add a settled chunk to the counts and move the checkpoint to its last bet")
+    void shouldAdvanceCheckpointPastChunk() {
+        // Given
+        var job = newJob().build();
+        var chunk = List.of(
+                createBet("bet-1", DEFAULT_EVENT_ID, REAL_MADRID, WON),
+                createBet("bet-2", DEFAULT_EVENT_ID, BARCELONA, LOST),
+                createBet("bet-3", DEFAULT_EVENT_ID, REAL_MADRID, WON));
+
+        // When
+        var advanced = job.advance(chunk);
+
+        // Then
+        assertThat(advanced.settledBets()).isEqualTo(3);
+        assertThat(advanced.wonBets()).isEqualTo(2);
+        assertThat(advanced.lostBets()).isEqualTo(1);
+        assertThat(advanced.lastBetId()).isEqualTo("bet-3");
+        assertThat(advanced.version()).isEqualTo(1);
+        assertThat(advanced.isCompleted()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should keep the checkpoint when an empty chunk completes the job")
+    void shouldKeepCheckpointOnEmptyChunk() {
+        // Given
+        var job = newJob().lastBetId("bet-3").settledBets(3).version(1).build();
+
+        // When
+        var completed = job.advance(List.of()).complete();
+
+        // Then
+        assertThat(completed.lastBetId()).isEqualTo("bet-3");
+        assertThat(completed.settledBets()).isEqualTo(3);
+        assertThat(completed.version()).isEqualTo(2);
+        assertThat(completed.isCompleted()).isTrue();
+    }
+}
@@ -0,0 +1,138 @@
+package com.mario.hexagonalbettingengine.domain.betting;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+
+import static com.mario.hexagonalbettingengine.domain.betting.BetStatus.*;
+import static com.mario.hexagonalbettingengine.fixtures.BetFixtures.createBet;
+import static com.mario.hexagonalbettingengine.fixtures.EventOutcomeFixtures.*;
+import static com.mario.hexagonalbettingengine.fixtures.SettlementSettingsFixtures.shardedSettlement;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SettlementShardStepTest {
+
+    private static final int CHUNK_SIZE = 2;
+
+    @Mock
+    private BetRepository repository;
+
+    @Mock
+    private BetSettlementOutbox outbox;
+
+    @Mock
+    private SettlementShardRepository shards;
+
+    @Mock
+    private SettledEventRegistry settledEvents;
+
+    @Mock
+    private PendingEventIndex pendingEvents;
+
+    @Mock
+    private SettlementShardMetrics metrics;
+
+    private SettlementShardStep step;
+
+    @BeforeEach
+    void setUp() {
+        step = new SettlementShardStep(repository, outbox, shardedSettlement(CHUNK_SIZE, 100, 4), shards,
+                settledEvents, pendingEvents, metrics);
+    }
+
+    @Test
+    @DisplayName("Should settle the shard's range chunk by chunk and leave the event open while shards remain")
+    void shouldSettleRangeAndCompleteShard() {
+        // Given
+        var shard = shard("bet-0", "bet-9");
+        var bet1 = createBet("bet-1", DEFAULT_EVENT_ID, REAL_MADRID, PENDING);
+        var bet2 = createBet("bet-2", DEFAULT_EVENT_ID, BARCELONA, PENDING);
+        var bet3 = createBet("bet-3", DEFAULT_EVENT_ID, REAL_MADRID, PENDING);
+
+        given(shards.start(shard)).willReturn(true);
+        given(repository.findPendingBetsByEventId(DEFAULT_EVENT_ID, "bet-0", "bet-9", CHUNK_SIZE))
+                .willReturn(List.of(bet1, bet2));
+        given(repository.findPendingBetsByEventId(DEFAULT_EVENT_ID, "bet-2", "bet-9", CHUNK_SIZE))
+                .willReturn(List.of(bet3));
+        given(shards.complete(shard, 3)).willReturn(fanOut(2, 3));
+
+        // When
+        step.settle(shard);
+
+        // Then
+        verify(repository).saveAll(List.of(bet1.withStatus(WON), bet2.withStatus(LOST)));
+        verify(outbox).append(List.of(bet3.withStatus(WON)));
+        verify(metrics).recordShardSettlement(eq(3), any());
+        verify(metrics, never()).recordShardedSettlement(anyLong(), any());
+        verifyNoInteractions(settledEvents, pendingEvents);
+    }
+
+    @Test
+    @DisplayName("Should register the event as settled when the last shard completes")
+    void shouldSettleEventWithLastShard() {
+        // Given
+        var shard = shard("bet-9", null);
+        given(shards.start(shard)).willReturn(true);
+        given(repository.findPendingBetsByEventId(DEFAULT_EVENT_ID, "bet-9", null, CHUNK_SIZE))
+                .willReturn(List.of(createBet("bet-10", DEFAULT_EVENT_ID, BARCELONA, PENDING)));
+        given(shards.complete(shard, 1)).willReturn(fanOut(0, 40));
+
+        // When
+        step.settle(shard);
+
+        // Then
+        verify(settledEvents).register(shard.toOutcome());
+        verify(pendingEvents).remove(DEFAULT_EVENT_ID);
+        verify(metrics).recordShardedSettlement(eq(40L), any());
+    }
+
+    @Test
+    @DisplayName("Should skip a shard that another delivery already completed")
+    void shouldSkipCompletedShard() {
+        // Given
+        var shard = shard(null, "bet-9");
+        given(shards.start(shard)).willReturn(false);
+
+        // When
+        step.settle(shard);
+
+        // Then
+        verify(repository, never()).findPendingBetsByEventId(any(), any(), any(), anyInt());
+        verify(shards, never()).complete(any(), anyLong());
+        verifyNoInteractions(outbox, settledEvents, pendingEvents, metrics);
+    }
+
+    private SettlementShard shard(String afterBetId, String lastBetId) {
+        return SettlementShard.builder()
+                .eventId(DEFAULT_EVENT_ID)
+                .eventWinnerId(REAL_MADRID)
+                .shard(1)
+                .shards(4)
+                .afterBetId(afterBetId)
+                .lastBetId(lastBetId)
+                .build();
+    }
+
+    private SettlementFanOut fanOut(int remainingShards, long settledBets) {
+        return SettlementFanOut.builder()
+                .eventId(DEFAULT_EVENT_ID)
+                .eventWinnerId(REAL_MADRID)
+                .shards(4)
+                .remainingShards(remainingShards)
+                .settledBets(settledBets)
+                .startedAt(Instant.now())
+                .build();
+    }
+}
@@ -0,0 +1,59 @@
+package com.mario.hexagonalbettingengine.domain.betting;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.mario.hexagonalbettingengine.fixtures.EventOutcomeFixtures.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class SettlementShardTest {
+
+    @Test
+    @DisplayName("Should split an event into consecutive bet ID ranges that are open at both ends")
+    void shouldSplitEventAtBoundaries() {
+        // When
+        var shards = SettlementShard.split(createOutcome(DEFAULT_EVENT_ID, REAL_MADRID), List.of("bet-10", "bet-20"));
+
+        // Then
+        assertThat(shards)
+                .extracting(SettlementShard::shard, SettlementShard::shards, SettlementShard::afterBetId,
+                        SettlementShard::lastBetId)
+                .containsExactly(
+                        tuple(0, 3, null, "bet-10"),
+                        tuple(1, 3, "bet-10", "bet-20"),
+                        tuple(2, 3, "bet-20", null));
+        assertThat(shards)
+                .extracting(SettlementShard::eventWinnerId)
+                .containsOnly(REAL_MADRID);
+    }
+
+    @Test
+    @DisplayName("Should produce a single unbounded shard without boundaries")
+    void shouldProduceSingleShardWithoutBoundaries() {
+        // When
+        var shards = SettlementShard.split(createOutcome(DEFAULT_EVENT_ID, REAL_MADRID), List.of());
+
+        // Then
+        assertThat(shards).singleElement()
+                .satisfies(shard -> {
+                    assertThat(shard.afterBetId()).isNull();
+                    assertThat(shard.lastBetId()).isNull();
+                });
+    }
+
+    @Test
+    @DisplayName("Should key a shard by its event and shard index")
+    void shouldKeyByEventAndShard() {
+        // Given
+        var shard = SettlementShard.builder()
+                .eventId(DEFAULT_EVENT_ID)
+                .shard(3)
+                .build();
+
+        // When & Then
+        assertThat(shard.key()).isEqualTo(DEFAULT_EVENT_ID + "#3");
+    }
+}
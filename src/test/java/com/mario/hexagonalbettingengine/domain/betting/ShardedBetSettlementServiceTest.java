@@ -0,0 +1,166 @@
+package com.mario.hexagonalbettingengine.domain.betting;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static com.mario.hexagonalbettingengine.fixtures.EventOutcomeFixtures.*;
+import static com.mario.hexagonalbettingengine.fixtures.SettlementSettingsFixtures.shardedSettlement;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ShardedBetSettlementServiceTest {
+
+    private static final long THRESHOLD = 100;
+    private static final int SHARDS = 4;
+
+    @Mock
+    private BetSettlementService delegate;
+
+    @Mock
+    private BetRepository repository;
+
+    @Mock
+    private SettlementShardRepository shards;
+
+    @Mock
+    private SettlementShardPublisher publisher;
+
+    @Mock
+    private SettledEventRegistry settledEvents;
+
+    @Mock
+    private PendingEventIndex pendingEvents;
+
+    @Captor
+    private ArgumentCaptor<List<SettlementShard>> shardsCaptor;
+
+    private ShardedBetSettlementService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ShardedBetSettlementService(delegate, repository, shards, publisher,
+                shardedSettlement(10, THRESHOLD, SHARDS), settledEvents, pendingEvents);
+        lenient().when(pendingEvents.mightHavePendingBets(any())).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("Should fan an event above the threshold out into bet ID ranges and publish them")
+    void shouldFanOutHotEvent() {
+        // Given
+        var outcome = createOutcome(DEFAULT_EVENT_ID, REAL_MADRID);
+        given(repository.countPendingBetsByEventId(DEFAULT_EVENT_ID)).willReturn(401L);
+        given(repository.findPendingBetIdBoundaries(DEFAULT_EVENT_ID, 101))
+                .willReturn(List.of("bet-101", "bet-202", "bet-303"));
+        given(shards.create(any())).willReturn(true);
+
+        // When
+        service.settle(outcome);
+
+        // Then
+        verify(shards).create(shardsCaptor.capture());
+        verify(publisher).publish(shardsCaptor.getValue());
+        assertThat(shardsCaptor.getValue())
+                .extracting(SettlementShard::afterBetId, SettlementShard::lastBetId)
+                .containsExactly(
+                        tuple(null, "bet-101"),
+                        tuple("bet-101", "bet-202"),
+                        tuple("bet-202", "bet-303"),
+                        tuple("bet-303", null));
+        verifyNoInteractions(delegate);
+    }
+
+    @Test
+    @DisplayName("Should never create more shards than configured when every range is full")
+    void shouldCapShardCount() {
+        // Given
+        given(repository.countPendingBetsByEventId(DEFAULT_EVENT_ID)).willReturn(400L);
+        given(repository.findPendingBetIdBoundaries(DEFAULT_EVENT_ID, 100))
+                .willReturn(List.of("bet-100", "bet-200", "bet-300", "bet-400"));
+        given(shards.create(any())).willReturn(true);
+
+        // When
+        service.settle(createOutcome(DEFAULT_EVENT_ID, REAL_MADRID));
+
+        // Then
+        verify(publisher).publish(shardsCaptor.capture());
+        assertThat(shardsCaptor.getValue())
+                .hasSize(SHARDS)
+                .last()
+                .satisfies(shard -> assertThat(shard.lastBetId()).isNull());
+    }
+
+    @Test
+    @DisplayName("Should settle an event at or below the threshold without sharding")
+    void shouldDelegateSmallEvent() {
+        // Given
+        var outcome = createOutcome(DEFAULT_EVENT_ID, REAL_MADRID);
+        given(repository.countPendingBetsByEventId(DEFAULT_EVENT_ID)).willReturn(THRESHOLD);
+
+        // When
+        service.settle(outcome);
+
+        // Then
+        verify(delegate).settle(outcome);
+        verify(shards, never()).create(any());
+        verifyNoInteractions(publisher);
+    }
+
+    @Test
+    @DisplayName("Should republish the unfinished shards of an event that is already settling in shards")
+    void shouldRepublishPendingShardsOnRedelivery() {
+        // Given
+        var pendingShard = SettlementShard.builder().eventId(DEFAULT_EVENT_ID).shard(2).shards(SHARDS).build();
+        given(shards.findPendingByEventId(DEFAULT_EVENT_ID)).willReturn(List.of(pendingShard));
+
+        // When
+        service.settle(createOutcome(DEFAULT_EVENT_ID, REAL_MADRID));
+
+        // Then
+        verify(publisher).publish(List.of(pendingShard));
+        verify(repository, never()).countPendingBetsByEventId(any());
+        verifyNoInteractions(delegate);
+    }
+
+    @Test
+    @DisplayName("Should not publish shards when a concurrent delivery fanned the event out first")
+    void shouldIgnoreConcurrentFanOut() {
+        // Given
+        given(repository.countPendingBetsByEventId(DEFAULT_EVENT_ID)).willReturn(401L);
+        given(repository.findPendingBetIdBoundaries(any(), anyInt())).willReturn(List.of("bet-101"));
+        given(shards.create(any())).willReturn(false);
+
+        // When
+        service.settle(createOutcome(DEFAULT_EVENT_ID, REAL_MADRID));
+
+        // Then
+        verifyNoInteractions(publisher, delegate);
+    }
+
+    @Test
+    @DisplayName("Should hand an already settled event to the regular settlement without counting its bets")
+    void shouldDelegateKnownSettledEvent() {
+        // Given
+        var outcome = createOutcome(DEFAULT_EVENT_ID, REAL_MADRID);
+        given(settledEvents.isKnownSettled(DEFAULT_EVENT_ID)).willReturn(true);
+
+        // When
+        service.settle(outcome);
+
+        // Then
+        verify(delegate).settle(outcome);
+        verifyNoInteractions(repository, shards, publisher);
+    }
+}
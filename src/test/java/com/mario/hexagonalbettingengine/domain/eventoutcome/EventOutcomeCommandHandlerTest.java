@@ -7,10 +7,15 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 import static com.mario.hexagonalbettingengine.fixtures.EventOutcomeFixtures.*;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class EventOutcomeCommandHandlerTest {
@@ -34,6 +39,22 @@ class EventOutcomeCommandHandlerTest {
         verify(publisher).publish(eventOutcome);
     }
 
+    @Test
+    @DisplayName("Should return the publisher's acknowledgement to the caller")
+    void shouldReturnPublisherAcknowledgement() {
+        // Given
+        var eventOutcome = createOutcome(DEFAULT_EVENT_ID, REAL_MADRID);
+        var ack = new CompletableFuture<Void>();
+
+        when(publisher.publish(eventOutcome)).thenReturn(ack);
+
+        // When
+        var result = handler.handle(eventOutcome);
+
+        // Then
+        assertThat(result).isSameAs(ack);
+    }
+
     @Test
     @DisplayName("Should handle event outcome even if winner is null (Draw or Cancelled)")
     void shouldHandleEventOutcomeWithNullWinner() {
@@ -64,4 +85,19 @@ class EventOutcomeCommandHandlerTest {
                 handler.handle(eventOutcome)
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should delegate a batch of event outcomes to publisher in one call")
+    void shouldPublishAllEventOutcomesWhenHandledAsBatch() {
+        // Given
+        var eventOutcomes = List.of(
+                createOutcome(DEFAULT_EVENT_ID, REAL_MADRID),
+                createOutcome("match-200", REAL_MADRID));
+
+        // When
+        handler.handleAll(eventOutcomes);
+
+        // Then
+        verify(publisher).publishAll(eventOutcomes);
+    }
+}
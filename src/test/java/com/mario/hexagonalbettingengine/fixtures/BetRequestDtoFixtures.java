@@ -0,0 +1,29 @@
+package com.mario.hexagonalbettingengine.fixtures;
+
+import com.mario.hexagonalbettingengine.application.betting.request.BetRequestDto;
+
+import java.math.BigDecimal;
+
+public class BetRequestDtoFixtures {
+
+    public static final String DEFAULT_BET_ID = "b-100";
+    public static final String DEFAULT_USER_ID = "u-1";
+    public static final String DEFAULT_EVENT_ID = "match-100";
+    public static final String DEFAULT_MARKET_ID = "1x2";
+    public static final String DEFAULT_WINNER_ID = "REAL_MADRID";
+    public static final BigDecimal DEFAULT_AMOUNT = new BigDecimal("25.00");
+
+    public static BetRequestDto.BetRequestDtoBuilder baseRequest() {
+        return BetRequestDto.builder()
+                .betId(DEFAULT_BET_ID)
+                .userId(DEFAULT_USER_ID)
+                .eventId(DEFAULT_EVENT_ID)
+                .eventMarketId(DEFAULT_MARKET_ID)
+                .eventWinnerId(DEFAULT_WINNER_ID)
+                .betAmount(DEFAULT_AMOUNT);
+    }
+
+    public static BetRequestDto validRequest() {
+        return baseRequest().build();
+    }
+}
@@ -0,0 +1,26 @@
+package com.mario.hexagonalbettingengine.fixtures;
+
+import com.mario.hexagonalbettingengine.domain.betting.PendingEventIndex;
+
+public class PendingEventIndexFixtures {
+
+    /**
+     * Lets every outcome through, for tests that are not about skipping events without pending bets.
+     */
+    public static PendingEventIndex allEventsPending() {
+        return new PendingEventIndex() {
+            @Override
+            public boolean mightHavePendingBets(String eventId) {
+                return true;
+            }
+
+            @Override
+            public void add(String eventId) {
+            }
+
+            @Override
+            public void remove(String eventId) {
+            }
+        };
+    }
+}
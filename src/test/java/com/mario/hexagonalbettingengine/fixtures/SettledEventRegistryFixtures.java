@@ -0,0 +1,29 @@
+package com.mario.hexagonalbettingengine.fixtures;
+
+import com.mario.hexagonalbettingengine.domain.betting.SettledEventRegistry;
+import com.mario.hexagonalbettingengine.domain.eventoutcome.EventOutcome;
+
+public class SettledEventRegistryFixtures {
+
+    /**
+     * Treats every outcome as new, for tests that settle each event once and are not about deduplication.
+     */
+    public static SettledEventRegistry noDeduplication() {
+        return new SettledEventRegistry() {
+            @Override
+            public boolean isKnownSettled(String eventId) {
+                return false;
+            }
+
+            @Override
+            public boolean isSettled(String eventId) {
+                return false;
+            }
+
+            @Override
+            public boolean register(EventOutcome eventOutcome) {
+                return true;
+            }
+        };
+    }
+}
@@ -0,0 +1,32 @@
+package com.mario.hexagonalbettingengine.fixtures;
+
+import com.mario.hexagonalbettingengine.domain.betting.SettlementJob;
+import com.mario.hexagonalbettingengine.domain.betting.SettlementJobState;
+
+import java.time.Instant;
+
+import static com.mario.hexagonalbettingengine.fixtures.EventOutcomeFixtures.DEFAULT_EVENT_ID;
+import static com.mario.hexagonalbettingengine.fixtures.EventOutcomeFixtures.REAL_MADRID;
+
+public class SettlementJobFixtures {
+
+    public static final Instant STARTED_AT = Instant.parse("2026-01-01T12:00:00Z");
+
+    public static SettlementJob.SettlementJobBuilder newJob() {
+        return SettlementJob.builder()
+                .eventId(DEFAULT_EVENT_ID)
+                .eventWinnerId(REAL_MADRID)
+                .state(SettlementJobState.IN_PROGRESS)
+                .totalBets(3)
+                .startedAt(STARTED_AT)
+                .updatedAt(STARTED_AT);
+    }
+
+    public static SettlementJob.SettlementJobBuilder checkpointedJob(String lastBetId, long settledBets) {
+        return newJob()
+                .settledBets(settledBets)
+                .wonBets(settledBets)
+                .lastBetId(lastBetId)
+                .version(1);
+    }
+}
@@ -0,0 +1,37 @@
+package com.mario.hexagonalbettingengine.fixtures;
+
+import com.mario.hexagonalbettingengine.domain.betting.SettlementMode;
+import com.mario.hexagonalbettingengine.domain.betting.SettlementSettings;
+
+public class SettlementSettingsFixtures {
+
+    public static final int DEFAULT_CHUNK_SIZE = 100;
+
+    public static SettlementSettings perBetSettlement() {
+        return withMode(SettlementMode.PER_BET);
+    }
+
+    public static SettlementSettings bulkSettlement() {
+        return withMode(SettlementMode.BULK);
+    }
+
+    public static SettlementSettings withMode(SettlementMode mode) {
+        return SettlementSettings.unsharded(mode, DEFAULT_CHUNK_SIZE);
+    }
+
+    public static SettlementSettings perBetSettlement(int chunkSize) {
+        return SettlementSettings.unsharded(SettlementMode.PER_BET, chunkSize);
+    }
+
+    public static SettlementSettings bulkSettlement(int chunkSize) {
+        return SettlementSettings.unsharded(SettlementMode.BULK, chunkSize);
+    }
+
+    public static SettlementSettings checkpointedSettlement(int chunkSize) {
+        return SettlementSettings.unsharded(SettlementMode.CHECKPOINTED, chunkSize);
+    }
+
+    public static SettlementSettings shardedSettlement(int chunkSize, long threshold, int shards) {
+        return new SettlementSettings(SettlementMode.PER_BET, chunkSize, threshold, shards);
+    }
+}
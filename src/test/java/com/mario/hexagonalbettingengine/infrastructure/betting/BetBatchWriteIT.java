@@ -0,0 +1,124 @@
+package com.mario.hexagonalbettingengine.infrastructure.betting;
+
+import com.mario.hexagonalbettingengine.infrastructure.betting.mapper.BetMapperImpl;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.stream.IntStream;
+
+import static com.mario.hexagonalbettingengine.domain.betting.BetStatus.PENDING;
+import static com.mario.hexagonalbettingengine.domain.betting.BetStatus.WON;
+import static com.mario.hexagonalbettingengine.fixtures.BetEntityFixtures.createPendingEntity;
+import static com.mario.hexagonalbettingengine.fixtures.BetFixtures.createBet;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=" + BetBatchWriteIT.BATCH_SIZE
+})
+@ActiveProfiles("test")
+@Import({BetRepositoryAdapter.class, BetMapperImpl.class})
+@DisplayName("BetRepositoryAdapter Batched Write Integration Tests")
+class BetBatchWriteIT {
+
+    static final int BATCH_SIZE = 50;
+    private static final int BET_COUNT = 500;
+    private static final String EVENT_ID = "batch-event";
+    private static final String WINNER = "HOME";
+
+    @Autowired
+    private BetRepositoryAdapter adapter;
+
+    @Autowired
+    private BetJpaRepository jpaRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        jpaRepository.deleteAll();
+        statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+    }
+
+    @Test
+    @DisplayName("Should update a chunk read through the adapter with one statement per JDBC batch")
+    void shouldUpdateLoadedChunkInJdbcBatches() {
+        // Given
+        seedPendingBets();
+        var chunk = adapter.findPendingBetsByEventId(EVENT_ID, null, BET_COUNT);
+        var settledBets = chunk.stream().map(bet -> bet.withStatus(WON)).toList();
+        statistics.clear();
+
+        // When
+        adapter.saveAll(settledBets);
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).isBetween(1L, (long) BET_COUNT / BATCH_SIZE);
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(BET_COUNT);
+        assertThat(jpaRepository.findByEventIdAndStatus(EVENT_ID, BetStatus.WON)).hasSize(BET_COUNT);
+    }
+
+    @Test
+    @DisplayName("Should update detached bets without a pre-merge SELECT per bet")
+    void shouldUpdateDetachedBetsWithoutSelectPerBet() {
+        // Given
+        seedPendingBets();
+        var settledBets = IntStream.range(0, BET_COUNT)
+                .mapToObj(i -> createBet(betId(i), EVENT_ID, WINNER, WON))
+                .toList();
+        statistics.clear();
+
+        // When
+        adapter.saveAll(settledBets);
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount())
+                .isLessThanOrEqualTo(BET_COUNT / BATCH_SIZE + 1)
+                .isLessThan(2L * BET_COUNT);
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(BET_COUNT);
+    }
+
+    @Test
+    @DisplayName("Should insert new bets in JDBC batches")
+    void shouldInsertNewBetsInJdbcBatches() {
+        // Given
+        var newBets = IntStream.range(0, BET_COUNT)
+                .mapToObj(i -> createBet(betId(i), EVENT_ID, WINNER, PENDING))
+                .toList();
+        statistics.clear();
+
+        // When
+        adapter.saveAll(newBets);
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(BET_COUNT / BATCH_SIZE + 1);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(BET_COUNT);
+        assertThat(jpaRepository.count()).isEqualTo(BET_COUNT);
+    }
+
+    private void seedPendingBets() {
+        IntStream.range(0, BET_COUNT)
+                .mapToObj(i -> createPendingEntity(betId(i), EVENT_ID, WINNER))
+                .forEach(entityManager::persist);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private static String betId(int index) {
+        return "batch-bet-%04d".formatted(index);
+    }
+}
@@ -0,0 +1,111 @@
+package com.mario.hexagonalbettingengine.infrastructure.betting;
+
+import com.mario.hexagonalbettingengine.infrastructure.betting.BetBookJournal.JournaledTransaction;
+import com.mario.hexagonalbettingengine.infrastructure.config.BetBookProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static com.mario.hexagonalbettingengine.domain.betting.BetStatus.LOST;
+import static com.mario.hexagonalbettingengine.domain.betting.BetStatus.WON;
+import static com.mario.hexagonalbettingengine.fixtures.BetFixtures.createBet;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BetBookJournalTest {
+
+    @TempDir
+    private Path journalDir;
+
+    @Test
+    @DisplayName("Should replay appended transactions in order with every bet field")
+    void shouldReplayAppendedTransactions() {
+        // Given
+        var journal = journal(1_048_576);
+        journal.reset();
+        var first = List.of(
+                createBet("bet-1", "match-1", "REAL_MADRID", WON),
+                createBet("bet-2", "match-1", "DRAW", LOST));
+        var second = List.of(createBet("bet-3", "match-2", "BARCELONA", LOST).toBuilder().betAmount(null).build());
+
+        // When
+        journal.append("tx-1", first);
+        journal.append("tx-2", second);
+
+        // Then
+        assertThat(journal(1_048_576).replay())
+                .containsExactly(new JournaledTransaction("tx-1", first), new JournaledTransaction("tx-2", second));
+    }
+
+    @Test
+    @DisplayName("Should drop a record torn by a crash and keep the complete ones before it")
+    void shouldDropTornRecord() throws IOException {
+        // Given
+        var journal = journal(1_048_576);
+        journal.reset();
+        journal.append("tx-1", List.of(createBet("bet-1", "match-1", "REAL_MADRID", WON)));
+        journal.append("tx-2", List.of(createBet("bet-2", "match-1", "REAL_MADRID", WON)));
+
+        var segment = segments().getFirst();
+        var bytes = Files.readAllBytes(segment);
+        Files.write(segment, Arrays.copyOf(bytes, bytes.length - 3));
+
+        // When
+        var replayed = journal(1_048_576).replay();
+
+        // Then
+        assertThat(replayed).extracting(JournaledTransaction::txId).containsExactly("tx-1");
+    }
+
+    @Test
+    @DisplayName("Should delete a rolled segment once all of its records are released")
+    void shouldDeleteFlushedSegments() throws IOException {
+        // Given
+        var journal = journal(1);
+        journal.reset();
+        var firstSegment = journal.append("tx-1", List.of(createBet("bet-1", "match-1", "REAL_MADRID", WON)));
+        var secondSegment = journal.append("tx-2", List.of(createBet("bet-2", "match-1", "REAL_MADRID", WON)));
+
+        // When
+        journal.release(firstSegment);
+
+        // Then
+        assertThat(secondSegment).isEqualTo(firstSegment + 1);
+        assertThat(segments()).hasSize(1);
+        assertThat(journal(1).replay()).extracting(JournaledTransaction::txId).containsExactly("tx-2");
+    }
+
+    @Test
+    @DisplayName("Should start from an empty segment after a reset")
+    void shouldDiscardReplayedSegmentsOnReset() {
+        // Given
+        var journal = journal(1_048_576);
+        journal.reset();
+        journal.append("tx-1", List.of(createBet("bet-1", "match-1", "REAL_MADRID", WON)));
+
+        // When
+        var restarted = journal(1_048_576);
+        restarted.reset();
+
+        // Then
+        assertThat(restarted.replay()).isEmpty();
+        assertThat(segments()).hasSize(1);
+    }
+
+    private BetBookJournal journal(long segmentBytes) {
+        return new BetBookJournal(
+                new BetBookProperties(true, journalDir.toString(), segmentBytes, false, 100, 10, 1000, 1000));
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(journalDir)) {
+            return files.sorted().toList();
+        }
+    }
+}
@@ -140,4 +140,126 @@ class BetRepositoryAdapterIT {
         assertThat(actualDomainBet.betAmount()).isEqualByComparingTo(specificAmount);
         assertThat(actualDomainBet.betId()).isEqualTo("bet-map");
     }
+
+    @Test
+    @DisplayName("Should settle pending bets of an event in bulk without touching other rows")
+    void shouldSettlePendingBetsInBulk() {
+        // Given
+        var winner = createPendingEntity("bet-1", DEFAULT_EVENT_ID, "REAL_MADRID");
+        var loser = createPendingEntity("bet-2", DEFAULT_EVENT_ID, "BARCELONA");
+        var alreadyLost = createEntity("bet-3", DEFAULT_EVENT_ID, "REAL_MADRID", BetStatus.LOST);
+        var differentEventBet = createPendingEntity("bet-4", "match-other", "REAL_MADRID");
+
+        jpaRepository.saveAll(List.of(winner, loser, alreadyLost, differentEventBet));
+
+        // When
+        var result = adapter.settlePendingBets(DEFAULT_EVENT_ID, "REAL_MADRID", null, 100);
+
+        // Then
+        assertThat(result)
+                .extracting(Bet::betId)
+                .containsExactlyInAnyOrder("bet-1", "bet-2");
+
+        assertThat(jpaRepository.findById("bet-1").orElseThrow().getStatus()).isEqualTo(BetStatus.WON);
+        assertThat(jpaRepository.findById("bet-2").orElseThrow().getStatus()).isEqualTo(BetStatus.LOST);
+        assertThat(jpaRepository.findById("bet-3").orElseThrow().getStatus()).isEqualTo(BetStatus.LOST);
+        assertThat(jpaRepository.findById("bet-4").orElseThrow().getStatus()).isEqualTo(BetStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("Should settle only the requested keyset chunk of pending bets in bulk")
+    void shouldSettleBulkChunkByKeyset() {
+        // Given
+        jpaRepository.saveAll(List.of(
+                createPendingEntity("bet-1", DEFAULT_EVENT_ID, "REAL_MADRID"),
+                createPendingEntity("bet-2", DEFAULT_EVENT_ID, "BARCELONA"),
+                createPendingEntity("bet-3", DEFAULT_EVENT_ID, "REAL_MADRID")));
+
+        // When
+        var firstChunk = adapter.settlePendingBets(DEFAULT_EVENT_ID, "REAL_MADRID", null, 2);
+        var pendingAfterFirstChunk = jpaRepository.findByEventIdAndStatus(DEFAULT_EVENT_ID, BetStatus.PENDING);
+        var secondChunk = adapter.settlePendingBets(DEFAULT_EVENT_ID, "REAL_MADRID", firstChunk.getLast().betId(), 2);
+
+        // Then
+        assertThat(firstChunk).extracting(Bet::betId).containsExactly("bet-1", "bet-2");
+        assertThat(pendingAfterFirstChunk).extracting(BetEntity::getBetId).containsExactly("bet-3");
+        assertThat(secondChunk).extracting(Bet::betId).containsExactly("bet-3");
+        assertThat(jpaRepository.findById("bet-3").orElseThrow().getStatus()).isEqualTo(BetStatus.WON);
+    }
+
+    @Test
+    @DisplayName("Should settle every pending bet as LOST in bulk when the event has no winner")
+    void shouldSettleAllAsLostWhenWinnerIsNull() {
+        // Given
+        jpaRepository.saveAll(List.of(
+                createPendingEntity("bet-1", DEFAULT_EVENT_ID, "REAL_MADRID"),
+                createPendingEntity("bet-2", DEFAULT_EVENT_ID, "BARCELONA")));
+
+        // When
+        var result = adapter.settlePendingBets(DEFAULT_EVENT_ID, null, null, 100);
+
+        // Then
+        assertThat(result).hasSize(2);
+        assertThat(jpaRepository.findByEventIdAndStatus(DEFAULT_EVENT_ID, BetStatus.LOST)).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Should page through pending bets ordered by bet ID using keyset pagination")
+    void shouldPagePendingBetsByKeyset() {
+        // Given
+        jpaRepository.saveAll(List.of(
+                createPendingEntity("bet-3", DEFAULT_EVENT_ID, "REAL_MADRID"),
+                createPendingEntity("bet-1", DEFAULT_EVENT_ID, "REAL_MADRID"),
+                createEntity("bet-2", DEFAULT_EVENT_ID, "REAL_MADRID", BetStatus.WON),
+                createPendingEntity("bet-4", DEFAULT_EVENT_ID, "BARCELONA"),
+                createPendingEntity("bet-5", "match-other", "BARCELONA")));
+
+        // When
+        var firstPage = adapter.findPendingBetsByEventId(DEFAULT_EVENT_ID, null, 2);
+        var secondPage = adapter.findPendingBetsByEventId(DEFAULT_EVENT_ID, firstPage.getLast().betId(), 2);
+
+        // Then
+        assertThat(firstPage).extracting(Bet::betId).containsExactly("bet-1", "bet-3");
+        assertThat(secondPage).extracting(Bet::betId).containsExactly("bet-4");
+    }
+
+    @Test
+    @DisplayName("Should page through pending bets only up to the last bet ID of a range")
+    void shouldPagePendingBetsWithinRange() {
+        // Given
+        jpaRepository.saveAll(List.of(
+                createPendingEntity("bet-1", DEFAULT_EVENT_ID, "REAL_MADRID"),
+                createPendingEntity("bet-2", DEFAULT_EVENT_ID, "REAL_MADRID"),
+                createEntity("bet-3", DEFAULT_EVENT_ID, "REAL_MADRID", BetStatus.WON),
+                createPendingEntity("bet-4", DEFAULT_EVENT_ID, "BARCELONA"),
+                createPendingEntity("bet-5", DEFAULT_EVENT_ID, "BARCELONA")));
+
+        // When
+        var range = adapter.findPendingBetsByEventId(DEFAULT_EVENT_ID, "bet-1", "bet-4", 10);
+        var openRange = adapter.findPendingBetsByEventId(DEFAULT_EVENT_ID, "bet-4", null, 10);
+
+        // Then
+        assertThat(range).extracting(Bet::betId).containsExactly("bet-2", "bet-4");
+        assertThat(openRange).extracting(Bet::betId).containsExactly("bet-5");
+    }
+
+    @Test
+    @DisplayName("Should return the last pending bet ID of every full range in bet ID order")
+    void shouldFindPendingBetIdBoundaries() {
+        // Given
+        jpaRepository.saveAll(List.of(
+                createPendingEntity("bet-1", DEFAULT_EVENT_ID, "REAL_MADRID"),
+                createPendingEntity("bet-2", DEFAULT_EVENT_ID, "REAL_MADRID"),
+                createEntity("bet-3", DEFAULT_EVENT_ID, "REAL_MADRID", BetStatus.WON),
+                createPendingEntity("bet-4", DEFAULT_EVENT_ID, "BARCELONA"),
+                createPendingEntity("bet-5", DEFAULT_EVENT_ID, "BARCELONA"),
+                createPendingEntity("bet-6", DEFAULT_EVENT_ID, "BARCELONA"),
+                createPendingEntity("bet-7", "match-other", "BARCELONA")));
+
+        // When
+        var boundaries = adapter.findPendingBetIdBoundaries(DEFAULT_EVENT_ID, 2);
+
+        // Then
+        assertThat(boundaries).containsExactly("bet-2", "bet-5");
+    }
 }
@@ -1,21 +1,28 @@
 package com.mario.hexagonalbettingengine.infrastructure.betting;
 
+import com.mario.hexagonalbettingengine.domain.betting.Bet;
 import com.mario.hexagonalbettingengine.infrastructure.betting.mapper.BetMapper;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import java.util.List;
 
+import static com.mario.hexagonalbettingengine.domain.betting.BetStatus.LOST;
 import static com.mario.hexagonalbettingengine.domain.betting.BetStatus.PENDING;
+import static com.mario.hexagonalbettingengine.domain.betting.BetStatus.WON;
 import static com.mario.hexagonalbettingengine.fixtures.BetEntityFixtures.DEFAULT_EVENT_ID;
 import static com.mario.hexagonalbettingengine.fixtures.BetEntityFixtures.baseEntity;
 import static com.mario.hexagonalbettingengine.fixtures.BetFixtures.*;
 import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -27,6 +34,9 @@ class BetRepositoryAdapterTest {
     @Mock
     private BetMapper mapper;
 
+    @Mock
+    private EntityManager entityManager;
+
     @InjectMocks
     private BetRepositoryAdapter adapter;
 
@@ -64,6 +74,45 @@ class BetRepositoryAdapterTest {
         verifyNoInteractions(mapper);
     }
 
+    @Test
+    @DisplayName("Should read the next keyset page and release the previous chunk from the persistence context")
+    void shouldFindPendingBetsPage() {
+        // Given
+        var entity = baseEntity().betId("bet-3").build();
+        var domainBet = baseBet().betId("bet-3").build();
+
+        when(entityManager.isJoinedToTransaction()).thenReturn(true);
+        when(jpaRepository.findByEventIdAndStatusAndBetIdGreaterThanOrderByBetIdAsc(
+                DEFAULT_EVENT_ID, BetStatus.PENDING, "bet-2", Limit.of(2))).thenReturn(List.of(entity));
+        when(mapper.toDomain(entity)).thenReturn(domainBet);
+
+        // When
+        var result = adapter.findPendingBetsByEventId(DEFAULT_EVENT_ID, "bet-2", 2);
+
+        // Then
+        assertThat(result).containsExactly(domainBet);
+        var inOrder = inOrder(entityManager, jpaRepository);
+        inOrder.verify(entityManager).flush();
+        inOrder.verify(entityManager).clear();
+        inOrder.verify(jpaRepository).findByEventIdAndStatusAndBetIdGreaterThanOrderByBetIdAsc(
+                DEFAULT_EVENT_ID, BetStatus.PENDING, "bet-2", Limit.of(2));
+    }
+
+    @Test
+    @DisplayName("Should start the first keyset page from the lowest bet ID")
+    void shouldStartFirstPageFromLowestBetId() {
+        // Given
+        when(jpaRepository.findByEventIdAndStatusAndBetIdGreaterThanOrderByBetIdAsc(
+                DEFAULT_EVENT_ID, BetStatus.PENDING, "", Limit.of(10))).thenReturn(emptyList());
+
+        // When
+        var result = adapter.findPendingBetsByEventId(DEFAULT_EVENT_ID, null, 10);
+
+        // Then
+        assertThat(result).isEmpty();
+        verify(entityManager, never()).clear();
+    }
+
     @Test
     @DisplayName("Should save bet by mapping to entity and calling JpaRepository")
     void shouldSaveBet() {
@@ -80,4 +129,74 @@ class BetRepositoryAdapterTest {
         verify(mapper).toEntity(domainBet);
         verify(jpaRepository).save(entity);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should settle a keyset chunk with bulk updates over its bet_id range and return it settled")
+    void shouldSettlePendingBetsInBulk() {
+        // Given
+        var winnerEntity = baseEntity().betId("bet-1").eventWinnerId("REAL_MADRID").build();
+        var loserEntity = baseEntity().betId("bet-2").eventWinnerId("BARCELONA").build();
+        var winner = createBet("bet-1", DEFAULT_EVENT_ID, "REAL_MADRID", PENDING);
+        var loser = createBet("bet-2", DEFAULT_EVENT_ID, "BARCELONA", PENDING);
+
+        when(jpaRepository.findByEventIdAndStatusAndBetIdGreaterThanOrderByBetIdAsc(
+                DEFAULT_EVENT_ID, BetStatus.PENDING, "bet-0", Limit.of(2)))
+                .thenReturn(List.of(winnerEntity, loserEntity));
+        when(mapper.toDomain(winnerEntity)).thenReturn(winner);
+        when(mapper.toDomain(loserEntity)).thenReturn(loser);
+        when(jpaRepository.updateStatusByEventIdAndWinnerInRange(
+                DEFAULT_EVENT_ID, "REAL_MADRID", "bet-0", "bet-2", BetStatus.PENDING, BetStatus.WON)).thenReturn(1);
+        when(jpaRepository.updateStatusByEventIdInRange(
+                DEFAULT_EVENT_ID, "bet-0", "bet-2", BetStatus.PENDING, BetStatus.LOST)).thenReturn(1);
+
+        // When
+        var result = adapter.settlePendingBets(DEFAULT_EVENT_ID, "REAL_MADRID", "bet-0", 2);
+
+        // Then
+        assertThat(result)
+                .extracting(Bet::betId, Bet::status)
+                .containsExactly(tuple("bet-1", WON), tuple("bet-2", LOST));
+        verify(jpaRepository, never()).save(any());
+        verify(jpaRepository, never()).findByEventIdAndStatus(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should fail bulk settlement when updated row count differs from pending bets read")
+    void shouldFailBulkSettlementOnRowCountMismatch() {
+        // Given
+        var entity = baseEntity().build();
+        var domainBet = baseBet().status(PENDING).build();
+
+        when(jpaRepository.findByEventIdAndStatusAndBetIdGreaterThanOrderByBetIdAsc(
+                DEFAULT_EVENT_ID, BetStatus.PENDING, "", Limit.of(10)))
+                .thenReturn(List.of(entity));
+        when(mapper.toDomain(entity)).thenReturn(domainBet);
+        when(jpaRepository.updateStatusByEventIdAndWinnerInRange(
+                DEFAULT_EVENT_ID, "REAL_MADRID", "", domainBet.betId(), BetStatus.PENDING, BetStatus.WON))
+                .thenReturn(1);
+        when(jpaRepository.updateStatusByEventIdInRange(
+                DEFAULT_EVENT_ID, "", domainBet.betId(), BetStatus.PENDING, BetStatus.LOST))
+                .thenReturn(1);
+
+        // When & Then
+        assertThatThrownBy(() -> adapter.settlePendingBets(DEFAULT_EVENT_ID, "REAL_MADRID", null, 10))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Expected 1 rows, updated 2");
+    }
+
+    @Test
+    @DisplayName("Should skip bulk updates when event has no pending bets")
+    void shouldSkipBulkUpdatesWhenNoPendingBets() {
+        // Given
+        when(jpaRepository.findByEventIdAndStatusAndBetIdGreaterThanOrderByBetIdAsc(
+                DEFAULT_EVENT_ID, BetStatus.PENDING, "", Limit.of(10)))
+                .thenReturn(emptyList());
+
+        // When
+        var result = adapter.settlePendingBets(DEFAULT_EVENT_ID, "REAL_MADRID", null, 10);
+
+        // Then
+        assertThat(result).isEmpty();
+        verify(jpaRepository, never()).updateStatusByEventIdInRange(any(), any(), any(), any(), any());
+    }
+}
@@ -0,0 +1,128 @@
+package com.mario.hexagonalbettingengine.infrastructure.betting;
+
+import com.mario.hexagonalbettingengine.BaseIT;
+import com.mario.hexagonalbettingengine.domain.betting.Bet;
+import com.mario.hexagonalbettingengine.domain.betting.BetSettlementPublisher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@EmbeddedKafka(partitions = 1, topics = {"${app.messaging.kafka.event-outcomes.topic}"})
+@DisplayName("Bet Settlement Outbox Relay Integration Tests")
+class BetSettlementOutboxRelayIT extends BaseIT {
+
+    private static final int OUTBOX_ROWS = 300;
+    private static final int CONCURRENT_RELAYS = 4;
+
+    @Autowired
+    private BetSettlementOutboxRelay relay;
+
+    @Autowired
+    private BetSettlementOutboxJpaRepository outboxRepository;
+
+    @MockitoSpyBean
+    private BetSettlementPublisher publisher;
+
+    @AfterEach
+    void deleteOutboxRows() {
+        outboxRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("Should publish each outbox row once when several relays poll concurrently")
+    void shouldPublishEachRowOnceAcrossConcurrentRelays() {
+        // Given
+        outboxRepository.saveAll(IntStream.range(0, OUTBOX_ROWS)
+                .mapToObj(i -> outboxEntry("bet-relay-%03d".formatted(i)))
+                .toList());
+
+        doAnswer(invocation -> {
+            Thread.sleep(1);
+            return invocation.callRealMethod();
+        }).when(publisher).publish(any());
+
+        var start = new CountDownLatch(1);
+
+        // When
+        try (var relays = Executors.newFixedThreadPool(CONCURRENT_RELAYS)) {
+            IntStream.range(0, CONCURRENT_RELAYS).forEach(i -> relays.submit(() -> {
+                start.await();
+                relay.relay();
+                return null;
+            }));
+            start.countDown();
+        }
+
+        await().atMost(Duration.ofSeconds(10))
+                .pollInterval(Duration.ofMillis(50))
+                .until(() -> outboxRepository.count() == 0);
+
+        // Then
+        var publishedBets = ArgumentCaptor.forClass(Bet.class);
+        verify(publisher, atLeast(1)).publish(publishedBets.capture());
+        assertThat(publishedBets.getAllValues())
+                .extracting(Bet::betId)
+                .filteredOn(betId -> betId.startsWith("bet-relay-"))
+                .hasSize(OUTBOX_ROWS)
+                .doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("Should take over rows whose claim expired and skip rows claimed by another relay")
+    void shouldRelayOnlyUnclaimedOrExpiredRows() {
+        // Given
+        var expired = outboxEntry("bet-claim-expired");
+        expired.setClaimedBy("relay-that-died");
+        expired.setClaimedUntil(Instant.now().minusSeconds(1));
+        var held = outboxEntry("bet-claim-held");
+        held.setClaimedBy("relay-still-publishing");
+        held.setClaimedUntil(Instant.now().plus(Duration.ofHours(1)));
+        outboxRepository.saveAll(List.of(expired, held));
+
+        // When
+        await().atMost(Duration.ofSeconds(10))
+                .pollInterval(Duration.ofMillis(50))
+                .until(() -> outboxRepository.count() == 1);
+
+        // Then
+        assertThat(outboxRepository.findAll())
+                .extracting(BetSettlementOutboxEntity::getBetId)
+                .containsExactly("bet-claim-held");
+        verify(publisher).publish(argThat(bet -> bet.betId().equals("bet-claim-expired")));
+        verify(publisher, never()).publish(argThat(bet -> bet.betId().equals("bet-claim-held")));
+    }
+
+    private static BetSettlementOutboxEntity outboxEntry(String betId) {
+        return BetSettlementOutboxEntity.builder()
+                .betId(betId)
+                .userId("user-1")
+                .eventId("match-relay")
+                .eventMarketId("1x2")
+                .eventWinnerId("REAL_MADRID")
+                .betAmount(new BigDecimal("10.00"))
+                .status(BetStatus.WON)
+                .createdAt(Instant.now())
+                .build();
+    }
+}
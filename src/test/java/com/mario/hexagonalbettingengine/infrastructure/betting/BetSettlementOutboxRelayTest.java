@@ -0,0 +1,306 @@
+package com.mario.hexagonalbettingengine.infrastructure.betting;
+
+import com.mario.hexagonalbettingengine.domain.betting.Bet;
+import com.mario.hexagonalbettingengine.domain.betting.BetSettlementPublisher;
+import com.mario.hexagonalbettingengine.domain.betting.SettlementMode;
+import com.mario.hexagonalbettingengine.infrastructure.betting.mapper.BetMapper;
+import com.mario.hexagonalbettingengine.infrastructure.betting.payload.BetStatus;
+import com.mario.hexagonalbettingengine.infrastructure.betting.payload.EventSettlementPayload.SettledBet;
+import com.mario.hexagonalbettingengine.infrastructure.config.MessagingProperties;
+import com.mario.hexagonalbettingengine.infrastructure.config.MessagingProperties.RocketMqConfig.MessageMode;
+import com.mario.hexagonalbettingengine.infrastructure.config.SettlementProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static com.mario.hexagonalbettingengine.fixtures.BetFixtures.wonBet;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Answers.CALLS_REAL_METHODS;
+import static org.mockito.Answers.RETURNS_DEEP_STUBS;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BetSettlementOutboxRelayTest {
+
+    private static final int BATCH_SIZE = 4;
+    private static final int PARALLELISM = 2;
+    private static final long CLAIM_LEASE = 30_000;
+
+    @Mock
+    private BetSettlementOutboxJpaRepository repository;
+
+    @Mock(answer = CALLS_REAL_METHODS)
+    private BetSettlementPublisher publisher;
+
+    @Mock
+    private BetMapper mapper;
+
+    @Mock(answer = RETURNS_DEEP_STUBS)
+    private MessagingProperties properties;
+
+    @Mock(answer = RETURNS_DEEP_STUBS)
+    private SettlementProperties settlementProperties;
+
+    private ExecutorService executor;
+    private MeterRegistry meterRegistry;
+    private BetSettlementOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(PARALLELISM);
+        lenient().when(properties.outbox())
+                .thenReturn(new MessagingProperties.OutboxConfig(BATCH_SIZE, 50, PARALLELISM, CLAIM_LEASE));
+        meterRegistry = new SimpleMeterRegistry();
+        relay = new BetSettlementOutboxRelay(repository, publisher, mapper, properties, settlementProperties, executor,
+                meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should publish every outbox entry and delete the relayed rows")
+    void shouldPublishAndDeleteRelayedEntries() {
+        // Given
+        var entries = List.of(entry(1L, "bet-1"), entry(2L, "bet-2"), entry(3L, "bet-3"));
+        givenClaimedBatches(entries);
+        entries.forEach(this::stubMapping);
+
+        // When
+        relay.relay();
+
+        // Then
+        verify(publisher, times(3)).publish(any());
+        verify(repository).deleteAllByIdInBatch(List.of(1L, 2L, 3L));
+        verify(repository).claimBatch(anyString(), any(), any(), eq(BATCH_SIZE));
+        verify(repository, never()).releaseClaim(any());
+        assertThat(meterRegistry.get("bet.settlement.publish").timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should keep polling while the outbox returns full batches")
+    void shouldDrainFullBatchesUntilOutboxIsEmpty() {
+        // Given
+        var firstBatch = List.of(entry(1L, "bet-1"), entry(2L, "bet-2"), entry(3L, "bet-3"), entry(4L, "bet-4"));
+        givenClaimedBatches(firstBatch, List.of());
+        firstBatch.forEach(this::stubMapping);
+
+        // When
+        relay.relay();
+
+        // Then
+        verify(publisher, times(4)).publish(any());
+        verify(repository).deleteAllByIdInBatch(List.of(1L, 2L, 3L, 4L));
+        verify(repository, times(2)).claimBatch(anyString(), any(), any(), eq(BATCH_SIZE));
+    }
+
+    @Test
+    @DisplayName("Should leave entries after a failed publish in the outbox for the next poll")
+    void shouldLeaveUnpublishedEntriesInOutbox() {
+        // Given
+        var entries = List.of(entry(1L, "bet-1"), entry(2L, "bet-2"), entry(3L, "bet-3"), entry(4L, "bet-4"));
+        givenClaimedBatches(entries);
+        entries.forEach(this::stubMapping);
+
+        doThrow(new RuntimeException("Broker down"))
+                .when(publisher).publish(argThat(bet -> bet.betId().equals("bet-3")));
+
+        // When
+        relay.relay();
+
+        // Then
+        var claimToken = ArgumentCaptor.forClass(String.class);
+        verify(repository).claimBatch(claimToken.capture(), any(), any(), eq(BATCH_SIZE));
+        verify(repository).deleteAllByIdInBatch(List.of(1L, 2L));
+        verify(repository).releaseClaim(claimToken.getValue());
+        verify(publisher, never()).publish(argThat(bet -> bet.betId().equals("bet-4")));
+    }
+
+    @Test
+    @DisplayName("Should page through each claimed event and publish its envelope parts, releasing failed events")
+    void shouldPublishEnvelopesPerEvent() {
+        // Given
+        var settledAt = Instant.parse("2026-01-10T20:00:00Z");
+        var firstPage = List.of(entry(1L, "bet-1", "event-1"), entry(3L, "bet-3", "event-1"),
+                entry(5L, "bet-5", "event-1"), entry(6L, "bet-6", "event-1"));
+        var lastRow = entry(7L, "bet-7", "event-1");
+        lastRow.setCreatedAt(settledAt);
+        var otherEvent = entry(2L, "bet-2", "event-2");
+        given(properties.rocketmq().messageMode()).willReturn(MessageMode.ENVELOPE);
+        // Two bets of about 80 bytes per envelope
+        given(properties.rocketmq().maxMessageBytes()).willReturn(256 + "event-1".length() + 160);
+        given(repository.claimEvents(anyString(), any(), any(), eq(BATCH_SIZE))).willReturn(6);
+        given(repository.findClaimedEventIds(anyString())).willReturn(List.of("event-1", "event-2"));
+        given(repository.findAllByClaimedByAndEventIdAndIdGreaterThanOrderByIdAsc(
+                anyString(), eq("event-1"), eq(0L), eq(Limit.of(BATCH_SIZE)))).willReturn(firstPage);
+        given(repository.findAllByClaimedByAndEventIdAndIdGreaterThanOrderByIdAsc(
+                anyString(), eq("event-1"), eq(6L), eq(Limit.of(BATCH_SIZE)))).willReturn(List.of(lastRow));
+        given(repository.findAllByClaimedByAndEventIdAndIdGreaterThanOrderByIdAsc(
+                anyString(), eq("event-2"), eq(0L), eq(Limit.of(BATCH_SIZE)))).willReturn(List.of(otherEvent));
+        given(repository.findAllByClaimedByAndEventIdAndIdGreaterThanAndIdLessThanEqualOrderByIdAsc(
+                anyString(), eq("event-1"), eq(0L), eq(3L))).willReturn(firstPage.subList(0, 2));
+        given(repository.findAllByClaimedByAndEventIdAndIdGreaterThanAndIdLessThanEqualOrderByIdAsc(
+                anyString(), eq("event-1"), eq(3L), eq(6L))).willReturn(firstPage.subList(2, 4));
+        given(repository.findAllByClaimedByAndEventIdAndIdGreaterThanAndIdLessThanEqualOrderByIdAsc(
+                anyString(), eq("event-1"), eq(6L), eq(7L))).willReturn(List.of(lastRow));
+        given(repository.findAllByClaimedByAndEventIdAndIdGreaterThanAndIdLessThanEqualOrderByIdAsc(
+                anyString(), eq("event-2"), eq(0L), eq(2L))).willReturn(List.of(otherEvent));
+        given(repository.deleteClaimedEvent(anyString(), eq("event-1"))).willReturn(5);
+        firstPage.forEach(this::stubMapping);
+        stubMapping(lastRow);
+        stubMapping(otherEvent);
+
+        doReturn(CompletableFuture.completedFuture(null))
+                .when(publisher).publishEventSettlement(eq("event-1"), any(), anyInt(), anyInt(), any());
+        doReturn(CompletableFuture.failedFuture(new RuntimeException("Broker down")))
+                .when(publisher).publishEventSettlement(eq("event-2"), any(), anyInt(), anyInt(), any());
+
+        // When
+        relay.relay();
+
+        // Then
+        verify(publisher).publishEventSettlement(eq("event-1"), eq(settledAt), eq(1), eq(3),
+                argThat(bets -> bets.stream().map(Bet::betId).toList().equals(List.of("bet-1", "bet-3"))));
+        verify(publisher).publishEventSettlement(eq("event-1"), eq(settledAt), eq(2), eq(3),
+                argThat(bets -> bets.stream().map(Bet::betId).toList().equals(List.of("bet-5", "bet-6"))));
+        verify(publisher).publishEventSettlement(eq("event-1"), eq(settledAt), eq(3), eq(3),
+                argThat(bets -> bets.stream().map(Bet::betId).toList().equals(List.of("bet-7"))));
+        verify(publisher, never()).publish(any());
+        verify(repository).deleteClaimedEvent(anyString(), eq("event-1"));
+        verify(repository, never()).deleteClaimedEvent(anyString(), eq("event-2"));
+        verify(repository).releaseClaim(anyString());
+        verify(repository, never()).findAllByClaimedByOrderByIdAsc(any());
+        verify(repository, never()).claimBatch(any(), any(), any(), anyInt());
+        assertThat(meterRegistry.get("bet.settlement.envelope.publish").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should extend the claim while waiting for slow acknowledgements")
+    void shouldExtendClaimWhileWaitingForAcknowledgements() {
+        // Given
+        given(properties.outbox()).willReturn(new MessagingProperties.OutboxConfig(BATCH_SIZE, 50, PARALLELISM, 30));
+        var entries = List.of(entry(1L, "bet-1"));
+        givenClaimedBatches(entries);
+        entries.forEach(this::stubMapping);
+
+        doReturn(CompletableFuture.runAsync(() -> { }, CompletableFuture.delayedExecutor(200, TimeUnit.MILLISECONDS)))
+                .when(publisher).publishAsync(any());
+
+        // When
+        relay.relay();
+
+        // Then
+        verify(repository, atLeastOnce()).extendClaim(anyString(), any());
+        verify(repository).deleteAllByIdInBatch(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("Should refuse envelope mode when an event's outbox rows commit in several transactions")
+    void shouldRejectEnvelopeModeWithCheckpointedSettlement() {
+        // Given
+        given(properties.rocketmq().messageMode()).willReturn(MessageMode.ENVELOPE);
+        given(settlementProperties.mode()).willReturn(SettlementMode.CHECKPOINTED);
+
+        // When & Then
+        assertThatThrownBy(relay::validate)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("envelope");
+    }
+
+    @Test
+    @DisplayName("Should claim outbox rows for the configured lease")
+    void shouldClaimRowsForLease() {
+        // Given
+        given(repository.claimBatch(anyString(), any(), any(), anyInt())).willReturn(0);
+
+        // When
+        relay.relay();
+
+        // Then
+        var now = ArgumentCaptor.forClass(Instant.class);
+        var claimedUntil = ArgumentCaptor.forClass(Instant.class);
+        verify(repository).claimBatch(anyString(), now.capture(), claimedUntil.capture(), eq(BATCH_SIZE));
+        assertThat(Duration.between(now.getValue(), claimedUntil.getValue()))
+                .isEqualTo(Duration.ofMillis(CLAIM_LEASE));
+        verify(repository, never()).findAllByClaimedByOrderByIdAsc(any());
+    }
+
+    @Test
+    @DisplayName("Should do nothing when the outbox is empty")
+    void shouldDoNothingWhenOutboxIsEmpty() {
+        // Given
+        givenClaimedBatches(List.of());
+
+        // When
+        relay.relay();
+
+        // Then
+        verify(repository, never()).deleteAllByIdInBatch(any());
+        verifyNoInteractions(publisher);
+    }
+
+    @SafeVarargs
+    private void givenClaimedBatches(List<BetSettlementOutboxEntity>... batches) {
+        var claims = given(repository.claimBatch(anyString(), any(), any(), eq(BATCH_SIZE)));
+        for (var batch : batches) {
+            claims = claims.willReturn(batch.size());
+        }
+
+        var claimedBatches = Arrays.stream(batches)
+                .filter(batch -> !batch.isEmpty())
+                .toList();
+        if (claimedBatches.isEmpty()) {
+            return;
+        }
+
+        var reads = given(repository.findAllByClaimedByOrderByIdAsc(anyString()));
+        for (var batch : claimedBatches) {
+            reads = reads.willReturn(batch);
+        }
+    }
+
+    private BetSettlementOutboxEntity entry(Long id, String betId) {
+        return entry(id, betId, "event-1");
+    }
+
+    private BetSettlementOutboxEntity entry(Long id, String betId, String eventId) {
+        return BetSettlementOutboxEntity.builder()
+                .id(id)
+                .betId(betId)
+                .eventId(eventId)
+                .createdAt(Instant.parse("2026-01-10T19:59:59Z"))
+                .build();
+    }
+
+    private void stubMapping(BetSettlementOutboxEntity entry) {
+        Bet bet = wonBet().betId(entry.getBetId()).build();
+        lenient().when(mapper.toDomain(entry)).thenReturn(bet);
+        lenient().when(mapper.toSettledBet(bet))
+                .thenReturn(new SettledBet(entry.getBetId(), "user-1", BetStatus.WON, BigDecimal.TEN));
+    }
+}
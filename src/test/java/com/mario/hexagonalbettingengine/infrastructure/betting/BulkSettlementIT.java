@@ -0,0 +1,151 @@
+package com.mario.hexagonalbettingengine.infrastructure.betting;
+
+import com.mario.hexagonalbettingengine.domain.betting.BetSettlementOutbox;
+import com.mario.hexagonalbettingengine.domain.betting.BetSettlementService;
+import com.mario.hexagonalbettingengine.domain.betting.SettlementSettings;
+import com.mario.hexagonalbettingengine.infrastructure.betting.mapper.BetMapperImpl;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.mario.hexagonalbettingengine.fixtures.BetEntityFixtures.createPendingEntity;
+import static com.mario.hexagonalbettingengine.fixtures.EventOutcomeFixtures.createOutcome;
+import static com.mario.hexagonalbettingengine.fixtures.PendingEventIndexFixtures.allEventsPending;
+import static com.mario.hexagonalbettingengine.fixtures.SettledEventRegistryFixtures.noDeduplication;
+import static com.mario.hexagonalbettingengine.fixtures.SettlementSettingsFixtures.bulkSettlement;
+import static com.mario.hexagonalbettingengine.fixtures.SettlementSettingsFixtures.perBetSettlement;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({BetRepositoryAdapter.class, BetMapperImpl.class})
+@DisplayName("Bulk vs Per-Bet Settlement Integration Tests")
+class BulkSettlementIT {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkSettlementIT.class);
+
+    private static final int LARGE_EVENT_SIZE = 20_000;
+    private static final int FLUSH_INTERVAL = 1_000;
+    private static final String WINNER = "HOME";
+    private static final String LOSER = "AWAY";
+
+    @Autowired
+    private BetRepositoryAdapter adapter;
+
+    @Autowired
+    private BetJpaRepository jpaRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        jpaRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should settle the same rows as the per-bet path on a large event")
+    void shouldMatchPerBetRowCounts() {
+        // Given
+        seedLargeEvent("per-bet-event");
+        seedLargeEvent("bulk-event");
+
+        var perBetPublished = new AtomicInteger();
+        var bulkPublished = new AtomicInteger();
+
+        var perBetService = createService(perBetSettlement(), bets -> perBetPublished.addAndGet(bets.size()));
+        var bulkService = createService(bulkSettlement(), bets -> bulkPublished.addAndGet(bets.size()));
+
+        // When
+        timed(() -> perBetService.settle(createOutcome("per-bet-event", WINNER)));
+        timed(() -> bulkService.settle(createOutcome("bulk-event", WINNER)));
+
+        // Then
+        assertThat(countByStatus("bulk-event", BetStatus.WON))
+                .isEqualTo(countByStatus("per-bet-event", BetStatus.WON))
+                .isEqualTo(LARGE_EVENT_SIZE / 3);
+        assertThat(countByStatus("bulk-event", BetStatus.LOST))
+                .isEqualTo(countByStatus("per-bet-event", BetStatus.LOST))
+                .isEqualTo(LARGE_EVENT_SIZE - LARGE_EVENT_SIZE / 3);
+        assertThat(countByStatus("bulk-event", BetStatus.PENDING)).isZero();
+
+        assertThat(bulkPublished.get())
+                .isEqualTo(perBetPublished.get())
+                .isEqualTo(LARGE_EVENT_SIZE);
+    }
+
+    /**
+     * Compares wall-clock time, so it only runs in {@code ./gradlew bulkTimingTest}.
+     */
+    @Test
+    @Tag("bulk-timing")
+    @DisplayName("Should settle a large event faster in bulk than bet by bet")
+    void shouldOutperformPerBetSettlement() {
+        // Given
+        seedLargeEvent("per-bet-event");
+        seedLargeEvent("bulk-event");
+
+        var perBetService = createService(perBetSettlement(), bets -> {
+        });
+        var bulkService = createService(bulkSettlement(), bets -> {
+        });
+
+        // When
+        var perBetNanos = timed(() -> perBetService.settle(createOutcome("per-bet-event", WINNER)));
+        var bulkNanos = timed(() -> bulkService.settle(createOutcome("bulk-event", WINNER)));
+
+        // Then
+        log.info("Settled {} bets. Per-bet: {} ms ({} bets/s), bulk: {} ms ({} bets/s)",
+                LARGE_EVENT_SIZE,
+                perBetNanos / 1_000_000, throughput(perBetNanos),
+                bulkNanos / 1_000_000, throughput(bulkNanos));
+
+        assertThat(bulkNanos).isLessThan(perBetNanos);
+    }
+
+    private BetSettlementService createService(SettlementSettings settings, BetSettlementOutbox outbox) {
+        return new BetSettlementService(adapter, outbox, settings, (mode, settledBets, duration) -> {
+        }, noDeduplication(), allEventsPending());
+    }
+
+    private long timed(Runnable settlement) {
+        entityManager.clear();
+        var start = System.nanoTime();
+        settlement.run();
+        entityManager.flush();
+        return System.nanoTime() - start;
+    }
+
+    private void seedLargeEvent(String eventId) {
+        for (int i = 0; i < LARGE_EVENT_SIZE; i++) {
+            var predictedWinner = i < LARGE_EVENT_SIZE / 3 ? WINNER : LOSER;
+            entityManager.persist(createPendingEntity(eventId + "-bet-" + i, eventId, predictedWinner));
+
+            if (i % FLUSH_INTERVAL == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private int countByStatus(String eventId, BetStatus status) {
+        return jpaRepository.findByEventIdAndStatus(eventId, status).size();
+    }
+
+    private static long throughput(long nanos) {
+        return LARGE_EVENT_SIZE * 1_000_000_000L / Math.max(nanos, 1);
+    }
+}
@@ -0,0 +1,122 @@
+package com.mario.hexagonalbettingengine.infrastructure.betting;
+
+import com.mario.hexagonalbettingengine.BaseIT;
+import com.mario.hexagonalbettingengine.domain.betting.Bet;
+import com.mario.hexagonalbettingengine.domain.betting.BetSettlement;
+import com.mario.hexagonalbettingengine.domain.betting.BetSettlementOutbox;
+import com.mario.hexagonalbettingengine.domain.betting.BetSettlementPublisher;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.time.Duration;
+import java.util.stream.IntStream;
+
+import static com.mario.hexagonalbettingengine.fixtures.BetEntityFixtures.DEFAULT_WINNER_ID;
+import static com.mario.hexagonalbettingengine.fixtures.EventOutcomeFixtures.DEFAULT_EVENT_ID;
+import static com.mario.hexagonalbettingengine.fixtures.EventOutcomeFixtures.createOutcome;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.verify;
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@EmbeddedKafka(partitions = 1, topics = {"${app.messaging.kafka.event-outcomes.topic}"})
+@SpringBootTest(
+        webEnvironment = RANDOM_PORT,
+        properties = {
+                "app.settlement.mode=checkpointed",
+                "app.settlement.chunk-size=10"
+        }
+)
+@DisplayName("Checkpointed Settlement Integration Tests")
+class CheckpointedSettlementIT extends BaseIT {
+
+    private static final int PENDING_BETS = 45;
+
+    @Autowired
+    private BetSettlement settlement;
+
+    @Autowired
+    private BetSettlementOutboxJpaRepository outboxRepository;
+
+    @MockitoSpyBean
+    private BetSettlementOutbox outbox;
+
+    @MockitoSpyBean
+    private BetSettlementPublisher publisher;
+
+    @Test
+    @DisplayName("Should resume a settlement killed mid-way from its checkpoint and settle each bet exactly once")
+    void shouldResumeFromCheckpointAfterFailure() throws Exception {
+        // Given
+        IntStream.range(0, PENDING_BETS).forEach(i ->
+                savePendingBet("bet-ckpt-%02d".formatted(i), DEFAULT_EVENT_ID, i % 2 == 0 ? DEFAULT_WINNER_ID : "BARCELONA"));
+        var outcome = createOutcome(DEFAULT_EVENT_ID, DEFAULT_WINNER_ID);
+
+        doCallRealMethod()
+                .doCallRealMethod()
+                .doThrow(new IllegalStateException("Settlement killed"))
+                .doCallRealMethod()
+                .when(outbox).append(any());
+
+        // When
+        assertThrows(IllegalStateException.class, () -> settlement.settle(outcome));
+
+        // Then
+        assertThat(betRepository.findAll())
+                .filteredOn(bet -> bet.getStatus() != BetStatus.PENDING)
+                .hasSize(20);
+        mockMvc.perform(get("/api/settlements/{eventId}", DEFAULT_EVENT_ID))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value("IN_PROGRESS"))
+                .andExpect(jsonPath("$.totalBets").value(PENDING_BETS))
+                .andExpect(jsonPath("$.settledBets").value(20))
+                .andExpect(jsonPath("$.lastBetId").value("bet-ckpt-19"));
+
+        // When
+        settlement.settle(outcome);
+        settlement.settle(outcome);
+
+        // Then
+        assertThat(betRepository.findAll())
+                .extracting(BetEntity::getStatus)
+                .doesNotContain(BetStatus.PENDING);
+        mockMvc.perform(get("/api/settlements/{eventId}", DEFAULT_EVENT_ID))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value("COMPLETED"))
+                .andExpect(jsonPath("$.settledBets").value(PENDING_BETS))
+                .andExpect(jsonPath("$.wonBets").value(23))
+                .andExpect(jsonPath("$.lostBets").value(22))
+                .andExpect(jsonPath("$.lastBetId").value("bet-ckpt-44"));
+
+        await().atMost(Duration.ofSeconds(10))
+                .pollInterval(Duration.ofMillis(100))
+                .until(() -> outboxRepository.count() == 0);
+
+        var publishedBets = ArgumentCaptor.forClass(Bet.class);
+        verify(publisher, atLeast(1)).publish(publishedBets.capture());
+        assertThat(publishedBets.getAllValues())
+                .extracting(Bet::betId)
+                .filteredOn(betId -> betId.startsWith("bet-ckpt-"))
+                .hasSize(PENDING_BETS)
+                .doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("Should return 404 for an event that has no settlement job")
+    void shouldReturnNotFoundWithoutJob() throws Exception {
+        mockMvc.perform(get("/api/settlements/{eventId}", "match-unknown"))
+                .andExpect(status().isNotFound());
+    }
+}
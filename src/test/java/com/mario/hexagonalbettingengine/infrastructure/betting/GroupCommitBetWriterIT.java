@@ -0,0 +1,116 @@
+package com.mario.hexagonalbettingengine.infrastructure.betting;
+
+import com.mario.hexagonalbettingengine.BaseIT;
+import com.mario.hexagonalbettingengine.domain.betting.Bet;
+import com.mario.hexagonalbettingengine.domain.betting.BetPlacement;
+import com.mario.hexagonalbettingengine.domain.betting.DuplicateBetException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static com.mario.hexagonalbettingengine.fixtures.BetFixtures.baseBet;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@EmbeddedKafka(partitions = 1, topics = {"${app.messaging.kafka.event-outcomes.topic}"})
+@DisplayName("Group-Commit Bet Writer Integration Tests")
+class GroupCommitBetWriterIT extends BaseIT {
+
+    private static final int UNIQUE_BETS = 5_000;
+    private static final int CONCURRENT_CLIENTS = 64;
+    private static final String FAILING_LISTENER_PREFIX = "listener-failure-";
+
+    @Autowired
+    private BetPlacement placement;
+
+    @TestConfiguration
+    static class FailingListenerConfig {
+
+        @Bean
+        public PlacedBetListener failingPlacedBetListener() {
+            return bets -> {
+                if (bets.stream().anyMatch(bet -> bet.betId().startsWith(FAILING_LISTENER_PREFIX))) {
+                    throw new IllegalStateException("Placed bet listener failed");
+                }
+            };
+        }
+    }
+
+    @Test
+    @DisplayName("Should persist every concurrently placed bet exactly once and reject the duplicates")
+    void shouldPersistConcurrentPlacementsWithoutLossOrDuplication() throws Exception {
+        // Given
+        var placements = new ArrayList<Bet>();
+        IntStream.range(0, UNIQUE_BETS).forEach(index -> {
+            var bet = baseBet().betId("concurrent-bet-%05d".formatted(index)).build();
+            placements.add(bet);
+            placements.add(bet);
+        });
+        Collections.shuffle(placements);
+
+        var placed = new AtomicInteger();
+        var duplicates = new AtomicInteger();
+        var unexpected = new AtomicInteger();
+
+        // When
+        try (var clients = Executors.newFixedThreadPool(CONCURRENT_CLIENTS)) {
+            placements.forEach(bet -> clients.submit(() -> {
+                try {
+                    placement.place(bet).join();
+                    placed.incrementAndGet();
+                } catch (CompletionException e) {
+                    if (e.getCause() instanceof DuplicateBetException) {
+                        duplicates.incrementAndGet();
+                    } else {
+                        unexpected.incrementAndGet();
+                    }
+                }
+            }));
+        }
+
+        // Then
+        assertThat(unexpected.get()).isZero();
+        assertThat(placed.get()).isEqualTo(UNIQUE_BETS);
+        assertThat(duplicates.get()).isEqualTo(UNIQUE_BETS);
+        assertThat(betRepository.count()).isEqualTo(UNIQUE_BETS);
+        assertThat(betRepository.findAll())
+                .extracting(BetEntity::getStatus)
+                .containsOnly(BetStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("Should acknowledge committed bets once even when a placed bet listener throws")
+    void shouldNotRecommitGroupWhenListenerFails() {
+        // Given
+        var bets = IntStream.range(0, CONCURRENT_CLIENTS)
+                .mapToObj(index -> baseBet().betId(FAILING_LISTENER_PREFIX + index).build())
+                .toList();
+        var failures = new AtomicInteger();
+
+        // When
+        try (var clients = Executors.newFixedThreadPool(CONCURRENT_CLIENTS)) {
+            bets.forEach(bet -> clients.submit(() -> {
+                try {
+                    placement.place(bet).join();
+                } catch (CompletionException e) {
+                    failures.incrementAndGet();
+                }
+            }));
+        }
+        placement.placeAll(List.of(baseBet().betId(FAILING_LISTENER_PREFIX + "batch").build())).join();
+
+        // Then
+        assertThat(failures.get()).isZero();
+        assertThat(betRepository.count()).isEqualTo(CONCURRENT_CLIENTS + 1);
+    }
+}
@@ -0,0 +1,83 @@
+package com.mario.hexagonalbettingengine.infrastructure.betting;
+
+import com.mario.hexagonalbettingengine.BaseIT;
+import com.mario.hexagonalbettingengine.domain.betting.BetPlacement;
+import com.mario.hexagonalbettingengine.domain.betting.BetSettlement;
+import com.mario.hexagonalbettingengine.infrastructure.betting.BetBookWriteBehind.UnflushedChanges;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+import static com.mario.hexagonalbettingengine.domain.betting.BetStatus.WON;
+import static com.mario.hexagonalbettingengine.fixtures.BetFixtures.createBet;
+import static com.mario.hexagonalbettingengine.fixtures.EventOutcomeFixtures.createOutcome;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.awaitility.Awaitility.await;
+
+@EmbeddedKafka(partitions = 1, topics = {"${app.messaging.kafka.event-outcomes.topic}"})
+@TestPropertySource(properties = {
+        "spring.datasource.hikari.maximum-pool-size=1",
+        "spring.datasource.hikari.connection-timeout=250",
+        "app.settlement.bet-book.enabled=true",
+        "app.settlement.bet-book.journal-dir=${java.io.tmpdir}/bet-book-backpressure-it-${random.uuid}",
+        "app.settlement.bet-book.flush-interval=10",
+        "app.settlement.bet-book.max-lag=1",
+        "app.settlement.bet-book.max-lag-wait=200"
+})
+@DisplayName("In-Memory Bet Book Backpressure Integration Tests")
+class InMemoryBetBookBackpressureIT extends BaseIT {
+
+    @Autowired
+    private BetPlacement placement;
+
+    @Autowired
+    private BetSettlement settlement;
+
+    @Autowired
+    private InMemoryBetBook book;
+
+    @Autowired
+    private BetBookWriteBehind writeBehind;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("Should fail the settlement retryably instead of deadlocking when the flush needs its connection")
+    void shouldGiveUpWaitingForCapacityWhilePoolIsExhausted() {
+        // Given
+        placement.placeAll(List.of(
+                createBet("bet-lagging", "match-lagging", "REAL_MADRID", null),
+                createBet("bet-waiting", "match-waiting", "REAL_MADRID", null))).join();
+
+        // When
+        var thrown = catchThrowable(() -> transactionTemplate.executeWithoutResult(status -> {
+            // Holds the pool's only connection, then queues a committed change the flush cannot write yet
+            jdbcTemplate.queryForObject("SELECT 1", Integer.class);
+            writeBehind.enqueue(new UnflushedChanges("tx-lagging", -1,
+                    List.of(createBet("bet-lagging", "match-lagging", "REAL_MADRID", WON))));
+
+            settlement.settle(createOutcome("match-waiting", "REAL_MADRID"));
+        }));
+
+        // Then
+        assertThat(thrown).isInstanceOf(TransientDataAccessResourceException.class);
+        assertThat(book.countPendingBetsByEventId("match-waiting")).isEqualTo(1);
+
+        await().atMost(Duration.ofSeconds(10))
+                .pollInterval(Duration.ofMillis(50))
+                .until(() -> writeBehind.lag() == 0);
+        assertThat(findBetInDb("bet-lagging").getStatus()).isEqualTo(BetStatus.WON);
+
+        settlement.settle(createOutcome("match-waiting", "REAL_MADRID"));
+        assertThat(book.countPendingBetsByEventId("match-waiting")).isZero();
+    }
+}
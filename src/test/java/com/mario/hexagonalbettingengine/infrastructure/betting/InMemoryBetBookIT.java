@@ -0,0 +1,124 @@
+package com.mario.hexagonalbettingengine.infrastructure.betting;
+
+import com.mario.hexagonalbettingengine.BaseIT;
+import com.mario.hexagonalbettingengine.domain.betting.Bet;
+import com.mario.hexagonalbettingengine.domain.betting.BetPlacement;
+import com.mario.hexagonalbettingengine.domain.betting.BetRepository;
+import com.mario.hexagonalbettingengine.domain.betting.BetSettlement;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.context.TestPropertySource;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static com.mario.hexagonalbettingengine.domain.betting.BetStatus.LOST;
+import static com.mario.hexagonalbettingengine.domain.betting.BetStatus.WON;
+import static com.mario.hexagonalbettingengine.fixtures.BetFixtures.createBet;
+import static com.mario.hexagonalbettingengine.fixtures.EventOutcomeFixtures.createOutcome;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+@EmbeddedKafka(partitions = 1, topics = {"${app.messaging.kafka.event-outcomes.topic}"})
+@TestPropertySource(properties = {
+        "app.settlement.chunk-size=5",
+        "app.settlement.bet-book.enabled=true",
+        "app.settlement.bet-book.journal-dir=${java.io.tmpdir}/bet-book-it-${random.uuid}",
+        "app.settlement.bet-book.flush-batch-size=10",
+        "app.settlement.bet-book.flush-interval=10"
+})
+@DisplayName("In-Memory Bet Book Integration Tests")
+class InMemoryBetBookIT extends BaseIT {
+
+    @Autowired
+    private BetPlacement placement;
+
+    @Autowired
+    private BetSettlement settlement;
+
+    @Autowired
+    private BetRepository repository;
+
+    @Autowired
+    private InMemoryBetBook book;
+
+    @Autowired
+    private BetBookJournal journal;
+
+    @Autowired
+    private BetBookWriteBehind writeBehind;
+
+    @Autowired
+    private BetSettlementOutboxJpaRepository outboxRepository;
+
+    @Test
+    @DisplayName("Should settle placed bets from memory and write their statuses to the bets table behind the commit")
+    void shouldSettleInMemoryAndFlushBehind() {
+        // Given
+        var eventId = "match-book";
+        placement.placeAll(IntStream.range(0, 23)
+                .mapToObj(i -> createBet("bet-book-%02d".formatted(i), eventId,
+                        i % 3 == 0 ? "REAL_MADRID" : "BARCELONA", null))
+                .toList()).join();
+
+        // When
+        settlement.settle(createOutcome(eventId, "REAL_MADRID"));
+
+        // Then
+        assertThat(repository).isSameAs(book);
+        assertThat(book.countPendingBetsByEventId(eventId)).isZero();
+
+        await().atMost(Duration.ofSeconds(10))
+                .pollInterval(Duration.ofMillis(50))
+                .until(() -> writeBehind.lag() == 0);
+
+        assertThat(betRepository.findAll())
+                .filteredOn(bet -> bet.getEventId().equals(eventId))
+                .hasSize(23)
+                .allMatch(bet -> bet.getStatus() == (bet.getEventWinnerId().equals("REAL_MADRID")
+                        ? BetStatus.WON
+                        : BetStatus.LOST));
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM bet_book_commits", Long.class)).isZero();
+
+        await().atMost(Duration.ofSeconds(10))
+                .pollInterval(Duration.ofMillis(50))
+                .until(() -> outboxRepository.count() == 0);
+    }
+
+    @Test
+    @DisplayName("Should replay committed journal records after a crash and drop the ones that never committed")
+    void shouldRecoverUnflushedChangesFromJournal() {
+        // Given
+        var eventId = "match-crash";
+        savePendingBet("bet-crash-1", eventId, "REAL_MADRID");
+        savePendingBet("bet-crash-2", eventId, "BARCELONA");
+        savePendingBet("bet-crash-3", eventId, "REAL_MADRID");
+
+        journal.append("tx-committed", List.of(
+                createBet("bet-crash-1", eventId, "REAL_MADRID", WON),
+                createBet("bet-crash-2", eventId, "BARCELONA", LOST)));
+        jdbcTemplate.update("INSERT INTO bet_book_commits (tx_id, committed_at) VALUES (?, ?)",
+                "tx-committed", Timestamp.from(Instant.now()));
+        journal.append("tx-rolled-back", List.of(
+                createBet("bet-crash-3", eventId, "REAL_MADRID", WON)));
+
+        // When
+        writeBehind.recover();
+        book.load();
+
+        // Then
+        assertThat(findBetInDb("bet-crash-1").getStatus()).isEqualTo(BetStatus.WON);
+        assertThat(findBetInDb("bet-crash-2").getStatus()).isEqualTo(BetStatus.LOST);
+        assertThat(findBetInDb("bet-crash-3").getStatus()).isEqualTo(BetStatus.PENDING);
+        assertThat(book.findPendingBetsByEventId(eventId))
+                .extracting(Bet::betId)
+                .containsExactly("bet-crash-3");
+        assertThat(journal.replay()).isEmpty();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM bet_book_commits", Long.class)).isZero();
+    }
+}
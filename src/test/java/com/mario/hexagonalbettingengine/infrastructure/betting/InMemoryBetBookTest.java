@@ -0,0 +1,191 @@
+package com.mario.hexagonalbettingengine.infrastructure.betting;
+
+import com.mario.hexagonalbettingengine.domain.betting.Bet;
+import com.mario.hexagonalbettingengine.infrastructure.betting.BetBookWriteBehind.UnflushedChanges;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static com.mario.hexagonalbettingengine.domain.betting.BetStatus.LOST;
+import static com.mario.hexagonalbettingengine.domain.betting.BetStatus.PENDING;
+import static com.mario.hexagonalbettingengine.domain.betting.BetStatus.WON;
+import static com.mario.hexagonalbettingengine.fixtures.BetFixtures.createBet;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class InMemoryBetBookTest {
+
+    private static final String EVENT_ID = "match-1";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private BetBookJournal journal;
+
+    @Mock
+    private BetBookWriteBehind writeBehind;
+
+    private InMemoryBetBook book;
+
+    @BeforeEach
+    void setUp() {
+        book = new InMemoryBetBook(jdbcTemplate, journal, writeBehind, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("Should page through an event's pending bets in bet_id order")
+    void shouldFindPendingBetsInKeysetChunks() {
+        // Given
+        book.onPlaced(List.of(
+                pending("bet-3", "REAL_MADRID"),
+                pending("bet-1", "BARCELONA"),
+                pending("bet-4", "DRAW"),
+                pending("bet-2", "REAL_MADRID"),
+                createBet("bet-9", "match-2", "REAL_MADRID", PENDING)));
+
+        // When
+        var firstChunk = book.findPendingBetsByEventId(EVENT_ID, null, 2);
+        var secondChunk = book.findPendingBetsByEventId(EVENT_ID, "bet-2", 2);
+        var range = book.findPendingBetsByEventId(EVENT_ID, "bet-1", "bet-3", 10);
+
+        // Then
+        assertThat(firstChunk).extracting(Bet::betId).containsExactly("bet-1", "bet-2");
+        assertThat(secondChunk).extracting(Bet::betId).containsExactly("bet-3", "bet-4");
+        assertThat(range).extracting(Bet::betId).containsExactly("bet-2", "bet-3");
+        assertThat(book.countPendingBetsByEventId(EVENT_ID)).isEqualTo(4);
+        assertThat(book.findPendingBetsByEventId("match-unknown")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should return the last bet_id of every full range")
+    void shouldFindRangeBoundaries() {
+        // Given
+        book.onPlaced(IntStream.range(0, 7)
+                .mapToObj(i -> pending("bet-%d".formatted(i), "REAL_MADRID"))
+                .toList());
+
+        // When
+        var boundaries = book.findPendingBetIdBoundaries(EVENT_ID, 3);
+
+        // Then
+        assertThat(boundaries).containsExactly("bet-2", "bet-5");
+    }
+
+    @Test
+    @DisplayName("Should settle the selected winner's bets as won and the rest as lost, then journal and queue them")
+    void shouldSettleFromWinnerIndexAndJournalChanges() {
+        // Given
+        book.onPlaced(List.of(
+                pending("bet-1", "REAL_MADRID"),
+                pending("bet-2", "BARCELONA"),
+                pending("bet-3", "REAL_MADRID")));
+        given(journal.append(anyString(), anyList())).willReturn(7L);
+
+        // When
+        var settled = book.settlePendingBets(EVENT_ID, "REAL_MADRID", null, 10);
+
+        // Then
+        assertThat(settled)
+                .extracting(Bet::betId, Bet::status)
+                .containsExactly(tuple("bet-1", WON), tuple("bet-2", LOST), tuple("bet-3", WON));
+        assertThat(book.countPendingBetsByEventId(EVENT_ID)).isZero();
+
+        var changes = ArgumentCaptor.forClass(UnflushedChanges.class);
+        verify(writeBehind).awaitCapacity();
+        verify(writeBehind).enqueue(changes.capture());
+        assertThat(changes.getValue().segment()).isEqualTo(7L);
+        assertThat(changes.getValue().bets()).isEqualTo(settled);
+        verify(journal).append(changes.getValue().txId(), settled);
+        verify(jdbcTemplate).update(anyString(), eq(changes.getValue().txId()), any());
+    }
+
+    @Test
+    @DisplayName("Should only apply a transaction's changes to the book and queue after it commits")
+    void shouldApplyTransactionalChangesAfterCommit() {
+        // Given
+        book.onPlaced(List.of(pending("bet-1", "REAL_MADRID")));
+        given(journal.append(anyString(), anyList())).willReturn(1L);
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            // When
+            book.saveAll(List.of(createBet("bet-1", EVENT_ID, "REAL_MADRID", WON)));
+            var pendingBeforeCommit = book.countPendingBetsByEventId(EVENT_ID);
+            var synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+            synchronizations.forEach(synchronization ->
+                    synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+            // Then
+            assertThat(pendingBeforeCommit).isEqualTo(1);
+            assertThat(book.countPendingBetsByEventId(EVENT_ID)).isZero();
+            verify(writeBehind).enqueue(any());
+            verify(journal, never()).release(1L);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should leave the book untouched and release the journal record when the transaction rolls back")
+    void shouldDiscardRolledBackChanges() {
+        // Given
+        book.onPlaced(List.of(pending("bet-1", "REAL_MADRID")));
+        given(journal.append(anyString(), anyList())).willReturn(1L);
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            // When
+            book.saveAll(List.of(createBet("bet-1", EVENT_ID, "REAL_MADRID", WON)));
+            var synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+            synchronizations.forEach(synchronization ->
+                    synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+            // Then
+            assertThat(book.countPendingBetsByEventId(EVENT_ID)).isEqualTo(1);
+            assertThat(TransactionSynchronizationManager.hasResource(book)).isFalse();
+            verify(writeBehind, never()).enqueue(any());
+            verify(journal).release(1L);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should not journal anything when there are no bet changes")
+    void shouldIgnoreEmptySaves() {
+        // When
+        book.saveAll(List.of());
+
+        // Then
+        assertThat(book.settlePendingBets("match-unknown", "REAL_MADRID", null, 10)).isEmpty();
+        verifyNoInteractions(journal, writeBehind, jdbcTemplate);
+    }
+
+    private static Bet pending(String betId, String winnerId) {
+        return createBet(betId, EVENT_ID, winnerId, PENDING);
+    }
+}
@@ -5,6 +5,8 @@ import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.read.ListAppender;
 import com.mario.hexagonalbettingengine.infrastructure.betting.mapper.BetMapper;
 import com.mario.hexagonalbettingengine.infrastructure.betting.payload.BetPayload;
+import com.mario.hexagonalbettingengine.infrastructure.betting.payload.EventSettlementPayload;
+import com.mario.hexagonalbettingengine.infrastructure.betting.payload.EventSettlementPayload.SettledBet;
 import com.mario.hexagonalbettingengine.infrastructure.config.MessagingProperties;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,7 +18,9 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.slf4j.LoggerFactory;
 
+import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.List;
 
 import static com.mario.hexagonalbettingengine.fixtures.BetFixtures.wonBet;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -82,4 +86,29 @@ class LoggingBetSettlementPublisherTest {
                 .contains(topic)
                 .contains(payload.toString());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should log the settlement envelope part of the event")
+    void shouldLogSettlementEnvelope() {
+        // Given
+        var topic = "rocket-topic-test";
+        var bets = List.of(wonBet().betId("bet-1").build(), wonBet().betId("bet-2").build());
+        var settledAt = Instant.now();
+        var envelope = new EventSettlementPayload("event-1", settledAt, 2, 3, List.of(
+                new SettledBet("bet-1", "user-1", WON, BigDecimal.TEN),
+                new SettledBet("bet-2", "user-1", WON, BigDecimal.TEN)));
+
+        when(betMapper.toEnvelope("event-1", settledAt, 2, 3, bets)).thenReturn(envelope);
+        when(properties.rocketmq().topic()).thenReturn(topic);
+
+        // When
+        var ack = publisher.publishEventSettlement("event-1", settledAt, 2, 3, bets);
+
+        // Then
+        assertThat(ack).isCompleted();
+        assertThat(logAppender.list)
+                .extracting(ILoggingEvent::getFormattedMessage)
+                .containsExactly(
+                        "[MOCK ROCKETMQ] Settlement of event event-1 (part 2/3, 2 bets) published to rocket-topic-test topic");
+    }
+}
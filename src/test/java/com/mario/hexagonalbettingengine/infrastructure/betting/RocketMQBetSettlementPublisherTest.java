@@ -1,8 +1,17 @@
 package com.mario.hexagonalbettingengine.infrastructure.betting;
 
+import com.mario.hexagonalbettingengine.domain.betting.Bet;
 import com.mario.hexagonalbettingengine.infrastructure.betting.mapper.BetMapper;
 import com.mario.hexagonalbettingengine.infrastructure.betting.payload.BetPayload;
+import com.mario.hexagonalbettingengine.infrastructure.betting.payload.BetPayloadCodec;
+import com.mario.hexagonalbettingengine.infrastructure.betting.payload.EventSettlementPayload;
+import com.mario.hexagonalbettingengine.infrastructure.betting.payload.EventSettlementPayload.SettledBet;
+import com.mario.hexagonalbettingengine.infrastructure.betting.payload.EventSettlementPayloadCodec;
+import com.mario.hexagonalbettingengine.infrastructure.codec.PayloadFormat;
 import com.mario.hexagonalbettingengine.infrastructure.config.MessagingProperties;
+import com.mario.hexagonalbettingengine.infrastructure.config.MessagingProperties.RocketMqConfig.PublishMode;
+import org.apache.rocketmq.client.producer.DefaultMQProducer;
+import org.apache.rocketmq.client.producer.SendCallback;
 import org.apache.rocketmq.client.producer.SendResult;
 import org.apache.rocketmq.client.producer.SendStatus;
 import org.apache.rocketmq.spring.core.RocketMQTemplate;
@@ -11,11 +20,24 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
 import org.springframework.messaging.MessagingException;
 
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 
 import static com.mario.hexagonalbettingengine.fixtures.BetEntityFixtures.DEFAULT_BET_ID;
 import static com.mario.hexagonalbettingengine.fixtures.BetFixtures.wonBet;
+import static com.mario.hexagonalbettingengine.infrastructure.betting.payload.BetStatus.WON;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 import static org.mockito.Answers.RETURNS_DEEP_STUBS;
@@ -23,6 +45,9 @@ import static org.mockito.Answers.RETURNS_DEEP_STUBS;
 @ExtendWith(MockitoExtension.class)
 class RocketMQBetSettlementPublisherTest {
 
+    private static final Duration BROKER_LATENCY = Duration.ofMillis(10);
+    private static final Instant SETTLED_AT = Instant.parse("2026-02-04T21:15:32.784219Z");
+
     @Mock
     private RocketMQTemplate rocketMQTemplate;
 
@@ -35,6 +60,12 @@ class RocketMQBetSettlementPublisherTest {
     @Mock
     private SendResult sendResult;
 
+    @Spy
+    private BetPayloadCodec codec = new BetPayloadCodec();
+
+    @Spy
+    private EventSettlementPayloadCodec envelopeCodec = new EventSettlementPayloadCodec();
+
     @InjectMocks
     private RocketMQBetSettlementPublisher publisher;
 
@@ -63,6 +94,84 @@ class RocketMQBetSettlementPublisherTest {
         verify(rocketMQTemplate).syncSend(topic, payload);
     }
 
+    @Test
+    @DisplayName("Should apply the compression threshold of the configured producer profile")
+    void shouldApplyProducerProfile() {
+        // Given
+        var producer = mock(DefaultMQProducer.class);
+        var profile = new MessagingProperties.ProducerProfile("zstd", 262_144, 20, 1024);
+
+        when(properties.rocketmq().producerProfile()).thenReturn("high-throughput");
+        when(properties.producerProfile("high-throughput")).thenReturn(profile);
+        when(rocketMQTemplate.getProducer()).thenReturn(producer);
+
+        // When
+        publisher.init();
+
+        // Then
+        verify(producer).setCompressMsgBodyOverHowmuch(1024);
+    }
+
+    @Test
+    @DisplayName("Should send the binary encoding when the topic is configured for the binary format")
+    @SuppressWarnings("unchecked")
+    void shouldPublishBinaryPayload() {
+        // Given
+        var topic = "rocket-topic";
+        var bet = wonBet().build();
+        var payload = BetPayload.builder()
+                .betId(bet.betId())
+                .betAmount(bet.betAmount())
+                .build();
+
+        when(betMapper.toPayload(bet)).thenReturn(payload);
+        when(properties.rocketmq().topic()).thenReturn(topic);
+        when(properties.rocketmq().format()).thenReturn(PayloadFormat.BINARY);
+
+        when(rocketMQTemplate.syncSend(eq(topic), any(Message.class))).thenReturn(sendResult);
+        when(sendResult.getSendStatus()).thenReturn(SendStatus.SEND_OK);
+
+        // When
+        publisher.publish(bet);
+
+        // Then
+        var messageCaptor = ArgumentCaptor.forClass(Message.class);
+        verify(rocketMQTemplate).syncSend(eq(topic), messageCaptor.capture());
+
+        var sentPayload = (Message<byte[]>) messageCaptor.getValue();
+        assertThat(codec.decode(sentPayload.getPayload())).isEqualTo(payload);
+    }
+
+    @Test
+    @DisplayName("Should send the settlement envelope part of the event as one message")
+    @SuppressWarnings("unchecked")
+    void shouldPublishSettlementEnvelope() {
+        // Given
+        var topic = "rocket-topic";
+        var bets = List.of(wonBet().betId("bet-1").build(), wonBet().betId("bet-2").build());
+        var envelope = new EventSettlementPayload("event-1", SETTLED_AT, 1, 2, List.of(
+                new SettledBet("bet-1", "user-1", WON, BigDecimal.TEN),
+                new SettledBet("bet-2", "user-2", WON, BigDecimal.ONE)));
+
+        when(betMapper.toEnvelope("event-1", SETTLED_AT, 1, 2, bets)).thenReturn(envelope);
+        when(properties.rocketmq().topic()).thenReturn(topic);
+        when(properties.rocketmq().format()).thenReturn(PayloadFormat.BINARY);
+
+        when(rocketMQTemplate.syncSend(eq(topic), any(Message.class))).thenReturn(sendResult);
+        when(sendResult.getSendStatus()).thenReturn(SendStatus.SEND_OK);
+
+        // When
+        var ack = publisher.publishEventSettlement("event-1", SETTLED_AT, 1, 2, bets);
+
+        // Then
+        assertThat(ack).isCompleted();
+
+        var messageCaptor = ArgumentCaptor.forClass(Message.class);
+        verify(rocketMQTemplate).syncSend(eq(topic), messageCaptor.capture());
+        assertThat(envelopeCodec.decode(((Message<byte[]>) messageCaptor.getValue()).getPayload()))
+                .isEqualTo(envelope);
+    }
+
     @Test
     @DisplayName("Should throw MessagingException when Broker does not acknowledge (Status != OK)")
     void shouldThrowExceptionWhenStatusNotOk() {
@@ -102,4 +211,151 @@ class RocketMQBetSettlementPublisherTest {
                 .isInstanceOf(MessagingException.class)
                 .hasCauseInstanceOf(RuntimeException.class);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should resend a failed bet individually after a backoff until the broker acknowledges it")
+    void shouldRetryFailedAsyncSend() {
+        // Given
+        var topic = "rocket-topic";
+        var bet = wonBet().build();
+        var payload = BetPayload.builder().betId(DEFAULT_BET_ID).build();
+        givenAsyncMode(topic, bet, payload, 1);
+
+        when(properties.rocketmq().maxRetries()).thenReturn(3);
+        when(properties.rocketmq().retryBackoff()).thenReturn(50L);
+        when(properties.rocketmq().maxRetryBackoff()).thenReturn(1_000L);
+        when(sendResult.getSendStatus()).thenReturn(SendStatus.SEND_OK);
+        doAnswer(invocation -> {
+            invocation.<SendCallback>getArgument(2).onException(new RuntimeException("Broker busy"));
+            return null;
+        }).doAnswer(invocation -> {
+            invocation.<SendCallback>getArgument(2).onSuccess(sendResult);
+            return null;
+        }).when(rocketMQTemplate).asyncSend(eq(topic), eq(payload), any(SendCallback.class));
+
+        // When
+        var startedAt = System.nanoTime();
+        var ack = publisher.publishAsync(bet);
+
+        // Then
+        assertThat(ack).isNotDone();
+        assertThat(ack).succeedsWithin(Duration.ofSeconds(2));
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isGreaterThanOrEqualTo(Duration.ofMillis(50));
+        verify(rocketMQTemplate, times(2)).asyncSend(eq(topic), eq(payload), any(SendCallback.class));
+        verify(rocketMQTemplate, never()).syncSend(anyString(), any(Object.class));
+    }
+
+    @Test
+    @DisplayName("Should fail the acknowledgement once the retries for a bet are exhausted")
+    void shouldFailAsyncSendAfterRetries() {
+        // Given
+        var topic = "rocket-topic";
+        var bet = wonBet().build();
+        var payload = BetPayload.builder().betId(DEFAULT_BET_ID).build();
+        givenAsyncMode(topic, bet, payload, 1);
+
+        when(properties.rocketmq().maxRetries()).thenReturn(2);
+        when(properties.rocketmq().retryBackoff()).thenReturn(20L);
+        when(properties.rocketmq().maxRetryBackoff()).thenReturn(30L);
+        when(sendResult.getSendStatus()).thenReturn(SendStatus.FLUSH_DISK_TIMEOUT);
+        doAnswer(invocation -> {
+            invocation.<SendCallback>getArgument(2).onSuccess(sendResult);
+            return null;
+        }).when(rocketMQTemplate).asyncSend(eq(topic), eq(payload), any(SendCallback.class));
+
+        // When
+        var startedAt = System.nanoTime();
+        var ack = publisher.publishAsync(bet);
+
+        // Then
+        assertThat(ack).failsWithin(Duration.ofSeconds(2));
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isGreaterThanOrEqualTo(Duration.ofMillis(50));
+        assertThatThrownBy(ack::join)
+                .hasCauseInstanceOf(MessagingException.class)
+                .hasMessageContaining("Broker did not acknowledge message");
+        verify(rocketMQTemplate, times(3)).asyncSend(eq(topic), eq(payload), any(SendCallback.class));
+    }
+
+    @Test
+    @DisplayName("Should publish faster as the in-flight window grows against a slow broker")
+    void shouldScaleThroughputWithInFlightWindow() {
+        // Given
+        var bets = IntStream.range(0, 100)
+                .mapToObj(i -> wonBet().betId("bet-" + i).build())
+                .toList();
+
+        // When
+        var sequential = publishThroughSlowBroker(bets, 1);
+        var pipelined = publishThroughSlowBroker(bets, 16);
+
+        // Then
+        assertThat(sequential.maxInFlight()).isEqualTo(1);
+        assertThat(pipelined.maxInFlight()).isLessThanOrEqualTo(16).isGreaterThan(1);
+        assertThat(pipelined.elapsed().multipliedBy(4)).isLessThan(sequential.elapsed());
+    }
+
+    private void givenAsyncMode(String topic, Bet bet, BetPayload payload, int window) {
+        when(betMapper.toPayload(bet)).thenReturn(payload);
+        when(properties.rocketmq().topic()).thenReturn(topic);
+        when(properties.rocketmq().publishMode()).thenReturn(PublishMode.ASYNC);
+        when(properties.rocketmq().inFlightWindow()).thenReturn(window);
+        when(rocketMQTemplate.getProducer()).thenReturn(mock(DefaultMQProducer.class));
+        publisher.init();
+    }
+
+    private PublishRun publishThroughSlowBroker(List<Bet> bets, int window) {
+        var broker = new LatencyInjectingRocketMQTemplate(BROKER_LATENCY);
+        broker.setProducer(mock(DefaultMQProducer.class));
+
+        when(betMapper.toPayload(any())).thenAnswer(invocation ->
+                BetPayload.builder().betId(invocation.<Bet>getArgument(0).betId()).build());
+        when(properties.rocketmq().topic()).thenReturn("rocket-topic");
+        when(properties.rocketmq().publishMode()).thenReturn(PublishMode.ASYNC);
+        when(properties.rocketmq().inFlightWindow()).thenReturn(window);
+
+        var slowPublisher = new RocketMQBetSettlementPublisher(broker, betMapper, properties, codec, envelopeCodec);
+        slowPublisher.init();
+
+        try {
+            var startedAt = System.nanoTime();
+            var acks = bets.stream()
+                    .map(slowPublisher::publishAsync)
+                    .toArray(CompletableFuture[]::new);
+            CompletableFuture.allOf(acks).join();
+
+            return new PublishRun(Duration.ofNanos(System.nanoTime() - startedAt), broker.maxInFlight.get());
+        } finally {
+            broker.scheduler.shutdownNow();
+        }
+    }
+
+    private record PublishRun(Duration elapsed, int maxInFlight) {
+    }
+
+    /**
+     * Acknowledges every async send after a fixed delay, like a broker with a long round trip.
+     */
+    private static class LatencyInjectingRocketMQTemplate extends RocketMQTemplate {
+
+        private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(4);
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger maxInFlight = new AtomicInteger();
+        private final Duration latency;
+
+        LatencyInjectingRocketMQTemplate(Duration latency) {
+            this.latency = latency;
+        }
+
+        @Override
+        public void asyncSend(String destination, Object payload, SendCallback sendCallback) {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+
+            scheduler.schedule(() -> {
+                inFlight.decrementAndGet();
+                var result = new SendResult();
+                result.setSendStatus(SendStatus.SEND_OK);
+                sendCallback.onSuccess(result);
+            }, latency.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.mario.hexagonalbettingengine.infrastructure.betting;
+
+import com.mario.hexagonalbettingengine.BaseIT;
+import com.mario.hexagonalbettingengine.domain.betting.Bet;
+import com.mario.hexagonalbettingengine.domain.betting.BetSettlement;
+import com.mario.hexagonalbettingengine.domain.betting.BetSettlementPublisher;
+import com.mario.hexagonalbettingengine.domain.betting.SettledEventRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static com.mario.hexagonalbettingengine.fixtures.BetEntityFixtures.DEFAULT_WINNER_ID;
+import static com.mario.hexagonalbettingengine.fixtures.EventOutcomeFixtures.DEFAULT_EVENT_ID;
+import static com.mario.hexagonalbettingengine.fixtures.EventOutcomeFixtures.createOutcome;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.verify;
+
+@EmbeddedKafka(partitions = 1, topics = {"${app.messaging.kafka.event-outcomes.topic}"})
+@DisplayName("Settled Event Registry Integration Tests")
+class SettledEventRegistryIT extends BaseIT {
+
+    private static final int PENDING_BETS = 500;
+    private static final int CONCURRENT_DELIVERIES = 16;
+
+    @Autowired
+    private BetSettlement settlement;
+
+    @Autowired
+    private SettledEventRegistry registry;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private BetSettlementOutboxJpaRepository outboxRepository;
+
+    @MockitoSpyBean
+    private BetSettlementPublisher publisher;
+
+    @Test
+    @DisplayName("Should settle and publish each bet once when the same outcome is delivered concurrently")
+    void shouldPublishEachBetOnceUnderConcurrentDuplicateDeliveries() throws Exception {
+        // Given
+        IntStream.range(0, PENDING_BETS).forEach(i ->
+                savePendingBet("bet-dup-%03d".formatted(i), DEFAULT_EVENT_ID, i % 2 == 0 ? DEFAULT_WINNER_ID : "BARCELONA"));
+
+        var outcome = createOutcome(DEFAULT_EVENT_ID, DEFAULT_WINNER_ID);
+        var start = new CountDownLatch(1);
+        var completed = new AtomicInteger();
+        var failed = new AtomicInteger();
+
+        // When
+        try (var deliveries = Executors.newFixedThreadPool(CONCURRENT_DELIVERIES)) {
+            IntStream.range(0, CONCURRENT_DELIVERIES).forEach(i -> deliveries.submit(() -> {
+                try {
+                    start.await();
+                    settlement.settle(outcome);
+                    completed.incrementAndGet();
+                } catch (Exception e) {
+                    // A duplicate that times out waiting for the first settlement's lock is redelivered by Kafka
+                    failed.incrementAndGet();
+                }
+            }));
+            start.countDown();
+        }
+
+        await().atMost(Duration.ofSeconds(10))
+                .pollInterval(Duration.ofMillis(100))
+                .until(() -> outboxRepository.count() == 0);
+
+        // Then
+        assertThat(completed.get() + failed.get()).isEqualTo(CONCURRENT_DELIVERIES);
+        assertThat(completed.get()).isPositive();
+        assertThat(betRepository.findAll())
+                .extracting(BetEntity::getStatus)
+                .doesNotContain(BetStatus.PENDING);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM settled_events", Integer.class))
+                .isEqualTo(1);
+
+        var publishedBets = ArgumentCaptor.forClass(Bet.class);
+        verify(publisher, atLeast(1)).publish(publishedBets.capture());
+        assertThat(publishedBets.getAllValues())
+                .extracting(Bet::betId)
+                .filteredOn(betId -> betId.startsWith("bet-dup-"))
+                .hasSize(PENDING_BETS)
+                .doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("Should skip a redelivered outcome without querying pending bets again")
+    void shouldShortCircuitRedeliveredOutcome() {
+        // Given
+        savePendingBet("bet-redelivered", DEFAULT_EVENT_ID, DEFAULT_WINNER_ID);
+        var outcome = createOutcome(DEFAULT_EVENT_ID, DEFAULT_WINNER_ID);
+        settlement.settle(outcome);
+
+        savePendingBet("bet-after-settlement", DEFAULT_EVENT_ID, DEFAULT_WINNER_ID);
+
+        // When
+        settlement.settle(outcome);
+
+        // Then
+        assertThat(findBetInDb("bet-redelivered").getStatus()).isEqualTo(BetStatus.WON);
+        assertThat(findBetInDb("bet-after-settlement").getStatus()).isEqualTo(BetStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("Should report a duplicate registration without aborting the surrounding transaction")
+    void shouldKeepTransactionUsableAfterDuplicateRegistration() {
+        // Given
+        var outcome = createOutcome(DEFAULT_EVENT_ID, DEFAULT_WINNER_ID);
+        registry.register(outcome);
+
+        // When
+        var registeredAgain = transactionTemplate.execute(status -> {
+            var registered = registry.register(outcome);
+            savePendingBet("bet-after-duplicate", DEFAULT_EVENT_ID, DEFAULT_WINNER_ID);
+            return registered;
+        });
+
+        // Then
+        assertThat(registeredAgain).isFalse();
+        assertThat(registry.isKnownSettled(DEFAULT_EVENT_ID)).isTrue();
+        assertThat(findBetInDb("bet-after-duplicate").getStatus()).isEqualTo(BetStatus.PENDING);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM settled_events", Integer.class))
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should find an event settled by another instance in the table and remember it")
+    void shouldFallBackToTableForEventMissingFromCache() {
+        // Given
+        jdbcTemplate.update("INSERT INTO settled_events (event_id, event_winner_id, settled_at) "
+                + "VALUES (?, ?, CURRENT_TIMESTAMP)", DEFAULT_EVENT_ID, DEFAULT_WINNER_ID);
+
+        // When
+        var settled = registry.isSettled(DEFAULT_EVENT_ID);
+
+        // Then
+        assertThat(settled).isTrue();
+        assertThat(registry.isKnownSettled(DEFAULT_EVENT_ID)).isTrue();
+        assertThat(registry.isSettled("match-open")).isFalse();
+    }
+}
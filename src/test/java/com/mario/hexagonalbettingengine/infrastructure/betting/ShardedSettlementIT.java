@@ -0,0 +1,109 @@
+package com.mario.hexagonalbettingengine.infrastructure.betting;
+
+import com.mario.hexagonalbettingengine.BaseIT;
+import com.mario.hexagonalbettingengine.domain.betting.Bet;
+import com.mario.hexagonalbettingengine.domain.betting.BetSettlement;
+import com.mario.hexagonalbettingengine.domain.betting.BetSettlementPublisher;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.time.Duration;
+import java.util.stream.IntStream;
+
+import static com.mario.hexagonalbettingengine.fixtures.BetEntityFixtures.DEFAULT_WINNER_ID;
+import static com.mario.hexagonalbettingengine.fixtures.EventOutcomeFixtures.createOutcome;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.verify;
+
+@EmbeddedKafka(partitions = 1, topics = {"${app.messaging.kafka.event-outcomes.topic}"})
+@TestPropertySource(properties = {
+        "app.settlement.chunk-size=5",
+        "app.settlement.sharding.enabled=true",
+        "app.settlement.sharding.threshold=20",
+        "app.settlement.sharding.shards=4"
+})
+@DisplayName("Sharded Settlement Integration Tests")
+class ShardedSettlementIT extends BaseIT {
+
+    private static final int PENDING_BETS = 42;
+
+    @Autowired
+    private BetSettlement settlement;
+
+    @Autowired
+    private BetSettlementOutboxJpaRepository outboxRepository;
+
+    @MockitoSpyBean
+    private BetSettlementPublisher publisher;
+
+    @Test
+    @DisplayName("Should settle a hot event across all shards exactly once and then mark it settled")
+    void shouldSettleHotEventInShards() {
+        // Given
+        var eventId = "match-hot";
+        IntStream.range(0, PENDING_BETS).forEach(i ->
+                savePendingBet("bet-hot-%02d".formatted(i), eventId, i % 2 == 0 ? DEFAULT_WINNER_ID : "BARCELONA"));
+        var outcome = createOutcome(eventId, DEFAULT_WINNER_ID);
+
+        // When
+        settlement.settle(outcome);
+        settlement.settle(outcome);
+
+        // Then
+        await().atMost(Duration.ofSeconds(15))
+                .pollInterval(Duration.ofMillis(100))
+                .until(() -> countRows("SELECT COUNT(*) FROM settled_events WHERE event_id = ?", eventId) == 1);
+
+        assertThat(betRepository.findAll())
+                .extracting(BetEntity::getStatus)
+                .doesNotContain(BetStatus.PENDING);
+        assertThat(countRows("SELECT COUNT(*) FROM settlement_shards WHERE event_id = ? AND state = 'COMPLETED'",
+                eventId)).isEqualTo(4);
+        var fanOut = jdbcTemplate.queryForMap(
+                "SELECT shards, remaining_shards, settled_bets FROM settlement_fan_outs WHERE event_id = ?", eventId);
+        assertThat(fanOut.get("shards")).isEqualTo(4);
+        assertThat(fanOut.get("remaining_shards")).isEqualTo(0);
+        assertThat(fanOut.get("settled_bets")).isEqualTo((long) PENDING_BETS);
+
+        await().atMost(Duration.ofSeconds(10))
+                .pollInterval(Duration.ofMillis(100))
+                .until(() -> outboxRepository.count() == 0);
+
+        var publishedBets = ArgumentCaptor.forClass(Bet.class);
+        verify(publisher, atLeast(1)).publish(publishedBets.capture());
+        assertThat(publishedBets.getAllValues())
+                .extracting(Bet::betId)
+                .filteredOn(betId -> betId.startsWith("bet-hot-"))
+                .hasSize(PENDING_BETS)
+                .doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("Should settle an event at the threshold in place without fanning it out")
+    void shouldSettleSmallEventWithoutShards() {
+        // Given
+        var eventId = "match-cold";
+        IntStream.range(0, 20).forEach(i -> savePendingBet("bet-cold-%02d".formatted(i), eventId, DEFAULT_WINNER_ID));
+
+        // When
+        settlement.settle(createOutcome(eventId, DEFAULT_WINNER_ID));
+
+        // Then
+        assertThat(betRepository.findAll())
+                .extracting(BetEntity::getStatus)
+                .containsOnly(BetStatus.WON);
+        assertThat(countRows("SELECT COUNT(*) FROM settlement_fan_outs WHERE event_id = ?", eventId)).isZero();
+        assertThat(countRows("SELECT COUNT(*) FROM settled_events WHERE event_id = ?", eventId)).isEqualTo(1);
+    }
+
+    private long countRows(String sql, String eventId) {
+        return jdbcTemplate.queryForObject(sql, Long.class, eventId);
+    }
+}
@@ -0,0 +1,120 @@
+package com.mario.hexagonalbettingengine.infrastructure.betting;
+
+import com.mario.hexagonalbettingengine.HexagonalBettingEngineApplication;
+import com.mario.hexagonalbettingengine.domain.betting.BetSettlement;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.ContainerTestUtils;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+
+import static com.mario.hexagonalbettingengine.fixtures.EventOutcomeFixtures.createOutcome;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Settles the same hot event on one, two and four shard partitions, each consumed by as many consumers. Every run
+ * starts its own application context with the test profile, so the shard topic is created with that many partitions
+ * and the bets are settled for real against the configured database.
+ */
+@Tag("shard-scaling")
+@EmbeddedKafka(partitions = 1, topics = {"event-outcomes-test"})
+@DisplayName("Sharded Settlement Scaling Tests (run with ./gradlew shardScalingTest)")
+class ShardedSettlementScalingIT {
+
+    private static final Logger log = LoggerFactory.getLogger(ShardedSettlementScalingIT.class);
+
+    private static final int BET_COUNT = Integer.getInteger("shardScaling.bets", 20_000);
+    private static final int[] PARTITIONS = {1, 2, 4};
+    private static final double MIN_SPEEDUP = 1.2;
+
+    @Test
+    @DisplayName("Should settle a hot event faster when it is split over more partitions and consumers")
+    void shouldScaleWithPartitionsAndConsumers(EmbeddedKafkaBroker broker) {
+        // When
+        var elapsedByPartitions = new LinkedHashMap<Integer, Long>();
+        for (var partitions : PARTITIONS) {
+            elapsedByPartitions.put(partitions, settleHotEvent(broker, partitions));
+        }
+
+        // Then
+        var serial = elapsedByPartitions.get(1);
+        elapsedByPartitions.forEach((partitions, elapsed) -> log.info(
+                "{} partitions and consumers settled {} bets in {} ms (speedup {})",
+                partitions, BET_COUNT, elapsed, "%.2f".formatted((double) serial / elapsed)));
+
+        var widest = PARTITIONS[PARTITIONS.length - 1];
+        assertThat((double) serial / elapsedByPartitions.get(widest)).isGreaterThan(MIN_SPEEDUP);
+    }
+
+    private long settleHotEvent(EmbeddedKafkaBroker broker, int partitions) {
+        try (var context = startApplication(broker, partitions)) {
+            var container = context.getBean(KafkaListenerEndpointRegistry.class)
+                    .getListenerContainer(SettlementShardListenerAdapter.LISTENER_ID);
+            ContainerTestUtils.waitForAssignment(container, partitions);
+
+            settle(context, "match-warmup-" + partitions);
+            return settle(context, "match-scaling-" + partitions);
+        }
+    }
+
+    private ConfigurableApplicationContext startApplication(EmbeddedKafkaBroker broker, int partitions) {
+        return new SpringApplicationBuilder(HexagonalBettingEngineApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .properties(
+                        "spring.embedded.kafka.brokers=" + broker.getBrokersAsString(),
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN",
+                        "app.settlement.sharding.enabled=true",
+                        "app.settlement.sharding.threshold=100",
+                        "app.settlement.sharding.shards=" + partitions,
+                        "app.messaging.kafka.settlement-shards.topic=settlement-shards-scaling-" + partitions,
+                        "app.messaging.kafka.settlement-shards.partitions=" + partitions,
+                        "app.messaging.kafka.settlement-shards.concurrency=" + partitions)
+                .run();
+    }
+
+    private long settle(ConfigurableApplicationContext context, String eventId) {
+        var jdbcTemplate = context.getBean(JdbcTemplate.class);
+        seedHotEvent(jdbcTemplate, eventId);
+
+        var start = System.nanoTime();
+        context.getBean(BetSettlement.class).settle(createOutcome(eventId, "HOME"));
+        await().atMost(Duration.ofSeconds(120))
+                .pollInterval(Duration.ofMillis(10))
+                .until(() -> jdbcTemplate.queryForObject(
+                        "SELECT COUNT(*) FROM settled_events WHERE event_id = ?", Long.class, eventId) == 1);
+        var elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM bets WHERE event_id = ? AND status = 'PENDING'", Long.class, eventId))
+                .isZero();
+        return elapsedMillis;
+    }
+
+    private void seedHotEvent(JdbcTemplate jdbcTemplate, String eventId) {
+        jdbcTemplate.update("""
+                INSERT INTO bets (bet_id, user_id, event_id, event_market_id, event_winner_id, bet_amount, status)
+                SELECT '%1$s-' || LPAD(CAST(X AS VARCHAR), 6, '0'),
+                       'user-' || MOD(X, 100),
+                       '%1$s',
+                       '1x2',
+                       CASE WHEN MOD(X, 3) = 0 THEN 'HOME' ELSE 'AWAY' END,
+                       10.00,
+                       'PENDING'
+                  FROM SYSTEM_RANGE(1, %2$d)
+                """.formatted(eventId, BET_COUNT));
+    }
+}
@@ -0,0 +1,113 @@
+package com.mario.hexagonalbettingengine.infrastructure.betting;
+
+import com.mario.hexagonalbettingengine.domain.betting.BetSettlementService;
+import com.mario.hexagonalbettingengine.infrastructure.betting.mapper.BetMapperImpl;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.mario.hexagonalbettingengine.fixtures.EventOutcomeFixtures.createOutcome;
+import static com.mario.hexagonalbettingengine.fixtures.PendingEventIndexFixtures.allEventsPending;
+import static com.mario.hexagonalbettingengine.fixtures.SettledEventRegistryFixtures.noDeduplication;
+import static com.mario.hexagonalbettingengine.fixtures.SettlementSettingsFixtures.perBetSettlement;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase.Replace.NONE;
+import static org.springframework.transaction.annotation.Propagation.NOT_SUPPORTED;
+
+@Tag("heap-bound")
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:file:./build/heap-bound-test/bettingdb;MODE=PostgreSQL",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureTestDatabase(replace = NONE)
+@Transactional(propagation = NOT_SUPPORTED)
+@ActiveProfiles("test")
+@Import({BetRepositoryAdapter.class, BetMapperImpl.class})
+@DisplayName("Streaming Settlement Heap-Bound Tests (run with ./gradlew heapBoundTest)")
+class StreamingSettlementHeapIT {
+
+    private static final Logger log = LoggerFactory.getLogger(StreamingSettlementHeapIT.class);
+
+    private static final int BET_COUNT = Integer.getInteger("heapBound.bets", 2_000_000);
+    private static final int CHUNK_SIZE = 1_000;
+    private static final long MAX_HEAP_BYTES = 256L * 1024 * 1024;
+    private static final String EVENT_ID = "mega-event";
+
+    @Autowired
+    private BetRepositoryAdapter adapter;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("Should settle a multi-million-bet event chunk by chunk within a small heap")
+    void shouldSettleMegaEventWithinSmallHeap() {
+        // Given
+        assertThat(Runtime.getRuntime().maxMemory())
+                .as("Heap-bound test must run with a small -Xmx")
+                .isLessThanOrEqualTo(MAX_HEAP_BYTES);
+
+        var transaction = new TransactionTemplate(transactionManager);
+        transaction.executeWithoutResult(status -> seedMegaEvent());
+
+        var published = new AtomicLong();
+        var service = new BetSettlementService(adapter, bets -> published.addAndGet(bets.size()),
+                perBetSettlement(CHUNK_SIZE), (mode, settledBets, duration) -> {
+                }, noDeduplication(), allEventsPending());
+
+        // When
+        var start = System.nanoTime();
+        transaction.executeWithoutResult(status -> service.settle(createOutcome(EVENT_ID, "HOME")));
+        var elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // Then
+        assertThat(published.get()).isEqualTo(BET_COUNT);
+        assertThat(countByStatus(BetStatus.PENDING)).isZero();
+        assertThat(countByStatus(BetStatus.WON)).isEqualTo(BET_COUNT / 3);
+        assertThat(countByStatus(BetStatus.LOST)).isEqualTo(BET_COUNT - BET_COUNT / 3);
+
+        log.info("Settled {} bets in {} ms with max heap {} MB",
+                BET_COUNT, elapsedMillis, Runtime.getRuntime().maxMemory() / (1024 * 1024));
+    }
+
+    private void seedMegaEvent() {
+        entityManager.createNativeQuery("DELETE FROM bets").executeUpdate();
+        entityManager.createNativeQuery("""
+                        INSERT INTO bets (bet_id, user_id, event_id, event_market_id, event_winner_id, bet_amount, status)
+                        SELECT 'mega-' || LPAD(CAST(X AS VARCHAR), 10, '0'),
+                               'user-' || MOD(X, 10000),
+                               '%s',
+                               '1x2',
+                               CASE WHEN MOD(X, 3) = 0 THEN 'HOME' ELSE 'AWAY' END,
+                               10.00,
+                               'PENDING'
+                          FROM SYSTEM_RANGE(1, %d)
+                        """.formatted(EVENT_ID, BET_COUNT))
+                .executeUpdate();
+    }
+
+    private long countByStatus(BetStatus status) {
+        var count = entityManager.createNativeQuery("SELECT COUNT(*) FROM bets WHERE event_id = ?1 AND status = ?2")
+                .setParameter(1, EVENT_ID)
+                .setParameter(2, status.name())
+                .getSingleResult();
+        return ((Number) count).longValue();
+    }
+}
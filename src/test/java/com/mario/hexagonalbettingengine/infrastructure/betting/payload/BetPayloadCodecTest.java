@@ -0,0 +1,155 @@
+package com.mario.hexagonalbettingengine.infrastructure.betting.payload;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mario.hexagonalbettingengine.infrastructure.config.JacksonConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+
+import static com.mario.hexagonalbettingengine.infrastructure.codec.BinaryCodec.MAGIC;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BetPayloadCodecTest {
+
+    private final BetPayloadCodec codec = new BetPayloadCodec();
+    private final ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+
+    @Test
+    @DisplayName("Should round-trip a settled bet through the binary encoding")
+    void shouldRoundTripSettledBet() {
+        // Given
+        var payload = settledBet().build();
+
+        // When
+        var decoded = codec.decode(codec.encode(payload));
+
+        // Then
+        assertThat(decoded).isEqualTo(payload);
+    }
+
+    @Test
+    @DisplayName("Should keep null fields null")
+    void shouldRoundTripNullFields() {
+        // Given
+        var payload = BetPayload.builder().betId("bet-1").build();
+
+        // When
+        var decoded = codec.decode(codec.encode(payload));
+
+        // Then
+        assertThat(decoded).isEqualTo(payload);
+    }
+
+    @Test
+    @DisplayName("Should start every record with the magic byte and schema id")
+    void shouldWriteHeader() {
+        // When
+        var bytes = codec.encode(settledBet().build());
+
+        // Then
+        assertThat(bytes[0]).isEqualTo(MAGIC);
+        assertThat(bytes[1]).isEqualTo(codec.schemaId());
+    }
+
+    @Test
+    @DisplayName("Should encode into and decode from a caller-provided buffer")
+    void shouldEncodeIntoProvidedBuffer() {
+        // Given
+        var buffer = ByteBuffer.allocate(256);
+        var payload = settledBet().build();
+
+        // When
+        codec.encode(payload, buffer);
+        buffer.flip();
+
+        // Then
+        assertThat(codec.decode(buffer)).isEqualTo(payload);
+        assertThat(buffer.hasRemaining()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should grow the reusable buffer for payloads larger than its initial size")
+    void shouldEncodeLargePayload() {
+        // Given
+        var payload = settledBet()
+                .eventMarketId("m".repeat(10_000))
+                .build();
+
+        // When
+        var decoded = codec.decode(codec.encode(payload));
+
+        // Then
+        assertThat(decoded).isEqualTo(payload);
+    }
+
+    @Test
+    @DisplayName("Should truncate timestamps to microseconds")
+    void shouldTruncateTimestampToMicros() {
+        // Given
+        var payload = settledBet()
+                .settledAt(Instant.parse("2026-01-15T10:15:30.123456789Z"))
+                .build();
+
+        // When
+        var decoded = codec.decode(codec.encode(payload));
+
+        // Then
+        assertThat(decoded.settledAt()).isEqualTo(Instant.parse("2026-01-15T10:15:30.123456Z"));
+    }
+
+    @Test
+    @DisplayName("Should reject amounts whose unscaled value does not fit into a long")
+    void shouldRejectOversizedAmount() {
+        // Given
+        var payload = settledBet()
+                .betAmount(new BigDecimal("123456789012345678901234567890.00"))
+                .build();
+
+        // When & Then
+        assertThatThrownBy(() -> codec.encode(payload))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    @DisplayName("Should reject records written with another schema")
+    void shouldRejectForeignSchema() {
+        // Given
+        var bytes = codec.encode(settledBet().build());
+        bytes[1] = (byte) (codec.schemaId() + 1);
+
+        // When & Then
+        assertThatThrownBy(() -> codec.decode(bytes))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("BetPayload");
+    }
+
+    @Test
+    @DisplayName("Should be smaller than the JSON encoding")
+    void shouldBeSmallerThanJson() throws Exception {
+        // Given
+        var payload = settledBet().build();
+
+        // When
+        var binary = codec.encode(payload);
+        var json = objectMapper.writeValueAsBytes(payload);
+
+        // Then
+        assertThat(binary.length).isLessThan(json.length / 2);
+    }
+
+    private BetPayload.BetPayloadBuilder settledBet() {
+        return BetPayload.builder()
+                .betId("bet-1")
+                .userId("user-1")
+                .eventId("match-100")
+                .eventMarketId("1x2")
+                .eventWinnerId("REAL_MADRID")
+                .betAmount(new BigDecimal("25.50"))
+                .status(BetStatus.WON)
+                .settledAt(Instant.parse("2026-01-15T10:15:30.123456Z"));
+    }
+}
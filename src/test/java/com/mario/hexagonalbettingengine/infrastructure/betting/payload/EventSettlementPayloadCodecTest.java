@@ -0,0 +1,72 @@
+package com.mario.hexagonalbettingengine.infrastructure.betting.payload;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mario.hexagonalbettingengine.infrastructure.betting.payload.EventSettlementPayload.SettledBet;
+import com.mario.hexagonalbettingengine.infrastructure.config.JacksonConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventSettlementPayloadCodecTest {
+
+    private final EventSettlementPayloadCodec codec = new EventSettlementPayloadCodec();
+    private final ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+
+    @Test
+    @DisplayName("Should round-trip a settlement envelope through the binary encoding")
+    void shouldRoundTripEnvelope() {
+        // Given
+        var envelope = envelope(3);
+
+        // When
+        var decoded = codec.decode(codec.encode(envelope));
+
+        // Then
+        assertThat(decoded).isEqualTo(envelope);
+    }
+
+    @Test
+    @DisplayName("Should round-trip an envelope without bets")
+    void shouldRoundTripEmptyEnvelope() {
+        // Given
+        var envelope = envelope(0);
+
+        // When
+        var decoded = codec.decode(codec.encode(envelope));
+
+        // Then
+        assertThat(decoded).isEqualTo(envelope);
+    }
+
+    @Test
+    @DisplayName("Should be smaller than the JSON encoding")
+    void shouldBeSmallerThanJson() throws Exception {
+        // Given
+        var envelope = envelope(1_000);
+
+        // When
+        var binary = codec.encode(envelope);
+        var json = objectMapper.writeValueAsBytes(envelope);
+
+        // Then
+        assertThat(binary.length).isLessThan(json.length / 2);
+    }
+
+    private EventSettlementPayload envelope(int bets) {
+        return EventSettlementPayload.builder()
+                .eventId("match-100")
+                .settledAt(Instant.parse("2026-02-04T21:15:32.784219Z"))
+                .part(1)
+                .parts(1)
+                .bets(IntStream.range(0, bets)
+                        .mapToObj(i -> new SettledBet("bet-" + i, "user-" + i % 7,
+                                i % 2 == 0 ? BetStatus.WON : BetStatus.LOST, new BigDecimal("25.50")))
+                        .toList())
+                .build();
+    }
+}
@@ -0,0 +1,96 @@
+package com.mario.hexagonalbettingengine.infrastructure.betting.payload;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mario.hexagonalbettingengine.infrastructure.betting.payload.EventSettlementPayload.SettledBet;
+import com.mario.hexagonalbettingengine.infrastructure.config.JacksonConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventSettlementPayloadTest {
+
+    private static final Instant SETTLED_AT = Instant.parse("2026-02-04T21:15:32.784219Z");
+
+    private final ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+
+    @Test
+    @DisplayName("Should put all bets of a small event into a single envelope")
+    void shouldKeepSmallEventInOneEnvelope() {
+        // Given
+        var bets = settledBets(100);
+
+        // When
+        var envelopes = EventSettlementPayload.chunked("match-100", SETTLED_AT, bets, 1_048_576);
+
+        // Then
+        assertThat(envelopes).singleElement()
+                .satisfies(envelope -> {
+                    assertThat(envelope.part()).isEqualTo(1);
+                    assertThat(envelope.parts()).isEqualTo(1);
+                    assertThat(envelope.bets()).isEqualTo(bets);
+                });
+    }
+
+    @Test
+    @DisplayName("Should split a large event into envelopes that fit the message size limit")
+    void shouldSplitLargeEventBySize() throws Exception {
+        // Given
+        var maxMessageBytes = 16_384;
+        var bets = settledBets(5_000);
+
+        // When
+        var envelopes = EventSettlementPayload.chunked("match-100", SETTLED_AT, bets, maxMessageBytes);
+
+        // Then
+        assertThat(envelopes).hasSizeGreaterThan(1);
+        for (var envelope : envelopes) {
+            assertThat(objectMapper.writeValueAsBytes(envelope)).hasSizeLessThanOrEqualTo(maxMessageBytes);
+            assertThat(envelope.parts()).isEqualTo(envelopes.size());
+            assertThat(envelope.settledAt()).isEqualTo(SETTLED_AT);
+        }
+        assertThat(envelopes).extracting(EventSettlementPayload::part)
+                .containsExactlyElementsOf(IntStream.rangeClosed(1, envelopes.size()).boxed().toList());
+        assertThat(envelopes.stream().flatMap(envelope -> envelope.bets().stream()).toList())
+                .isEqualTo(bets);
+    }
+
+    @Test
+    @DisplayName("Should return no envelopes when there are no bets")
+    void shouldReturnNoEnvelopesForNoBets() {
+        // When
+        var envelopes = EventSettlementPayload.chunked("match-100", SETTLED_AT, List.of(), 1_048_576);
+
+        // Then
+        assertThat(envelopes).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should plan the same part boundaries one bet at a time as the chunked split")
+    void shouldSplitIncrementallyLikeChunked() {
+        // Given
+        var bets = settledBets(5_000);
+        var envelopes = EventSettlementPayload.chunked("match-100", SETTLED_AT, bets, 16_384);
+        var splitter = new EventSettlementPayload.Splitter("match-100", 16_384);
+
+        // When
+        var parts = bets.stream()
+                .filter(splitter::startsNewPart)
+                .count() + 1;
+
+        // Then
+        assertThat(parts).isEqualTo(envelopes.size());
+    }
+
+    private List<SettledBet> settledBets(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new SettledBet("bet-" + i, "user-" + i,
+                        i % 2 == 0 ? BetStatus.WON : BetStatus.LOST, new BigDecimal("1250.75")))
+                .toList();
+    }
+}
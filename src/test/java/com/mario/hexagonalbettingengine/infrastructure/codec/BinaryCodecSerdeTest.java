@@ -0,0 +1,104 @@
+package com.mario.hexagonalbettingengine.infrastructure.codec;
+
+import com.mario.hexagonalbettingengine.infrastructure.betting.payload.BetPayload;
+import com.mario.hexagonalbettingengine.infrastructure.betting.payload.BetPayloadCodec;
+import com.mario.hexagonalbettingengine.infrastructure.eventoutcome.payload.EventOutcomePayload;
+import com.mario.hexagonalbettingengine.infrastructure.eventoutcome.payload.EventOutcomePayloadCodec;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serializer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static com.mario.hexagonalbettingengine.infrastructure.codec.BinaryCodec.MAGIC;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BinaryCodecSerdeTest {
+
+    private static final String BINARY_TOPIC = "event-outcomes";
+    private static final String JSON_TOPIC = "event-outcomes-json";
+
+    private final EventOutcomePayloadCodec outcomeCodec = new EventOutcomePayloadCodec();
+    private final List<BinaryCodec<?>> codecs = List.of(outcomeCodec, new BetPayloadCodec());
+    private final EventOutcomePayload payload = new EventOutcomePayload("match-100", "El Clasico", "REAL_MADRID");
+
+    @Mock
+    private Serializer<Object> jsonSerializer;
+
+    @Mock
+    private Deserializer<Object> jsonDeserializer;
+
+    @Test
+    @DisplayName("Should encode payloads with their codec on topics configured for the binary format")
+    void shouldSerializeBinaryOnBinaryTopic() {
+        // Given
+        var serializer = serializer();
+
+        // When
+        var bytes = serializer.serialize(BINARY_TOPIC, null, payload);
+
+        // Then
+        assertThat(bytes[0]).isEqualTo(MAGIC);
+        assertThat(outcomeCodec.decode(bytes)).isEqualTo(payload);
+        verifyNoInteractions(jsonSerializer);
+    }
+
+    @Test
+    @DisplayName("Should fall back to JSON on other topics and for types without a codec")
+    void shouldFallBackToJson() {
+        // Given
+        var serializer = serializer();
+        var json = "{}".getBytes(StandardCharsets.UTF_8);
+        when(jsonSerializer.serialize(any(), any(), any())).thenReturn(json);
+
+        // When & Then
+        assertThat(serializer.serialize(JSON_TOPIC, null, payload)).isSameAs(json);
+        assertThat(serializer.serialize(BINARY_TOPIC, null, "raw")).isSameAs(json);
+    }
+
+    @Test
+    @DisplayName("Should decode binary records by schema id and JSON records with the fallback")
+    void shouldDeserializeBothFormats() {
+        // Given
+        var deserializer = new BinaryCodecDeserializer(codecs, jsonDeserializer);
+        var bet = BetPayload.builder().betId("bet-1").build();
+        var json = "{\"eventId\":\"match-100\"}".getBytes(StandardCharsets.UTF_8);
+        when(jsonDeserializer.deserialize(JSON_TOPIC, null, json)).thenReturn(payload);
+
+        // When & Then
+        assertThat(deserializer.deserialize(BINARY_TOPIC, null, outcomeCodec.encode(payload))).isEqualTo(payload);
+        assertThat(deserializer.deserialize(BINARY_TOPIC, null, new BetPayloadCodec().encode(bet))).isEqualTo(bet);
+        assertThat(deserializer.deserialize(JSON_TOPIC, null, json)).isEqualTo(payload);
+        assertThat(deserializer.deserialize(JSON_TOPIC, null, (byte[]) null)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should reject binary records with an unknown schema id")
+    void shouldRejectUnknownSchema() {
+        // Given
+        var deserializer = new BinaryCodecDeserializer(codecs, jsonDeserializer);
+        var bytes = new byte[]{MAGIC, 99};
+
+        // When & Then
+        assertThatThrownBy(() -> deserializer.deserialize(BINARY_TOPIC, null, bytes))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("99");
+    }
+
+    private BinaryCodecSerializer serializer() {
+        return new BinaryCodecSerializer(
+                Map.of(BINARY_TOPIC, PayloadFormat.BINARY, JSON_TOPIC, PayloadFormat.JSON),
+                codecs,
+                jsonSerializer);
+    }
+}
@@ -0,0 +1,76 @@
+package com.mario.hexagonalbettingengine.infrastructure.config;
+
+import com.mario.hexagonalbettingengine.domain.betting.SettlementJobConflictException;
+import com.mario.hexagonalbettingengine.infrastructure.config.MessagingProperties.KafkaConfig.RetryTopicsConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.ListenerExecutionFailedException;
+import org.springframework.kafka.retrytopic.DestinationTopic;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Answers.RETURNS_DEEP_STUBS;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class KafkaRetryTopicConfigTest {
+
+    private static final String TOPIC = "event-outcomes";
+
+    @Mock(answer = RETURNS_DEEP_STUBS)
+    private MessagingProperties properties;
+
+    @Mock
+    private KafkaTemplate<String, Object> template;
+
+    private KafkaRetryTopicConfig config;
+
+    @BeforeEach
+    void setUp() {
+        given(properties.kafka().eventOutcomes().topic()).willReturn(TOPIC);
+        given(properties.kafka().eventOutcomes().partitions()).willReturn(3);
+        given(properties.kafka().eventOutcomes().replicas()).willReturn(1);
+        given(properties.kafka().eventOutcomes().retryTopics())
+                .willReturn(new RetryTopicsConfig(true, 4, 1000, 2.0, 3000, false));
+        config = new KafkaRetryTopicConfig(properties);
+    }
+
+    @Test
+    @DisplayName("Should create one delayed retry topic per retry followed by the DLQ")
+    void shouldCreateRetryTopicsWithExponentialDelays() {
+        // When
+        var destinations = config.eventOutcomeRetryTopics(template).getDestinationTopicProperties();
+
+        // Then
+        assertThat(destinations)
+                .extracting(DestinationTopic.Properties::suffix)
+                .containsExactly("", "-retry-0", "-retry-1", "-retry-2", "-dlq");
+        assertThat(destinations)
+                .extracting(DestinationTopic.Properties::delay)
+                .containsExactly(0L, 1000L, 2000L, 3000L, 0L);
+        assertThat(destinations.getLast().isDltTopic()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should retry transient failures and send everything else straight to the DLQ")
+    void shouldOnlyRetryTransientFailures() {
+        // Given
+        var mainTopic = config.eventOutcomeRetryTopics(template).getDestinationTopicProperties().getFirst();
+        var transientFailure = new ListenerExecutionFailedException("Listener failed",
+                new QueryTimeoutException("Lock wait timeout"));
+        var jobConflict = new ListenerExecutionFailedException("Listener failed",
+                new SettlementJobConflictException("Settlement job match-1 was updated concurrently"));
+        var invalidPayload = new ListenerExecutionFailedException("Listener failed",
+                new IllegalArgumentException("Unknown winner"));
+
+        // When & Then
+        assertThat(mainTopic.shouldRetryOn(1, transientFailure)).isTrue();
+        assertThat(mainTopic.shouldRetryOn(1, jobConflict)).isTrue();
+        assertThat(mainTopic.shouldRetryOn(1, invalidPayload)).isFalse();
+    }
+}
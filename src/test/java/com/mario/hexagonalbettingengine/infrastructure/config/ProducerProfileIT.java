@@ -0,0 +1,74 @@
+package com.mario.hexagonalbettingengine.infrastructure.config;
+
+import com.mario.hexagonalbettingengine.BaseIT;
+import com.mario.hexagonalbettingengine.infrastructure.eventoutcome.EventOutcomePublisherAdapter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static com.mario.hexagonalbettingengine.fixtures.EventOutcomeFixtures.REAL_MADRID;
+import static com.mario.hexagonalbettingengine.fixtures.EventOutcomeFixtures.createOutcome;
+import static org.apache.kafka.clients.producer.ProducerConfig.BATCH_SIZE_CONFIG;
+import static org.apache.kafka.clients.producer.ProducerConfig.COMPRESSION_TYPE_CONFIG;
+import static org.apache.kafka.clients.producer.ProducerConfig.LINGER_MS_CONFIG;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@EmbeddedKafka(partitions = 1, topics = {"${app.messaging.kafka.event-outcomes.topic}"})
+@TestPropertySource(properties = "app.messaging.kafka.event-outcomes.producer-profile=high-throughput")
+class ProducerProfileIT extends BaseIT {
+
+    @Autowired
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    @Autowired
+    private EventOutcomePublisherAdapter publisher;
+
+    @Autowired
+    private MessagingProperties messagingProperties;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("Should configure the Kafka producer from the selected profile")
+    void shouldApplyProfileToProducerFactory() {
+        // Given
+        var profile = messagingProperties.producerProfile("high-throughput");
+
+        // When
+        var configs = kafkaTemplate.getProducerFactory().getConfigurationProperties();
+
+        // Then
+        assertThat(configs)
+                .containsEntry(COMPRESSION_TYPE_CONFIG, profile.compression())
+                .containsEntry(BATCH_SIZE_CONFIG, profile.batchSize())
+                .containsEntry(LINGER_MS_CONFIG, profile.linger());
+    }
+
+    @Test
+    @DisplayName("Should compress record batches sent by the real producer and report the ratio")
+    void shouldCompressRecordBatches() throws Exception {
+        // Given
+        var outcomes = IntStream.range(0, 200)
+                .mapToObj(i -> createOutcome("match-" + i, REAL_MADRID))
+                .toList();
+
+        // When
+        CompletableFuture.allOf(outcomes.stream()
+                        .map(publisher::publish)
+                        .toArray(CompletableFuture[]::new))
+                .get(10, TimeUnit.SECONDS);
+
+        // Then
+        var compressionRatio = meterRegistry.get("event.outcome.compression.ratio").gauge().value();
+        assertThat(compressionRatio).isGreaterThan(0).isLessThan(1);
+    }
+}
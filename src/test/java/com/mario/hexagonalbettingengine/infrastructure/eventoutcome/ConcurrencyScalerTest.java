@@ -0,0 +1,109 @@
+package com.mario.hexagonalbettingengine.infrastructure.eventoutcome;
+
+import com.mario.hexagonalbettingengine.infrastructure.config.MessagingProperties.KafkaConfig.AutoscalingConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrencyScalerTest {
+
+    private static final int PARTITIONS = 6;
+    private static final double TEN_MILLIS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final ConcurrencyScaler scaler = new ConcurrencyScaler(
+            new AutoscalingConfig(true, 1, 4, 1000, 1000, 3, 5000, 10, 500, 1000));
+
+    @Test
+    @DisplayName("Should scale out straight to the consumer count that works off the lag in time")
+    void shouldScaleOutToDesiredConcurrency() {
+        // Given
+        var lag = 250; // 2.5 s of work at 10 ms per record, with a 1 s catch-up target
+
+        // When
+        var decision = scaler.evaluate(lag, TEN_MILLIS, 1, PARTITIONS, 0);
+
+        // Then
+        assertThat(decision).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("Should never scale beyond max concurrency or the partition count")
+    void shouldCapAtMaxConcurrencyAndPartitions() {
+        // When
+        var cappedByConfig = new ConcurrencyScaler(new AutoscalingConfig(true, 1, 4, 1000, 1000, 3, 0, 10, 500, 1000))
+                .evaluate(100_000, TEN_MILLIS, 1, PARTITIONS, 0);
+        var cappedByPartitions = new ConcurrencyScaler(new AutoscalingConfig(true, 1, 4, 1000, 1000, 3, 0, 10, 500, 1000))
+                .evaluate(100_000, TEN_MILLIS, 1, 2, 0);
+
+        // Then
+        assertThat(cappedByConfig).hasValue(4);
+        assertThat(cappedByPartitions).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should scale in one consumer at a time only after consecutive samples below the current count")
+    void shouldScaleInWithHysteresis() {
+        // When
+        var first = scaler.evaluate(0, TEN_MILLIS, 4, PARTITIONS, 0);
+        var second = scaler.evaluate(0, TEN_MILLIS, 4, PARTITIONS, 1000);
+        var third = scaler.evaluate(0, TEN_MILLIS, 4, PARTITIONS, 2000);
+
+        // Then
+        assertThat(first).isEmpty();
+        assertThat(second).isEmpty();
+        assertThat(third).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("Should restart the scale-in countdown when the lag comes back")
+    void shouldResetScaleInCountdownOnLag() {
+        // Given
+        scaler.evaluate(0, TEN_MILLIS, 4, PARTITIONS, 0);
+        scaler.evaluate(0, TEN_MILLIS, 4, PARTITIONS, 1000);
+
+        // When
+        scaler.evaluate(400, TEN_MILLIS, 4, PARTITIONS, 2000);
+        var afterLag = scaler.evaluate(0, TEN_MILLIS, 4, PARTITIONS, 3000);
+
+        // Then
+        assertThat(afterLag).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should not scale again within the cooldown")
+    void shouldRespectCooldown() {
+        // Given
+        scaler.evaluate(200, TEN_MILLIS, 1, PARTITIONS, 0);
+
+        // When
+        var withinCooldown = scaler.evaluate(400, TEN_MILLIS, 2, PARTITIONS, 4999);
+        var afterCooldown = scaler.evaluate(400, TEN_MILLIS, 2, PARTITIONS, 5000);
+
+        // Then
+        assertThat(withinCooldown).isEmpty();
+        assertThat(afterCooldown).hasValue(4);
+    }
+
+    @Test
+    @DisplayName("Should keep the consumer count while the processing time is unknown")
+    void shouldHoldWithoutProcessingTime() {
+        // When
+        var decision = scaler.evaluate(10_000, Double.NaN, 2, PARTITIONS, 0);
+
+        // Then
+        assertThat(decision).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should size polls to the poll budget within the configured bounds")
+    void shouldSizeMaxPollRecordsToBudget() {
+        // When & Then
+        assertThat(scaler.maxPollRecords(TEN_MILLIS)).hasValue(100);
+        assertThat(scaler.maxPollRecords(TimeUnit.MILLISECONDS.toNanos(500))).hasValue(10);
+        assertThat(scaler.maxPollRecords(TimeUnit.MICROSECONDS.toNanos(100))).hasValue(500);
+        assertThat(scaler.maxPollRecords(Double.NaN)).isEmpty();
+    }
+}
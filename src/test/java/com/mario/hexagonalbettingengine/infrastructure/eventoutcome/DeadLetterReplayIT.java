@@ -0,0 +1,134 @@
+package com.mario.hexagonalbettingengine.infrastructure.eventoutcome;
+
+import com.mario.hexagonalbettingengine.BaseIT;
+import com.mario.hexagonalbettingengine.domain.eventoutcome.DeadLetterReplay;
+import com.mario.hexagonalbettingengine.domain.eventoutcome.DeadLetterReplayProgress;
+import com.mario.hexagonalbettingengine.domain.eventoutcome.DeadLetterReplayProgress.State;
+import com.mario.hexagonalbettingengine.domain.eventoutcome.DeadLetterReplayRequest;
+import com.mario.hexagonalbettingengine.domain.eventoutcome.DeadLetterReplayRequest.Target;
+import com.mario.hexagonalbettingengine.infrastructure.betting.BetStatus;
+import com.mario.hexagonalbettingengine.infrastructure.config.MessagingProperties;
+import com.mario.hexagonalbettingengine.infrastructure.eventoutcome.payload.EventOutcomePayload;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static com.mario.hexagonalbettingengine.fixtures.EventOutcomeFixtures.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+@EmbeddedKafka(partitions = 1, topics = {
+        "${app.messaging.kafka.event-outcomes.topic}",
+        "${app.messaging.kafka.event-outcomes.dlq-topic}"
+})
+@DisplayName("DLQ Replay Integration Tests")
+class DeadLetterReplayIT extends BaseIT {
+
+    private static final String TRANSIENT_FAILURE = "org.springframework.transaction.CannotCreateTransactionException";
+    private static final String INVALID_OUTCOME = "java.lang.IllegalArgumentException";
+
+    @Autowired
+    private DeadLetterReplay replay;
+
+    @Autowired
+    private KafkaTemplate<String, EventOutcomePayload> kafkaTemplate;
+
+    @Autowired
+    private MessagingProperties messagingProperties;
+
+    @Test
+    @DisplayName("Should count filtered, duplicate and matching records without replaying anything in a dry run")
+    void shouldOnlyCountInDryRun() throws Exception {
+        // Given
+        var from = Instant.now();
+        savePendingBet("bet-dry", DEFAULT_EVENT_ID, REAL_MADRID);
+        deadLetter(DEFAULT_EVENT_ID, REAL_MADRID, TRANSIENT_FAILURE);
+        deadLetter(DEFAULT_EVENT_ID, REAL_MADRID, TRANSIENT_FAILURE);
+        deadLetter("match-invalid", "NOBODY", INVALID_OUTCOME);
+
+        // When
+        var progress = awaitCompletion(replay.start(DeadLetterReplayRequest.builder()
+                .from(from)
+                .exceptionTypes(Set.of("CannotCreateTransactionException"))
+                .target(Target.SETTLE)
+                .dryRun(true)
+                .build()));
+
+        // Then
+        assertThat(progress)
+                .extracting(DeadLetterReplayProgress::scanned, DeadLetterReplayProgress::filtered,
+                        DeadLetterReplayProgress::duplicates, DeadLetterReplayProgress::matched,
+                        DeadLetterReplayProgress::replayed)
+                .containsExactly(3L, 1L, 1L, 1L, 0L);
+        assertThat(findBetInDb("bet-dry").getStatus()).isEqualTo(BetStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("Should settle only the requested events directly from the DLQ")
+    void shouldSettleSelectedEventsDirectly() throws Exception {
+        // Given
+        var from = Instant.now();
+        savePendingBet("bet-selected", "match-selected", REAL_MADRID);
+        savePendingBet("bet-other", "match-other", REAL_MADRID);
+        deadLetter("match-selected", REAL_MADRID, TRANSIENT_FAILURE);
+        deadLetter("match-other", REAL_MADRID, TRANSIENT_FAILURE);
+
+        // When
+        var progress = awaitCompletion(replay.start(DeadLetterReplayRequest.builder()
+                .from(from)
+                .eventIds(Set.of("match-selected"))
+                .target(Target.SETTLE)
+                .build()));
+
+        // Then
+        assertThat(progress.replayed()).isEqualTo(1);
+        assertThat(progress.filtered()).isEqualTo(1);
+        assertThat(findBetInDb("bet-selected").getStatus()).isEqualTo(BetStatus.WON);
+        assertThat(findBetInDb("bet-other").getStatus()).isEqualTo(BetStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("Should republish dead-lettered outcomes to the event outcome topic for the listener to settle")
+    void shouldRepublishToMainTopic() throws Exception {
+        // Given
+        var from = Instant.now();
+        savePendingBet("bet-republished", "match-republished", BARCELONA);
+        deadLetter("match-republished", BARCELONA, TRANSIENT_FAILURE);
+
+        // When
+        var progress = awaitCompletion(replay.start(DeadLetterReplayRequest.builder()
+                .from(from)
+                .target(Target.REPUBLISH)
+                .build()));
+
+        // Then
+        assertThat(progress.replayed()).isEqualTo(1);
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(findBetInDb("bet-republished").getStatus()).isEqualTo(BetStatus.WON));
+    }
+
+    private void deadLetter(String eventId, String winnerId, String exceptionType) throws Exception {
+        var record = new ProducerRecord<String, EventOutcomePayload>(
+                messagingProperties.kafka().eventOutcomes().dlqTopic(), eventId,
+                new EventOutcomePayload(eventId, "Replayed match", winnerId));
+        record.headers().add(KafkaHeaders.DLT_EXCEPTION_CAUSE_FQCN, exceptionType.getBytes(StandardCharsets.UTF_8));
+
+        kafkaTemplate.send(record).get(5, TimeUnit.SECONDS);
+    }
+
+    private DeadLetterReplayProgress awaitCompletion(DeadLetterReplayProgress started) {
+        return await().atMost(Duration.ofSeconds(10))
+                .until(() -> replay.findById(started.replayId()).orElseThrow(),
+                        progress -> progress.state() != State.RUNNING);
+    }
+}
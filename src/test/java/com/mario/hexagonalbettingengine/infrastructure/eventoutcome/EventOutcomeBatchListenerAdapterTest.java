@@ -0,0 +1,116 @@
+package com.mario.hexagonalbettingengine.infrastructure.eventoutcome;
+
+import com.mario.hexagonalbettingengine.domain.betting.BetSettlement;
+import com.mario.hexagonalbettingengine.domain.eventoutcome.EventOutcome;
+import com.mario.hexagonalbettingengine.infrastructure.eventoutcome.mapper.EventOutcomeMapper;
+import com.mario.hexagonalbettingengine.infrastructure.eventoutcome.payload.EventOutcomePayload;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+
+import java.util.List;
+
+import static com.mario.hexagonalbettingengine.fixtures.EventOutcomeFixtures.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EventOutcomeBatchListenerAdapterTest {
+
+    private static final String TOPIC = "event-outcomes-test";
+
+    @Mock
+    private BetSettlement betSettlement;
+
+    @Mock
+    private EventOutcomeMapper mapper;
+
+    @InjectMocks
+    private EventOutcomeBatchListenerAdapter listener;
+
+    @Test
+    @DisplayName("Should collapse duplicate event IDs keeping the latest record and settle the batch at once")
+    void shouldCollapseDuplicatesAndSettleBatch() {
+        // Given
+        var staleRecord = record(0, DEFAULT_EVENT_ID, BARCELONA);
+        var otherRecord = record(1, "match-200", REAL_MADRID);
+        var correctedRecord = record(2, DEFAULT_EVENT_ID, REAL_MADRID);
+
+        var otherOutcome = stubMapping(otherRecord);
+        var correctedOutcome = stubMapping(correctedRecord);
+
+        // When
+        listener.onEventOutcomes(List.of(staleRecord, otherRecord, correctedRecord));
+
+        // Then
+        verify(betSettlement).settleAll(List.of(otherOutcome, correctedOutcome));
+        verify(mapper, never()).toDomain(staleRecord.value());
+        verify(betSettlement, never()).settle(any());
+    }
+
+    @Test
+    @DisplayName("Should fall back to per-record settlement and flag only the failing record")
+    void shouldFlagOnlyFailingRecordWhenBatchSettlementFails() {
+        // Given
+        var firstRecord = record(0, "match-1", REAL_MADRID);
+        var failingRecord = record(1, "match-2", REAL_MADRID);
+        var lastRecord = record(2, "match-3", REAL_MADRID);
+
+        var firstOutcome = stubMapping(firstRecord);
+        var failingOutcome = stubMapping(failingRecord);
+        var lastOutcome = stubMapping(lastRecord);
+
+        doThrow(new RuntimeException("DB Error")).when(betSettlement).settleAll(any());
+        doThrow(new RuntimeException("DB Error")).when(betSettlement).settle(failingOutcome);
+
+        // When & Then
+        assertThatThrownBy(() -> listener.onEventOutcomes(List.of(firstRecord, failingRecord, lastRecord)))
+                .isInstanceOfSatisfying(BatchListenerFailedException.class,
+                        ex -> assertThat(ex.getRecord()).isSameAs(failingRecord))
+                .hasRootCauseMessage("DB Error");
+
+        verify(betSettlement).settle(firstOutcome);
+        verify(betSettlement, never()).settle(lastOutcome);
+    }
+
+    @Test
+    @DisplayName("Should flag undeserializable record after settling the records before it")
+    void shouldFlagUndeserializableRecord() {
+        // Given
+        var validRecord = record(0, "match-1", REAL_MADRID);
+        var poisonRecord = new ConsumerRecord<String, EventOutcomePayload>(TOPIC, 0, 1, "match-2", null);
+
+        var validOutcome = stubMapping(validRecord);
+
+        // When & Then
+        assertThatThrownBy(() -> listener.onEventOutcomes(List.of(validRecord, poisonRecord)))
+                .isInstanceOfSatisfying(BatchListenerFailedException.class,
+                        ex -> assertThat(ex.getRecord()).isSameAs(poisonRecord));
+
+        verify(betSettlement, never()).settleAll(any());
+        verify(betSettlement).settle(validOutcome);
+    }
+
+    private ConsumerRecord<String, EventOutcomePayload> record(long offset, String eventId, String winnerId) {
+        var payload = EventOutcomePayload.builder()
+                .eventId(eventId)
+                .eventName("Match " + eventId)
+                .eventWinnerId(winnerId)
+                .build();
+
+        return new ConsumerRecord<>(TOPIC, 0, offset, eventId, payload);
+    }
+
+    private EventOutcome stubMapping(ConsumerRecord<String, EventOutcomePayload> record) {
+        var outcome = createOutcome(record.value().eventId(), record.value().eventWinnerId());
+        when(mapper.toDomain(record.value())).thenReturn(outcome);
+        return outcome;
+    }
+}
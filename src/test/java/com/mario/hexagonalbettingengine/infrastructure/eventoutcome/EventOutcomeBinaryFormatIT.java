@@ -0,0 +1,116 @@
+package com.mario.hexagonalbettingengine.infrastructure.eventoutcome;
+
+import com.mario.hexagonalbettingengine.BaseIT;
+import com.mario.hexagonalbettingengine.infrastructure.codec.BinaryCodec;
+import com.mario.hexagonalbettingengine.infrastructure.config.MessagingProperties;
+import com.mario.hexagonalbettingengine.infrastructure.eventoutcome.payload.EventOutcomePayload;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.StreamSupport;
+
+import static com.mario.hexagonalbettingengine.fixtures.BetEntityFixtures.createEntity;
+import static com.mario.hexagonalbettingengine.fixtures.EventOutcomeFixtures.*;
+import static com.mario.hexagonalbettingengine.infrastructure.betting.BetStatus.LOST;
+import static com.mario.hexagonalbettingengine.infrastructure.betting.BetStatus.WON;
+import static org.apache.kafka.clients.consumer.ConsumerConfig.AUTO_OFFSET_RESET_CONFIG;
+import static org.apache.kafka.clients.consumer.ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG;
+import static org.apache.kafka.clients.consumer.ConsumerConfig.GROUP_ID_CONFIG;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+@EmbeddedKafka(partitions = 1, topics = {"${app.messaging.kafka.event-outcomes.topic}"})
+@TestPropertySource(properties = "app.messaging.kafka.event-outcomes.format=binary")
+class EventOutcomeBinaryFormatIT extends BaseIT {
+
+    @Autowired
+    private EventOutcomePublisherAdapter publisher;
+
+    @Autowired
+    private MessagingProperties messagingProperties;
+
+    @Autowired
+    private EmbeddedKafkaBroker embeddedKafka;
+
+    @Test
+    @DisplayName("Should publish event outcomes in the binary format and settle bets from them")
+    void shouldPublishBinaryAndSettle() throws Exception {
+        // Given
+        savePendingBet("bet-1", DEFAULT_EVENT_ID, REAL_MADRID);
+        savePendingBet("bet-2", DEFAULT_EVENT_ID, BARCELONA);
+
+        // When
+        publisher.publish(createOutcome(DEFAULT_EVENT_ID, REAL_MADRID)).get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(rawValue(DEFAULT_EVENT_ID)[0]).isEqualTo(BinaryCodec.MAGIC);
+
+        await().atMost(Duration.ofSeconds(10))
+                .untilAsserted(() -> {
+                    assertThat(betRepository.findById("bet-1").orElseThrow())
+                            .usingRecursiveComparison()
+                            .isEqualTo(createEntity("bet-1", DEFAULT_EVENT_ID, REAL_MADRID, WON));
+                    assertThat(betRepository.findById("bet-2").orElseThrow())
+                            .usingRecursiveComparison()
+                            .isEqualTo(createEntity("bet-2", DEFAULT_EVENT_ID, BARCELONA, LOST));
+                });
+    }
+
+    @Test
+    @DisplayName("Should still settle JSON records that reach a topic switched to the binary format")
+    void shouldConsumeJsonFallback() throws Exception {
+        // Given
+        savePendingBet("bet-3", "match-300", "LAKERS");
+        var producerConfig = Map.<String, Object>of(BOOTSTRAP_SERVERS_CONFIG, embeddedKafka.getBrokersAsString());
+
+        // When
+        try (var jsonProducer = new KafkaProducer<>(producerConfig, new StringSerializer(), new JsonSerializer<>())) {
+            jsonProducer.send(new ProducerRecord<>(topic(), "match-300",
+                    new EventOutcomePayload("match-300", "NBA Finals", "LAKERS"))).get(5, TimeUnit.SECONDS);
+        }
+
+        // Then
+        await().atMost(Duration.ofSeconds(10))
+                .untilAsserted(() -> assertThat(betRepository.findById("bet-3").orElseThrow())
+                        .usingRecursiveComparison()
+                        .isEqualTo(createEntity("bet-3", "match-300", "LAKERS", WON)));
+    }
+
+    private byte[] rawValue(String key) {
+        var consumerConfig = Map.<String, Object>of(
+                BOOTSTRAP_SERVERS_CONFIG, embeddedKafka.getBrokersAsString(),
+                GROUP_ID_CONFIG, "binary-format-raw-" + key,
+                AUTO_OFFSET_RESET_CONFIG, "earliest");
+
+        try (var consumer = new KafkaConsumer<>(consumerConfig, new StringDeserializer(), new ByteArrayDeserializer())) {
+            consumer.subscribe(List.of(topic()));
+            var records = KafkaTestUtils.getRecords(consumer, Duration.ofSeconds(5));
+
+            return StreamSupport.stream(records.spliterator(), false)
+                    .filter(record -> record.key().equals(key))
+                    .findFirst()
+                    .orElseThrow()
+                    .value();
+        }
+    }
+
+    private String topic() {
+        return messagingProperties.kafka().eventOutcomes().topic();
+    }
+}
@@ -0,0 +1,72 @@
+package com.mario.hexagonalbettingengine.infrastructure.eventoutcome;
+
+import com.mario.hexagonalbettingengine.BaseIT;
+import com.mario.hexagonalbettingengine.infrastructure.config.MessagingProperties;
+import com.mario.hexagonalbettingengine.infrastructure.eventoutcome.payload.EventOutcomePayload;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Duration;
+
+import static com.mario.hexagonalbettingengine.fixtures.BetEntityFixtures.createEntity;
+import static com.mario.hexagonalbettingengine.fixtures.EventOutcomeFixtures.*;
+import static com.mario.hexagonalbettingengine.infrastructure.betting.BetStatus.LOST;
+import static com.mario.hexagonalbettingengine.infrastructure.betting.BetStatus.WON;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+@EmbeddedKafka(partitions = 1, topics = {"${app.messaging.kafka.event-outcomes.topic}"})
+@TestPropertySource(properties = "app.messaging.kafka.event-outcomes.batch-listener=true")
+class EventOutcomeKafkaBatchConsumerIT extends BaseIT {
+
+    private static final String BATCH_CONSUMER_ID = "event-outcomes-kafka-batch-consumer";
+
+    @Autowired
+    private KafkaTemplate<String, EventOutcomePayload> kafkaTemplate;
+
+    @Autowired
+    private MessagingProperties messagingProperties;
+
+    @Autowired
+    private KafkaListenerEndpointRegistry registry;
+
+    @Test
+    @DisplayName("Should settle a burst of outcomes in one batch using the latest outcome per event")
+    void shouldSettleBurstUsingLatestOutcomePerEvent() {
+        // Given
+        savePendingBet("bet-1", DEFAULT_EVENT_ID, REAL_MADRID);
+        savePendingBet("bet-2", DEFAULT_EVENT_ID, BARCELONA);
+        savePendingBet("bet-3", "match-200", "LAKERS");
+
+        var container = registry.getListenerContainer(BATCH_CONSUMER_ID);
+        container.stop();
+
+        // When
+        var topic = messagingProperties.kafka().eventOutcomes().topic();
+        kafkaTemplate.send(topic, DEFAULT_EVENT_ID, new EventOutcomePayload(DEFAULT_EVENT_ID, DEFAULT_EVENT_NAME, BARCELONA));
+        kafkaTemplate.send(topic, "match-200", new EventOutcomePayload("match-200", "NBA Finals", "LAKERS"));
+        kafkaTemplate.send(topic, DEFAULT_EVENT_ID, new EventOutcomePayload(DEFAULT_EVENT_ID, DEFAULT_EVENT_NAME, REAL_MADRID));
+        kafkaTemplate.flush();
+
+        container.start();
+
+        // Then
+        await().atMost(Duration.ofSeconds(10))
+                .untilAsserted(() -> {
+                    assertThat(betRepository.findById("bet-1").orElseThrow())
+                            .usingRecursiveComparison()
+                            .isEqualTo(createEntity("bet-1", DEFAULT_EVENT_ID, REAL_MADRID, WON));
+                    assertThat(betRepository.findById("bet-2").orElseThrow())
+                            .usingRecursiveComparison()
+                            .isEqualTo(createEntity("bet-2", DEFAULT_EVENT_ID, BARCELONA, LOST));
+                    assertThat(betRepository.findById("bet-3").orElseThrow())
+                            .usingRecursiveComparison()
+                            .isEqualTo(createEntity("bet-3", "match-200", "LAKERS", WON));
+                });
+    }
+}
@@ -0,0 +1,87 @@
+package com.mario.hexagonalbettingengine.infrastructure.eventoutcome;
+
+import com.mario.hexagonalbettingengine.BaseIT;
+import com.mario.hexagonalbettingengine.domain.betting.BetSettlement;
+import com.mario.hexagonalbettingengine.infrastructure.betting.BetStatus;
+import com.mario.hexagonalbettingengine.infrastructure.config.MessagingProperties;
+import com.mario.hexagonalbettingengine.infrastructure.eventoutcome.payload.EventOutcomePayload;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.time.Duration;
+import java.util.stream.IntStream;
+
+import static com.mario.hexagonalbettingengine.fixtures.EventOutcomeFixtures.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+@EmbeddedKafka(partitions = 3, topics = {"${app.messaging.kafka.event-outcomes.topic}"})
+@TestPropertySource(properties = {
+        "app.messaging.kafka.event-outcomes.concurrency=1",
+        "app.messaging.kafka.event-outcomes.autoscaling.enabled=true"
+})
+@DisplayName("Event Outcome Listener Autoscaling Integration Tests")
+class EventOutcomeListenerAutoscalerIT extends BaseIT {
+
+    private static final int OUTCOMES = 60;
+
+    @Autowired
+    private KafkaTemplate<String, EventOutcomePayload> kafkaTemplate;
+
+    @Autowired
+    private MessagingProperties messagingProperties;
+
+    @Autowired
+    private KafkaListenerEndpointRegistry registry;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @MockitoSpyBean
+    private BetSettlement settlement;
+
+    @Test
+    @DisplayName("Should scale the listener out to every partition while lag builds up and keep settling")
+    void shouldScaleOutUnderLag() {
+        // Given
+        savePendingBet("bet-last", "match-autoscale-" + (OUTCOMES - 1), REAL_MADRID);
+
+        doAnswer(invocation -> {
+            Thread.sleep(50);
+            return invocation.callRealMethod();
+        }).when(settlement).settle(any());
+
+        var container = (ConcurrentMessageListenerContainer<?, ?>) registry
+                .getListenerContainer(EventOutcomeListenerAutoscaler.LISTENER_ID);
+        assertThat(container.getConcurrency()).isEqualTo(1);
+
+        // When
+        var topic = messagingProperties.kafka().eventOutcomes().topic();
+        IntStream.range(0, OUTCOMES).forEach(i -> {
+            var eventId = "match-autoscale-" + i;
+            kafkaTemplate.send(topic, eventId, new EventOutcomePayload(eventId, "Autoscale match " + i, REAL_MADRID));
+        });
+
+        // Then
+        await().atMost(Duration.ofSeconds(15))
+                .untilAsserted(() -> assertThat(container.getConcurrency()).isEqualTo(3));
+        assertThat(container.getContainerProperties().getKafkaConsumerProperties()
+                .getProperty(ConsumerConfig.MAX_POLL_RECORDS_CONFIG)).isNotNull();
+        assertThat(meterRegistry.get("event.outcome.listener.scaling").tag("direction", "out").counter().count())
+                .isPositive();
+
+        await().atMost(Duration.ofSeconds(20))
+                .untilAsserted(() -> assertThat(findBetInDb("bet-last").getStatus()).isEqualTo(BetStatus.WON));
+    }
+}
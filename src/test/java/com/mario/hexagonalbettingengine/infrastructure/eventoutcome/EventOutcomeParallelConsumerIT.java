@@ -0,0 +1,103 @@
+package com.mario.hexagonalbettingengine.infrastructure.eventoutcome;
+
+import com.mario.hexagonalbettingengine.BaseIT;
+import com.mario.hexagonalbettingengine.domain.betting.BetSettlement;
+import com.mario.hexagonalbettingengine.domain.eventoutcome.EventOutcome;
+import com.mario.hexagonalbettingengine.infrastructure.betting.BetStatus;
+import com.mario.hexagonalbettingengine.infrastructure.config.MessagingProperties;
+import com.mario.hexagonalbettingengine.infrastructure.eventoutcome.payload.EventOutcomePayload;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static com.mario.hexagonalbettingengine.fixtures.EventOutcomeFixtures.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
+
+@EmbeddedKafka(partitions = 1, topics = {"${app.messaging.kafka.event-outcomes.topic}"})
+@TestPropertySource(properties = "app.messaging.kafka.event-outcomes.parallel.enabled=true")
+@DisplayName("Parallel Event Outcome Consumer Integration Tests")
+class EventOutcomeParallelConsumerIT extends BaseIT {
+
+    private static final String SLOW_EVENT_ID = "match-slow";
+
+    @Autowired
+    private KafkaTemplate<String, EventOutcomePayload> kafkaTemplate;
+
+    @Autowired
+    private MessagingProperties messagingProperties;
+
+    @Autowired
+    private EmbeddedKafkaBroker broker;
+
+    @Value("${spring.kafka.consumer.group-id}")
+    private String groupId;
+
+    @MockitoSpyBean
+    private BetSettlement settlement;
+
+    @Test
+    @DisplayName("Should settle an unrelated event on the same partition while a slow event is still settling")
+    void shouldNotDelayUnrelatedEventsBehindSlowEvent() throws Exception {
+        // Given
+        savePendingBet("bet-slow", SLOW_EVENT_ID, REAL_MADRID);
+        savePendingBet("bet-fast", DEFAULT_EVENT_ID, REAL_MADRID);
+
+        var release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            release.await(10, TimeUnit.SECONDS);
+            return invocation.callRealMethod();
+        }).when(settlement).settle(argThat((EventOutcome outcome) -> outcome.eventId().equals(SLOW_EVENT_ID)));
+
+        var topic = messagingProperties.kafka().eventOutcomes().topic();
+        var partition = new TopicPartition(topic, 0);
+
+        // When
+        kafkaTemplate.send(topic, SLOW_EVENT_ID, new EventOutcomePayload(SLOW_EVENT_ID, "Slow match", REAL_MADRID));
+        kafkaTemplate.send(topic, DEFAULT_EVENT_ID, new EventOutcomePayload(DEFAULT_EVENT_ID, DEFAULT_EVENT_NAME, REAL_MADRID));
+
+        // Then
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(findBetInDb("bet-fast").getStatus()).isEqualTo(BetStatus.WON));
+        assertThat(findBetInDb("bet-slow").getStatus()).isEqualTo(BetStatus.PENDING);
+
+        try (var admin = Admin.create(Map.of(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString()))) {
+            await().during(Duration.ofMillis(500))
+                    .atMost(Duration.ofSeconds(2))
+                    .untilAsserted(() -> assertThat(committedOffset(admin, partition)).isZero());
+
+            release.countDown();
+
+            await().atMost(Duration.ofSeconds(5))
+                    .untilAsserted(() -> {
+                        assertThat(findBetInDb("bet-slow").getStatus()).isEqualTo(BetStatus.WON);
+                        assertThat(committedOffset(admin, partition)).isEqualTo(2);
+                    });
+        }
+    }
+
+    private long committedOffset(Admin admin, TopicPartition partition) throws Exception {
+        OffsetAndMetadata committed = admin.listConsumerGroupOffsets(groupId)
+                .partitionsToOffsetAndMetadata()
+                .get()
+                .get(partition);
+        return committed == null ? 0 : committed.offset();
+    }
+}
@@ -0,0 +1,250 @@
+package com.mario.hexagonalbettingengine.infrastructure.eventoutcome;
+
+import com.mario.hexagonalbettingengine.domain.betting.BetSettlement;
+import com.mario.hexagonalbettingengine.domain.eventoutcome.EventOutcome;
+import com.mario.hexagonalbettingengine.infrastructure.config.MessagingProperties;
+import com.mario.hexagonalbettingengine.infrastructure.eventoutcome.mapper.EventOutcomeMapper;
+import com.mario.hexagonalbettingengine.infrastructure.eventoutcome.payload.EventOutcomePayload;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.listener.ConsumerRecordRecoverer;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static com.mario.hexagonalbettingengine.fixtures.EventOutcomeFixtures.*;
+import static org.mockito.Answers.RETURNS_DEEP_STUBS;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EventOutcomeParallelListenerAdapterTest {
+
+    private static final String TOPIC = "event-outcomes-test";
+    private static final long VERIFY_TIMEOUT_MS = 2_000;
+
+    @Mock
+    private BetSettlement betSettlement;
+
+    @Mock
+    private EventOutcomeMapper mapper;
+
+    @Mock(answer = RETURNS_DEEP_STUBS)
+    private MessagingProperties properties;
+
+    @Mock
+    private ConsumerRecordRecoverer recoverer;
+
+    private ExecutorService workers;
+    private EventOutcomeParallelListenerAdapter listener;
+
+    @BeforeEach
+    void setUp() {
+        workers = Executors.newFixedThreadPool(4);
+        given(properties.kafka().eventOutcomes().parallel())
+                .willReturn(new MessagingProperties.KafkaConfig.ParallelConfig(true, 4, 100));
+        lenient().when(properties.kafka().eventOutcomes().retryAttempts()).thenReturn(2);
+        lenient().when(properties.kafka().eventOutcomes().retryInterval()).thenReturn(1L);
+
+        listener = new EventOutcomeParallelListenerAdapter(betSettlement, mapper, properties, recoverer, workers,
+                new SimpleMeterRegistry());
+        listener.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        workers.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should settle an unrelated event while a slow event on the same partition is still running")
+    void shouldNotBlockUnrelatedEventsBehindSlowEvent() throws Exception {
+        // Given
+        var slowRecord = record(0, "match-slow");
+        var fastRecord = record(1, "match-fast");
+        var slowOutcome = stubMapping(slowRecord);
+        var fastOutcome = stubMapping(fastRecord);
+        var release = blockSettlementOf(slowOutcome);
+
+        // When
+        listener.onEventOutcome(slowRecord, mock(Acknowledgment.class));
+        listener.onEventOutcome(fastRecord, mock(Acknowledgment.class));
+
+        // Then
+        verify(betSettlement, timeout(VERIFY_TIMEOUT_MS)).settle(fastOutcome);
+        release.countDown();
+        verify(betSettlement, timeout(VERIFY_TIMEOUT_MS)).settle(slowOutcome);
+    }
+
+    @Test
+    @DisplayName("Should settle outcomes with the same key one after another in offset order")
+    void shouldKeepOrderPerKey() throws Exception {
+        // Given
+        var firstRecord = record(0, DEFAULT_EVENT_ID, REAL_MADRID);
+        var correctedRecord = record(1, DEFAULT_EVENT_ID, BARCELONA);
+        var firstOutcome = stubMapping(firstRecord);
+        var correctedOutcome = stubMapping(correctedRecord);
+        var release = blockSettlementOf(firstOutcome);
+
+        // When
+        listener.onEventOutcome(firstRecord, mock(Acknowledgment.class));
+        listener.onEventOutcome(correctedRecord, mock(Acknowledgment.class));
+
+        // Then
+        verify(betSettlement, timeout(VERIFY_TIMEOUT_MS)).settle(firstOutcome);
+        verify(betSettlement, after(200).never()).settle(correctedOutcome);
+
+        release.countDown();
+        var inOrder = inOrder(betSettlement);
+        inOrder.verify(betSettlement, timeout(VERIFY_TIMEOUT_MS)).settle(firstOutcome);
+        inOrder.verify(betSettlement, timeout(VERIFY_TIMEOUT_MS)).settle(correctedOutcome);
+    }
+
+    @Test
+    @DisplayName("Should acknowledge only the contiguous watermark of completed offsets")
+    void shouldAcknowledgeContiguousWatermark() throws Exception {
+        // Given
+        var slowRecord = record(0, "match-slow");
+        var fastRecord = record(1, "match-fast");
+        var slowAck = mock(Acknowledgment.class);
+        var fastAck = mock(Acknowledgment.class);
+        var release = blockSettlementOf(stubMapping(slowRecord));
+        var fastOutcome = stubMapping(fastRecord);
+
+        // When
+        listener.onEventOutcome(slowRecord, slowAck);
+        listener.onEventOutcome(fastRecord, fastAck);
+
+        // Then
+        verify(betSettlement, timeout(VERIFY_TIMEOUT_MS)).settle(fastOutcome);
+        verify(fastAck, after(200).never()).acknowledge();
+
+        release.countDown();
+        verify(fastAck, timeout(VERIFY_TIMEOUT_MS)).acknowledge();
+        verify(slowAck, never()).acknowledge();
+    }
+
+    @Test
+    @DisplayName("Should retry a failing outcome and then forward it to the DLQ")
+    void shouldForwardToDlqAfterRetries() throws Exception {
+        // Given
+        var failingRecord = record(0, "match-failing");
+        var acknowledgment = mock(Acknowledgment.class);
+        doThrow(new RuntimeException("DB Error")).when(betSettlement).settle(stubMapping(failingRecord));
+
+        // When
+        listener.onEventOutcome(failingRecord, acknowledgment);
+
+        // Then
+        verify(acknowledgment, timeout(VERIFY_TIMEOUT_MS)).acknowledge();
+        verify(betSettlement, times(3)).settle(any());
+        verify(recoverer).accept(eq(failingRecord), any(RuntimeException.class));
+    }
+
+    @Test
+    @DisplayName("Should keep forwarding a failed outcome to the DLQ until it succeeds, then acknowledge past it")
+    void shouldRetryDlqForwardUntilItSucceeds() throws Exception {
+        // Given
+        var failingRecord = record(0, "match-failing");
+        var nextRecord = record(1, "match-next");
+        var nextAck = mock(Acknowledgment.class);
+        doThrow(new RuntimeException("DB Error")).when(betSettlement).settle(stubMapping(failingRecord));
+        var nextOutcome = stubMapping(nextRecord);
+        doThrow(new RuntimeException("DLQ down"))
+                .doThrow(new RuntimeException("DLQ down"))
+                .doNothing()
+                .when(recoverer).accept(any(), any());
+
+        // When
+        listener.onEventOutcome(failingRecord, mock(Acknowledgment.class));
+        listener.onEventOutcome(nextRecord, nextAck);
+
+        // Then
+        verify(betSettlement, timeout(VERIFY_TIMEOUT_MS)).settle(nextOutcome);
+        verify(nextAck, timeout(VERIFY_TIMEOUT_MS)).acknowledge();
+        verify(recoverer, times(3)).accept(eq(failingRecord), any(RuntimeException.class));
+    }
+
+    @Test
+    @DisplayName("Should hold the offset while the DLQ is down and stop retrying once the partition is revoked")
+    void shouldHoldOffsetWhileDlqIsDown() throws Exception {
+        // Given
+        var failingRecord = record(0, "match-failing");
+        var acknowledgment = mock(Acknowledgment.class);
+        doThrow(new RuntimeException("DB Error")).when(betSettlement).settle(stubMapping(failingRecord));
+        doThrow(new RuntimeException("DLQ down")).when(recoverer).accept(any(), any());
+
+        listener.onEventOutcome(failingRecord, acknowledgment);
+        verify(recoverer, timeout(VERIFY_TIMEOUT_MS).atLeast(2)).accept(any(), any());
+        verify(acknowledgment, never()).acknowledge();
+
+        // When
+        listener.onPartitionsRevoked(List.of(new TopicPartition(TOPIC, 0)));
+        Thread.sleep(50);
+        clearInvocations(recoverer);
+
+        // Then
+        verify(recoverer, after(200).never()).accept(any(), any());
+        verify(acknowledgment, never()).acknowledge();
+    }
+
+    @Test
+    @DisplayName("Should not acknowledge outcomes of a partition revoked while they were settling")
+    void shouldNotAcknowledgeRevokedPartition() throws Exception {
+        // Given
+        var slowRecord = record(0, "match-slow");
+        var acknowledgment = mock(Acknowledgment.class);
+        var slowOutcome = stubMapping(slowRecord);
+        var release = blockSettlementOf(slowOutcome);
+
+        listener.onEventOutcome(slowRecord, acknowledgment);
+        verify(betSettlement, timeout(VERIFY_TIMEOUT_MS)).settle(slowOutcome);
+
+        // When
+        listener.onPartitionsRevoked(List.of(new TopicPartition(TOPIC, 0)));
+        release.countDown();
+
+        // Then
+        verify(acknowledgment, after(200).never()).acknowledge();
+    }
+
+    private CountDownLatch blockSettlementOf(EventOutcome outcome) {
+        var release = new CountDownLatch(1);
+        doAnswer(invocation -> release.await(5, TimeUnit.SECONDS)).when(betSettlement).settle(outcome);
+        return release;
+    }
+
+    private ConsumerRecord<String, EventOutcomePayload> record(long offset, String eventId) {
+        return record(offset, eventId, REAL_MADRID);
+    }
+
+    private ConsumerRecord<String, EventOutcomePayload> record(long offset, String eventId, String winnerId) {
+        var payload = EventOutcomePayload.builder()
+                .eventId(eventId)
+                .eventName("Match " + eventId)
+                .eventWinnerId(winnerId)
+                .build();
+
+        return new ConsumerRecord<>(TOPIC, 0, offset, eventId, payload);
+    }
+
+    private EventOutcome stubMapping(ConsumerRecord<String, EventOutcomePayload> record) {
+        var outcome = createOutcome(record.value().eventId(), record.value().eventWinnerId());
+        lenient().when(mapper.toDomain(record.value())).thenReturn(outcome);
+        return outcome;
+    }
+}
@@ -1,20 +1,39 @@
 package com.mario.hexagonalbettingengine.infrastructure.eventoutcome;
 
+import com.mario.hexagonalbettingengine.domain.eventoutcome.EventOutcomeDeliveryException;
+import com.mario.hexagonalbettingengine.domain.eventoutcome.EventOutcomePublishRejectedException;
+import com.mario.hexagonalbettingengine.domain.eventoutcome.EventOutcomePublisher.DeliveryMode;
 import com.mario.hexagonalbettingengine.infrastructure.config.MessagingProperties;
 import com.mario.hexagonalbettingengine.infrastructure.eventoutcome.mapper.EventOutcomeMapper;
 import com.mario.hexagonalbettingengine.infrastructure.eventoutcome.payload.EventOutcomePayload;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.common.Metric;
+import org.apache.kafka.common.MetricName;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 
 import static com.mario.hexagonalbettingengine.fixtures.EventOutcomeFixtures.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 import static org.mockito.Answers.RETURNS_DEEP_STUBS;
@@ -31,9 +50,19 @@ class EventOutcomePublisherAdapterTest {
     @Mock
     private KafkaTemplate<String, Object> kafkaTemplate;
 
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private EventOutcomePublisherAdapter publisher;
 
+    @BeforeEach
+    void setUp() {
+        lenient().when(properties.kafka().eventOutcomes().deliveryMode()).thenReturn(DeliveryMode.ASYNC_ACK);
+        lenient().when(properties.kafka().eventOutcomes().maxInFlight()).thenReturn(2);
+        publisher.registerMetrics();
+    }
+
     @Test
     @DisplayName("Should publish event outcome to correct Kafka topic with EventId as key")
     void shouldPublishToKafkaSuccessfully() {
@@ -61,7 +90,7 @@ class EventOutcomePublisherAdapterTest {
     }
 
     @Test
-    @DisplayName("Should handle Kafka failure gracefully (log error without crashing)")
+    @DisplayName("Should complete exceptionally when Kafka does not acknowledge the send")
     void shouldHandleKafkaFailure() {
         // Given
         var topic = "event-outcomes-topic";
@@ -80,9 +109,174 @@ class EventOutcomePublisherAdapterTest {
                 .thenReturn(failedFuture);
 
         // When
-        publisher.publish(outcome);
+        var ack = publisher.publish(outcome);
 
         // Then
         verify(kafkaTemplate).send(topic, eventId, payload);
+        assertThat(ack).failsWithin(Duration.ZERO)
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(EventOutcomeDeliveryException.class);
+        assertThat(meterRegistry.get("event.outcome.send").tag("result", "failure").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("event.outcome.in.flight").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should complete immediately in fire-and-forget mode even before Kafka acknowledges")
+    void shouldNotWaitForAckInFireAndForgetMode() {
+        // Given
+        var outcome = createOutcome(DEFAULT_EVENT_ID, REAL_MADRID);
+        var payload = EventOutcomePayload.builder().eventId(DEFAULT_EVENT_ID).build();
+
+        when(properties.kafka().eventOutcomes().deliveryMode()).thenReturn(DeliveryMode.FIRE_AND_FORGET);
+        when(mapper.toPayload(outcome)).thenReturn(payload);
+        when(kafkaTemplate.send(any(), anyString(), any())).thenReturn(new CompletableFuture<>());
+
+        // When
+        var ack = publisher.publish(outcome);
+
+        // Then
+        assertThat(ack).isCompleted();
+        assertThat(meterRegistry.get("event.outcome.in.flight").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not block the caller until Kafka acknowledges in async-ack mode")
+    void shouldCompleteOnAckInAsyncAckMode() {
+        // Given
+        var outcome = createOutcome(DEFAULT_EVENT_ID, REAL_MADRID);
+        var payload = EventOutcomePayload.builder().eventId(DEFAULT_EVENT_ID).build();
+        var sendResult = new CompletableFuture<SendResult<String, Object>>();
+
+        when(mapper.toPayload(outcome)).thenReturn(payload);
+        when(kafkaTemplate.send(any(), anyString(), any())).thenReturn(sendResult);
+
+        // When
+        var ack = publisher.publish(outcome);
+
+        // Then
+        assertThat(ack).isNotDone();
+
+        sendResult.complete(mock(SendResult.class, RETURNS_DEEP_STUBS));
+        assertThat(ack).isCompleted();
+    }
+
+    @Test
+    @DisplayName("Should reject the publish when too many sends await acknowledgement")
+    void shouldRejectWhenInFlightLimitReached() {
+        // Given
+        var outcome = createOutcome(DEFAULT_EVENT_ID, REAL_MADRID);
+        var payload = EventOutcomePayload.builder().eventId(DEFAULT_EVENT_ID).build();
+
+        when(mapper.toPayload(outcome)).thenReturn(payload);
+        when(kafkaTemplate.send(any(), anyString(), any())).thenReturn(new CompletableFuture<>());
+
+        publisher.publish(outcome);
+        publisher.publish(outcome);
+
+        // When & Then
+        assertThatThrownBy(() -> publisher.publish(outcome))
+                .isInstanceOf(EventOutcomePublishRejectedException.class);
+        verify(kafkaTemplate, times(2)).send(any(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Should reject a batch whole when it does not fit into the remaining in-flight sends")
+    void shouldRejectBatchThatExceedsInFlightLimit() {
+        // Given
+        var outcome = createOutcome(DEFAULT_EVENT_ID, REAL_MADRID);
+        var payload = EventOutcomePayload.builder().eventId(DEFAULT_EVENT_ID).build();
+
+        when(mapper.toPayload(outcome)).thenReturn(payload);
+        when(kafkaTemplate.send(any(), anyString(), any())).thenReturn(new CompletableFuture<>());
+
+        publisher.publish(outcome);
+
+        // When & Then
+        assertThatThrownBy(() -> publisher.publishAll(List.of(outcome, outcome)))
+                .isInstanceOf(EventOutcomePublishRejectedException.class)
+                .hasMessageContaining("no room for 2");
+        verify(kafkaTemplate, times(1)).send(any(), anyString(), any());
+        assertThat(meterRegistry.get("event.outcome.in.flight").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should never admit more sends than the in-flight limit under concurrent publishes")
+    void shouldNotOvershootInFlightLimitUnderConcurrentPublishes() {
+        // Given
+        var outcome = createOutcome(DEFAULT_EVENT_ID, REAL_MADRID);
+        var payload = EventOutcomePayload.builder().eventId(DEFAULT_EVENT_ID).build();
+        var start = new CountDownLatch(1);
+        var rejected = new AtomicInteger();
+
+        when(mapper.toPayload(outcome)).thenReturn(payload);
+        when(kafkaTemplate.send(any(), anyString(), any())).thenAnswer(invocation -> new CompletableFuture<>());
+
+        // When
+        try (var requests = Executors.newFixedThreadPool(16)) {
+            IntStream.range(0, 16).forEach(i -> requests.submit(() -> {
+                try {
+                    start.await();
+                    publisher.publish(outcome);
+                } catch (EventOutcomePublishRejectedException e) {
+                    rejected.incrementAndGet();
+                }
+                return null;
+            }));
+            start.countDown();
+        }
+
+        // Then
+        assertThat(rejected.get()).isEqualTo(14);
+        verify(kafkaTemplate, times(2)).send(any(), anyString(), any());
+        assertThat(meterRegistry.get("event.outcome.in.flight").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should reject the publish when the producer buffer drops below the threshold")
+    void shouldRejectWhenProducerBufferIsNearlyFull() {
+        // Given
+        var bufferMetric = mock(Metric.class);
+        var bufferMetricName = new MetricName("buffer-available-bytes", "producer-metrics", "", Map.of());
+
+        when(properties.kafka().eventOutcomes().minBufferAvailableBytes()).thenReturn(1024L);
+        when(bufferMetric.metricValue()).thenReturn(512.0);
+        doReturn(Map.of(bufferMetricName, bufferMetric)).when(kafkaTemplate).metrics();
+
+        // When & Then
+        assertThatThrownBy(() -> publisher.publish(createOutcome(DEFAULT_EVENT_ID, REAL_MADRID)))
+                .isInstanceOf(EventOutcomePublishRejectedException.class)
+                .hasMessageContaining("512");
+        verify(kafkaTemplate, never()).send(any(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Should send every event outcome of a batch and flush the producer once in sync mode")
+    void shouldPublishBatchAndFlushOnce() {
+        // Given
+        when(properties.kafka().eventOutcomes().deliveryMode()).thenReturn(DeliveryMode.SYNC);
+        var topic = "event-outcomes-topic";
+        var first = createOutcome(DEFAULT_EVENT_ID, REAL_MADRID);
+        var second = createOutcome("match-200", REAL_MADRID);
+        var firstPayload = EventOutcomePayload.builder().eventId(DEFAULT_EVENT_ID).build();
+        var secondPayload = EventOutcomePayload.builder().eventId("match-200").build();
+
+        when(mapper.toPayload(first)).thenReturn(firstPayload);
+        when(mapper.toPayload(second)).thenReturn(secondPayload);
+        when(properties.kafka().eventOutcomes().topic()).thenReturn(topic);
+        when(kafkaTemplate.send(anyString(), anyString(), any()))
+                .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+
+        // When
+        var ack = publisher.publishAll(List.of(first, second));
+
+        // Then
+        var inOrder = inOrder(kafkaTemplate);
+        inOrder.verify(kafkaTemplate).send(topic, DEFAULT_EVENT_ID, firstPayload);
+        inOrder.verify(kafkaTemplate).send(topic, "match-200", secondPayload);
+        inOrder.verify(kafkaTemplate).flush();
+        assertThat(ack).isDone();
+        assertThat(meterRegistry.get("event.outcome.send").tag("result", "success").timer().count())
+                .isEqualTo(2);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,131 @@
+package com.mario.hexagonalbettingengine.infrastructure.eventoutcome;
+
+import com.mario.hexagonalbettingengine.BaseIT;
+import com.mario.hexagonalbettingengine.domain.betting.BetSettlement;
+import com.mario.hexagonalbettingengine.domain.eventoutcome.EventOutcome;
+import com.mario.hexagonalbettingengine.infrastructure.betting.BetStatus;
+import com.mario.hexagonalbettingengine.infrastructure.config.MessagingProperties;
+import com.mario.hexagonalbettingengine.infrastructure.eventoutcome.payload.EventOutcomePayload;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.StreamSupport;
+
+import static com.mario.hexagonalbettingengine.fixtures.EventOutcomeFixtures.*;
+import static org.apache.kafka.clients.consumer.ConsumerConfig.AUTO_OFFSET_RESET_CONFIG;
+import static org.apache.kafka.clients.consumer.ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG;
+import static org.apache.kafka.clients.consumer.ConsumerConfig.GROUP_ID_CONFIG;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@EmbeddedKafka(partitions = 1, topics = {"${app.messaging.kafka.event-outcomes.topic}"})
+@TestPropertySource(properties = {
+        "app.messaging.kafka.event-outcomes.retry-topics.enabled=true",
+        "app.messaging.kafka.event-outcomes.retry-topics.initial-delay=2000",
+        "app.messaging.kafka.event-outcomes.retry-topics.max-delay=4000"
+})
+@DisplayName("Event Outcome Retry Topic Integration Tests")
+class EventOutcomeRetryTopicIT extends BaseIT {
+
+    private static final String FLAKY_EVENT_ID = "match-flaky";
+    private static final String INVALID_EVENT_ID = "match-invalid";
+
+    @Autowired
+    private KafkaTemplate<String, EventOutcomePayload> kafkaTemplate;
+
+    @Autowired
+    private MessagingProperties messagingProperties;
+
+    @Autowired
+    private EmbeddedKafkaBroker broker;
+
+    @MockitoSpyBean
+    private BetSettlement settlement;
+
+    @Test
+    @DisplayName("Should settle an unrelated event on the same partition while a failed event waits on a retry topic")
+    void shouldNotBlockPartitionWhileRetrying() {
+        // Given
+        savePendingBet("bet-flaky", FLAKY_EVENT_ID, REAL_MADRID);
+        savePendingBet("bet-next", DEFAULT_EVENT_ID, REAL_MADRID);
+
+        var failures = new AtomicInteger();
+        doAnswer(invocation -> {
+            if (failures.getAndIncrement() < 2) {
+                throw new TransientDataAccessResourceException("Connection reset");
+            }
+            return invocation.callRealMethod();
+        }).when(settlement).settle(argThat((EventOutcome outcome) -> outcome.eventId().equals(FLAKY_EVENT_ID)));
+
+        // When
+        kafkaTemplate.send(topic(), FLAKY_EVENT_ID, new EventOutcomePayload(FLAKY_EVENT_ID, "Flaky match", REAL_MADRID));
+        kafkaTemplate.send(topic(), DEFAULT_EVENT_ID, new EventOutcomePayload(DEFAULT_EVENT_ID, DEFAULT_EVENT_NAME, REAL_MADRID));
+
+        // Then
+        await().atMost(Duration.ofSeconds(2))
+                .untilAsserted(() -> assertThat(findBetInDb("bet-next").getStatus()).isEqualTo(BetStatus.WON));
+        assertThat(findBetInDb("bet-flaky").getStatus()).isEqualTo(BetStatus.PENDING);
+
+        await().atMost(Duration.ofSeconds(15))
+                .untilAsserted(() -> assertThat(findBetInDb("bet-flaky").getStatus()).isEqualTo(BetStatus.WON));
+        verify(settlement, times(3))
+                .settle(argThat((EventOutcome outcome) -> outcome.eventId().equals(FLAKY_EVENT_ID)));
+    }
+
+    @Test
+    @DisplayName("Should send a non-transient failure straight to the DLQ without retrying")
+    void shouldSendNonTransientFailureToDlq() {
+        // Given
+        savePendingBet("bet-invalid", INVALID_EVENT_ID, REAL_MADRID);
+
+        doThrow(new IllegalArgumentException("Unknown winner"))
+                .when(settlement).settle(argThat((EventOutcome outcome) -> outcome.eventId().equals(INVALID_EVENT_ID)));
+
+        // When
+        kafkaTemplate.send(topic(), INVALID_EVENT_ID, new EventOutcomePayload(INVALID_EVENT_ID, "Invalid match", "NOBODY"));
+
+        // Then
+        assertThat(dlqKeys()).contains(INVALID_EVENT_ID);
+        verify(settlement, times(1))
+                .settle(argThat((EventOutcome outcome) -> outcome.eventId().equals(INVALID_EVENT_ID)));
+        assertThat(findBetInDb("bet-invalid").getStatus()).isEqualTo(BetStatus.PENDING);
+    }
+
+    private List<String> dlqKeys() {
+        var consumerConfig = Map.<String, Object>of(
+                BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString(),
+                GROUP_ID_CONFIG, "retry-topic-dlq-reader",
+                AUTO_OFFSET_RESET_CONFIG, "earliest");
+
+        try (var consumer = new KafkaConsumer<>(consumerConfig, new StringDeserializer(), new ByteArrayDeserializer())) {
+            consumer.subscribe(List.of(topic() + "-dlq"));
+            var records = KafkaTestUtils.getRecords(consumer, Duration.ofSeconds(10));
+
+            return StreamSupport.stream(records.spliterator(), false)
+                    .map(ConsumerRecord::key)
+                    .toList();
+        }
+    }
+
+    private String topic() {
+        return messagingProperties.kafka().eventOutcomes().topic();
+    }
+}
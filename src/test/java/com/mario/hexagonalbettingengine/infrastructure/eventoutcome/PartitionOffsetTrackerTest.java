@@ -0,0 +1,63 @@
+package com.mario.hexagonalbettingengine.infrastructure.eventoutcome;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.Acknowledgment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class PartitionOffsetTrackerTest {
+
+    private final PartitionOffsetTracker tracker = new PartitionOffsetTracker();
+
+    @Test
+    @DisplayName("Should hold the watermark while an earlier offset is still in flight")
+    void shouldHoldWatermarkBehindInFlightOffset() {
+        // Given
+        tracker.track(0, mock(Acknowledgment.class));
+        tracker.track(1, mock(Acknowledgment.class));
+
+        // When
+        var watermark = tracker.complete(1);
+
+        // Then
+        assertThat(watermark).isEmpty();
+        assertThat(tracker.inFlightCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should return the acknowledgment of the highest contiguous completed offset")
+    void shouldAdvanceWatermarkOverContiguousOffsets() {
+        // Given
+        var first = mock(Acknowledgment.class);
+        var second = mock(Acknowledgment.class);
+        var third = mock(Acknowledgment.class);
+        tracker.track(0, first);
+        tracker.track(1, second);
+        tracker.track(5, third);
+        tracker.complete(1);
+
+        // When
+        var watermark = tracker.complete(0);
+
+        // Then
+        assertThat(watermark).containsSame(second);
+        assertThat(tracker.inFlightCount()).isEqualTo(1);
+        assertThat(tracker.complete(5)).containsSame(third);
+    }
+
+    @Test
+    @DisplayName("Should stop handing out acknowledgments after the partition is revoked")
+    void shouldIgnoreCompletionsAfterRevoke() {
+        // Given
+        tracker.track(0, mock(Acknowledgment.class));
+
+        // When
+        tracker.revoke();
+
+        // Then
+        assertThat(tracker.complete(0)).isEmpty();
+        assertThat(tracker.inFlightCount()).isZero();
+    }
+}
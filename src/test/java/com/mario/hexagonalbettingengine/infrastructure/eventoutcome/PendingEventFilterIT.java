@@ -0,0 +1,95 @@
+package com.mario.hexagonalbettingengine.infrastructure.eventoutcome;
+
+import com.mario.hexagonalbettingengine.BaseIT;
+import com.mario.hexagonalbettingengine.infrastructure.betting.BetStatus;
+import com.mario.hexagonalbettingengine.infrastructure.betting.InMemoryPendingEventIndex;
+import com.mario.hexagonalbettingengine.infrastructure.config.MessagingProperties;
+import com.mario.hexagonalbettingengine.infrastructure.eventoutcome.payload.EventOutcomePayload;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+
+import java.time.Duration;
+
+import static com.mario.hexagonalbettingengine.fixtures.EventOutcomeFixtures.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
+
+@EmbeddedKafka(partitions = 1, topics = {"${app.messaging.kafka.event-outcomes.topic}"})
+@SpringBootTest(
+        webEnvironment = RANDOM_PORT,
+        properties = {
+                "app.settlement.pending-event-filter.enabled=true"
+        }
+)
+@DisplayName("Pending Event Filter Integration Tests")
+class PendingEventFilterIT extends BaseIT {
+
+    private static final String UNKNOWN_EVENT_ID = "match-without-bets";
+
+    @Autowired
+    private KafkaTemplate<String, EventOutcomePayload> kafkaTemplate;
+
+    @Autowired
+    private MessagingProperties messagingProperties;
+
+    @Autowired
+    private InMemoryPendingEventIndex pendingEvents;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("Should discard outcomes for events without pending bets and still settle the others")
+    void shouldDiscardOutcomesForEventsWithoutPendingBets() {
+        // Given
+        savePendingBet("bet-filtered", DEFAULT_EVENT_ID, REAL_MADRID);
+        pendingEvents.refresh();
+        var missesBefore = meterRegistry.get("pending.event.filter").tag("result", "miss").counter().count();
+
+        var topic = messagingProperties.kafka().eventOutcomes().topic();
+
+        // When
+        kafkaTemplate.send(topic, UNKNOWN_EVENT_ID, new EventOutcomePayload(UNKNOWN_EVENT_ID, "No bets", REAL_MADRID));
+        kafkaTemplate.send(topic, DEFAULT_EVENT_ID, new EventOutcomePayload(DEFAULT_EVENT_ID, DEFAULT_EVENT_NAME, REAL_MADRID));
+
+        // Then
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> {
+                    assertThat(findBetInDb("bet-filtered").getStatus()).isEqualTo(BetStatus.WON);
+                    assertThat(pendingEvents.mightHavePendingBets(DEFAULT_EVENT_ID)).isFalse();
+                });
+
+        assertThat(meterRegistry.get("pending.event.filter").tag("result", "miss").counter().count())
+                .isGreaterThan(missesBefore);
+        assertThat(jdbcTemplate.queryForList("SELECT event_id FROM settled_events", String.class))
+                .containsExactly(DEFAULT_EVENT_ID);
+    }
+
+    @Test
+    @DisplayName("Should settle an outcome for bets stored since the last refresh instead of discarding it")
+    void shouldSettleEventMissingFromFilterWhenBetsTableHasPendingBets() {
+        // Given
+        pendingEvents.refresh();
+        savePendingBet("bet-unrefreshed", "match-unrefreshed", REAL_MADRID);
+        var recoveredBefore = meterRegistry.get("pending.event.filter").tag("result", "recovered").counter().count();
+
+        var topic = messagingProperties.kafka().eventOutcomes().topic();
+
+        // When
+        kafkaTemplate.send(topic, "match-unrefreshed",
+                new EventOutcomePayload("match-unrefreshed", DEFAULT_EVENT_NAME, REAL_MADRID));
+
+        // Then
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(findBetInDb("bet-unrefreshed").getStatus()).isEqualTo(BetStatus.WON));
+
+        assertThat(meterRegistry.get("pending.event.filter").tag("result", "recovered").counter().count())
+                .isGreaterThan(recoveredBefore);
+    }
+}
@@ -0,0 +1,60 @@
+package com.mario.hexagonalbettingengine.infrastructure.eventoutcome;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    @DisplayName("Should let a full burst through without waiting")
+    void shouldAllowBurstWithoutWaiting() {
+        // Given
+        var bucket = new TokenBucket(10, 5, clock::get);
+
+        // When
+        var waits = IntStream.range(0, 5).mapToLong(i -> bucket.reserve()).toArray();
+
+        // Then
+        assertThat(waits).containsOnly(0L);
+    }
+
+    @Test
+    @DisplayName("Should space permits beyond the burst by the configured rate")
+    void shouldThrottleBeyondBurst() {
+        // Given
+        var bucket = new TokenBucket(10, 1, clock::get);
+        bucket.reserve();
+
+        // When
+        var secondWait = bucket.reserve();
+        var thirdWait = bucket.reserve();
+
+        // Then
+        assertThat(secondWait).isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+        assertThat(thirdWait).isEqualTo(TimeUnit.MILLISECONDS.toNanos(200));
+    }
+
+    @Test
+    @DisplayName("Should refill tokens over time but never above the burst")
+    void shouldRefillUpToBurst() {
+        // Given
+        var bucket = new TokenBucket(10, 2, clock::get);
+        bucket.reserve();
+        bucket.reserve();
+
+        // When
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        var waits = IntStream.range(0, 3).mapToLong(i -> bucket.reserve()).toArray();
+
+        // Then
+        assertThat(waits).containsExactly(0L, 0L, TimeUnit.MILLISECONDS.toNanos(100));
+    }
+}